@@ -3,6 +3,7 @@ plugins {
     id("com.diffplug.eclipse.apt") version "3.24.0" apply false
     id("com.diffplug.spotless") version "5.3.0"
     id("de.marcphilipp.nexus-publish") version "0.4.0" apply false
+    id("me.champeau.gradle.jmh") version "0.5.2" apply false
     id("net.researchgate.release") version "2.8.1"
 }
 
@@ -0,0 +1,34 @@
+plugins {
+    id("me.champeau.gradle.jmh")
+}
+
+description = "doma-benchmark"
+
+evaluationDependsOn(":doma-core")
+
+dependencies {
+    jmh(project(":doma-core"))
+    jmh(project(":doma-core").the<SourceSetContainer>()["test"].output)
+    jmh("com.h2database:h2:1.4.200")
+    "jmhAnnotationProcessor"(project(":doma-processor"))
+}
+
+jmh {
+    val jmhInclude: String? by project
+    jmhVersion = "1.25.2"
+    profilers = listOf("gc")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    resultsFile = file("$buildDir/reports/jmh/results.json")
+    if (jmhInclude != null) {
+        include = listOf(jmhInclude)
+    }
+}
+
+tasks {
+    withType<AbstractPublishToMaven>().configureEach {
+        enabled = false
+    }
+}
@@ -0,0 +1,140 @@
+package org.seasar.doma.benchmark;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.command.BatchInsertCommand;
+import org.seasar.doma.jdbc.query.AutoBatchInsertQuery;
+import org.seasar.doma.jdbc.query.BatchInsertQuery;
+
+/**
+ * Prepares an auto batch insert of {@code size} entities and runs it through {@code
+ * BatchModifyCommand.executeBatch}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchModifyCommandBenchmark {
+
+  @State(Scope.Thread)
+  public static class MockState {
+
+    @Param("1000")
+    public int size;
+
+    private final QuietMockConfig config = new QuietMockConfig();
+
+    private final MockPreparedStatement preparedStatement = new MockPreparedStatement();
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setup() {
+      employees = newEmployees(size);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class H2State {
+
+    @Param("1000")
+    public int size;
+
+    private final H2Database database = new H2Database();
+
+    private Connection connection;
+
+    private PreparedStatement preparedStatement;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setup() throws SQLException {
+      database.create(0);
+      connection = database.getDataSource().getConnection();
+      connection.setAutoCommit(false);
+      preparedStatement =
+          connection.prepareStatement(
+              "insert into EMPLOYEE (ID, NAME, SALARY, DEPARTMENT_ID, VERSION) "
+                  + "values (?, ?, ?, ?, ?)");
+      employees = newEmployees(size);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+      preparedStatement.close();
+      connection.close();
+      database.drop();
+    }
+  }
+
+  @Benchmark
+  public int[] mock(MockState state) throws Exception {
+    state.preparedStatement.bindValues.clear();
+    BenchmarkBatchInsertCommand command =
+        new BenchmarkBatchInsertCommand(newQuery(state.config, state.employees));
+    return command.executeBatch(state.preparedStatement);
+  }
+
+  /** The inserted rows are rolled back so that every invocation sees an empty table. */
+  @Benchmark
+  public int[] h2(H2State state) throws Exception {
+    BenchmarkBatchInsertCommand command =
+        new BenchmarkBatchInsertCommand(newQuery(state.database, state.employees));
+    try {
+      return command.executeBatch(state.preparedStatement);
+    } finally {
+      state.connection.rollback();
+    }
+  }
+
+  private static List<Employee> newEmployees(int size) {
+    List<Employee> employees = new ArrayList<>(size);
+    for (int i = 1; i <= size; i++) {
+      employees.add(new Employee(i));
+    }
+    return employees;
+  }
+
+  private static AutoBatchInsertQuery<Employee> newQuery(Config config, List<Employee> employees)
+      throws NoSuchMethodException {
+    Method method = BatchModifyCommandBenchmark.class.getMethod("mock", MockState.class);
+    AutoBatchInsertQuery<Employee> query =
+        new AutoBatchInsertQuery<>(_Employee.getSingletonInternal());
+    query.setMethod(method);
+    query.setConfig(config);
+    query.setEntities(employees);
+    query.setCallerClassName(BatchModifyCommandBenchmark.class.getName());
+    query.setCallerMethodName("insert");
+    query.setBatchSize(100);
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+    return query;
+  }
+
+  private static class BenchmarkBatchInsertCommand extends BatchInsertCommand {
+
+    private BenchmarkBatchInsertCommand(BatchInsertQuery query) {
+      super(query);
+    }
+
+    private int[] executeBatch(PreparedStatement preparedStatement) throws SQLException {
+      return executeInternal(preparedStatement, query.getSqls());
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package org.seasar.doma.benchmark;
+
+import java.math.BigDecimal;
+import org.seasar.doma.Entity;
+import org.seasar.doma.Id;
+import org.seasar.doma.Version;
+import org.seasar.doma.jdbc.entity.NamingType;
+
+@Entity(naming = NamingType.SNAKE_UPPER_CASE)
+public class Employee {
+
+  @Id public Integer id;
+
+  public String name;
+
+  public BigDecimal salary;
+
+  public Integer departmentId;
+
+  @Version public Integer version;
+
+  public Employee() {}
+
+  public Employee(int id) {
+    this.id = id;
+    this.name = "name" + id;
+    this.salary = BigDecimal.valueOf(1000 + id);
+    this.departmentId = id % 10;
+  }
+}
@@ -0,0 +1,119 @@
+package org.seasar.doma.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.seasar.doma.internal.jdbc.command.EntityProvider;
+import org.seasar.doma.internal.jdbc.mock.ColumnMetaData;
+import org.seasar.doma.internal.jdbc.mock.MockResultSet;
+import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
+import org.seasar.doma.internal.jdbc.mock.RowData;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.query.SqlSelectQuery;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntityProviderBenchmark {
+
+  @State(Scope.Thread)
+  public static class MockState {
+
+    private MockResultSet resultSet;
+
+    private SqlSelectQuery query;
+
+    private EntityProvider<Employee> provider;
+
+    @Setup
+    public void setup() throws SQLException {
+      MockResultSetMetaData metaData = new MockResultSetMetaData();
+      for (String column : SqlTemplates.employeeColumns()) {
+        metaData.columns.add(new ColumnMetaData(column));
+      }
+      resultSet = new MockResultSet(metaData);
+      resultSet.rows.add(new RowData(1, "name1", new BigDecimal(1001), 1, 1));
+      resultSet.next();
+      query = newQuery(new QuietMockConfig());
+      provider = new EntityProvider<>(_Employee.getSingletonInternal(), query, false);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class H2State {
+
+    @Param("100")
+    public int rows;
+
+    private final H2Database database = new H2Database();
+
+    private Connection connection;
+
+    private PreparedStatement preparedStatement;
+
+    private SqlSelectQuery query;
+
+    @Setup
+    public void setup() throws SQLException {
+      database.create(rows);
+      connection = database.getDataSource().getConnection();
+      preparedStatement =
+          connection.prepareStatement(
+              "select ID, NAME, SALARY, DEPARTMENT_ID, VERSION from EMPLOYEE");
+      query = newQuery(database);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+      preparedStatement.close();
+      connection.close();
+      database.drop();
+    }
+  }
+
+  /** Maps the current row with a provider whose column index map is already resolved. */
+  @Benchmark
+  public Employee mock(MockState state) throws SQLException {
+    return state.provider.get(state.resultSet);
+  }
+
+  /** Maps the current row with a new provider, as each query execution does. */
+  @Benchmark
+  public Employee mockWithNewProvider(MockState state) throws SQLException {
+    EntityProvider<Employee> provider =
+        new EntityProvider<>(_Employee.getSingletonInternal(), state.query, false);
+    return provider.get(state.resultSet);
+  }
+
+  /** Executes a query and maps all of its rows. */
+  @Benchmark
+  public void h2(H2State state, Blackhole blackhole) throws SQLException {
+    EntityProvider<Employee> provider =
+        new EntityProvider<>(_Employee.getSingletonInternal(), state.query, false);
+    try (ResultSet resultSet = state.preparedStatement.executeQuery()) {
+      while (resultSet.next()) {
+        blackhole.consume(provider.get(resultSet));
+      }
+    }
+  }
+
+  private static SqlSelectQuery newQuery(Config config) {
+    SqlSelectQuery query = new SqlSelectQuery();
+    query.setConfig(config);
+    query.setCallerClassName(EntityProviderBenchmark.class.getName());
+    query.setCallerMethodName("get");
+    return query;
+  }
+}
@@ -0,0 +1,54 @@
+package org.seasar.doma.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seasar.doma.internal.expr.EvaluationResult;
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.ExpressionParser;
+import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class ExpressionEvaluatorBenchmark {
+
+  @Param({
+    "minSalary != null && maxSalary != null",
+    "!ids.isEmpty()",
+    "@prefix(name)",
+    "@isNotEmpty(name)",
+    "employee.name",
+    "@java.lang.String@valueOf(employee.departmentId)"
+  })
+  public String expression;
+
+  private ExpressionEvaluator evaluator;
+
+  private ExpressionNode expressionNode;
+
+  @Setup
+  public void setup() {
+    evaluator = SqlTemplates.newEvaluator(new QuietMockConfig());
+    evaluator.add("employee", new Value(Employee.class, new Employee(1)));
+    expressionNode = new ExpressionParser(expression).parse();
+  }
+
+  @Benchmark
+  public EvaluationResult evaluate() {
+    return evaluator.evaluate(expressionNode);
+  }
+
+  @Benchmark
+  public EvaluationResult parseAndEvaluate() {
+    ExpressionParser parser = new ExpressionParser(expression);
+    return evaluator.evaluate(parser.parse());
+  }
+}
@@ -0,0 +1,74 @@
+package org.seasar.doma.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Level;
+import javax.sql.DataSource;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.JdbcLogger;
+import org.seasar.doma.jdbc.SimpleDataSource;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
+import org.seasar.doma.jdbc.dialect.Dialect;
+import org.seasar.doma.jdbc.dialect.H2Dialect;
+
+/** An in-memory H2 database with an {@code EMPLOYEE} table. */
+public class H2Database implements Config {
+
+  private static final String URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+
+  private final SimpleDataSource dataSource = new SimpleDataSource();
+
+  private final Dialect dialect = new H2Dialect();
+
+  private final JdbcLogger jdbcLogger = new UtilLoggingJdbcLogger(Level.FINE);
+
+  public H2Database() {
+    dataSource.setUrl(URL);
+    dataSource.setUser("sa");
+  }
+
+  @Override
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  @Override
+  public Dialect getDialect() {
+    return dialect;
+  }
+
+  @Override
+  public JdbcLogger getJdbcLogger() {
+    return jdbcLogger;
+  }
+
+  @Override
+  public int getBatchSize() {
+    return 100;
+  }
+
+  public void create(int rows) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("drop table if exists EMPLOYEE");
+      statement.execute(
+          "create table EMPLOYEE (ID integer primary key, NAME varchar(255), "
+              + "SALARY decimal(10, 2), DEPARTMENT_ID integer, VERSION integer)");
+      for (int i = 1; i <= rows; i++) {
+        Employee e = new Employee(i);
+        statement.execute(
+            String.format(
+                "insert into EMPLOYEE values (%d, '%s', %s, %d, 1)",
+                e.id, e.name, e.salary, e.departmentId));
+      }
+    }
+  }
+
+  public void drop() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("drop table if exists EMPLOYEE");
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package org.seasar.doma.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.PreparedSql;
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.SqlNode;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class NodePreparedSqlBuilderBenchmark {
+
+  @Param({"FORMATTED", "NONE"})
+  public SqlLogType sqlLogType;
+
+  private final QuietMockConfig config = new QuietMockConfig();
+
+  private SqlNode sqlNode;
+
+  @Setup
+  public void setup() {
+    SqlParser parser = new SqlParser(SqlTemplates.SELECT_EMPLOYEES);
+    sqlNode = parser.parse();
+  }
+
+  @Benchmark
+  public PreparedSql build() {
+    NodePreparedSqlBuilder builder =
+        new NodePreparedSqlBuilder(
+            config,
+            SqlKind.SELECT,
+            "META-INF/EmployeeDao/selectEmployees.sql",
+            SqlTemplates.newEvaluator(config),
+            sqlLogType,
+            node -> SqlTemplates.employeeColumns());
+    return builder.build(sqlNode, sql -> sql);
+  }
+}
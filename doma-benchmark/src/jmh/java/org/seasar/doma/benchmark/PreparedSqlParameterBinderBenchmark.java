@@ -0,0 +1,105 @@
+package org.seasar.doma.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.seasar.doma.internal.jdbc.command.PreparedSqlParameterBinder;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
+import org.seasar.doma.internal.jdbc.sql.BasicInParameter;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.InParameter;
+import org.seasar.doma.jdbc.query.SqlSelectQuery;
+import org.seasar.doma.wrapper.BigDecimalWrapper;
+import org.seasar.doma.wrapper.IntegerWrapper;
+import org.seasar.doma.wrapper.StringWrapper;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PreparedSqlParameterBinderBenchmark {
+
+  private static final String SQL =
+      "insert into EMPLOYEE (ID, NAME, SALARY, DEPARTMENT_ID, VERSION) values (?, ?, ?, ?, ?)";
+
+  @State(Scope.Thread)
+  public static class MockState {
+
+    private final MockPreparedStatement preparedStatement = new MockPreparedStatement();
+
+    private final List<InParameter<?>> parameters = newParameters();
+
+    private PreparedSqlParameterBinder binder;
+
+    @Setup
+    public void setup() {
+      binder = new PreparedSqlParameterBinder(newQuery(new QuietMockConfig()));
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class H2State {
+
+    private final H2Database database = new H2Database();
+
+    private final List<InParameter<?>> parameters = newParameters();
+
+    private Connection connection;
+
+    private PreparedStatement preparedStatement;
+
+    private PreparedSqlParameterBinder binder;
+
+    @Setup
+    public void setup() throws SQLException {
+      database.create(0);
+      connection = database.getDataSource().getConnection();
+      preparedStatement = connection.prepareStatement(SQL);
+      binder = new PreparedSqlParameterBinder(newQuery(database));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+      preparedStatement.close();
+      connection.close();
+      database.drop();
+    }
+  }
+
+  @Benchmark
+  public void mock(MockState state) throws SQLException {
+    state.preparedStatement.bindValues.clear();
+    state.binder.bind(state.preparedStatement, state.parameters);
+  }
+
+  @Benchmark
+  public void h2(H2State state) throws SQLException {
+    state.binder.bind(state.preparedStatement, state.parameters);
+  }
+
+  private static List<InParameter<?>> newParameters() {
+    List<InParameter<?>> parameters = new ArrayList<>();
+    parameters.add(new BasicInParameter<>(() -> new IntegerWrapper(1)));
+    parameters.add(new BasicInParameter<>(() -> new StringWrapper("name1")));
+    parameters.add(new BasicInParameter<>(() -> new BigDecimalWrapper(new BigDecimal(1001))));
+    parameters.add(new BasicInParameter<>(() -> new IntegerWrapper(1)));
+    parameters.add(new BasicInParameter<>(() -> new IntegerWrapper(1)));
+    return parameters;
+  }
+
+  private static SqlSelectQuery newQuery(Config config) {
+    SqlSelectQuery query = new SqlSelectQuery();
+    query.setConfig(config);
+    return query;
+  }
+}
@@ -0,0 +1,13 @@
+package org.seasar.doma.benchmark;
+
+import java.util.logging.Level;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
+
+/** A {@link MockConfig} whose SQL logs are below the default level of java.util.logging. */
+public class QuietMockConfig extends MockConfig {
+
+  public QuietMockConfig() {
+    sqlLogger = new UtilLoggingJdbcLogger(Level.FINE);
+  }
+}
@@ -0,0 +1,20 @@
+package org.seasar.doma.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.SqlNode;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SqlParserBenchmark {
+
+  @Benchmark
+  public SqlNode parse() {
+    SqlParser parser = new SqlParser(SqlTemplates.SELECT_EMPLOYEES);
+    return parser.parse();
+  }
+}
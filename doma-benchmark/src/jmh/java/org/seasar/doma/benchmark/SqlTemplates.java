@@ -0,0 +1,61 @@
+package org.seasar.doma.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.jdbc.Config;
+
+/** SQL templates and their parameters shared by the benchmarks. */
+public final class SqlTemplates {
+
+  /** A search query that uses bind variables, %if, %for, embedded variables and %expand. */
+  public static final String SELECT_EMPLOYEES =
+      "select /*%expand*/*\n"
+          + "  from EMPLOYEE\n"
+          + " where\n"
+          + "/*%if name != null*/\n"
+          + "   NAME like /* @prefix(name) */'a%' escape '$'\n"
+          + "/*%end*/\n"
+          + "/*%if minSalary != null && maxSalary != null*/\n"
+          + "   and SALARY between /* minSalary */0 and /* maxSalary */1000\n"
+          + "/*%end*/\n"
+          + "/*%if version != null*/\n"
+          + "   and VERSION >= /* version */1\n"
+          + "/*%end*/\n"
+          + "/*%if ids != null && !ids.isEmpty()*/\n"
+          + "   and ID in /* ids */(1, 2, 3)\n"
+          + "/*%end*/\n"
+          + "/*%if !departmentIds.isEmpty()*/\n"
+          + "   and (\n"
+          + "   /*%for departmentId : departmentIds*/\n"
+          + "     DEPARTMENT_ID = /* departmentId */0\n"
+          + "     /*%if departmentId_has_next*/\n"
+          + "     /*# \"or\" */\n"
+          + "     /*%end*/\n"
+          + "   /*%end*/\n"
+          + "   )\n"
+          + "/*%end*/\n"
+          + " order by /*# orderBy */ID";
+
+  private SqlTemplates() {}
+
+  public static ExpressionEvaluator newEvaluator(Config config) {
+    ExpressionEvaluator evaluator =
+        new ExpressionEvaluator(
+            config.getDialect().getExpressionFunctions(), config.getClassHelper());
+    evaluator.add("name", new Value(String.class, "name"));
+    evaluator.add("minSalary", new Value(BigDecimal.class, BigDecimal.ZERO));
+    evaluator.add("maxSalary", new Value(BigDecimal.class, BigDecimal.valueOf(100000)));
+    evaluator.add("version", new Value(Integer.class, 1));
+    evaluator.add("ids", new Value(List.class, Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+    evaluator.add("departmentIds", new Value(List.class, Arrays.asList(1, 2, 3)));
+    evaluator.add("orderBy", new Value(String.class, "ID"));
+    return evaluator;
+  }
+
+  public static List<String> employeeColumns() {
+    return Arrays.asList("ID", "NAME", "SALARY", "DEPARTMENT_ID", "VERSION");
+  }
+}
@@ -89,6 +89,35 @@ public @interface BatchInsert {
    */
   String[] exclude() default {};
 
+  /**
+   * Whether multiple rows are inserted with a single SQL INSERT statement.
+   *
+   * <p>If {@code true}, the rows of a batch are inserted with the multi-row VALUES syntax, such as
+   * {@code insert into EMP (ID, NAME) values (?, ?), (?, ?)}, instead of one statement per row. The
+   * number of rows in a statement is limited by the batch size and by the dialect.
+   *
+   * <p>Only if {@link #sqlFile()} is {@code false} and the dialect supports multi-row INSERT
+   * statements, this value is available. Specifying {@code true} together with {@link #sqlFile()}
+   * is a compile error.
+   *
+   * @return whether multiple rows are inserted with a single statement
+   */
+  boolean multiRow() default false;
+
+  /**
+   * Whether the entities are prepared and executed chunk by chunk.
+   *
+   * <p>If {@code true}, the entities are taken from the parameter in chunks of the batch size, and
+   * only the SQL statements of one chunk are held at a time. The returned array contains the update
+   * counts of all the chunks.
+   *
+   * <p>Only if {@link #sqlFile()} is {@code false}, this value is available. The immutable entities
+   * are not supported, because {@code BatchResult} requires all the entities.
+   *
+   * @return whether the entities are inserted chunk by chunk
+   */
+  boolean streaming() default false;
+
   /** @return the output format of SQL logs. */
   SqlLogType sqlLog() default SqlLogType.FORMATTED;
 }
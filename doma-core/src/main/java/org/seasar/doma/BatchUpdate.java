@@ -111,6 +111,20 @@ public @interface BatchUpdate {
    */
   boolean suppressOptimisticLockException() default false;
 
+  /**
+   * Whether the entities are prepared and executed chunk by chunk.
+   *
+   * <p>If {@code true}, the entities are taken from the parameter in chunks of the batch size, and
+   * only the SQL statements of one chunk are held at a time. The returned array contains the update
+   * counts of all the chunks.
+   *
+   * <p>Only if {@link #sqlFile()} is {@code false}, this value is available. The immutable entities
+   * are not supported, because {@code BatchResult} requires all the entities.
+   *
+   * @return whether the entities are updated chunk by chunk
+   */
+  boolean streaming() default false;
+
   /** @return the output format of SQL logs. */
   SqlLogType sqlLog() default SqlLogType.FORMATTED;
 }
@@ -57,6 +57,17 @@ public @interface TableGenerator {
   /** @return the allocated size. */
   long allocationSize() default 1;
 
+  /**
+   * The number of the remaining values in the allocated block at which the next block is fetched.
+   *
+   * <p>The next block is fetched synchronously by the thread that takes the value at the threshold,
+   * while the other threads keep taking the remaining values of the current block. If the value is
+   * less than 1, the next block is fetched when the current block is exhausted.
+   *
+   * @return the prefetch threshold
+   */
+  long prefetchThreshold() default 0;
+
   /** @return the implementation class of the {@link TableIdGenerator} interface. */
   Class<? extends TableIdGenerator> implementer() default BuiltinTableIdGenerator.class;
 }
@@ -6,6 +6,14 @@ public final class Constants {
 
   public static final String ROWNUMBER_COLUMN_NAME = "doma_rownumber_";
 
+  public static final String COUNT_OVER_COLUMN_NAME = "doma_count_over_";
+
+  public static final String OFFSET_VARIABLE_NAME = "__doma_offset";
+
+  public static final String LIMIT_VARIABLE_NAME = "__doma_limit";
+
+  public static final String MAX_ROWNUMBER_VARIABLE_NAME = "__doma_max_rownumber";
+
   public static final Charset UTF_8 = Charset.forName("UTF-8");
 
   public static final String SQL_PATH_PREFIX = "META-INF/";
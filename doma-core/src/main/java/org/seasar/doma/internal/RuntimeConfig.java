@@ -2,15 +2,18 @@ package org.seasar.doma.internal;
 
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
+import java.util.concurrent.Executor;
 import javax.sql.DataSource;
 import org.seasar.doma.jdbc.ClassHelper;
 import org.seasar.doma.jdbc.CommandImplementors;
+import org.seasar.doma.jdbc.CommandObserver;
 import org.seasar.doma.jdbc.Commenter;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.ConfigException;
 import org.seasar.doma.jdbc.EntityListenerProvider;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.MapKeyNaming;
+import org.seasar.doma.jdbc.MappingPlanCache;
 import org.seasar.doma.jdbc.Naming;
 import org.seasar.doma.jdbc.QueryImplementors;
 import org.seasar.doma.jdbc.RequiresNewController;
@@ -146,4 +149,31 @@ public class RuntimeConfig implements Config {
     }
     return provider;
   }
+
+  @Override
+  public MappingPlanCache getMappingPlanCache() {
+    MappingPlanCache cache = config.getMappingPlanCache();
+    if (cache == null) {
+      throw new ConfigException(config.getClass().getName(), "getMappingPlanCache");
+    }
+    return cache;
+  }
+
+  @Override
+  public CommandObserver getCommandObserver() {
+    CommandObserver observer = config.getCommandObserver();
+    if (observer == null) {
+      throw new ConfigException(config.getClass().getName(), "getCommandObserver");
+    }
+    return observer;
+  }
+
+  @Override
+  public Executor getAsyncExecutor() {
+    Executor executor = config.getAsyncExecutor();
+    if (executor == null) {
+      throw new ConfigException(config.getClass().getName(), "getAsyncExecutor");
+    }
+    return executor;
+  }
 }
@@ -4,8 +4,12 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
 import static org.seasar.doma.internal.util.AssertionUtil.assertUnreachable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -14,6 +18,7 @@ import java.lang.reflect.TypeVariable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -23,6 +28,8 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.seasar.doma.expr.ExpressionFunctions;
 import org.seasar.doma.internal.WrapException;
 import org.seasar.doma.internal.expr.node.AddOperatorNode;
@@ -66,6 +73,15 @@ import org.seasar.doma.message.Message;
 
 public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResult, Void> {
 
+  /** the resolved methods, keyed by the target class and then by the name and argument types */
+  protected static final MemberCache<MethodInvoker> methodCache = new MemberCache<>();
+
+  /** the resolved fields, keyed by the target class and then by the name */
+  protected static final MemberCache<FieldGetter> fieldCache = new MemberCache<>();
+
+  /** the resolved static fields, keyed by the target class and then by the name */
+  protected static final MemberCache<FieldGetter> staticFieldCache = new MemberCache<>();
+
   protected final Map<String, Value> variableValues;
 
   protected final ExpressionFunctions expressionFunctions;
@@ -483,8 +499,8 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
     ParameterCollector collector = new ParameterCollector();
     ParameterCollection collection = collector.collect(node.getParametersNode());
     ExpressionLocation location = node.getLocation();
-    Method method =
-        findMethod(node.getMethodName(), target, targetClass, collection.getParamTypes());
+    MethodInvoker method =
+        resolveMethod(node.getMethodName(), target, targetClass, collection.getParamTypes());
     if (method == null) {
       String signature =
           MethodUtil.createSignature(node.getMethodName(), collection.getParamTypes());
@@ -505,7 +521,8 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
     ParameterCollector collector = new ParameterCollector();
     ParameterCollection collection = collector.collect(node.getParametersNode());
     ExpressionLocation location = node.getLocation();
-    Method method = findMethod(node.getMethodName(), null, targetClass, collection.getParamTypes());
+    MethodInvoker method =
+        resolveMethod(node.getMethodName(), null, targetClass, collection.getParamTypes());
     if (method == null) {
       String signature =
           MethodUtil.createSignature(node.getMethodName(), collection.getParamTypes());
@@ -520,6 +537,30 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
         location, method, null, targetClass, collection.getParamTypes(), collection.getParams());
   }
 
+  /**
+   * Resolves the method through the cache.
+   *
+   * <p>The result of {@link #findMethod(String, Object, Class, Class[])}, including the absence of
+   * a method, is cached per target class, method name and argument types.
+   *
+   * @param methodName the method name
+   * @param target the target object
+   * @param targetClass the target class
+   * @param paramTypes the argument types
+   * @return the invoker or {@code null} if the method is not found
+   */
+  protected MethodInvoker resolveMethod(
+      String methodName, Object target, Class<?> targetClass, Class<?>[] paramTypes) {
+    MemberKey key = new MemberKey(methodName, paramTypes);
+    Optional<MethodInvoker> invoker = methodCache.get(targetClass, key);
+    if (invoker == null) {
+      Method method = findMethod(methodName, target, targetClass, paramTypes);
+      invoker =
+          methodCache.put(targetClass, key, method == null ? null : new MethodInvoker(method));
+    }
+    return invoker.orElse(null);
+  }
+
   protected Method findMethod(
       String methodName, Object target, Class<?> targetClass, Class<?>[] paramTypes) {
     Method result = findMethodFromInterfaces(methodName, target, targetClass, paramTypes);
@@ -630,9 +671,21 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
       Class<?> targetClass,
       Class<?>[] paramTypes,
       Object[] params) {
+    return invokeMethod(
+        location, new MethodInvoker(method), target, targetClass, paramTypes, params);
+  }
+
+  protected EvaluationResult invokeMethod(
+      ExpressionLocation location,
+      MethodInvoker invoker,
+      Object target,
+      Class<?> targetClass,
+      Class<?>[] paramTypes,
+      Object[] params) {
+    Method method = invoker.getMethod();
     Object value;
     try {
-      value = MethodUtil.invoke(method, target, params);
+      value = invoker.invoke(target, params);
     } catch (WrapException e) {
       Throwable cause = e.getCause();
       throw new ExpressionException(
@@ -654,8 +707,8 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
     ParameterCollector collector = new ParameterCollector();
     ParameterCollection collection = collector.collect(node.getParametersNode());
     ExpressionLocation location = node.getLocation();
-    Method method =
-        findMethod(
+    MethodInvoker method =
+        resolveMethod(
             node.getMethodName(), expressionFunctions, targetClass, collection.getParamTypes());
     if (method == null) {
       String signature =
@@ -677,7 +730,7 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
     EvaluationResult targetResult = node.getTargetObjectNode().accept(this, p);
     Object target = targetResult.getValue();
     ExpressionLocation location = node.getLocation();
-    Field field = findField(node.getFieldName(), target.getClass());
+    FieldGetter field = resolveField(node.getFieldName(), target.getClass());
     if (field == null) {
       throw new ExpressionException(
           Message.DOMA3018,
@@ -693,7 +746,7 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
   public EvaluationResult visitStaticFieldOperatorNode(StaticFieldOperatorNode node, Void p) {
     Class<?> targetClass = forClassName(node.getLocation(), node.getClassName());
     ExpressionLocation location = node.getLocation();
-    Field field = findStaticField(node.getFieldName(), targetClass);
+    FieldGetter field = resolveStaticField(node.getFieldName(), targetClass);
     if (field == null) {
       throw new ExpressionException(
           Message.DOMA3033,
@@ -705,6 +758,27 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
     return getFieldValue(location, field, null);
   }
 
+  protected FieldGetter resolveField(String fieldName, Class<?> targetClass) {
+    MemberKey key = new MemberKey(fieldName);
+    Optional<FieldGetter> getter = fieldCache.get(targetClass, key);
+    if (getter == null) {
+      Field field = findField(fieldName, targetClass);
+      getter = fieldCache.put(targetClass, key, field == null ? null : new FieldGetter(field));
+    }
+    return getter.orElse(null);
+  }
+
+  protected FieldGetter resolveStaticField(String fieldName, Class<?> targetClass) {
+    MemberKey key = new MemberKey(fieldName);
+    Optional<FieldGetter> getter = staticFieldCache.get(targetClass, key);
+    if (getter == null) {
+      Field field = findStaticField(fieldName, targetClass);
+      getter =
+          staticFieldCache.put(targetClass, key, field == null ? null : new FieldGetter(field));
+    }
+    return getter.orElse(null);
+  }
+
   protected Field findField(String fieldName, Class<?> targetClass) {
     for (Class<?> clazz = targetClass; clazz != Object.class; clazz = clazz.getSuperclass()) {
       try {
@@ -727,9 +801,15 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
 
   protected EvaluationResult getFieldValue(
       ExpressionLocation location, Field field, Object target) {
+    return getFieldValue(location, new FieldGetter(field), target);
+  }
+
+  protected EvaluationResult getFieldValue(
+      ExpressionLocation location, FieldGetter getter, Object target) {
+    Field field = getter.getField();
     Object value;
     try {
-      value = FieldUtil.get(field, target);
+      value = getter.get(target);
     } catch (WrapException e) {
       Throwable cause = e.getCause();
       throw new ExpressionException(
@@ -737,7 +817,7 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
           cause,
           location.getExpression(),
           location.getPosition(),
-          target.getClass().getName(),
+          target != null ? target.getClass().getName() : field.getDeclaringClass().getName(),
           field.getName(),
           cause);
     }
@@ -1194,4 +1274,232 @@ public class ExpressionEvaluator implements ExpressionNodeVisitor<EvaluationResu
       this.method = method;
     }
   }
+
+  /**
+   * A cache of resolved members.
+   *
+   * <p>The entries are held by {@link ClassValue} so that the cache does not prevent the target
+   * classes from being unloaded. A key is cached only if all its argument types are visible from
+   * the class loader of the target class; otherwise, the entry of a class such as {@code
+   * java.util.ArrayList} would pin the class loader of an application class. At most {@value
+   * #MAX_ENTRIES_PER_CLASS} entries are cached per target class, and the other members are resolved
+   * on each access.
+   *
+   * @param <M> the member type
+   */
+  protected static class MemberCache<M> {
+
+    protected static final int MAX_ENTRIES_PER_CLASS = 256;
+
+    protected final ClassValue<ConcurrentMap<MemberKey, Optional<M>>> classValue =
+        new ClassValue<ConcurrentMap<MemberKey, Optional<M>>>() {
+          @Override
+          protected ConcurrentMap<MemberKey, Optional<M>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+          }
+        };
+
+    /**
+     * Returns the cached member.
+     *
+     * @param targetClass the target class
+     * @param key the key
+     * @return the cached member, an empty optional if the absence of the member is cached, or
+     *     {@code null} if nothing is cached
+     */
+    public Optional<M> get(Class<?> targetClass, MemberKey key) {
+      return classValue.get(targetClass).get(key);
+    }
+
+    /**
+     * Caches the member unless another thread has already cached it.
+     *
+     * @param targetClass the target class
+     * @param key the key
+     * @param member the member or {@code null} if the member is not found
+     * @return the cached member
+     */
+    public Optional<M> put(Class<?> targetClass, MemberKey key, M member) {
+      Optional<M> value = Optional.ofNullable(member);
+      if (!key.isVisibleFrom(targetClass.getClassLoader())) {
+        return value;
+      }
+      ConcurrentMap<MemberKey, Optional<M>> map = classValue.get(targetClass);
+      if (map.size() >= MAX_ENTRIES_PER_CLASS) {
+        return value;
+      }
+      Optional<M> current = map.putIfAbsent(key, value);
+      return current != null ? current : value;
+    }
+  }
+
+  protected static class MemberKey {
+
+    protected final String name;
+
+    protected final Class<?>[] paramTypes;
+
+    protected final int hash;
+
+    public MemberKey(String name) {
+      this(name, null);
+    }
+
+    public MemberKey(String name, Class<?>[] paramTypes) {
+      this.name = name;
+      this.paramTypes = paramTypes;
+      this.hash = 31 * name.hashCode() + Arrays.hashCode(paramTypes);
+    }
+
+    /**
+     * Returns whether all the argument types are visible from the class loader.
+     *
+     * @param loader the class loader or {@code null} for the bootstrap class loader
+     * @return {@code true} if they are visible
+     */
+    public boolean isVisibleFrom(ClassLoader loader) {
+      if (paramTypes == null) {
+        return true;
+      }
+      outer:
+      for (Class<?> paramType : paramTypes) {
+        if (paramType == null) {
+          continue;
+        }
+        ClassLoader paramLoader = paramType.getClassLoader();
+        if (paramLoader == null) {
+          continue;
+        }
+        for (ClassLoader l = loader; l != null; l = l.getParent()) {
+          if (l == paramLoader) {
+            continue outer;
+          }
+        }
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof MemberKey)) {
+        return false;
+      }
+      MemberKey other = (MemberKey) obj;
+      return name.equals(other.name) && Arrays.equals(paramTypes, other.paramTypes);
+    }
+  }
+
+  /**
+   * Invokes a method through a {@link MethodHandle}.
+   *
+   * <p>The handle is adapted to the {@code (Object, Object[])Object} type. When the method is not
+   * accessible from this class, the invocation falls back to the reflection.
+   */
+  protected static class MethodInvoker {
+
+    protected static final MethodType invokerType =
+        MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    protected final Method method;
+
+    protected final MethodHandle handle;
+
+    public MethodInvoker(Method method) {
+      assertNotNull(method);
+      this.method = method;
+      this.handle = createHandle(method);
+    }
+
+    protected static MethodHandle createHandle(Method method) {
+      MethodHandle handle;
+      try {
+        handle = MethodHandles.lookup().unreflect(method);
+      } catch (IllegalAccessException e) {
+        return null;
+      }
+      if (Modifier.isStatic(method.getModifiers())) {
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      }
+      int paramCount = method.getParameterCount();
+      return handle
+          .asType(handle.type().generic())
+          .asSpreader(Object[].class, paramCount)
+          .asType(invokerType);
+    }
+
+    public Method getMethod() {
+      return method;
+    }
+
+    public Object invoke(Object target, Object[] params) throws WrapException {
+      if (handle == null) {
+        return MethodUtil.invoke(method, target, params);
+      }
+      try {
+        return (Object) handle.invokeExact(target, params);
+      } catch (Throwable t) {
+        // wrap the cause in the same way as the reflective invocation
+        throw new WrapException(new InvocationTargetException(t));
+      }
+    }
+  }
+
+  /**
+   * Reads a field through a {@link MethodHandle}.
+   *
+   * <p>The handle is adapted to the {@code (Object)Object} type. When the field is not accessible
+   * from this class, the access falls back to the reflection.
+   */
+  protected static class FieldGetter {
+
+    protected static final MethodType getterType =
+        MethodType.methodType(Object.class, Object.class);
+
+    protected final Field field;
+
+    protected final MethodHandle handle;
+
+    public FieldGetter(Field field) {
+      assertNotNull(field);
+      this.field = field;
+      this.handle = createHandle(field);
+    }
+
+    protected static MethodHandle createHandle(Field field) {
+      MethodHandle handle;
+      try {
+        handle = MethodHandles.lookup().unreflectGetter(field);
+      } catch (IllegalAccessException e) {
+        return null;
+      }
+      if (Modifier.isStatic(field.getModifiers())) {
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      }
+      return handle.asType(getterType);
+    }
+
+    public Field getField() {
+      return field;
+    }
+
+    public Object get(Object target) throws WrapException {
+      if (handle == null) {
+        return FieldUtil.get(field, target);
+      }
+      try {
+        return (Object) handle.invokeExact(target);
+      } catch (Throwable t) {
+        throw new WrapException(t);
+      }
+    }
+  }
 }
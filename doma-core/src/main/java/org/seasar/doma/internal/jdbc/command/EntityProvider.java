@@ -1,5 +1,6 @@
 package org.seasar.doma.internal.jdbc.command;
 
+import static org.seasar.doma.internal.Constants.COUNT_OVER_COLUMN_NAME;
 import static org.seasar.doma.internal.Constants.ROWNUMBER_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
@@ -7,13 +8,16 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.seasar.doma.jdbc.JdbcMappingVisitor;
+import org.seasar.doma.jdbc.MappingPlanCache;
 import org.seasar.doma.jdbc.Naming;
 import org.seasar.doma.jdbc.ResultMappingException;
 import org.seasar.doma.jdbc.Sql;
@@ -37,6 +41,16 @@ public class EntityProvider<ENTITY> extends AbstractObjectProvider<ENTITY> {
 
   protected Map<Integer, EntityPropertyType<ENTITY, ?>> indexMap;
 
+  protected int propertySize;
+
+  protected int[] columnIndexes;
+
+  protected int[] propertyIndexes;
+
+  protected EntityPropertyType<ENTITY, ?>[] propertyTypes;
+
+  protected boolean unknownColumnFound;
+
   public EntityProvider(EntityType<ENTITY> entityType, Query query, boolean resultMappingEnsured) {
     assertNotNull(entityType, query);
     this.entityType = entityType;
@@ -54,15 +68,14 @@ public class EntityProvider<ENTITY> extends AbstractObjectProvider<ENTITY> {
   protected ENTITY build(ResultSet resultSet) throws SQLException {
     assertNotNull(resultSet);
     if (indexMap == null) {
-      indexMap = createIndexMap(resultSet.getMetaData(), entityType);
+      prepare(resultSet.getMetaData());
     }
-    Map<String, Property<ENTITY, ?>> states = new HashMap<>(indexMap.size());
-    for (Map.Entry<Integer, EntityPropertyType<ENTITY, ?>> entry : indexMap.entrySet()) {
-      Integer index = entry.getKey();
-      EntityPropertyType<ENTITY, ?> propertyType = entry.getValue();
-      Property<ENTITY, ?> property = propertyType.createProperty();
-      fetch(resultSet, property, index, jdbcMappingVisitor);
-      states.put(propertyType.getName(), property);
+    @SuppressWarnings("unchecked")
+    Property<ENTITY, ?>[] states = (Property<ENTITY, ?>[]) new Property<?, ?>[propertySize];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      Property<ENTITY, ?> property = propertyTypes[i].createProperty();
+      fetch(resultSet, property, columnIndexes[i], jdbcMappingVisitor);
+      states[propertyIndexes[i]] = property;
     }
     ENTITY entity = entityType.newEntity(states);
     if (!entityType.isImmutable()) {
@@ -71,6 +84,67 @@ public class EntityProvider<ENTITY> extends AbstractObjectProvider<ENTITY> {
     return entity;
   }
 
+  protected void prepare(ResultSetMetaData resultSetMeta) throws SQLException {
+    MappingPlanCache cache = query.getConfig().getMappingPlanCache();
+    Object key = createPlanKey();
+    int columnCount = resultSetMeta.getColumnCount();
+    if (key != null) {
+      @SuppressWarnings("unchecked")
+      MappingPlan<ENTITY> plan = (MappingPlan<ENTITY>) cache.get(key);
+      if (plan != null && plan.columnCount == columnCount) {
+        indexMap = plan.indexMap;
+        propertySize = plan.propertySize;
+        columnIndexes = plan.columnIndexes;
+        propertyIndexes = plan.propertyIndexes;
+        propertyTypes = plan.propertyTypes;
+        return;
+      }
+    }
+    unknownColumnFound = false;
+    indexMap = createIndexMap(resultSetMeta, entityType);
+    prepareIndexes(indexMap);
+    if (key != null && !unknownColumnFound) {
+      cache.put(
+          key,
+          new MappingPlan<>(
+              columnCount, indexMap, propertySize, columnIndexes, propertyIndexes, propertyTypes));
+    }
+  }
+
+  protected Object createPlanKey() {
+    Sql<?> sql = query.getSql();
+    if (sql == null) {
+      return null;
+    }
+    return Arrays.asList(
+        EntityProvider.class,
+        entityType,
+        sql.getRawSql(),
+        resultMappingEnsured,
+        query.getConfig().getNaming());
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void prepareIndexes(Map<Integer, EntityPropertyType<ENTITY, ?>> indexMap) {
+    List<EntityPropertyType<ENTITY, ?>> allPropertyTypes = entityType.getEntityPropertyTypes();
+    Map<EntityPropertyType<ENTITY, ?>, Integer> ordinalMap = new IdentityHashMap<>();
+    for (int i = 0; i < allPropertyTypes.size(); i++) {
+      ordinalMap.put(allPropertyTypes.get(i), i);
+    }
+    int size = indexMap.size();
+    propertySize = allPropertyTypes.size();
+    columnIndexes = new int[size];
+    propertyIndexes = new int[size];
+    propertyTypes = (EntityPropertyType<ENTITY, ?>[]) new EntityPropertyType<?, ?>[size];
+    int i = 0;
+    for (Map.Entry<Integer, EntityPropertyType<ENTITY, ?>> entry : indexMap.entrySet()) {
+      columnIndexes[i] = entry.getKey();
+      propertyIndexes[i] = ordinalMap.get(entry.getValue());
+      propertyTypes[i] = entry.getValue();
+      i++;
+    }
+  }
+
   protected HashMap<Integer, EntityPropertyType<ENTITY, ?>> createIndexMap(
       ResultSetMetaData resultSetMeta, EntityType<ENTITY> entityType) throws SQLException {
     HashMap<Integer, EntityPropertyType<ENTITY, ?>> indexMap = new HashMap<>();
@@ -83,9 +157,11 @@ public class EntityProvider<ENTITY> extends AbstractObjectProvider<ENTITY> {
       String lowerCaseColumnName = columnName.toLowerCase();
       EntityPropertyType<ENTITY, ?> propertyType = columnNameMap.get(lowerCaseColumnName);
       if (propertyType == null) {
-        if (ROWNUMBER_COLUMN_NAME.equals(lowerCaseColumnName)) {
+        if (ROWNUMBER_COLUMN_NAME.equals(lowerCaseColumnName)
+            || COUNT_OVER_COLUMN_NAME.equals(lowerCaseColumnName)) {
           continue;
         }
+        unknownColumnFound = true;
         unknownColumnHandler.handle(query, entityType, lowerCaseColumnName);
       } else {
         unmappedPropertySet.remove(propertyType);
@@ -131,4 +207,34 @@ public class EntityProvider<ENTITY> extends AbstractObjectProvider<ENTITY> {
         sql.getFormattedSql(),
         sql.getSqlFilePath());
   }
+
+  protected static class MappingPlan<ENTITY> {
+
+    protected final int columnCount;
+
+    protected final Map<Integer, EntityPropertyType<ENTITY, ?>> indexMap;
+
+    protected final int propertySize;
+
+    protected final int[] columnIndexes;
+
+    protected final int[] propertyIndexes;
+
+    protected final EntityPropertyType<ENTITY, ?>[] propertyTypes;
+
+    protected MappingPlan(
+        int columnCount,
+        Map<Integer, EntityPropertyType<ENTITY, ?>> indexMap,
+        int propertySize,
+        int[] columnIndexes,
+        int[] propertyIndexes,
+        EntityPropertyType<ENTITY, ?>[] propertyTypes) {
+      this.columnCount = columnCount;
+      this.indexMap = indexMap;
+      this.propertySize = propertySize;
+      this.columnIndexes = columnIndexes;
+      this.propertyIndexes = propertyIndexes;
+      this.propertyTypes = propertyTypes;
+    }
+  }
 }
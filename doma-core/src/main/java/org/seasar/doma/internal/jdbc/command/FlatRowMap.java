@@ -0,0 +1,273 @@
+package org.seasar.doma.internal.jdbc.command;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map that holds the values of a row in an array.
+ *
+ * <p>The keys and their positions are shared by all the rows of a result set. As long as the keys
+ * are not added, the values are stored in the array. When a new key is added or a removed key is
+ * added again, the entries are moved to a {@link LinkedHashMap}.
+ *
+ * <p>The iteration order is the same as the order of the keys in the layout.
+ *
+ * <p>This map is serialized as a {@link LinkedHashMap} that has the same entries.
+ */
+public final class FlatRowMap extends AbstractMap<String, Object> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final Object REMOVED = new Object();
+
+  private final Layout layout;
+
+  private final Object[] values;
+
+  private int size;
+
+  private LinkedHashMap<String, Object> delegate;
+
+  private Set<Entry<String, Object>> entrySet;
+
+  public FlatRowMap(Layout layout, Object[] values) {
+    assertNotNull(layout);
+    assertNotNull((Object) values);
+    this.layout = layout;
+    this.values = values;
+    this.size = values.length;
+  }
+
+  @Override
+  public int size() {
+    return delegate != null ? delegate.size() : size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (delegate != null) {
+      return delegate.containsKey(key);
+    }
+    Integer index = layout.indexMap.get(key);
+    return index != null && values[index] != REMOVED;
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (delegate != null) {
+      return delegate.get(key);
+    }
+    Integer index = layout.indexMap.get(key);
+    if (index == null) {
+      return null;
+    }
+    Object value = values[index];
+    return value == REMOVED ? null : value;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    if (delegate == null) {
+      Integer index = layout.indexMap.get(key);
+      if (index != null && values[index] != REMOVED) {
+        Object old = values[index];
+        values[index] = value;
+        return old;
+      }
+      inflate();
+    }
+    return delegate.put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    if (delegate != null) {
+      return delegate.remove(key);
+    }
+    Integer index = layout.indexMap.get(key);
+    if (index == null || values[index] == REMOVED) {
+      return null;
+    }
+    Object old = values[index];
+    values[index] = REMOVED;
+    size--;
+    return old;
+  }
+
+  @Override
+  public void clear() {
+    if (delegate != null) {
+      delegate.clear();
+      return;
+    }
+    for (int i = 0; i < values.length; i++) {
+      values[i] = REMOVED;
+    }
+    size = 0;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private Object writeReplace() {
+    return new LinkedHashMap<>(this);
+  }
+
+  private void inflate() {
+    LinkedHashMap<String, Object> map = new LinkedHashMap<>(Math.max(values.length * 2, 16));
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != REMOVED) {
+        map.put(layout.keys[i], values[i]);
+      }
+    }
+    delegate = map;
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public int size() {
+      return FlatRowMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      FlatRowMap.this.clear();
+    }
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      if (delegate != null) {
+        return delegate.entrySet().iterator();
+      }
+      return new EntryIterator();
+    }
+  }
+
+  private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+    private int next = skipRemoved(0);
+
+    private int current = -1;
+
+    private int skipRemoved(int index) {
+      while (index < values.length && values[index] == REMOVED) {
+        index++;
+      }
+      return index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < values.length;
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      current = next;
+      next = skipRemoved(next + 1);
+      return new FlatEntry(current);
+    }
+
+    @Override
+    public void remove() {
+      if (current < 0 || values[current] == REMOVED) {
+        throw new IllegalStateException();
+      }
+      values[current] = REMOVED;
+      size--;
+    }
+  }
+
+  private class FlatEntry implements Entry<String, Object> {
+
+    private final int index;
+
+    private FlatEntry(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String getKey() {
+      return layout.keys[index];
+    }
+
+    @Override
+    public Object getValue() {
+      Object value = values[index];
+      return value == REMOVED ? null : value;
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      Object old = values[index];
+      if (old == REMOVED) {
+        throw new IllegalStateException("The entry is removed from the map.");
+      }
+      values[index] = value;
+      return old;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      Object value = getValue();
+      return getKey().equals(e.getKey())
+          && (value == null ? e.getValue() == null : value.equals(e.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      Object value = getValue();
+      return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  /** The keys and their positions that are shared by the rows. */
+  public static final class Layout {
+
+    private final String[] keys;
+
+    private final Map<String, Integer> indexMap;
+
+    public Layout(String[] keys) {
+      assertNotNull((Object) keys);
+      this.keys = keys;
+      this.indexMap = new HashMap<>(Math.max(keys.length * 2, 16));
+      for (int i = 0; i < keys.length; i++) {
+        Integer previous = indexMap.putIfAbsent(keys[i], i);
+        assertTrue(previous == null, keys[i]);
+      }
+    }
+
+    public int size() {
+      return keys.length;
+    }
+  }
+}
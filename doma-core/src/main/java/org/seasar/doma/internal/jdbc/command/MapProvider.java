@@ -1,18 +1,23 @@
 package org.seasar.doma.internal.jdbc.command;
 
+import static org.seasar.doma.internal.Constants.COUNT_OVER_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import org.seasar.doma.MapKeyNamingType;
 import org.seasar.doma.internal.jdbc.scalar.BasicScalar;
 import org.seasar.doma.jdbc.JdbcMappingVisitor;
 import org.seasar.doma.jdbc.MapKeyNaming;
+import org.seasar.doma.jdbc.MappingPlanCache;
+import org.seasar.doma.jdbc.Sql;
 import org.seasar.doma.jdbc.query.Query;
 import org.seasar.doma.wrapper.ObjectWrapper;
 
@@ -26,6 +31,10 @@ public class MapProvider extends AbstractObjectProvider<Map<String, Object>> {
 
   protected Map<Integer, String> indexMap;
 
+  protected RowPlan rowPlan;
+
+  protected BasicScalar<Object> scalar;
+
   public MapProvider(Query query, MapKeyNamingType mapKeyNamingType) {
     assertNotNull(query, mapKeyNamingType);
     this.query = query;
@@ -35,18 +44,52 @@ public class MapProvider extends AbstractObjectProvider<Map<String, Object>> {
 
   @Override
   public Map<String, Object> get(ResultSet resultSet) throws SQLException {
-    Map<String, Object> map = new LinkedHashMap<String, Object>();
     if (indexMap == null) {
-      indexMap = createIndexMap(resultSet.getMetaData());
+      prepare(resultSet.getMetaData());
+    }
+    if (scalar == null) {
+      scalar = new BasicScalar<>(ObjectWrapper::new);
+    }
+    int[] columnIndexes = rowPlan.columnIndexes;
+    int[] positions = rowPlan.positions;
+    Object[] values = new Object[rowPlan.layout.size()];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      fetch(resultSet, scalar, columnIndexes[i], jdbcMappingVisitor);
+      values[positions[i]] = scalar.get();
+    }
+    return new FlatRowMap(rowPlan.layout, values);
+  }
+
+  protected void prepare(ResultSetMetaData resultSetMeta) throws SQLException {
+    MappingPlanCache cache = query.getConfig().getMappingPlanCache();
+    Object key = createPlanKey();
+    int columnCount = resultSetMeta.getColumnCount();
+    if (key != null) {
+      MappingPlan plan = (MappingPlan) cache.get(key);
+      if (plan != null && plan.columnCount == columnCount) {
+        indexMap = plan.indexMap;
+        rowPlan = plan.rowPlan;
+        return;
+      }
+    }
+    indexMap = createIndexMap(resultSetMeta);
+    rowPlan = new RowPlan(indexMap);
+    if (key != null) {
+      cache.put(key, new MappingPlan(columnCount, indexMap, rowPlan));
     }
-    for (Map.Entry<Integer, String> entry : indexMap.entrySet()) {
-      Integer index = entry.getKey();
-      String key = entry.getValue();
-      BasicScalar<Object> scalar = new BasicScalar<>(() -> new ObjectWrapper());
-      fetch(resultSet, scalar, index, jdbcMappingVisitor);
-      map.put(key, scalar.get());
+  }
+
+  protected Object createPlanKey() {
+    Sql<?> sql = query.getSql();
+    if (sql == null) {
+      return null;
     }
-    return map;
+    return Arrays.asList(
+        MapProvider.class,
+        sql.getRawSql(),
+        query.getMethod(),
+        mapKeyNamingType,
+        query.getConfig().getMapKeyNaming());
   }
 
   protected HashMap<Integer, String> createIndexMap(ResultSetMetaData resultSetMeta)
@@ -57,9 +100,61 @@ public class MapProvider extends AbstractObjectProvider<Map<String, Object>> {
     int count = resultSetMeta.getColumnCount();
     for (int i = 1; i < count + 1; i++) {
       String columnName = resultSetMeta.getColumnLabel(i);
+      if (COUNT_OVER_COLUMN_NAME.equalsIgnoreCase(columnName)) {
+        continue;
+      }
       String key = naming.apply(method, mapKeyNamingType, columnName);
       indexMap.put(i, key);
     }
     return indexMap;
   }
+
+  protected static class MappingPlan {
+
+    protected final int columnCount;
+
+    protected final Map<Integer, String> indexMap;
+
+    protected final RowPlan rowPlan;
+
+    protected MappingPlan(int columnCount, Map<Integer, String> indexMap, RowPlan rowPlan) {
+      this.columnCount = columnCount;
+      this.indexMap = indexMap;
+      this.rowPlan = rowPlan;
+    }
+  }
+
+  /**
+   * The plan to store the column values of a row in a {@link FlatRowMap}.
+   *
+   * <p>When several columns have the same key, the key is placed at the first column and its value
+   * is overwritten by the last column.
+   */
+  protected static class RowPlan {
+
+    protected final FlatRowMap.Layout layout;
+
+    protected final int[] columnIndexes;
+
+    protected final int[] positions;
+
+    protected RowPlan(Map<Integer, String> indexMap) {
+      TreeMap<Integer, String> sorted = new TreeMap<>(indexMap);
+      LinkedHashMap<String, Integer> keyPositions = new LinkedHashMap<>();
+      columnIndexes = new int[sorted.size()];
+      positions = new int[sorted.size()];
+      int i = 0;
+      for (Map.Entry<Integer, String> entry : sorted.entrySet()) {
+        Integer position = keyPositions.get(entry.getValue());
+        if (position == null) {
+          position = keyPositions.size();
+          keyPositions.put(entry.getValue(), position);
+        }
+        columnIndexes[i] = entry.getKey();
+        positions[i] = position;
+        i++;
+      }
+      layout = new FlatRowMap.Layout(keyPositions.keySet().toArray(new String[0]));
+    }
+  }
 }
@@ -1,13 +1,17 @@
 package org.seasar.doma.internal.jdbc.command;
 
+import static org.seasar.doma.internal.Constants.COUNT_OVER_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import org.seasar.doma.jdbc.ObjectProvider;
+import org.seasar.doma.jdbc.SelectOptions;
+import org.seasar.doma.jdbc.SelectOptionsAccessor;
 import org.seasar.doma.jdbc.command.ResultSetRowIndexConsumer;
 import org.seasar.doma.jdbc.query.SelectQuery;
 
@@ -37,10 +41,27 @@ public class ResultSetIterator<TARGET> implements Iterator<TARGET> {
     this.consumer = consumer;
     this.provider = provider;
     this.next = resultSet.next();
+    if (next) {
+      fetchCountOver();
+    }
     consumer.accept(index, next);
     index++;
   }
 
+  protected void fetchCountOver() throws SQLException {
+    SelectOptions options = query.getOptions();
+    if (options == null || !SelectOptionsAccessor.isCountOver(options)) {
+      return;
+    }
+    ResultSetMetaData resultSetMeta = resultSet.getMetaData();
+    for (int i = resultSetMeta.getColumnCount(); i > 0; i--) {
+      if (COUNT_OVER_COLUMN_NAME.equalsIgnoreCase(resultSetMeta.getColumnLabel(i))) {
+        SelectOptionsAccessor.setCountSize(options, resultSet.getLong(i));
+        return;
+      }
+    }
+  }
+
   @Override
   public boolean hasNext() {
     return next;
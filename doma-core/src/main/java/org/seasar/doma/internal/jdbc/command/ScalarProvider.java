@@ -1,5 +1,6 @@
 package org.seasar.doma.internal.jdbc.command;
 
+import static org.seasar.doma.internal.Constants.COUNT_OVER_COLUMN_NAME;
 import static org.seasar.doma.internal.Constants.ROWNUMBER_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
@@ -52,9 +53,16 @@ public class ScalarProvider<BASIC, CONTAINER> extends AbstractObjectProvider<CON
   protected int getColumnCount(ResultSet resultSet) throws SQLException {
     ResultSetMetaData resultSetMeta = resultSet.getMetaData();
     int columnCount = resultSetMeta.getColumnCount();
-    if (columnCount == 2) {
-      String columnName = resultSetMeta.getColumnLabel(2).toLowerCase();
-      return ROWNUMBER_COLUMN_NAME.equals(columnName) ? 1 : 2;
+    if (columnCount == 2 || columnCount == 3) {
+      int count = 1;
+      for (int i = 2; i <= columnCount; i++) {
+        String columnName = resultSetMeta.getColumnLabel(i).toLowerCase();
+        if (!ROWNUMBER_COLUMN_NAME.equals(columnName)
+            && !COUNT_OVER_COLUMN_NAME.equals(columnName)) {
+          count++;
+        }
+      }
+      return count;
     }
     return columnCount;
   }
@@ -2,18 +2,24 @@ package org.seasar.doma.internal.jdbc.dao;
 
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import javax.sql.DataSource;
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.internal.RuntimeConfig;
 import org.seasar.doma.internal.WrapException;
 import org.seasar.doma.internal.util.ClassUtil;
 import org.seasar.doma.internal.util.MethodUtil;
+import org.seasar.doma.jdbc.AsyncInvocationInTransactionException;
+import org.seasar.doma.jdbc.AsyncInvocationOnConnectionException;
 import org.seasar.doma.jdbc.CommandImplementors;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.ConfigException;
 import org.seasar.doma.jdbc.ConfigProvider;
 import org.seasar.doma.jdbc.DaoMethodNotFoundException;
 import org.seasar.doma.jdbc.QueryImplementors;
+import org.seasar.doma.jdbc.tx.LocalTransactionDataSource;
+import org.seasar.doma.jdbc.tx.TransactionManager;
 
 public class DaoImplSupport implements ConfigProvider {
 
@@ -116,6 +122,10 @@ public class DaoImplSupport implements ConfigProvider {
     return __config.getQueryImplementors();
   }
 
+  public boolean isDaoMethodLoggingEnabled() {
+    return __config.getJdbcLogger().isDaoMethodLoggingEnabled();
+  }
+
   public void entering(String callerClassName, String callerMethodName, Object... args) {
     __config.getJdbcLogger().logDaoMethodEntering(callerClassName, callerMethodName, args);
   }
@@ -128,6 +138,23 @@ public class DaoImplSupport implements ConfigProvider {
     __config.getJdbcLogger().logDaoMethodThrowing(callerClassName, callerMethodName, e);
   }
 
+  public <T> CompletableFuture<T> supplyAsync(
+      String callerClassName, String callerMethodName, Supplier<T> supplier) {
+    DataSource dataSource = __config.getDataSource();
+    if (dataSource instanceof NeverClosedConnectionProvider) {
+      throw new AsyncInvocationOnConnectionException(callerClassName, callerMethodName);
+    }
+    if (dataSource instanceof LocalTransactionDataSource) {
+      if (((LocalTransactionDataSource) dataSource).isTransactionActive()) {
+        throw new AsyncInvocationInTransactionException(callerClassName, callerMethodName);
+      }
+      TransactionManager transactionManager = __config.getTransactionManager();
+      return CompletableFuture.supplyAsync(
+          () -> transactionManager.required(supplier), __config.getAsyncExecutor());
+    }
+    return CompletableFuture.supplyAsync(supplier, __config.getAsyncExecutor());
+  }
+
   public static <T> Method getDeclaredMethod(
       Class<T> clazz, String name, Class<?>... parameterTypes) {
     try {
@@ -1,5 +1,7 @@
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_VARIABLE_NAME;
+
 import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
@@ -41,7 +43,9 @@ public class Db2PagingTransformer extends StandardPagingTransformer {
     } else {
       orderBy = new OrderByClauseNode("");
     }
-    orderBy.appendNode(new FragmentNode(" fetch first " + limit + " rows only"));
+    orderBy.appendNode(new FragmentNode(" fetch first "));
+    orderBy.appendNode(createEmbeddedVariableNode(LIMIT_VARIABLE_NAME));
+    orderBy.appendNode(new FragmentNode(" rows only"));
 
     SelectStatementNode result = new SelectStatementNode();
     result.setSelectClauseNode(node.getSelectClauseNode());
@@ -1,5 +1,8 @@
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_VARIABLE_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_VARIABLE_NAME;
+
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
@@ -30,13 +33,13 @@ public class H212126PagingTransformer extends StandardPagingTransformer {
     }
     orderBy.appendNode(new FragmentNode(" limit "));
     if (limit >= 0) {
-      orderBy.appendNode(new FragmentNode(String.valueOf(limit)));
+      orderBy.appendNode(createBindVariableNode(LIMIT_VARIABLE_NAME));
     } else {
       orderBy.appendNode(new FragmentNode("0"));
     }
     if (offset >= 0) {
       orderBy.appendNode(new FragmentNode(" offset "));
-      orderBy.appendNode(new FragmentNode(String.valueOf(offset)));
+      orderBy.appendNode(createBindVariableNode(OFFSET_VARIABLE_NAME));
     }
 
     SelectStatementNode result = new SelectStatementNode();
@@ -1,5 +1,7 @@
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_VARIABLE_NAME;
+
 import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
@@ -36,7 +38,9 @@ public class Mssql2008PagingTransformer extends StandardPagingTransformer {
 
   protected SqlNode appendTopNode(SelectStatementNode node) {
     SelectClauseNode select = new SelectClauseNode(node.getSelectClauseNode().getWordNode());
-    select.appendNode(new FragmentNode(" top (" + limit + ")"));
+    select.appendNode(new FragmentNode(" top ("));
+    select.appendNode(createBindVariableNode(LIMIT_VARIABLE_NAME));
+    select.appendNode(new FragmentNode(")"));
     for (SqlNode child : node.getSelectClauseNode().getChildren()) {
       select.appendNode(child);
     }
@@ -1,5 +1,8 @@
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_VARIABLE_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_VARIABLE_NAME;
+
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
@@ -38,14 +41,12 @@ public class MssqlPagingTransformer extends Mssql2008PagingTransformer {
       orderBy.appendNode(child);
     }
 
-    String offset = this.offset <= 0 ? "0" : String.valueOf(this.offset);
-
     orderBy.appendNode(new FragmentNode(" offset "));
-    orderBy.appendNode(new FragmentNode(offset));
+    orderBy.appendNode(createBindVariableNode(OFFSET_VARIABLE_NAME));
     orderBy.appendNode(new FragmentNode(" rows"));
     if (this.limit > 0) {
       orderBy.appendNode(new FragmentNode(" fetch next "));
-      orderBy.appendNode(new FragmentNode(String.valueOf(this.limit)));
+      orderBy.appendNode(createBindVariableNode(LIMIT_VARIABLE_NAME));
       orderBy.appendNode(new FragmentNode(" rows only"));
     }
 
@@ -1,5 +1,8 @@
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_VARIABLE_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_VARIABLE_NAME;
+
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
@@ -30,12 +33,14 @@ public class MysqlPagingTransformer extends StandardPagingTransformer {
     } else {
       orderBy = new OrderByClauseNode("");
     }
-    String offset = this.offset <= 0 ? "0" : String.valueOf(this.offset);
-    String limit = this.limit <= 0 ? MAXIMUM_LIMIT : String.valueOf(this.limit);
     orderBy.appendNode(new FragmentNode(" limit "));
-    orderBy.appendNode(new FragmentNode(offset));
+    orderBy.appendNode(createBindVariableNode(OFFSET_VARIABLE_NAME));
     orderBy.appendNode(new FragmentNode(", "));
-    orderBy.appendNode(new FragmentNode(limit));
+    if (this.limit <= 0) {
+      orderBy.appendNode(new FragmentNode(MAXIMUM_LIMIT));
+    } else {
+      orderBy.appendNode(createBindVariableNode(LIMIT_VARIABLE_NAME));
+    }
 
     SelectStatementNode result = new SelectStatementNode();
     result.setSelectClauseNode(node.getSelectClauseNode());
@@ -1,5 +1,7 @@
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.MAX_ROWNUMBER_VARIABLE_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_VARIABLE_NAME;
 import static org.seasar.doma.internal.Constants.ROWNUMBER_COLUMN_NAME;
 
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
@@ -41,15 +43,14 @@ public class OraclePagingTransformer extends StandardPagingTransformer {
     where.appendNode(new FragmentNode(" "));
     if (offset >= 0) {
       where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " > "));
-      where.appendNode(new FragmentNode(String.valueOf(offset)));
+      where.appendNode(createBindVariableNode(OFFSET_VARIABLE_NAME));
     }
     if (limit > 0) {
       if (offset >= 0) {
         where.appendNode(new FragmentNode(" and "));
       }
       where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " <= "));
-      long bias = offset < 0 ? 0 : offset;
-      where.appendNode(new FragmentNode(String.valueOf(bias + limit)));
+      where.appendNode(createBindVariableNode(MAX_ROWNUMBER_VARIABLE_NAME));
     }
 
     SelectStatementNode result = new SelectStatementNode();
@@ -0,0 +1,36 @@
+package org.seasar.doma.internal.jdbc.dialect;
+
+import static org.seasar.doma.internal.Constants.COUNT_OVER_COLUMN_NAME;
+
+import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
+import org.seasar.doma.jdbc.SqlNode;
+
+public class StandardCountOverTransformer extends StandardCountCalculatingTransformer {
+
+  @Override
+  public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
+    if (processed) {
+      return node;
+    }
+    processed = true;
+
+    SelectClauseNode select = new SelectClauseNode(node.getSelectClauseNode().getWordNode());
+    for (SqlNode child : node.getSelectClauseNode().getChildren()) {
+      select.appendNode(child);
+    }
+    select.appendNode(new FragmentNode(", count(*) over() as " + COUNT_OVER_COLUMN_NAME + " "));
+
+    SelectStatementNode result = new SelectStatementNode();
+    result.setSelectClauseNode(select);
+    result.setFromClauseNode(node.getFromClauseNode());
+    result.setWhereClauseNode(node.getWhereClauseNode());
+    result.setGroupByClauseNode(node.getGroupByClauseNode());
+    result.setHavingClauseNode(node.getHavingClauseNode());
+    result.setOrderByClauseNode(node.getOrderByClauseNode());
+    result.setForUpdateClauseNode(node.getForUpdateClauseNode());
+    result.setOptionClauseNode(node.getOptionClauseNode());
+    return result;
+  }
+}
@@ -1,15 +1,32 @@
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_VARIABLE_NAME;
+import static org.seasar.doma.internal.Constants.MAX_ROWNUMBER_VARIABLE_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_VARIABLE_NAME;
 import static org.seasar.doma.internal.Constants.ROWNUMBER_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
+import org.seasar.doma.internal.expr.ExpressionParser;
+import org.seasar.doma.internal.expr.Value;
 import org.seasar.doma.internal.jdbc.sql.SimpleSqlNodeVisitor;
 import org.seasar.doma.internal.jdbc.sql.node.*;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.SqlNode;
 import org.seasar.doma.message.Message;
 
+/**
+ * A transformer that appends the paging conditions to a select statement.
+ *
+ * <p>The transformed SQL node does not contain the values of the offset and the limit. It refers to
+ * the variables {@value org.seasar.doma.internal.Constants#OFFSET_VARIABLE_NAME}, {@value
+ * org.seasar.doma.internal.Constants#LIMIT_VARIABLE_NAME} and {@value
+ * org.seasar.doma.internal.Constants#MAX_ROWNUMBER_VARIABLE_NAME} instead, so that the node can be
+ * reused for other values and the values are bound as parameters. The structure of the node depends
+ * only on the signs of the offset and the limit.
+ */
 public class StandardPagingTransformer extends SimpleSqlNodeVisitor<SqlNode, Void> {
 
   private final AliasReplacer replacer = new AliasReplacer();
@@ -70,15 +87,14 @@ public class StandardPagingTransformer extends SimpleSqlNodeVisitor<SqlNode, Voi
     where.appendNode(new FragmentNode(" "));
     if (offset >= 0) {
       where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " > "));
-      where.appendNode(new FragmentNode(String.valueOf(offset)));
+      where.appendNode(createBindVariableNode(OFFSET_VARIABLE_NAME));
     }
     if (limit > 0) {
       if (offset >= 0) {
         where.appendNode(new FragmentNode(" and "));
       }
-      long bias = offset < 0 ? 0 : offset;
       where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " <= "));
-      where.appendNode(new FragmentNode(String.valueOf(bias + limit)));
+      where.appendNode(createBindVariableNode(MAX_ROWNUMBER_VARIABLE_NAME));
     }
 
     SelectStatementNode result = new SelectStatementNode();
@@ -90,6 +106,52 @@ public class StandardPagingTransformer extends SimpleSqlNodeVisitor<SqlNode, Voi
     return result;
   }
 
+  /**
+   * Creates the values of the variables that the transformed SQL node refers to.
+   *
+   * @param offset the offset
+   * @param limit the limit
+   * @return the values of the variables
+   */
+  public static Map<String, Value> createVariableValues(long offset, long limit) {
+    long offsetValue = Math.max(offset, 0);
+    long limitValue = Math.max(limit, 0);
+    Map<String, Value> values = new HashMap<>();
+    values.put(OFFSET_VARIABLE_NAME, new Value(long.class, offsetValue));
+    values.put(LIMIT_VARIABLE_NAME, new Value(long.class, limitValue));
+    values.put(MAX_ROWNUMBER_VARIABLE_NAME, new Value(long.class, offsetValue + limitValue));
+    return values;
+  }
+
+  /**
+   * Creates a node that binds the value of the variable as a parameter.
+   *
+   * @param variableName the variable name
+   * @return the node
+   */
+  protected SqlNode createBindVariableNode(String variableName) {
+    String text = "/*" + variableName + "*/";
+    BindVariableNode node = new BindVariableNode(new SqlLocation(text, 1, 1), variableName, text);
+    node.setExpressionNode(new ExpressionParser(variableName).parse());
+    node.setWordNode(new WordNode("0"));
+    return node;
+  }
+
+  /**
+   * Creates a node that embeds the value of the variable in the SQL. Use this method only when the
+   * database does not accept a parameter at the position.
+   *
+   * @param variableName the variable name
+   * @return the node
+   */
+  protected SqlNode createEmbeddedVariableNode(String variableName) {
+    String text = "/*#" + variableName + "*/";
+    EmbeddedVariableNode node =
+        new EmbeddedVariableNode(new SqlLocation(text, 1, 1), variableName, text);
+    node.setExpressionNode(new ExpressionParser(variableName).parse());
+    return node;
+  }
+
   @Override
   protected SqlNode defaultAction(SqlNode node, Void p) {
     return node;
@@ -113,13 +175,23 @@ public class StandardPagingTransformer extends SimpleSqlNodeVisitor<SqlNode, Voi
       IfNode originalIfNode = node.getIfNode();
       IfNode ifNode =
           buildNode(
-              originalIfNode, o -> new IfNode(o.getLocation(), o.getExpression(), o.getText()));
+              originalIfNode,
+              o -> {
+                IfNode newNode = new IfNode(o.getLocation(), o.getExpression(), o.getText());
+                newNode.setExpressionNode(o.getExpressionNode());
+                return newNode;
+              });
       ifBlockNode.setIfNode(ifNode);
       for (ElseifNode originalElseifNode : node.getElseifNodes()) {
         ElseifNode elseifNode =
             buildNode(
                 originalElseifNode,
-                o -> new ElseifNode(o.getLocation(), o.getExpression(), o.getText()));
+                o -> {
+                  ElseifNode newNode =
+                      new ElseifNode(o.getLocation(), o.getExpression(), o.getText());
+                  newNode.setExpressionNode(o.getExpressionNode());
+                  return newNode;
+                });
         ifBlockNode.addElseifNode(elseifNode);
       }
       ElseNode originalElseNode = node.getElseNode();
@@ -142,7 +214,12 @@ public class StandardPagingTransformer extends SimpleSqlNodeVisitor<SqlNode, Voi
       ForNode forNode =
           buildNode(
               originalForNode,
-              o -> new ForNode(o.getLocation(), o.getIdentifier(), o.getExpression(), o.getText()));
+              o -> {
+                ForNode newNode =
+                    new ForNode(o.getLocation(), o.getIdentifier(), o.getExpression(), o.getText());
+                newNode.setExpressionNode(o.getExpressionNode());
+                return newNode;
+              });
       forBlockNode.setForNode(forNode);
       EndNode originalEndNode = node.getEndNode();
       if (originalEndNode != null) {
@@ -0,0 +1,70 @@
+package org.seasar.doma.internal.jdbc.sql;
+
+import java.util.function.Function;
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * An SQL file that is embedded in a Dao implementation class.
+ *
+ * <p>The SQL node is created by the factory method that the annotation processor generates from the
+ * SQL file, so the SQL string is not parsed at runtime. The SQL string is parsed only if the SQL
+ * file is too large to generate the factory method.
+ */
+public final class EmbeddedSql {
+
+  private final String path;
+
+  private final String sql;
+
+  private final Function<String, SqlNode> sqlNodeFactory;
+
+  /**
+   * Creates an instance whose SQL node is parsed from the SQL string.
+   *
+   * @param path the SQL file path
+   * @param sql the SQL string
+   */
+  public EmbeddedSql(String path, String sql) {
+    this(path, sql, s -> new SqlParser(s).parse());
+  }
+
+  /**
+   * Creates an instance whose SQL node is created by the factory.
+   *
+   * @param path the SQL file path
+   * @param sql the SQL string
+   * @param sqlNodeFactory the function that creates the SQL node from the SQL string
+   */
+  public EmbeddedSql(String path, String sql, Function<String, SqlNode> sqlNodeFactory) {
+    if (path == null) {
+      throw new DomaNullPointerException("path");
+    }
+    if (sql == null) {
+      throw new DomaNullPointerException("sql");
+    }
+    if (sqlNodeFactory == null) {
+      throw new DomaNullPointerException("sqlNodeFactory");
+    }
+    this.path = path;
+    this.sql = sql;
+    this.sqlNodeFactory = sqlNodeFactory;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public String getSql() {
+    return sql;
+  }
+
+  /**
+   * Creates the SQL node.
+   *
+   * @return the SQL node
+   */
+  public SqlNode createSqlNode() {
+    return sqlNodeFactory.apply(sql);
+  }
+}
@@ -0,0 +1,81 @@
+package org.seasar.doma.internal.jdbc.sql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.seasar.doma.DomaNullPointerException;
+
+/**
+ * A registry of the SQL files that are embedded in the Dao implementation classes at compile time.
+ *
+ * <p>The Dao implementation classes register their SQL files in the static initializers when the
+ * annotation processing option {@code doma.sql.embedding} is enabled.
+ *
+ * <p>The SQL files are registered on the Dao interface that declares the Dao methods. The
+ * registrations therefore belong to the class loader of the Dao interface and are discarded with
+ * it, and the Dao interfaces of different class loaders never share them.
+ *
+ * <p>The SQL files are registered per base path, that is, the path of the SQL file that is not
+ * specific to any dialect. An entry contains all the SQL files of the base path, including the
+ * dialect-specific ones. A dialect-specific path that is absent from the entry means that the SQL
+ * file has no variant for the dialect.
+ */
+public final class EmbeddedSqlRegistry {
+
+  private static final ClassValue<ConcurrentMap<String, Map<String, EmbeddedSql>>> sqlMaps =
+      new ClassValue<ConcurrentMap<String, Map<String, EmbeddedSql>>>() {
+        @Override
+        protected ConcurrentMap<String, Map<String, EmbeddedSql>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private EmbeddedSqlRegistry() {}
+
+  /**
+   * Registers all the SQL files of a base path.
+   *
+   * @param daoClass the Dao interface that declares the Dao method
+   * @param basePath the path of the SQL file that is not specific to any dialect
+   * @param sqls all the SQL files of the base path
+   */
+  public static void register(Class<?> daoClass, String basePath, EmbeddedSql... sqls) {
+    if (daoClass == null) {
+      throw new DomaNullPointerException("daoClass");
+    }
+    if (basePath == null) {
+      throw new DomaNullPointerException("basePath");
+    }
+    if (sqls == null) {
+      throw new DomaNullPointerException("sqls");
+    }
+    Map<String, EmbeddedSql> variants = new HashMap<>(sqls.length * 2);
+    for (int i = 0; i < sqls.length; i++) {
+      if (sqls[i] == null) {
+        throw new DomaNullPointerException("sqls[" + i + "]");
+      }
+      variants.put(sqls[i].getPath(), sqls[i]);
+    }
+    sqlMaps.get(daoClass).put(basePath, Collections.unmodifiableMap(variants));
+  }
+
+  /**
+   * Returns all the SQL files of the base path.
+   *
+   * @param daoClass the Dao interface that declares the Dao method
+   * @param basePath the path of the SQL file that is not specific to any dialect
+   * @return the map from the paths to the SQL files, or {@code null} if the base path is not
+   *     registered
+   */
+  public static Map<String, EmbeddedSql> getSqls(Class<?> daoClass, String basePath) {
+    if (daoClass == null) {
+      throw new DomaNullPointerException("daoClass");
+    }
+    if (basePath == null) {
+      throw new DomaNullPointerException("basePath");
+    }
+    return sqlMaps.get(daoClass).get(basePath);
+  }
+}
@@ -0,0 +1,59 @@
+package org.seasar.doma.internal.jdbc.sql;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.seasar.doma.jdbc.InParameter;
+import org.seasar.doma.jdbc.SqlLogFormattingFunction;
+import org.seasar.doma.jdbc.SqlLogFormattingVisitor;
+
+/**
+ * Builds the formatted SQL on demand.
+ *
+ * <p>The formatted SQL is the raw SQL whose parameter markers are replaced with the formatted
+ * values of the corresponding parameters.
+ */
+public class FormattedSqlSupplier implements Supplier<String> {
+
+  protected final SqlLogFormattingVisitor formattingVisitor;
+
+  protected final String rawSql;
+
+  protected final int[] markers;
+
+  protected final List<? extends InParameter<?>> parameters;
+
+  public FormattedSqlSupplier(
+      SqlLogFormattingVisitor formattingVisitor,
+      String rawSql,
+      int[] markers,
+      List<? extends InParameter<?>> parameters) {
+    assertNotNull(formattingVisitor, rawSql, markers, parameters);
+    assertTrue(markers.length == parameters.size());
+    this.formattingVisitor = formattingVisitor;
+    this.rawSql = rawSql;
+    this.markers = markers;
+    this.parameters = parameters;
+  }
+
+  @Override
+  public String get() {
+    if (markers.length == 0) {
+      return rawSql;
+    }
+    SqlLogFormattingFunction formattingFunction = new ConvertToLogFormatFunction();
+    StringBuilder buf = new StringBuilder(rawSql.length() + markers.length * 8);
+    int start = 0;
+    for (int i = 0; i < markers.length; i++) {
+      int marker = markers[i];
+      buf.append(rawSql, start, marker);
+      buf.append(
+          parameters.get(i).getWrapper().accept(formattingVisitor, formattingFunction, null));
+      start = marker + 1;
+    }
+    buf.append(rawSql, start, rawSql.length());
+    return buf.toString();
+  }
+}
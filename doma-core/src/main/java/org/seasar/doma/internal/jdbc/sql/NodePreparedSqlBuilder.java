@@ -168,14 +168,16 @@ public class NodePreparedSqlBuilder
     assertNotNull(sqlNode, commenter);
     Context context = new Context(config, evaluator);
     sqlNode.accept(this, context);
+    String rawSql = context.getSqlBuf().toString();
+    List<InParameter<?>> parameters = context.getParameters();
+    FormattedSqlSupplier formattedSqlSupplier =
+        new FormattedSqlSupplier(
+            config.getDialect().getSqlLogFormattingVisitor(),
+            rawSql,
+            context.getMarkers().toArray(),
+            parameters);
     return new PreparedSql(
-        kind,
-        context.getSqlBuf(),
-        context.getFormattedSqlBuf(),
-        sqlFilePath,
-        context.getParameters(),
-        sqlLogType,
-        commenter);
+        kind, rawSql, formattedSqlSupplier, sqlFilePath, parameters, sqlLogType, commenter);
   }
 
   @Override
@@ -191,7 +193,6 @@ public class NodePreparedSqlBuilder
     p.setAvailable(true);
     String other = node.getOther();
     p.appendRawSql(other);
-    p.appendFormattedSql(other);
     return null;
   }
 
@@ -199,7 +200,6 @@ public class NodePreparedSqlBuilder
   public Void visitWhitespaceNode(WhitespaceNode node, Context p) {
     String whitespace = node.getWhitespace();
     p.appendRawSql(whitespace);
-    p.appendFormattedSql(whitespace);
     return null;
   }
 
@@ -207,7 +207,6 @@ public class NodePreparedSqlBuilder
   public Void visitCommentNode(CommentNode node, Context p) {
     String comment = node.getComment();
     p.appendRawSql(comment);
-    p.appendFormattedSql(comment);
     return null;
   }
 
@@ -241,7 +240,7 @@ public class NodePreparedSqlBuilder
   protected Void visitValueNode(ValueNode node, Context p, Consumer<Scalar<?, ?>> valueHandler) {
     SqlLocation location = node.getLocation();
     String name = node.getVariableName();
-    EvaluationResult result = p.evaluate(location, name);
+    EvaluationResult result = p.evaluate(location, name, node.getExpressionNode());
     Object value = result.getValue();
     Class<?> valueClass = result.getValueClass();
     p.setAvailable(true);
@@ -276,7 +275,7 @@ public class NodePreparedSqlBuilder
   public Void visitEmbeddedVariableNode(EmbeddedVariableNode node, Context p) {
     SqlLocation location = node.getLocation();
     String name = node.getVariableName();
-    EvaluationResult result = p.evaluate(location, name);
+    EvaluationResult result = p.evaluate(location, name, node.getExpressionNode());
     Object value = result.getValue();
     if (value != null) {
       String fragment = value.toString();
@@ -316,7 +315,6 @@ public class NodePreparedSqlBuilder
         p.setAvailable(true);
       }
       p.appendRawSql(fragment);
-      p.appendFormattedSql(fragment);
     }
     for (SqlNode child : node.getChildren()) {
       child.accept(this, p);
@@ -363,15 +361,12 @@ public class NodePreparedSqlBuilder
           wrap(node.getLocation(), node.getVariableName(), v, v.getClass());
       consumer.accept(supplier.get());
       p.appendRawSql(", ");
-      p.appendFormattedSql(", ");
       index++;
     }
     if (index == 0) {
       p.appendRawSql("null");
-      p.appendFormattedSql("null");
     } else {
       p.cutBackSqlBuf(2);
-      p.cutBackFormattedSqlBuf(2);
     }
   }
 
@@ -391,7 +386,7 @@ public class NodePreparedSqlBuilder
     IfNode ifNode = node.getIfNode();
     SqlLocation location = ifNode.getLocation();
     String expression = ifNode.getExpression();
-    EvaluationResult ifResult = p.evaluate(location, expression);
+    EvaluationResult ifResult = p.evaluate(location, expression, ifNode.getExpressionNode());
     if (ifResult.getBooleanValue()) {
       ifNode.accept(this, p);
       return true;
@@ -403,7 +398,8 @@ public class NodePreparedSqlBuilder
     for (ElseifNode elseifNode : node.getElseifNodes()) {
       SqlLocation location = elseifNode.getLocation();
       String expression = elseifNode.getExpression();
-      EvaluationResult elseifResult = p.evaluate(location, expression);
+      EvaluationResult elseifResult =
+          p.evaluate(location, expression, elseifNode.getExpressionNode());
       if (elseifResult.getBooleanValue()) {
         elseifNode.accept(this, p);
         return true;
@@ -455,7 +451,8 @@ public class NodePreparedSqlBuilder
   public Void visitForBlockNode(ForBlockNode node, Context p) {
     ForNode forNode = node.getForNode();
     SqlLocation location = forNode.getLocation();
-    EvaluationResult expressionResult = p.evaluate(location, forNode.getExpression());
+    EvaluationResult expressionResult =
+        p.evaluate(location, forNode.getExpression(), forNode.getExpressionNode());
     Object expressionValue = expressionResult.getValue();
     Class<?> expressionValueClass = expressionResult.getValueClass();
     Iterable<?> iterable;
@@ -600,16 +597,12 @@ public class NodePreparedSqlBuilder
     if (context.isAvailable()) {
       node.getWordNode().accept(this, p);
       p.setAvailable(true);
-      p.appendRawSql(context.getSqlBuf());
-      p.appendFormattedSql(context.getFormattedSqlBuf());
-      p.addAllParameters(context.getParameters());
+      p.appendContext(context);
     } else {
       String fragment = context.getSqlBuf().toString();
       if (startsWithClauseKeyword(fragment)) {
         p.setAvailable(true);
-        p.appendRawSql(context.getSqlBuf());
-        p.appendFormattedSql(context.getFormattedSqlBuf());
-        p.addAllParameters(context.getParameters());
+        p.appendContext(context);
       }
     }
   }
@@ -663,13 +656,11 @@ public class NodePreparedSqlBuilder
           @Override
           public void cutBackSql(int length) {
             p.cutBackSqlBuf(length);
-            p.cutBackFormattedSqlBuf(length);
           }
 
           @Override
           public void appendSql(String sql) {
             p.appendRawSql(sql);
-            p.appendFormattedSql(sql);
           }
 
           @Override
@@ -688,7 +679,6 @@ public class NodePreparedSqlBuilder
       p.appendWhitespaceIfNecessary();
     }
     p.appendRawSql(word);
-    p.appendFormattedSql(word);
     return null;
   }
 
@@ -697,7 +687,6 @@ public class NodePreparedSqlBuilder
     p.setAvailable(true);
     String fragment = node.getFragment();
     p.appendRawSql(fragment);
-    p.appendFormattedSql(fragment);
     return null;
   }
 
@@ -716,9 +705,7 @@ public class NodePreparedSqlBuilder
     if (context.isAvailable()) {
       node.getOpenedFragmentNode().accept(this, p);
       p.setAvailable(true);
-      p.appendRawSql(context.getSqlBuf());
-      p.appendFormattedSql(context.getFormattedSqlBuf());
-      p.addAllParameters(context.getParameters());
+      p.appendContext(context);
       node.getClosedFragmentNode().accept(this, p);
     }
     return null;
@@ -728,13 +715,13 @@ public class NodePreparedSqlBuilder
   public Void visitEolNode(EolNode node, Context p) {
     String eol = node.getEol();
     p.appendRawSql(eol);
-    p.appendFormattedSql(eol);
     return null;
   }
 
   @Override
   public Void visitExpandNode(ExpandNode node, Context p) {
-    EvaluationResult evalResult = p.evaluate(node.getLocation(), node.getAlias());
+    EvaluationResult evalResult =
+        p.evaluate(node.getLocation(), node.getAlias(), node.getExpressionNode());
     String alias = evalResult.getValue().toString();
     String prefix = alias.isEmpty() ? "" : alias + ".";
     StringJoiner joiner = new StringJoiner(", ");
@@ -743,7 +730,6 @@ public class NodePreparedSqlBuilder
     }
     String joined = joiner.toString();
     p.appendRawSql(joined);
-    p.appendFormattedSql(joined);
     return null;
   }
 
@@ -775,7 +761,7 @@ public class NodePreparedSqlBuilder
 
     private final StringBuilder rawSqlBuf = new StringBuilder(200);
 
-    private final StringBuilder formattedSqlBuf = new StringBuilder(200);
+    private final ParameterMarkers markers = new ParameterMarkers();
 
     private final List<InParameter<?>> parameters = new ArrayList<>();
 
@@ -793,7 +779,6 @@ public class NodePreparedSqlBuilder
     protected void appendWhitespaceIfNecessary() {
       if (endsWithWordPart()) {
         rawSqlBuf.append(WHITESPACE);
-        formattedSqlBuf.append(WHITESPACE);
       }
     }
 
@@ -809,24 +794,23 @@ public class NodePreparedSqlBuilder
       rawSqlBuf.append(sql);
     }
 
-    protected void appendFormattedSql(CharSequence sql) {
-      formattedSqlBuf.append(sql);
+    protected void appendContext(Context context) {
+      markers.addAll(context.markers, rawSqlBuf.length());
+      rawSqlBuf.append(context.rawSqlBuf);
+      parameters.addAll(context.parameters);
     }
 
     protected void cutBackSqlBuf(int size) {
       rawSqlBuf.setLength(rawSqlBuf.length() - size);
-    }
-
-    protected void cutBackFormattedSqlBuf(int size) {
-      formattedSqlBuf.setLength(formattedSqlBuf.length() - size);
+      markers.cutBack(rawSqlBuf.length());
     }
 
     protected CharSequence getSqlBuf() {
       return rawSqlBuf;
     }
 
-    protected CharSequence getFormattedSqlBuf() {
-      return formattedSqlBuf;
+    protected ParameterMarkers getMarkers() {
+      return markers;
     }
 
     protected <BASIC, CONTAINER> void addLiteralValue(Scalar<BASIC, CONTAINER> scalar) {
@@ -835,7 +819,6 @@ public class NodePreparedSqlBuilder
               .getWrapper()
               .accept(config.getDialect().getSqlLogFormattingVisitor(), formattingFunction, null);
       rawSqlBuf.append(literal);
-      formattedSqlBuf.append(literal);
     }
 
     protected <BASIC, CONTAINER> void addBindValue(Scalar<BASIC, CONTAINER> scalar) {
@@ -848,16 +831,8 @@ public class NodePreparedSqlBuilder
 
     protected <BASIC> void appendParameterInternal(InParameter<BASIC> parameter) {
       parameters.add(parameter);
+      markers.add(rawSqlBuf.length());
       rawSqlBuf.append("?");
-      String formatted =
-          parameter
-              .getWrapper()
-              .accept(config.getDialect().getSqlLogFormattingVisitor(), formattingFunction, null);
-      formattedSqlBuf.append(formatted);
-    }
-
-    protected void addAllParameters(List<InParameter<?>> values) {
-      parameters.addAll(values);
     }
 
     protected List<InParameter<?>> getParameters() {
@@ -881,9 +856,16 @@ public class NodePreparedSqlBuilder
     }
 
     protected EvaluationResult evaluate(SqlLocation location, String expression) {
+      return evaluate(location, expression, null);
+    }
+
+    protected EvaluationResult evaluate(
+        SqlLocation location, String expression, ExpressionNode expressionNode) {
       try {
-        ExpressionParser parser = new ExpressionParser(expression);
-        ExpressionNode expressionNode = parser.parse();
+        if (expressionNode == null) {
+          ExpressionParser parser = new ExpressionParser(expression);
+          expressionNode = parser.parse();
+        }
         return evaluator.evaluate(expressionNode);
       } catch (ExpressionException e) {
         throw new JdbcException(
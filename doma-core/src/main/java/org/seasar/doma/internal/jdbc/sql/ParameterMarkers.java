@@ -0,0 +1,48 @@
+package org.seasar.doma.internal.jdbc.sql;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.util.Arrays;
+
+/** The positions of the parameter markers ({@code ?}) in a raw SQL buffer. */
+public class ParameterMarkers {
+
+  protected int[] positions = new int[16];
+
+  protected int size;
+
+  public void add(int position) {
+    assertTrue(position >= 0);
+    if (size == positions.length) {
+      positions = Arrays.copyOf(positions, size << 1);
+    }
+    positions[size++] = position;
+  }
+
+  public void addAll(ParameterMarkers other, int offset) {
+    assertNotNull(other);
+    for (int i = 0; i < other.size; i++) {
+      add(other.positions[i] + offset);
+    }
+  }
+
+  /**
+   * Removes the markers that are not within the buffer any more.
+   *
+   * @param length the new length of the buffer
+   */
+  public void cutBack(int length) {
+    while (size > 0 && positions[size - 1] >= length) {
+      size--;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int[] toArray() {
+    return Arrays.copyOf(positions, size);
+  }
+}
@@ -7,6 +7,9 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.seasar.doma.internal.expr.ExpressionException;
+import org.seasar.doma.internal.expr.ExpressionParser;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
 import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
 import org.seasar.doma.internal.jdbc.sql.node.AppendableSqlNode;
 import org.seasar.doma.internal.jdbc.sql.node.BindVariableNode;
@@ -426,6 +429,7 @@ public class SqlParser {
           Message.DOMA2120, sql, tokenizer.getLineNumber(), tokenizer.getPosition(), token);
     }
     BindVariableNode node = new BindVariableNode(getLocation(), varialbeName, token);
+    node.setExpressionNode(parseExpression(varialbeName));
     appendNode(node);
     push(node);
   }
@@ -437,6 +441,7 @@ public class SqlParser {
           Message.DOMA2228, sql, tokenizer.getLineNumber(), tokenizer.getPosition(), token);
     }
     LiteralVariableNode node = new LiteralVariableNode(getLocation(), varialbeName, token);
+    node.setExpressionNode(parseExpression(varialbeName));
     appendNode(node);
     push(node);
   }
@@ -448,6 +453,7 @@ public class SqlParser {
           Message.DOMA2121, sql, tokenizer.getLineNumber(), tokenizer.getPosition(), token);
     }
     EmbeddedVariableNode node = new EmbeddedVariableNode(getLocation(), varialbeName, token);
+    node.setExpressionNode(parseExpression(varialbeName));
     appendNode(node);
     push(node);
   }
@@ -458,6 +464,7 @@ public class SqlParser {
     push(ifBlockNode);
     String expression = tokenType.extract(token);
     IfNode ifNode = new IfNode(getLocation(), expression, token);
+    ifNode.setExpressionNode(parseExpression(expression));
     ifBlockNode.setIfNode(ifNode);
     push(ifNode);
   }
@@ -475,6 +482,7 @@ public class SqlParser {
     }
     String expression = tokenType.extract(token);
     ElseifNode node = new ElseifNode(getLocation(), expression, token);
+    node.setExpressionNode(parseExpression(expression));
     ifBlockNode.addElseifNode(node);
     push(node);
   }
@@ -528,6 +536,7 @@ public class SqlParser {
           Message.DOMA2126, sql, tokenizer.getLineNumber(), tokenizer.getPosition());
     }
     ForNode forNode = new ForNode(getLocation(), identifier, expression, token);
+    forNode.setExpressionNode(parseExpression(expression));
     forBlockNode.setForNode(forNode);
     push(forNode);
   }
@@ -538,6 +547,7 @@ public class SqlParser {
       alias = "\"\"";
     }
     ExpandNode node = new ExpandNode(getLocation(), alias, token);
+    node.setExpressionNode(parseExpression(alias));
     appendNode(node);
     push(node);
   }
@@ -548,6 +558,24 @@ public class SqlParser {
     push(node);
   }
 
+  /**
+   * Parses the expression in advance so that the builders can reuse the result.
+   *
+   * <p>An illegal expression is not reported here but on evaluation, where the error message can
+   * refer to the evaluated value.
+   *
+   * @param expression the expression
+   * @return the expression node, or {@code null} if the expression is illegal
+   */
+  protected ExpressionNode parseExpression(String expression) {
+    try {
+      ExpressionParser parser = new ExpressionParser(expression);
+      return parser.parse();
+    } catch (ExpressionException ignored) {
+      return null;
+    }
+  }
+
   protected void parseOther() {
     appendNode(OtherNode.of(token));
   }
@@ -3,6 +3,7 @@ package org.seasar.doma.internal.jdbc.sql.node;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
 import org.seasar.doma.jdbc.SqlNodeVisitor;
 
 public class EmbeddedVariableNode extends AbstractSqlNode {
@@ -13,6 +14,8 @@ public class EmbeddedVariableNode extends AbstractSqlNode {
 
   protected final String text;
 
+  protected ExpressionNode expressionNode;
+
   public EmbeddedVariableNode(SqlLocation location, String variableName, String text) {
     assertNotNull(location, variableName, text);
     this.location = location;
@@ -32,6 +35,14 @@ public class EmbeddedVariableNode extends AbstractSqlNode {
     return text;
   }
 
+  public ExpressionNode getExpressionNode() {
+    return expressionNode;
+  }
+
+  public void setExpressionNode(ExpressionNode expressionNode) {
+    this.expressionNode = expressionNode;
+  }
+
   @Override
   public <R, P> R accept(SqlNodeVisitor<R, P> visitor, P p) {
     if (visitor == null) {
@@ -3,6 +3,7 @@ package org.seasar.doma.internal.jdbc.sql.node;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
 import org.seasar.doma.jdbc.JdbcUnsupportedOperationException;
 import org.seasar.doma.jdbc.SqlNode;
 import org.seasar.doma.jdbc.SqlNodeVisitor;
@@ -15,6 +16,8 @@ public class ExpandNode extends AbstractSqlNode {
 
   protected final String text;
 
+  protected ExpressionNode expressionNode;
+
   public ExpandNode(SqlLocation location, String alias, String text) {
     assertNotNull(location, alias, text);
     this.location = location;
@@ -34,6 +37,14 @@ public class ExpandNode extends AbstractSqlNode {
     return text;
   }
 
+  public ExpressionNode getExpressionNode() {
+    return expressionNode;
+  }
+
+  public void setExpressionNode(ExpressionNode expressionNode) {
+    this.expressionNode = expressionNode;
+  }
+
   @Override
   public void appendNode(SqlNode child) {
     throw new JdbcUnsupportedOperationException(getClass().getName(), "addNode");
@@ -3,6 +3,7 @@ package org.seasar.doma.internal.jdbc.sql.node;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
 import org.seasar.doma.jdbc.SqlNodeVisitor;
 
 public class IfNode extends AbstractSqlNode implements SpaceStrippingNode {
@@ -13,6 +14,8 @@ public class IfNode extends AbstractSqlNode implements SpaceStrippingNode {
 
   protected final String text;
 
+  protected ExpressionNode expressionNode;
+
   public IfNode(SqlLocation location, String expression, String text) {
     assertNotNull(location, expression, text);
     this.location = location;
@@ -32,6 +35,14 @@ public class IfNode extends AbstractSqlNode implements SpaceStrippingNode {
     return text;
   }
 
+  public ExpressionNode getExpressionNode() {
+    return expressionNode;
+  }
+
+  public void setExpressionNode(ExpressionNode expressionNode) {
+    this.expressionNode = expressionNode;
+  }
+
   @Override
   public void clearChildren() {
     children.clear();
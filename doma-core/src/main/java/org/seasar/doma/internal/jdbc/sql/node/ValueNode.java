@@ -2,6 +2,7 @@ package org.seasar.doma.internal.jdbc.sql.node;
 
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
+import org.seasar.doma.internal.expr.node.ExpressionNode;
 import org.seasar.doma.jdbc.JdbcUnsupportedOperationException;
 import org.seasar.doma.jdbc.SqlNode;
 
@@ -13,6 +14,8 @@ public abstract class ValueNode extends AbstractSqlNode {
 
   protected final String text;
 
+  protected ExpressionNode expressionNode;
+
   protected WordNode wordNode;
 
   protected ParensNode parensNode;
@@ -36,6 +39,14 @@ public abstract class ValueNode extends AbstractSqlNode {
     return text;
   }
 
+  public ExpressionNode getExpressionNode() {
+    return expressionNode;
+  }
+
+  public void setExpressionNode(ExpressionNode expressionNode) {
+    this.expressionNode = expressionNode;
+  }
+
   @Override
   public void appendNode(SqlNode child) {
     throw new JdbcUnsupportedOperationException(getClass().getName(), "addNode");
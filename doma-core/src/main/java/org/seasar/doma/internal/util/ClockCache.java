@@ -0,0 +1,240 @@
+package org.seasar.doma.internal.util;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread safe cache that holds the values within the limited weight.
+ *
+ * <p>The eviction follows the CLOCK algorithm that approximates LRU. A lookup only sets the
+ * reference bit of the entry and writes nothing when the bit is already set, so the lookups neither
+ * lock nor update a shared counter. The lock is taken only to add a value. The added values are
+ * queued, and the eviction takes the values from the head of the queue. A referenced value gets a
+ * second chance: its bit is cleared and it is moved to the tail. The eviction therefore costs a
+ * constant time per added value on average.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ClockCache<K, V> {
+
+  protected final long maximumWeight;
+
+  protected final ToLongFunction<? super V> weigher;
+
+  protected final ConcurrentMap<K, Entry<K, V>> map = new ConcurrentHashMap<>();
+
+  protected final ArrayDeque<Entry<K, V>> queue = new ArrayDeque<>();
+
+  protected final ReentrantLock lock = new ReentrantLock();
+
+  protected volatile long weight;
+
+  protected final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Creates an instance that holds a limited number of values.
+   *
+   * @param maximumSize the maximum number of the values
+   */
+  public ClockCache(long maximumSize) {
+    this(maximumSize, v -> 1L);
+  }
+
+  /**
+   * Creates an instance that holds the values within the limited weight.
+   *
+   * @param maximumWeight the maximum total weight of the values
+   * @param weigher the function that returns the weight of a value
+   */
+  public ClockCache(long maximumWeight, ToLongFunction<? super V> weigher) {
+    assertNotNull(weigher);
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+  }
+
+  /**
+   * Returns the value.
+   *
+   * @param key the key
+   * @return the value or {@code null} if the value is not cached
+   */
+  public V get(K key) {
+    Entry<K, V> entry = map.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (!entry.referenced) {
+      entry.referenced = true;
+    }
+    return entry.value;
+  }
+
+  /**
+   * Caches the value. The value that is already associated with the key is replaced. A value
+   * heavier than the maximum weight is not cached.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  public void put(K key, V value) {
+    assertNotNull(key, value);
+    long valueWeight = weigher.applyAsLong(value);
+    if (valueWeight > maximumWeight) {
+      return;
+    }
+    lock.lock();
+    try {
+      Entry<K, V> old = map.remove(key);
+      if (old != null) {
+        old.removed = true;
+        weight -= old.weight;
+      }
+      add(key, value, valueWeight);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Caches the value unless a value is already associated with the key. A value heavier than the
+   * maximum weight is not cached.
+   *
+   * @param key the key
+   * @param value the value
+   * @return the value that is already associated with the key, or {@code null} if there is none
+   */
+  public V putIfAbsent(K key, V value) {
+    assertNotNull(key, value);
+    long valueWeight = weigher.applyAsLong(value);
+    if (valueWeight > maximumWeight) {
+      return null;
+    }
+    lock.lock();
+    try {
+      Entry<K, V> current = map.get(key);
+      if (current != null) {
+        current.referenced = true;
+        return current.value;
+      }
+      add(key, value, valueWeight);
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Adds the value. The caller must hold the lock and must have removed the value that is
+   * associated with the key.
+   *
+   * @param key the key
+   * @param value the value
+   * @param valueWeight the weight of the value
+   */
+  protected void add(K key, V value, long valueWeight) {
+    evict(maximumWeight - valueWeight);
+    Entry<K, V> entry = new Entry<>(key, value, valueWeight);
+    map.put(key, entry);
+    queue.addLast(entry);
+    weight += valueWeight;
+    if (queue.size() > map.size() * 2 + 16) {
+      queue.removeIf(e -> e.removed);
+    }
+  }
+
+  /**
+   * Evicts the values until the total weight does not exceed the limit. The caller must hold the
+   * lock.
+   *
+   * @param limit the limit of the total weight
+   */
+  protected void evict(long limit) {
+    int secondChances = queue.size();
+    while (weight > limit) {
+      Entry<K, V> entry = queue.pollFirst();
+      if (entry == null) {
+        break;
+      }
+      if (entry.removed) {
+        continue;
+      }
+      if (entry.referenced && secondChances-- > 0) {
+        entry.referenced = false;
+        queue.addLast(entry);
+        continue;
+      }
+      map.remove(entry.key, entry);
+      entry.removed = true;
+      weight -= entry.weight;
+      evictionCount.increment();
+    }
+  }
+
+  /** Removes all the values. */
+  public void clear() {
+    lock.lock();
+    try {
+      for (Entry<K, V> entry : queue) {
+        entry.removed = true;
+      }
+      queue.clear();
+      map.clear();
+      weight = 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of the cached values.
+   *
+   * @return the number of the cached values
+   */
+  public int size() {
+    return map.size();
+  }
+
+  /**
+   * Returns the total weight of the cached values.
+   *
+   * @return the total weight
+   */
+  public long getWeight() {
+    return weight;
+  }
+
+  /**
+   * Returns the number of the evicted values.
+   *
+   * @return the number of the evicted values
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  protected static class Entry<K, V> {
+
+    protected final K key;
+
+    protected final V value;
+
+    protected final long weight;
+
+    protected volatile boolean referenced;
+
+    protected boolean removed;
+
+    protected Entry(K key, V value, long weight) {
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+}
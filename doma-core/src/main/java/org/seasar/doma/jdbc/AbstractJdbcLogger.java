@@ -44,6 +44,59 @@ public abstract class AbstractJdbcLogger<LEVEL> implements JdbcLogger {
       Throwable throwable,
       Supplier<String> messageSupplier);
 
+  /**
+   * Returns whether the log level is enabled.
+   *
+   * @param level the log level
+   * @return {@code true} if the log level is enabled
+   */
+  protected boolean isEnabled(LEVEL level) {
+    return true;
+  }
+
+  /**
+   * Returns the log level of the start and the end of DAO methods.
+   *
+   * <p>Both the public logging methods for DAO methods and {@link #isDaoMethodLoggingEnabled()} use
+   * this level.
+   *
+   * @return the log level
+   */
+  protected LEVEL getDaoMethodLoggingLevel() {
+    return defaultLevel;
+  }
+
+  /**
+   * Returns the log level of SQL statements.
+   *
+   * <p>Both {@link #logSql(String, String, Sql)} and {@link #isSqlLoggingEnabled()} use this level.
+   *
+   * @return the log level
+   */
+  protected LEVEL getSqlLoggingLevel() {
+    return defaultLevel;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation checks the level that {@link #getDaoMethodLoggingLevel()} returns.
+   */
+  @Override
+  public boolean isDaoMethodLoggingEnabled() {
+    return isEnabled(getDaoMethodLoggingLevel());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation checks the level that {@link #getSqlLoggingLevel()} returns.
+   */
+  @Override
+  public boolean isSqlLoggingEnabled() {
+    return isEnabled(getSqlLoggingLevel());
+  }
+
   @Override
   public void logDaoMethodEntering(
       String callerClassName, String callerMethodName, Object... args) {
@@ -51,7 +104,7 @@ public abstract class AbstractJdbcLogger<LEVEL> implements JdbcLogger {
         callerClassName,
         callerMethodName,
         args,
-        defaultLevel,
+        getDaoMethodLoggingLevel(),
         () -> Message.DOMA2220.getMessage(callerClassName, callerMethodName));
   }
 
@@ -70,7 +123,7 @@ public abstract class AbstractJdbcLogger<LEVEL> implements JdbcLogger {
         callerClassName,
         callerMethodName,
         result,
-        defaultLevel,
+        getDaoMethodLoggingLevel(),
         () -> Message.DOMA2221.getMessage(callerClassName, callerMethodName));
   }
 
@@ -90,7 +143,7 @@ public abstract class AbstractJdbcLogger<LEVEL> implements JdbcLogger {
         callerClassName,
         callerMethodName,
         e,
-        defaultLevel,
+        getDaoMethodLoggingLevel(),
         () ->
             Message.DOMA2222.getMessage(callerClassName, callerMethodName, e.getClass().getName()));
   }
@@ -130,7 +183,7 @@ public abstract class AbstractJdbcLogger<LEVEL> implements JdbcLogger {
         callerClassName,
         callerMethodName,
         sql,
-        defaultLevel,
+        getSqlLoggingLevel(),
         () -> Message.DOMA2076.getMessage(sql.getSqlFilePath(), getSqlText(sql)));
   }
 
@@ -409,4 +462,20 @@ public abstract class AbstractJdbcLogger<LEVEL> implements JdbcLogger {
       Supplier<String> messageSupplier) {
     log(level, callerClassName, callerMethodName, e, messageSupplier);
   }
+
+  @Override
+  public void logIdPrefetchFailure(
+      String callerClassName, String callerMethodName, RuntimeException e) {
+    logIdPrefetchFailure(
+        callerClassName, callerMethodName, e, defaultLevel, () -> Message.DOMA2237.getMessage());
+  }
+
+  protected void logIdPrefetchFailure(
+      String callerClassName,
+      String callerMethodName,
+      RuntimeException e,
+      LEVEL level,
+      Supplier<String> messageSupplier) {
+    log(level, callerClassName, callerMethodName, e, messageSupplier);
+  }
 }
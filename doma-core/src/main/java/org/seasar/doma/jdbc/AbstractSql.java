@@ -3,6 +3,7 @@ package org.seasar.doma.jdbc;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.seasar.doma.DomaNullPointerException;
 
 /** A skeletal implementation of the {@link Sql} interface. */
@@ -12,7 +13,9 @@ public abstract class AbstractSql<P extends SqlParameter> implements Sql<P> {
 
   protected final String rawSql;
 
-  protected final String formattedSql;
+  protected String formattedSql;
+
+  protected final Supplier<String> formattedSqlSupplier;
 
   protected final String sqlFilePath;
 
@@ -28,14 +31,39 @@ public abstract class AbstractSql<P extends SqlParameter> implements Sql<P> {
       List<? extends P> parameters,
       SqlLogType sqlLogType,
       Function<String, String> commenter) {
+    this(kind, rawSql, toSupplier(formattedSql), sqlFilePath, parameters, sqlLogType, commenter);
+  }
+
+  /**
+   * Creates an instance whose formatted SQL is built on demand.
+   *
+   * <p>The supplier is called at most once, when {@link #getFormattedSql()} is called first. This
+   * avoids building the formatted SQL when nobody uses it.
+   *
+   * @param kind the SQL kind
+   * @param rawSql the raw SQL
+   * @param formattedSqlSupplier the supplier of the formatted SQL
+   * @param sqlFilePath the SQL file path
+   * @param parameters the parameters
+   * @param sqlLogType the SQL log type
+   * @param commenter the commenter
+   */
+  protected AbstractSql(
+      SqlKind kind,
+      CharSequence rawSql,
+      Supplier<? extends CharSequence> formattedSqlSupplier,
+      String sqlFilePath,
+      List<? extends P> parameters,
+      SqlLogType sqlLogType,
+      Function<String, String> commenter) {
     if (kind == null) {
       throw new DomaNullPointerException("kind");
     }
     if (rawSql == null) {
       throw new DomaNullPointerException("rawSql");
     }
-    if (formattedSql == null) {
-      throw new DomaNullPointerException("formattedSql");
+    if (formattedSqlSupplier == null) {
+      throw new DomaNullPointerException("formattedSqlSupplier");
     }
     if (parameters == null) {
       throw new DomaNullPointerException("parameters");
@@ -48,7 +76,7 @@ public abstract class AbstractSql<P extends SqlParameter> implements Sql<P> {
     }
     this.kind = kind;
     this.rawSql = commenter.apply(rawSql.toString().trim());
-    this.formattedSql = commenter.apply(formattedSql.toString().trim());
+    this.formattedSqlSupplier = () -> commenter.apply(formattedSqlSupplier.get().toString().trim());
     this.sqlFilePath = sqlFilePath;
     this.parameters = Collections.unmodifiableList(parameters);
     this.sqlLogType = sqlLogType;
@@ -66,7 +94,12 @@ public abstract class AbstractSql<P extends SqlParameter> implements Sql<P> {
 
   @Override
   public String getFormattedSql() {
-    return formattedSql;
+    String sql = formattedSql;
+    if (sql == null) {
+      sql = formattedSqlSupplier.get();
+      formattedSql = sql;
+    }
+    return sql;
   }
 
   @Override
@@ -84,6 +117,14 @@ public abstract class AbstractSql<P extends SqlParameter> implements Sql<P> {
     return sqlLogType;
   }
 
+  private static Supplier<String> toSupplier(CharSequence formattedSql) {
+    if (formattedSql == null) {
+      throw new DomaNullPointerException("formattedSql");
+    }
+    String sql = formattedSql.toString();
+    return () -> sql;
+  }
+
   @Override
   public String toString() {
     return rawSql;
@@ -1,11 +1,13 @@
 package org.seasar.doma.jdbc;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import org.seasar.doma.DomaIllegalArgumentException;
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.Sql;
 import org.seasar.doma.internal.Constants;
 import org.seasar.doma.internal.WrapException;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSql;
 import org.seasar.doma.internal.jdbc.sql.SqlParser;
 import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
 import org.seasar.doma.internal.util.ResourceUtil;
@@ -68,6 +70,10 @@ public abstract class AbstractSqlFileRepository implements SqlFileRepository {
       return new SqlFile(path, sql, sqlNode);
     }
     String primaryPath = getPrimaryPath(path, dialect);
+    Map<String, EmbeddedSql> embeddedSqls = getEmbeddedSqls(method, path);
+    if (embeddedSqls != null) {
+      return createSqlFile(embeddedSqls, path, primaryPath);
+    }
     String sql = getSql(primaryPath);
     if (sql != null) {
       SqlNode sqlNode = parse(sql);
@@ -81,6 +87,18 @@ public abstract class AbstractSqlFileRepository implements SqlFileRepository {
     throw new SqlFileNotFoundException(path);
   }
 
+  private SqlFile createSqlFile(
+      Map<String, EmbeddedSql> embeddedSqls, String path, String primaryPath) {
+    EmbeddedSql embeddedSql = embeddedSqls.get(primaryPath);
+    if (embeddedSql == null) {
+      embeddedSql = embeddedSqls.get(path);
+    }
+    if (embeddedSql == null) {
+      throw new SqlFileNotFoundException(path);
+    }
+    return new SqlFile(embeddedSql.getPath(), embeddedSql.getSql(), embeddedSql.createSqlNode());
+  }
+
   /**
    * Returns the primary path to find SQL file for specific RDBMS.
    *
@@ -103,6 +121,21 @@ public abstract class AbstractSqlFileRepository implements SqlFileRepository {
     return parser.parse();
   }
 
+  /**
+   * Returns the SQL files that are embedded in the Dao implementation classes.
+   *
+   * <p>If this method returns a map, the SQL file and its dialect-specific variant are resolved
+   * only from the map, and the class path is not accessed.
+   *
+   * @param method the Dao method
+   * @param path the SQL file path that is not specific to any dialect
+   * @return the map from the paths of all the SQL files of the path to the SQL files, or {@code
+   *     null} if the SQL files are not embedded
+   */
+  protected Map<String, EmbeddedSql> getEmbeddedSqls(Method method, String path) {
+    return null;
+  }
+
   /**
    * Retrieves the SQL string from the SQL file.
    *
@@ -0,0 +1,31 @@
+package org.seasar.doma.jdbc;
+
+import java.io.Serializable;
+import org.seasar.doma.message.Message;
+
+/**
+ * Thrown to indicate that an asynchronous Dao method is invoked while a local transaction is active
+ * in the current thread.
+ */
+public class AsyncInvocationInTransactionException extends JdbcException implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected final String className;
+
+  protected final String methodName;
+
+  public AsyncInvocationInTransactionException(String className, String methodName) {
+    super(Message.DOMA2235, className, methodName);
+    this.className = className;
+    this.methodName = methodName;
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  public String getMethodName() {
+    return methodName;
+  }
+}
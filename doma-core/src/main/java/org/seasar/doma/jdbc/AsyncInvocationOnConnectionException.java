@@ -0,0 +1,31 @@
+package org.seasar.doma.jdbc;
+
+import java.io.Serializable;
+import org.seasar.doma.message.Message;
+
+/**
+ * Thrown to indicate that an asynchronous Dao method is invoked on a Dao instance that is bound to
+ * a {@link java.sql.Connection}.
+ */
+public class AsyncInvocationOnConnectionException extends JdbcException implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected final String className;
+
+  protected final String methodName;
+
+  public AsyncInvocationOnConnectionException(String className, String methodName) {
+    super(Message.DOMA2238, className, methodName);
+    this.className = className;
+    this.methodName = methodName;
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  public String getMethodName() {
+    return methodName;
+  }
+}
@@ -0,0 +1,196 @@
+package org.seasar.doma.jdbc;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSql;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSqlRegistry;
+import org.seasar.doma.internal.util.ClockCache;
+import org.seasar.doma.jdbc.dialect.Dialect;
+
+/**
+ * An SQL file repository that caches the results of SQL parsing within the limited weight.
+ *
+ * <p>The weight of an SQL file is the length of the SQL string plus {@link #NODE_WEIGHT} for each
+ * node of the parsed SQL. The SQL nodes that {@link SqlFile} caches after transforming them for
+ * paging and pessimistic locking are not counted. When the total weight exceeds the maximum weight,
+ * the SQL files that are not used recently are evicted as {@link ClockCache} does. An SQL file
+ * heavier than the maximum weight is not cached.
+ *
+ * <p>The cached SQL files are looked up without locking and without updating any shared counter.
+ * The lock is taken only to add an SQL file and to evict the others.
+ *
+ * <p>This object counts the cache hits, the cache misses, the evictions and the time spent in
+ * loading the SQL files.
+ *
+ * <p>The SQL strings embedded in the Dao implementation classes are preferred to the SQL files on
+ * the class path. The class path is not accessed for the embedded SQL files.
+ */
+public class BoundedCacheSqlFileRepository extends AbstractSqlFileRepository {
+
+  public static final long DEFAULT_MAXIMUM_WEIGHT = 10_000_000L;
+
+  /** The weight of a parsed SQL node, which is its rough footprint in characters. */
+  public static final long NODE_WEIGHT = 32L;
+
+  protected final long maximumWeight;
+
+  protected final ClockCache<CacheKey, SqlFile> sqlFileCache;
+
+  protected final LongAdder hitCount = new LongAdder();
+
+  protected final LongAdder missCount = new LongAdder();
+
+  protected final LongAdder loadTime = new LongAdder();
+
+  public BoundedCacheSqlFileRepository() {
+    this(DEFAULT_MAXIMUM_WEIGHT);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param maximumWeight the maximum total weight of the cached SQL files. If the value is less
+   *     than 1, no SQL file is cached.
+   */
+  public BoundedCacheSqlFileRepository(long maximumWeight) {
+    this.maximumWeight = maximumWeight;
+    this.sqlFileCache = new ClockCache<>(maximumWeight, this::weigh);
+  }
+
+  @Override
+  protected SqlFile getSqlFileWithCacheControl(Method method, String path, Dialect dialect) {
+    CacheKey key = new CacheKey(dialect.getName(), path);
+    SqlFile file = sqlFileCache.get(key);
+    if (file != null) {
+      hitCount.increment();
+      return file;
+    }
+    missCount.increment();
+    long start = System.nanoTime();
+    file = createSqlFile(method, path, dialect);
+    loadTime.add(System.nanoTime() - start);
+    SqlFile current = sqlFileCache.putIfAbsent(key, file);
+    return current != null ? current : file;
+  }
+
+  /**
+   * Returns the weight of the SQL file.
+   *
+   * @param file the SQL file
+   * @return the weight
+   */
+  protected long weigh(SqlFile file) {
+    return file.getSql().length() + countNodes(file.getSqlNode()) * NODE_WEIGHT;
+  }
+
+  /**
+   * Counts the nodes of the SQL node tree.
+   *
+   * @param sqlNode the root node
+   * @return the number of the nodes
+   */
+  protected static long countNodes(SqlNode sqlNode) {
+    long count = 0;
+    Deque<SqlNode> stack = new ArrayDeque<>();
+    stack.push(sqlNode);
+    while (!stack.isEmpty()) {
+      SqlNode node = stack.pop();
+      count++;
+      for (SqlNode child : node.getChildren()) {
+        stack.push(child);
+      }
+    }
+    return count;
+  }
+
+  @Override
+  protected Map<String, EmbeddedSql> getEmbeddedSqls(Method method, String path) {
+    return EmbeddedSqlRegistry.getSqls(method.getDeclaringClass(), path);
+  }
+
+  /**
+   * Returns the number of the cache hits.
+   *
+   * @return the number of the cache hits
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of the cache misses.
+   *
+   * @return the number of the cache misses
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of the evicted SQL files.
+   *
+   * @return the number of the evicted SQL files
+   */
+  public long getEvictionCount() {
+    return sqlFileCache.getEvictionCount();
+  }
+
+  /**
+   * Returns the total time spent in loading and parsing the SQL files.
+   *
+   * @return the total time in nanoseconds
+   */
+  public long getTotalLoadTime() {
+    return loadTime.sum();
+  }
+
+  /**
+   * Returns the total weight of the cached SQL files.
+   *
+   * @return the total weight
+   */
+  public long getWeight() {
+    return sqlFileCache.getWeight();
+  }
+
+  @Override
+  public void clearCache() {
+    sqlFileCache.clear();
+  }
+
+  /**
+   * The key of a cached SQL file. The key holds the dialect name and the path as they are, so that
+   * a lookup does not build a string.
+   */
+  protected static class CacheKey {
+
+    protected final String dialectName;
+
+    protected final String path;
+
+    protected CacheKey(String dialectName, String path) {
+      this.dialectName = dialectName;
+      this.path = path;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) obj;
+      return dialectName.equals(other.dialectName) && path.equals(other.path);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * dialectName.hashCode() + path.hashCode();
+    }
+  }
+}
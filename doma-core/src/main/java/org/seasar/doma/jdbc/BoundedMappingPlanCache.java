@@ -0,0 +1,48 @@
+package org.seasar.doma.jdbc;
+
+import org.seasar.doma.internal.util.ClockCache;
+
+/**
+ * A mapping plan cache that holds a limited number of plans.
+ *
+ * <p>When the cache is full, the plans that are not recently used are evicted before a new plan is
+ * cached. The lookups do not lock.
+ */
+public class BoundedMappingPlanCache implements MappingPlanCache {
+
+  public static final int DEFAULT_CAPACITY = 1000;
+
+  protected final int capacity;
+
+  protected final ClockCache<Object, Object> planCache;
+
+  public BoundedMappingPlanCache() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param capacity the maximum number of the plans. If the value is less than 1, no plan is
+   *     cached.
+   */
+  public BoundedMappingPlanCache(int capacity) {
+    this.capacity = capacity;
+    this.planCache = new ClockCache<>(capacity);
+  }
+
+  @Override
+  public Object get(Object key) {
+    return planCache.get(key);
+  }
+
+  @Override
+  public void put(Object key, Object plan) {
+    planCache.put(key, plan);
+  }
+
+  @Override
+  public void clearCache() {
+    planCache.clear();
+  }
+}
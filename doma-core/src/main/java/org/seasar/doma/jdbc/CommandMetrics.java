@@ -0,0 +1,291 @@
+package org.seasar.doma.jdbc;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import org.seasar.doma.jdbc.query.Query;
+
+/**
+ * The metrics of a command execution.
+ *
+ * <p>The time is measured in nanoseconds for each {@link Phase}. The commands obtain an instance
+ * with {@link #start(Query, Sql)} and report it to {@link CommandObserver} with {@link #finish()}.
+ * If the observer is not enabled, the shared disabled instance is returned and all the methods that
+ * record the metrics do nothing.
+ *
+ * <p>This class is not thread safe.
+ */
+public class CommandMetrics {
+
+  /** The phases of a command execution. */
+  public enum Phase {
+    /** Getting the connection and preparing the statement. */
+    PREPARE,
+    /** Setting the options and binding the parameters. */
+    BIND,
+    /** Executing the statement. */
+    EXECUTE,
+    /** Fetching the rows or the out parameters. */
+    FETCH,
+    /** Closing the result set, the statement and the connection. */
+    CLOSE
+  }
+
+  private static final Phase[] PHASES = Phase.values();
+
+  private static final CommandMetrics DISABLED = new CommandMetrics();
+
+  private final boolean enabled;
+
+  private final CommandObserver observer;
+
+  private final Query query;
+
+  private final SqlKind kind;
+
+  private final String sqlFilePath;
+
+  private final Sql<?> sql;
+
+  private final long[] times = new long[PHASES.length];
+
+  private long mark;
+
+  private long fetchedRows;
+
+  private long updatedRows;
+
+  private int[] batchSizes = new int[0];
+
+  private int batchCount;
+
+  private boolean finished;
+
+  private CommandMetrics() {
+    this.enabled = false;
+    this.observer = null;
+    this.query = null;
+    this.kind = null;
+    this.sqlFilePath = null;
+    this.sql = null;
+  }
+
+  protected CommandMetrics(
+      CommandObserver observer, Query query, SqlKind kind, String sqlFilePath, Sql<?> sql) {
+    this.enabled = true;
+    this.observer = observer;
+    this.query = query;
+    this.kind = kind;
+    this.sqlFilePath = sqlFilePath;
+    this.sql = sql;
+    this.mark = System.nanoTime();
+  }
+
+  /**
+   * Returns the shared disabled instance.
+   *
+   * <p>All the methods that record the metrics of this instance do nothing.
+   *
+   * @return the disabled metrics
+   */
+  public static CommandMetrics disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Starts measuring the command execution.
+   *
+   * @param query the query
+   * @param sql the SQL
+   * @return the metrics
+   */
+  public static CommandMetrics start(Query query, Sql<?> sql) {
+    return start(query, sql.getKind(), sql.getSqlFilePath(), sql);
+  }
+
+  /**
+   * Starts measuring the command execution.
+   *
+   * @param query the query
+   * @param kind the SQL kind
+   * @param sqlFilePath the SQL file path or {@code null}
+   * @param sql the SQL or {@code null} if the command executes several SQL statements
+   * @return the metrics
+   */
+  public static CommandMetrics start(Query query, SqlKind kind, String sqlFilePath, Sql<?> sql) {
+    CommandObserver observer = query.getConfig().getCommandObserver();
+    if (!observer.isEnabled()) {
+      return DISABLED;
+    }
+    return new CommandMetrics(observer, query, kind, sqlFilePath, sql);
+  }
+
+  /**
+   * Adds the time elapsed since the previous lap to the phase.
+   *
+   * @param phase the phase
+   */
+  public void lap(Phase phase) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.nanoTime();
+    times[phase.ordinal()] += now - mark;
+    mark = now;
+  }
+
+  /**
+   * Sets the number of the fetched rows.
+   *
+   * @param rows the number of the rows
+   */
+  public void setFetchedRows(long rows) {
+    if (enabled) {
+      fetchedRows = rows;
+    }
+  }
+
+  /**
+   * Adds the number of the updated rows.
+   *
+   * <p>Negative numbers such as {@link java.sql.Statement#SUCCESS_NO_INFO} are ignored.
+   *
+   * @param rows the number of the rows
+   */
+  public void addUpdatedRows(long rows) {
+    if (enabled && rows > 0) {
+      updatedRows += rows;
+    }
+  }
+
+  /**
+   * Adds the size of an executed batch.
+   *
+   * @param size the number of the SQL statements in the batch
+   */
+  public void addBatchSize(int size) {
+    if (!enabled) {
+      return;
+    }
+    if (batchCount == batchSizes.length) {
+      batchSizes = Arrays.copyOf(batchSizes, Math.max(batchCount << 1, 4));
+    }
+    batchSizes[batchCount++] = size;
+  }
+
+  /**
+   * Finishes measuring and notifies the observer.
+   *
+   * <p>The observer is notified only once.
+   */
+  public void finish() {
+    if (!enabled || finished) {
+      return;
+    }
+    finished = true;
+    lap(Phase.CLOSE);
+    observer.observe(this);
+  }
+
+  public Query getQuery() {
+    return query;
+  }
+
+  /**
+   * Returns the SQL kind.
+   *
+   * @return the SQL kind
+   */
+  public SqlKind getKind() {
+    return kind;
+  }
+
+  /**
+   * Returns the SQL.
+   *
+   * <p>For the queries built by the Criteria API, the raw SQL of this object shows the shape of the
+   * query.
+   *
+   * @return the SQL or {@code null} if the command executes several SQL statements
+   */
+  public Sql<?> getSql() {
+    return sql;
+  }
+
+  /**
+   * Returns the SQL file path.
+   *
+   * @return the SQL file path or {@code null} if the SQL is not read from a file
+   */
+  public String getSqlFilePath() {
+    return sqlFilePath;
+  }
+
+  public String getClassName() {
+    return query.getClassName();
+  }
+
+  public String getMethodName() {
+    return query.getMethodName();
+  }
+
+  public Method getMethod() {
+    return query.getMethod();
+  }
+
+  /**
+   * Returns the time spent in the phase.
+   *
+   * @param phase the phase
+   * @return the time in nanoseconds
+   */
+  public long getTime(Phase phase) {
+    return times[phase.ordinal()];
+  }
+
+  /**
+   * Returns the total time of all the phases.
+   *
+   * @return the time in nanoseconds
+   */
+  public long getTotalTime() {
+    long total = 0;
+    for (long time : times) {
+      total += time;
+    }
+    return total;
+  }
+
+  public long getFetchedRows() {
+    return fetchedRows;
+  }
+
+  public long getUpdatedRows() {
+    return updatedRows;
+  }
+
+  /**
+   * Returns the sizes of the executed batches in the order of execution.
+   *
+   * @return the sizes
+   */
+  public int[] getBatchSizes() {
+    return Arrays.copyOf(batchSizes, batchCount);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder();
+    buf.append("CommandMetrics{kind=").append(kind);
+    buf.append(", className=").append(enabled ? getClassName() : null);
+    buf.append(", methodName=").append(enabled ? getMethodName() : null);
+    buf.append(", sqlFilePath=").append(sqlFilePath);
+    for (Phase phase : PHASES) {
+      buf.append(", ").append(phase.name().toLowerCase()).append("Time=").append(getTime(phase));
+    }
+    buf.append(", fetchedRows=").append(fetchedRows);
+    buf.append(", updatedRows=").append(updatedRows);
+    buf.append(", batchSizes=").append(Arrays.toString(getBatchSizes()));
+    buf.append("}");
+    return buf.toString();
+  }
+}
@@ -0,0 +1,38 @@
+package org.seasar.doma.jdbc;
+
+/**
+ * An observer of the command executions.
+ *
+ * <p>This observer receives the {@link CommandMetrics} of each execution of the select, modify,
+ * batch modify, function, procedure and script commands. The metrics include the caller Dao method,
+ * the SQL file path, the time spent in each phase and the row counts.
+ *
+ * <p>The commands measure nothing and allocate nothing when {@link #isEnabled()} returns {@code
+ * false}.
+ *
+ * <p>The implementation class must be thread safe.
+ */
+public interface CommandObserver {
+
+  /**
+   * Returns whether this observer is enabled.
+   *
+   * <p>The implementation class that overrides {@link #observe(CommandMetrics)} must override this
+   * method to return {@code true}.
+   *
+   * @return {@code true} if this observer is enabled
+   */
+  default boolean isEnabled() {
+    return false;
+  }
+
+  /**
+   * Observes the metrics of a command execution.
+   *
+   * <p>This method is invoked after the JDBC resources are closed, even if the SQL execution fails.
+   * For a stream that is fetched lazily, this method is invoked when the stream is closed.
+   *
+   * @param metrics the metrics
+   */
+  default void observe(CommandMetrics metrics) {}
+}
@@ -2,6 +2,7 @@ package org.seasar.doma.jdbc;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.concurrent.Executor;
 import javax.sql.DataSource;
 import org.seasar.doma.DomaIllegalArgumentException;
 import org.seasar.doma.jdbc.command.Command;
@@ -226,6 +227,39 @@ public interface Config {
     return ConfigSupport.defaultEntityListenerProvider;
   }
 
+  /**
+   * Returns the cache for the plans that map result set columns.
+   *
+   * <p>By default, each config has its own {@link BoundedMappingPlanCache}.
+   *
+   * @return the mapping plan cache
+   */
+  default MappingPlanCache getMappingPlanCache() {
+    return ConfigSupport.getDefaultMappingPlanCache(this);
+  }
+
+  /**
+   * Returns the observer of the command executions.
+   *
+   * @return the command observer
+   */
+  default CommandObserver getCommandObserver() {
+    return ConfigSupport.defaultCommandObserver;
+  }
+
+  /**
+   * Returns the executor that runs the Dao methods returning {@link
+   * java.util.concurrent.CompletableFuture}.
+   *
+   * <p>The default executor runs each method in a new virtual thread on Java 21 or later, and in a
+   * cached daemon thread otherwise.
+   *
+   * @return the executor
+   */
+  default Executor getAsyncExecutor() {
+    return ConfigSupport.defaultAsyncExecutor;
+  }
+
   /**
    * Retrieves a {@link Config} object from the {@code provider} parameter.
    *
@@ -1,5 +1,10 @@
 package org.seasar.doma.jdbc;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+
 /** Default values for {@link Config} objects. */
 public final class ConfigSupport {
 
@@ -27,4 +32,24 @@ public final class ConfigSupport {
 
   public static EntityListenerProvider defaultEntityListenerProvider =
       new EntityListenerProvider() {};
+
+  public static CommandObserver defaultCommandObserver = new CommandObserver() {};
+
+  public static Executor defaultAsyncExecutor = new DefaultAsyncExecutor();
+
+  private static final Map<Config, MappingPlanCache> defaultMappingPlanCaches =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Returns the default mapping plan cache of the config.
+   *
+   * <p>The cache is created for each config, so that the plans of a config are neither reused nor
+   * evicted by the others. The cache is discarded when the config is garbage collected.
+   *
+   * @param config the config
+   * @return the mapping plan cache
+   */
+  static MappingPlanCache getDefaultMappingPlanCache(Config config) {
+    return defaultMappingPlanCaches.computeIfAbsent(config, c -> new BoundedMappingPlanCache());
+  }
 }
@@ -0,0 +1,73 @@
+package org.seasar.doma.jdbc;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.seasar.doma.DomaNullPointerException;
+
+/**
+ * The default executor for the Dao methods returning {@link
+ * java.util.concurrent.CompletableFuture}.
+ *
+ * <p>On Java 21 or later, this executor starts a new virtual thread for each task. Otherwise, it
+ * runs the tasks in a cached pool of daemon threads. The underlying executor is created on the
+ * first task.
+ *
+ * <p>This class is thread safe.
+ */
+public class DefaultAsyncExecutor implements Executor {
+
+  private static final String THREAD_NAME_PREFIX = "doma-async-";
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private volatile Executor delegate;
+
+  @Override
+  public void execute(Runnable command) {
+    if (command == null) {
+      throw new DomaNullPointerException("command");
+    }
+    getDelegate().execute(command);
+  }
+
+  protected Executor getDelegate() {
+    Executor executor = delegate;
+    if (executor == null) {
+      lock.lock();
+      try {
+        executor = delegate;
+        if (executor == null) {
+          executor = createDelegate();
+          delegate = executor;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * Creates the executor that runs the tasks.
+   *
+   * @return the executor
+   */
+  protected Executor createDelegate() {
+    try {
+      Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (Executor) method.invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException ignored) {
+      // virtual threads are not available in this runtime
+    }
+    AtomicInteger count = new AtomicInteger();
+    return Executors.newCachedThreadPool(
+        runnable -> {
+          Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + count.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+}
@@ -1,11 +1,19 @@
 package org.seasar.doma.jdbc;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSql;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSqlRegistry;
 import org.seasar.doma.jdbc.dialect.Dialect;
 
-/** An SQL file repository that caches the results of SQL parsing without limit. */
+/**
+ * An SQL file repository that caches the results of SQL parsing without limit.
+ *
+ * <p>The SQL strings embedded in the Dao implementation classes are preferred to the SQL files on
+ * the class path. The class path is not accessed for the embedded SQL files.
+ */
 public class GreedyCacheSqlFileRepository extends AbstractSqlFileRepository {
 
   protected final ConcurrentMap<String, SqlFile> sqlFileMap = new ConcurrentHashMap<>(200);
@@ -21,6 +29,11 @@ public class GreedyCacheSqlFileRepository extends AbstractSqlFileRepository {
     return current != null ? current : file;
   }
 
+  @Override
+  protected Map<String, EmbeddedSql> getEmbeddedSqls(Method method, String path) {
+    return EmbeddedSqlRegistry.getSqls(method.getDeclaringClass(), path);
+  }
+
   @Override
   public void clearCache() {
     sqlFileMap.clear();
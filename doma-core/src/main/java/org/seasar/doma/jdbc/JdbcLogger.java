@@ -14,6 +14,36 @@ import java.sql.Statement;
  */
 public interface JdbcLogger {
 
+  /**
+   * Returns whether the start and the end of DAO methods are logged.
+   *
+   * <p>If this method returns {@code false}, the callers may skip invoking {@link
+   * #logDaoMethodEntering(String, String, Object...)}, {@link #logDaoMethodExiting(String, String,
+   * Object)} and {@link #logDaoMethodThrowing(String, String, RuntimeException)} to avoid preparing
+   * their arguments. An implementation must therefore return {@code false} only if those methods
+   * log nothing. An implementation that overrides those methods to log at another level or to
+   * another destination must override this method consistently.
+   *
+   * @return {@code true} if they are logged
+   */
+  default boolean isDaoMethodLoggingEnabled() {
+    return true;
+  }
+
+  /**
+   * Returns whether SQL statements are logged.
+   *
+   * <p>If this method returns {@code false}, the callers may skip invoking {@link #logSql(String,
+   * String, Sql)}. An implementation must therefore return {@code false} only if that method logs
+   * nothing. An implementation that overrides that method to log at another level or to another
+   * destination must override this method consistently.
+   *
+   * @return {@code true} if they are logged
+   */
+  default boolean isSqlLoggingEnabled() {
+    return true;
+  }
+
   /**
    * Logs the start of a DAO method.
    *
@@ -27,7 +57,8 @@ public interface JdbcLogger {
    * Logs the normal end of a DAO method.
    *
    * <p>At the end of the DAO method, either this method or {@link #logDaoMethodThrowing(String,
-   * String, RuntimeException)} must be invoked.
+   * String, RuntimeException)} must be invoked unless {@link #isDaoMethodLoggingEnabled()} returns
+   * {@code false}.
    *
    * @param callerClassName the name of the DAO class
    * @param callerMethodName the name of the DAO method
@@ -39,7 +70,8 @@ public interface JdbcLogger {
    * Logs the abnormal end of a DAO method.
    *
    * <p>At the end of the DAO method, either this method or {@link #logDaoMethodExiting(String,
-   * String, Object)} must be invoked.
+   * String, Object)} must be invoked unless {@link #isDaoMethodLoggingEnabled()} returns {@code
+   * false}.
    *
    * @param callerClassName the name of the DAO class
    * @param callerMethodName the name of the DAO method
@@ -206,4 +238,18 @@ public interface JdbcLogger {
    * @see ResultSet#close()
    */
   void logResultSetClosingFailure(String callerClassName, String callerMethodName, SQLException e);
+
+  /**
+   * Logs a failure of a prefetch of identity values.
+   *
+   * <p>The failure is not thrown to the caller. The identity values are fetched again when the
+   * current block of them is exhausted.
+   *
+   * @param callerClassName the caller class name
+   * @param callerMethodName the caller method name
+   * @param e the cause of the failure
+   * @see org.seasar.doma.jdbc.id.AbstractPreGenerateIdGenerator#setPrefetchThreshold(long)
+   */
+  default void logIdPrefetchFailure(
+      String callerClassName, String callerMethodName, RuntimeException e) {}
 }
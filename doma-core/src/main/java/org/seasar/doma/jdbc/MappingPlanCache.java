@@ -0,0 +1,41 @@
+package org.seasar.doma.jdbc;
+
+import java.sql.ResultSetMetaData;
+
+/**
+ * A cache for the plans that map the columns of a result set to entity properties or map keys.
+ *
+ * <p>A plan is built from {@link ResultSetMetaData} when a query is executed for the first time and
+ * is reused by the later executions of the same query. The plans are keyed by the entity type or
+ * the map key naming and the raw SQL, and the object providers verify only the number of the
+ * columns before they use a cached plan. Clear the cache when the columns of a query change without
+ * the change of its SQL, such as the columns of {@code select *} after altering the table.
+ *
+ * <p>The default methods of this interface cache nothing. {@link Config#getMappingPlanCache()}
+ * returns a {@link BoundedMappingPlanCache} by default.
+ *
+ * <p>The implementation class must be thread safe.
+ */
+public interface MappingPlanCache {
+
+  /**
+   * Returns the plan.
+   *
+   * @param key the key
+   * @return the plan or {@code null} if the plan is not cached
+   */
+  default Object get(Object key) {
+    return null;
+  }
+
+  /**
+   * Caches the plan.
+   *
+   * @param key the key
+   * @param plan the plan
+   */
+  default void put(Object key, Object plan) {}
+
+  /** Clears cache. */
+  default void clearCache() {}
+}
@@ -3,6 +3,7 @@ package org.seasar.doma.jdbc;
 import java.sql.PreparedStatement;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A prepared SQL.
@@ -31,4 +32,32 @@ public class PreparedSql extends AbstractSql<InParameter<?>> {
       Function<String, String> commenter) {
     super(kind, rawSql, formattedSql, sqlFilePath, parameters, sqlLogType, commenter);
   }
+
+  public PreparedSql(
+      SqlKind kind,
+      CharSequence rawSql,
+      Supplier<? extends CharSequence> formattedSqlSupplier,
+      String sqlFilePath,
+      List<? extends InParameter<?>> parameters,
+      SqlLogType sqlLogType) {
+    this(
+        kind,
+        rawSql,
+        formattedSqlSupplier,
+        sqlFilePath,
+        parameters,
+        sqlLogType,
+        Function.identity());
+  }
+
+  public PreparedSql(
+      SqlKind kind,
+      CharSequence rawSql,
+      Supplier<? extends CharSequence> formattedSqlSupplier,
+      String sqlFilePath,
+      List<? extends InParameter<?>> parameters,
+      SqlLogType sqlLogType,
+      Function<String, String> commenter) {
+    super(kind, rawSql, formattedSqlSupplier, sqlFilePath, parameters, sqlLogType, commenter);
+  }
 }
@@ -21,6 +21,8 @@ public class SelectOptions implements Serializable {
 
   protected boolean count;
 
+  protected boolean countOver;
+
   protected long countSize = -1;
 
   protected SelectForUpdateType forUpdateType;
@@ -163,6 +165,24 @@ public class SelectOptions implements Serializable {
     return this;
   }
 
+  /**
+   * Indicates to count all rows in the same SQL statement.
+   *
+   * <p>The count is retrieved from the first row with {@code count(*) over()}. If the dialect does
+   * not support window functions or the query returns no rows, all rows are counted with an
+   * additional SQL statement as {@link #count()} does.
+   *
+   * <p>Do not use this option with the SELECT statements that contain DISTINCT or set operators
+   * such as UNION.
+   *
+   * @return this instance
+   */
+  public SelectOptions countOver() {
+    this.count = true;
+    this.countOver = true;
+    return this;
+  }
+
   /**
    * Returns the count of all rows.
    *
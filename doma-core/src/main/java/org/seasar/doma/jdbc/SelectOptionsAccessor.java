@@ -11,6 +11,14 @@ public class SelectOptionsAccessor {
     return options.count;
   }
 
+  public static boolean isCountOver(SelectOptions options) {
+    return options.countOver;
+  }
+
+  public static long getCountSize(SelectOptions options) {
+    return options.countSize;
+  }
+
   public static void setCountSize(SelectOptions options, long countSize) {
     options.countSize = countSize;
   }
@@ -1,6 +1,8 @@
 package org.seasar.doma.jdbc;
 
+import java.util.function.Function;
 import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.util.ClockCache;
 
 /** The SQL file. */
 public class SqlFile {
@@ -14,6 +16,13 @@ public class SqlFile {
   /** the SQL node */
   protected final SqlNode sqlNode;
 
+  /** the maximum number of the cached transformed SQL nodes */
+  protected static final int MAX_TRANSFORMED_SQL_NODES = 64;
+
+  /** the transformed SQL nodes */
+  protected final ClockCache<Object, SqlNode> transformedSqlNodeCache =
+      new ClockCache<>(MAX_TRANSFORMED_SQL_NODES);
+
   /**
    * Creates an instance.
    *
@@ -65,6 +74,37 @@ public class SqlFile {
     return sqlNode;
   }
 
+  /**
+   * Returns the SQL node that is transformed from the SQL node of this file.
+   *
+   * <p>The transformed SQL node is cached with the key. The key must identify all the inputs of the
+   * transformation except the SQL node of this file. At most {@value #MAX_TRANSFORMED_SQL_NODES}
+   * transformed SQL nodes are cached per file; when the limit is reached, a node that has not been
+   * used recently is evicted as {@link ClockCache} does. The lookups of the cached SQL nodes
+   * neither lock nor update a shared counter.
+   *
+   * <p>Do not modify the SQL node in the client.
+   *
+   * @param key the key
+   * @param transformer the transformer
+   * @return the transformed SQL node
+   * @throws DomaNullPointerException if any arguments are {@code null}
+   */
+  public SqlNode getTransformedSqlNode(Object key, Function<SqlNode, SqlNode> transformer) {
+    if (key == null) {
+      throw new DomaNullPointerException("key");
+    }
+    if (transformer == null) {
+      throw new DomaNullPointerException("transformer");
+    }
+    SqlNode transformed = transformedSqlNodeCache.get(key);
+    if (transformed == null) {
+      transformed = transformer.apply(sqlNode);
+      transformedSqlNodeCache.put(key, transformed);
+    }
+    return transformed;
+  }
+
   @Override
   public String toString() {
     return sqlNode.toString();
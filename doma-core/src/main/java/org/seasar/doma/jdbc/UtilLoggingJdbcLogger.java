@@ -45,6 +45,11 @@ public class UtilLoggingJdbcLogger extends AbstractJdbcLogger<Level> {
     this.logger = logger;
   }
 
+  @Override
+  protected boolean isEnabled(Level level) {
+    return logger.isLoggable(level);
+  }
+
   @Override
   protected void log(
       Level level,
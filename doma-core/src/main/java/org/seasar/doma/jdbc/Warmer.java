@@ -0,0 +1,248 @@
+package org.seasar.doma.jdbc;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertUnreachable;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.seasar.doma.BatchDelete;
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.BatchUpdate;
+import org.seasar.doma.Dao;
+import org.seasar.doma.DaoImplementation;
+import org.seasar.doma.Delete;
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.Domain;
+import org.seasar.doma.Entity;
+import org.seasar.doma.Insert;
+import org.seasar.doma.Select;
+import org.seasar.doma.Sql;
+import org.seasar.doma.SqlProcessor;
+import org.seasar.doma.Update;
+import org.seasar.doma.experimental.DataType;
+import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
+import org.seasar.doma.jdbc.domain.DomainTypeFactory;
+import org.seasar.doma.jdbc.entity.EntityTypeFactory;
+
+/**
+ * A warmer that loads the metadata of the Dao methods ahead of the first invocations.
+ *
+ * <p>For each Dao method, this object parses the SQL file through {@link
+ * Config#getSqlFileRepository()} and resolves the entity and domain descriptions that appear in the
+ * method signature. The results are cached only if the SQL file repository caches them, such as
+ * {@link GreedyCacheSqlFileRepository}.
+ *
+ * <p>The Dao classes can be either the Dao interfaces or the Dao implementation classes. The Dao
+ * implementation classes are also initialized.
+ *
+ * <p>This class is thread safe.
+ */
+public class Warmer {
+
+  protected final Config config;
+
+  protected final Set<Class<?>> resolvedClasses = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Creates an instance.
+   *
+   * @param config the configuration
+   * @throws DomaNullPointerException if {@code config} is {@code null}
+   */
+  public Warmer(Config config) {
+    if (config == null) {
+      throw new DomaNullPointerException("config");
+    }
+    this.config = config;
+  }
+
+  /**
+   * Warms up the Dao methods in the current thread.
+   *
+   * @param daoClasses the Dao interfaces or the Dao implementation classes
+   * @throws DomaNullPointerException if {@code daoClasses} is {@code null}
+   * @throws DomaIllegalArgumentException if any class is neither a Dao interface nor a Dao
+   *     implementation class
+   * @throws SqlFileNotFoundException if the SQL file is not found
+   * @throws JdbcException if an error occurs
+   */
+  public void warmUp(Class<?>... daoClasses) {
+    for (Method method : collectMethods(daoClasses)) {
+      warmUp(method);
+    }
+  }
+
+  /**
+   * Warms up the Dao methods in parallel with the executor.
+   *
+   * @param executor the executor that runs the warm-up of each Dao method
+   * @param daoClasses the Dao interfaces or the Dao implementation classes
+   * @return the future that completes when all the Dao methods are warmed up
+   * @throws DomaNullPointerException if any arguments are {@code null}
+   * @throws DomaIllegalArgumentException if any class is neither a Dao interface nor a Dao
+   *     implementation class
+   */
+  public CompletableFuture<Void> warmUp(Executor executor, Class<?>... daoClasses) {
+    if (executor == null) {
+      throw new DomaNullPointerException("executor");
+    }
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (Method method : collectMethods(daoClasses)) {
+      futures.add(CompletableFuture.runAsync(() -> warmUp(method), executor));
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+  }
+
+  protected Set<Method> collectMethods(Class<?>... daoClasses) {
+    if (daoClasses == null) {
+      throw new DomaNullPointerException("daoClasses");
+    }
+    Set<Method> methods = new LinkedHashSet<>();
+    for (Class<?> daoClass : daoClasses) {
+      if (daoClass == null) {
+        throw new DomaNullPointerException("daoClasses");
+      }
+      if (daoClass.isAnnotationPresent(DaoImplementation.class)) {
+        initialize(daoClass);
+        for (Class<?> daoInterface : daoClass.getInterfaces()) {
+          collectMethods(daoInterface, methods);
+        }
+      } else if (daoClass.isInterface() && daoClass.isAnnotationPresent(Dao.class)) {
+        collectMethods(daoClass, methods);
+      } else {
+        throw new DomaIllegalArgumentException(
+            "daoClasses", daoClass.getName() + " is neither a Dao interface nor a Dao class.");
+      }
+    }
+    return methods;
+  }
+
+  private void collectMethods(Class<?> daoInterface, Set<Method> methods) {
+    if (!daoInterface.isAnnotationPresent(Dao.class)) {
+      return;
+    }
+    for (Method method : daoInterface.getDeclaredMethods()) {
+      if (!method.isDefault() && !method.isSynthetic()) {
+        methods.add(method);
+      }
+    }
+    for (Class<?> parent : daoInterface.getInterfaces()) {
+      collectMethods(parent, methods);
+    }
+  }
+
+  private void initialize(Class<?> daoClass) {
+    try {
+      Class.forName(daoClass.getName(), true, daoClass.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      assertUnreachable(e);
+    }
+  }
+
+  /**
+   * Warms up the Dao method.
+   *
+   * @param method the Dao method
+   */
+  protected void warmUp(Method method) {
+    String path = getSqlFilePath(method);
+    if (path != null) {
+      config.getSqlFileRepository().getSqlFile(method, path, config.getDialect());
+    }
+    resolve(method.getGenericReturnType());
+    for (Type parameterType : method.getGenericParameterTypes()) {
+      resolve(parameterType);
+    }
+  }
+
+  /**
+   * Returns the SQL file path of the Dao method.
+   *
+   * @param method the Dao method
+   * @return the SQL file path, or {@code null} if the method does not use any SQL file
+   */
+  protected String getSqlFilePath(Method method) {
+    if (!usesSqlFile(method)) {
+      return null;
+    }
+    String daoName = method.getDeclaringClass().getName();
+    if (method.isAnnotationPresent(Sql.class)) {
+      return daoName + "#" + method.getName();
+    }
+    return SqlFileUtil.buildPath(daoName, method.getName());
+  }
+
+  private boolean usesSqlFile(Method method) {
+    if (method.isAnnotationPresent(Select.class)
+        || method.isAnnotationPresent(SqlProcessor.class)) {
+      return true;
+    }
+    if (method.isAnnotationPresent(Sql.class)) {
+      return true;
+    }
+    Insert insert = method.getAnnotation(Insert.class);
+    if (insert != null) {
+      return insert.sqlFile();
+    }
+    Update update = method.getAnnotation(Update.class);
+    if (update != null) {
+      return update.sqlFile();
+    }
+    Delete delete = method.getAnnotation(Delete.class);
+    if (delete != null) {
+      return delete.sqlFile();
+    }
+    BatchInsert batchInsert = method.getAnnotation(BatchInsert.class);
+    if (batchInsert != null) {
+      return batchInsert.sqlFile();
+    }
+    BatchUpdate batchUpdate = method.getAnnotation(BatchUpdate.class);
+    if (batchUpdate != null) {
+      return batchUpdate.sqlFile();
+    }
+    BatchDelete batchDelete = method.getAnnotation(BatchDelete.class);
+    if (batchDelete != null) {
+      return batchDelete.sqlFile();
+    }
+    return false;
+  }
+
+  /**
+   * Resolves the entity and domain descriptions that appear in the type.
+   *
+   * @param type the type
+   */
+  protected void resolve(Type type) {
+    if (type instanceof Class) {
+      Class<?> clazz = (Class<?>) type;
+      if (clazz.isArray()) {
+        resolve(clazz.getComponentType());
+      } else if (resolvedClasses.add(clazz)) {
+        ClassHelper classHelper = config.getClassHelper();
+        if (clazz.isAnnotationPresent(Entity.class)) {
+          EntityTypeFactory.getEntityType(clazz, classHelper);
+        } else if (clazz.isAnnotationPresent(Domain.class)
+            || clazz.isAnnotationPresent(DataType.class)) {
+          DomainTypeFactory.getDomainType(clazz, classHelper);
+        }
+      }
+    } else if (type instanceof ParameterizedType) {
+      ParameterizedType parameterizedType = (ParameterizedType) type;
+      resolve(parameterizedType.getRawType());
+      for (Type argument : parameterizedType.getActualTypeArguments()) {
+        resolve(argument);
+      }
+    } else if (type instanceof GenericArrayType) {
+      resolve(((GenericArrayType) type).getGenericComponentType());
+    }
+  }
+}
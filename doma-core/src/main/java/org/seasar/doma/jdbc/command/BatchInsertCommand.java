@@ -1,15 +1,22 @@
 package org.seasar.doma.jdbc.command;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.List;
+import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.BatchUniqueConstraintException;
+import org.seasar.doma.jdbc.CommandMetrics.Phase;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.query.BatchInsertQuery;
 
 public class BatchInsertCommand extends BatchModifyCommand<BatchInsertQuery> {
 
+  protected int preparedParameterCount = -1;
+
   public BatchInsertCommand(BatchInsertQuery query) {
     super(query);
   }
@@ -17,6 +24,9 @@ public class BatchInsertCommand extends BatchModifyCommand<BatchInsertQuery> {
   @Override
   protected int[] executeInternal(PreparedStatement preparedStatement, List<PreparedSql> sqls)
       throws SQLException {
+    if (query.isMultiRow()) {
+      return executeMultiRow(preparedStatement, sqls);
+    }
     if (query.isBatchSupported()) {
       return executeBatch(preparedStatement, sqls);
     }
@@ -26,13 +36,85 @@ public class BatchInsertCommand extends BatchModifyCommand<BatchInsertQuery> {
     for (PreparedSql sql : sqls) {
       log(sql);
       bindParameters(preparedStatement, sql);
+      metrics.lap(Phase.BIND);
       updatedRows[i] = executeUpdate(preparedStatement, sql);
       query.generateId(preparedStatement, i);
+      metrics.lap(Phase.EXECUTE);
+      metrics.addUpdatedRows(updatedRows[i]);
       i++;
     }
     return updatedRows;
   }
 
+  /**
+   * Executes the multi-row INSERT statements.
+   *
+   * <p>The consecutive SQLs that insert the same number of rows share a statement. Since each SQL
+   * already inserts up to {@link BatchInsertQuery#getBatchSize()} rows, the SQLs are flushed one at
+   * a time. The returned array contains an element for each row. The element is {@code 1} if the
+   * driver reports that all the rows of the SQL are inserted, otherwise {@link
+   * Statement#SUCCESS_NO_INFO} because the count for each row is unknown.
+   *
+   * @param preparedStatement the statement that is prepared for {@link BatchInsertQuery#getSql()}
+   * @param sqls the SQLs
+   * @return the update counts
+   * @throws SQLException if an SQL error occurred
+   */
+  protected int[] executeMultiRow(PreparedStatement preparedStatement, List<PreparedSql> sqls)
+      throws SQLException {
+    int rowCount = 0;
+    for (PreparedSql sql : sqls) {
+      rowCount += query.getRowCount(sql);
+    }
+    int[] updatedRows = new int[rowCount];
+    if (preparedParameterCount < 0) {
+      preparedParameterCount = query.getSql().getParameters().size();
+    }
+    int pos = 0;
+    int from = 0;
+    while (from < sqls.size()) {
+      int parameterCount = sqls.get(from).getParameters().size();
+      int to = from + 1;
+      while (to < sqls.size() && sqls.get(to).getParameters().size() == parameterCount) {
+        to++;
+      }
+      List<PreparedSql> group = sqls.subList(from, to);
+      int[] rows;
+      if (parameterCount == preparedParameterCount) {
+        rows = executeBatch(preparedStatement, group, 1);
+      } else {
+        rows = executeBatchWithNewStatement(preparedStatement.getConnection(), group);
+      }
+      for (int i = 0; i < group.size(); i++) {
+        int count = query.getRowCount(group.get(i));
+        Arrays.fill(
+            updatedRows, pos, pos + count, rows[i] == count ? 1 : Statement.SUCCESS_NO_INFO);
+        pos += count;
+      }
+      from = to;
+    }
+    return updatedRows;
+  }
+
+  protected int[] executeBatchWithNewStatement(Connection connection, List<PreparedSql> sqls)
+      throws SQLException {
+    PreparedStatement preparedStatement = prepareStatement(connection, sqls.get(0));
+    try {
+      setupOptions(preparedStatement);
+      return executeBatch(preparedStatement, sqls, 1);
+    } finally {
+      JdbcUtil.close(preparedStatement, query.getConfig().getJdbcLogger());
+    }
+  }
+
+  @Override
+  protected void postExecuteBatch(PreparedStatement preparedStatement, int index, int size)
+      throws SQLException {
+    if (!query.isMultiRow()) {
+      query.generateIds(preparedStatement, index, size);
+    }
+  }
+
   protected int executeUpdate(PreparedStatement preparedStatement, PreparedSql sql)
       throws SQLException {
     try {
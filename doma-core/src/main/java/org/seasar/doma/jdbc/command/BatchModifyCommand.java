@@ -12,6 +12,8 @@ import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.BatchOptimisticLockException;
 import org.seasar.doma.jdbc.BatchSqlExecutionException;
 import org.seasar.doma.jdbc.BatchUniqueConstraintException;
+import org.seasar.doma.jdbc.CommandMetrics;
+import org.seasar.doma.jdbc.CommandMetrics.Phase;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.PreparedSql;
@@ -22,6 +24,8 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery> impleme
 
   protected final QUERY query;
 
+  protected CommandMetrics metrics = CommandMetrics.disabled();
+
   protected BatchModifyCommand(QUERY query) {
     assertNotNull(query);
     this.query = query;
@@ -40,13 +44,16 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery> impleme
           query.getClassName(), query.getMethodName(), query.getSqlExecutionSkipCause());
       return new int[] {};
     }
+    PreparedSql sql = query.getSql();
+    metrics = CommandMetrics.start(query, sql);
     Connection connection = JdbcUtil.getConnection(query.getConfig().getDataSource());
     try {
-      PreparedSql sql = query.getSql();
       PreparedStatement preparedStatement = prepareStatement(connection, sql);
+      metrics.lap(Phase.PREPARE);
       try {
         setupOptions(preparedStatement);
-        return executeInternal(preparedStatement, query.getSqls());
+        int[] rows = executeInternal(preparedStatement, query.getSqls());
+        return executeRemainingChunks(preparedStatement, rows);
       } catch (SQLException e) {
         Dialect dialect = query.getConfig().getDialect();
         throw new BatchSqlExecutionException(
@@ -55,7 +62,11 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery> impleme
         JdbcUtil.close(preparedStatement, query.getConfig().getJdbcLogger());
       }
     } finally {
-      JdbcUtil.close(connection, query.getConfig().getJdbcLogger());
+      try {
+        JdbcUtil.close(connection, query.getConfig().getJdbcLogger());
+      } finally {
+        metrics.finish();
+      }
     }
   }
 
@@ -76,6 +87,20 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery> impleme
   protected abstract int[] executeInternal(
       PreparedStatement preparedStatement, List<PreparedSql> sqls) throws SQLException;
 
+  protected int[] executeRemainingChunks(PreparedStatement preparedStatement, int[] rows)
+      throws SQLException {
+    int size = rows.length;
+    while (query.prepareNextChunk()) {
+      int[] chunkRows = executeInternal(preparedStatement, query.getSqls());
+      if (size + chunkRows.length > rows.length) {
+        rows = Arrays.copyOf(rows, Math.max(rows.length << 1, size + chunkRows.length));
+      }
+      System.arraycopy(chunkRows, 0, rows, size, chunkRows.length);
+      size += chunkRows.length;
+    }
+    return size == rows.length ? rows : Arrays.copyOf(rows, size);
+  }
+
   protected void setupOptions(PreparedStatement preparedStatement) throws SQLException {
     if (query.getQueryTimeout() > 0) {
       preparedStatement.setQueryTimeout(query.getQueryTimeout());
@@ -84,7 +109,22 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery> impleme
 
   protected int[] executeBatch(PreparedStatement preparedStatement, List<PreparedSql> sqls)
       throws SQLException {
-    int batchSize = query.getBatchSize() > 0 ? query.getBatchSize() : 1;
+    return executeBatch(
+        preparedStatement, sqls, query.getBatchSize() > 0 ? query.getBatchSize() : 1);
+  }
+
+  /**
+   * Executes the SQLs as batches.
+   *
+   * @param preparedStatement the statement
+   * @param sqls the SQLs
+   * @param batchSize the maximum number of the SQLs in a batch
+   * @return the update counts
+   * @throws SQLException if an SQL error occurred
+   */
+  protected int[] executeBatch(
+      PreparedStatement preparedStatement, List<PreparedSql> sqls, int batchSize)
+      throws SQLException {
     int sqlSize = sqls.size();
     int[] updatedRows = new int[sqlSize];
     int i = 0;
@@ -93,10 +133,17 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery> impleme
       log(sql);
       bindParameters(preparedStatement, sql);
       preparedStatement.addBatch();
+      metrics.lap(Phase.BIND);
       if (i == sqlSize - 1 || (batchSize > 0 && (i + 1) % batchSize == 0)) {
         int[] rows = executeBatch(preparedStatement, sql);
         validateRows(preparedStatement, sql, rows);
         System.arraycopy(rows, 0, updatedRows, pos, rows.length);
+        postExecuteBatch(preparedStatement, pos, i + 1 - pos);
+        metrics.lap(Phase.EXECUTE);
+        metrics.addBatchSize(i + 1 - pos);
+        for (int row : rows) {
+          metrics.addUpdatedRows(row);
+        }
         pos = i + 1;
       }
       i++;
@@ -104,6 +151,17 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery> impleme
     return updatedRows;
   }
 
+  /**
+   * Handles the statement after {@link PreparedStatement#executeBatch()}.
+   *
+   * @param preparedStatement the statement
+   * @param index the index of the first SQL in the executed batch
+   * @param size the number of the SQLs in the executed batch
+   * @throws SQLException if an SQL error occurred
+   */
+  protected void postExecuteBatch(PreparedStatement preparedStatement, int index, int size)
+      throws SQLException {}
+
   protected int[] executeBatch(PreparedStatement preparedStatement, PreparedSql sql)
       throws SQLException {
     try {
@@ -120,7 +178,9 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery> impleme
 
   protected void log(PreparedSql sql) {
     JdbcLogger logger = query.getConfig().getJdbcLogger();
-    logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    if (logger.isSqlLoggingEnabled()) {
+      logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    }
   }
 
   protected void bindParameters(PreparedStatement preparedStatement, PreparedSql sql)
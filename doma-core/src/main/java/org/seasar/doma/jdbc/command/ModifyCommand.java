@@ -7,6 +7,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import org.seasar.doma.internal.jdbc.command.PreparedSqlParameterBinder;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
+import org.seasar.doma.jdbc.CommandMetrics;
+import org.seasar.doma.jdbc.CommandMetrics.Phase;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.OptimisticLockException;
@@ -22,6 +24,8 @@ public abstract class ModifyCommand<QUERY extends ModifyQuery> implements Comman
 
   protected final PreparedSql sql;
 
+  protected CommandMetrics metrics = CommandMetrics.disabled();
+
   protected ModifyCommand(QUERY query) {
     assertNotNull(query);
     this.query = query;
@@ -41,14 +45,20 @@ public abstract class ModifyCommand<QUERY extends ModifyQuery> implements Comman
           query.getClassName(), query.getMethodName(), query.getSqlExecutionSkipCause());
       return Integer.valueOf(0);
     }
+    metrics = CommandMetrics.start(query, sql);
     Connection connection = JdbcUtil.getConnection(query.getConfig().getDataSource());
     try {
       PreparedStatement preparedStatement = prepareStatement(connection);
+      metrics.lap(Phase.PREPARE);
       try {
         log();
         setupOptions(preparedStatement);
         bindParameters(preparedStatement);
-        return executeInternal(preparedStatement);
+        metrics.lap(Phase.BIND);
+        int rows = executeInternal(preparedStatement);
+        metrics.lap(Phase.EXECUTE);
+        metrics.addUpdatedRows(rows);
+        return rows;
       } catch (SQLException e) {
         Dialect dialect = query.getConfig().getDialect();
         throw new SqlExecutionException(
@@ -57,7 +67,11 @@ public abstract class ModifyCommand<QUERY extends ModifyQuery> implements Comman
         JdbcUtil.close(preparedStatement, query.getConfig().getJdbcLogger());
       }
     } finally {
-      JdbcUtil.close(connection, query.getConfig().getJdbcLogger());
+      try {
+        JdbcUtil.close(connection, query.getConfig().getJdbcLogger());
+      } finally {
+        metrics.finish();
+      }
     }
   }
 
@@ -79,7 +93,9 @@ public abstract class ModifyCommand<QUERY extends ModifyQuery> implements Comman
 
   protected void log() {
     JdbcLogger logger = query.getConfig().getJdbcLogger();
-    logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    if (logger.isSqlLoggingEnabled()) {
+      logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    }
   }
 
   protected void setupOptions(PreparedStatement preparedStatement) throws SQLException {
@@ -9,6 +9,8 @@ import org.seasar.doma.internal.jdbc.command.CallableSqlParameterBinder;
 import org.seasar.doma.internal.jdbc.command.CallableSqlParameterFetcher;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.CallableSql;
+import org.seasar.doma.jdbc.CommandMetrics;
+import org.seasar.doma.jdbc.CommandMetrics.Phase;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.SqlExecutionException;
 import org.seasar.doma.jdbc.dialect.Dialect;
@@ -20,6 +22,8 @@ public abstract class ModuleCommand<QUERY extends ModuleQuery, RESULT> implement
 
   protected CallableSql sql;
 
+  protected CommandMetrics metrics = CommandMetrics.disabled();
+
   protected ModuleCommand(QUERY query) {
     assertNotNull(query);
     this.query = query;
@@ -33,13 +37,16 @@ public abstract class ModuleCommand<QUERY extends ModuleQuery, RESULT> implement
 
   @Override
   public RESULT execute() {
+    metrics = CommandMetrics.start(query, sql);
     Connection connection = JdbcUtil.getConnection(query.getConfig().getDataSource());
     try {
       CallableStatement callableStatement = JdbcUtil.prepareCall(connection, sql);
+      metrics.lap(Phase.PREPARE);
       try {
         log();
         setupOptions(callableStatement);
         bindParameters(callableStatement);
+        metrics.lap(Phase.BIND);
         return executeInternal(callableStatement);
       } catch (SQLException e) {
         Dialect dialect = query.getConfig().getDialect();
@@ -49,7 +56,11 @@ public abstract class ModuleCommand<QUERY extends ModuleQuery, RESULT> implement
         JdbcUtil.close(callableStatement, query.getConfig().getJdbcLogger());
       }
     } finally {
-      JdbcUtil.close(connection, query.getConfig().getJdbcLogger());
+      try {
+        JdbcUtil.close(connection, query.getConfig().getJdbcLogger());
+      } finally {
+        metrics.finish();
+      }
     }
   }
 
@@ -68,12 +79,16 @@ public abstract class ModuleCommand<QUERY extends ModuleQuery, RESULT> implement
   }
 
   protected void fetchParameters(CallableStatement callableStatement) throws SQLException {
+    metrics.lap(Phase.EXECUTE);
     CallableSqlParameterFetcher fetcher = new CallableSqlParameterFetcher(query);
     fetcher.fetch(callableStatement, sql.getParameters());
+    metrics.lap(Phase.FETCH);
   }
 
   protected void log() {
     JdbcLogger logger = query.getConfig().getJdbcLogger();
-    logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    if (logger.isSqlLoggingEnabled()) {
+      logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    }
   }
 }
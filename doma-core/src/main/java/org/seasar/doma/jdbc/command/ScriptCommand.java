@@ -10,6 +10,8 @@ import java.util.function.Function;
 import org.seasar.doma.internal.jdbc.command.ScriptReader;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.AbstractSql;
+import org.seasar.doma.jdbc.CommandMetrics;
+import org.seasar.doma.jdbc.CommandMetrics.Phase;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.ScriptException;
@@ -24,6 +26,8 @@ public class ScriptCommand implements Command<Void> {
 
   protected ScriptException savedScriptException;
 
+  protected CommandMetrics metrics = CommandMetrics.disabled();
+
   public ScriptCommand(ScriptQuery query) {
     assertNotNull(query);
     this.query = query;
@@ -37,6 +41,7 @@ public class ScriptCommand implements Command<Void> {
   @Override
   public Void execute() {
     Config config = query.getConfig();
+    metrics = CommandMetrics.start(query, SqlKind.SCRIPT, query.getScriptFilePath(), null);
     Connection connection = JdbcUtil.getConnection(config.getDataSource());
     try {
       ScriptReader reader = new ScriptReader(query);
@@ -46,9 +51,11 @@ public class ScriptCommand implements Command<Void> {
               new ScriptSql(
                   script, query.getScriptFilePath(), query.getSqlLogType(), query::comment);
           Statement statement = JdbcUtil.createStatement(connection);
+          metrics.lap(Phase.PREPARE);
           try {
             log(sql);
             setupOptions(statement);
+            metrics.lap(Phase.BIND);
             statement.execute(script);
           } catch (Exception e) {
             if (query.getHaltOnError()) {
@@ -58,14 +65,20 @@ public class ScriptCommand implements Command<Void> {
               savedScriptException = new ScriptException(e, sql, reader.getLineNumber());
             }
           } finally {
+            metrics.lap(Phase.EXECUTE);
             JdbcUtil.close(statement, config.getJdbcLogger());
+            metrics.lap(Phase.CLOSE);
           }
         }
       } finally {
         reader.close();
       }
     } finally {
-      JdbcUtil.close(connection, config.getJdbcLogger());
+      try {
+        JdbcUtil.close(connection, config.getJdbcLogger());
+      } finally {
+        metrics.finish();
+      }
     }
     throwSavedScriptExceptionIfExists();
     return null;
@@ -73,7 +86,9 @@ public class ScriptCommand implements Command<Void> {
 
   protected void log(ScriptSql sql) {
     JdbcLogger logger = query.getConfig().getJdbcLogger();
-    logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    if (logger.isSqlLoggingEnabled()) {
+      logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    }
   }
 
   protected void setupOptions(Statement statement) throws SQLException {
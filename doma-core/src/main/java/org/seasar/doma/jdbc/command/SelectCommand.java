@@ -11,6 +11,8 @@ import java.util.stream.Stream;
 import org.seasar.doma.FetchType;
 import org.seasar.doma.internal.jdbc.command.PreparedSqlParameterBinder;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
+import org.seasar.doma.jdbc.CommandMetrics;
+import org.seasar.doma.jdbc.CommandMetrics.Phase;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.NoResultException;
 import org.seasar.doma.jdbc.PreparedSql;
@@ -27,6 +29,8 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
 
   protected final ResultSetHandler<RESULT> resultSetHandler;
 
+  protected CommandMetrics metrics = CommandMetrics.disabled();
+
   public SelectCommand(SelectQuery query, ResultSetHandler<RESULT> resultSetHandler) {
     assertNotNull(query, resultSetHandler);
     this.query = query;
@@ -42,13 +46,16 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
   @Override
   public RESULT execute() {
     Supplier<RESULT> supplier = null;
+    metrics = CommandMetrics.start(query, sql);
     Connection connection = JdbcUtil.getConnection(query.getConfig().getDataSource());
     try {
       PreparedStatement preparedStatement = JdbcUtil.prepareStatement(connection, sql);
+      metrics.lap(Phase.PREPARE);
       try {
         log();
         setupOptions(preparedStatement);
         bindParameters(preparedStatement);
+        metrics.lap(Phase.BIND);
         supplier = executeQuery(preparedStatement);
       } catch (SQLException e) {
         Dialect dialect = query.getConfig().getDialect();
@@ -58,14 +65,24 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
         close(supplier, () -> JdbcUtil.close(preparedStatement, query.getConfig().getJdbcLogger()));
       }
     } finally {
-      close(supplier, () -> JdbcUtil.close(connection, query.getConfig().getJdbcLogger()));
+      close(
+          supplier,
+          () -> {
+            try {
+              JdbcUtil.close(connection, query.getConfig().getJdbcLogger());
+            } finally {
+              metrics.finish();
+            }
+          });
     }
     return supplier.get();
   }
 
   protected void log() {
     JdbcLogger logger = query.getConfig().getJdbcLogger();
-    logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    if (logger.isSqlLoggingEnabled()) {
+      logger.logSql(query.getClassName(), query.getMethodName(), sql);
+    }
   }
 
   protected void setupOptions(PreparedStatement preparedStatement) throws SQLException {
@@ -88,11 +105,17 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
   protected Supplier<RESULT> executeQuery(PreparedStatement preparedStatement) throws SQLException {
     Supplier<RESULT> supplier = null;
     ResultSet resultSet = preparedStatement.executeQuery();
+    metrics.lap(Phase.EXECUTE);
     try {
       supplier = handleResultSet(resultSet);
       return supplier;
     } finally {
-      close(supplier, () -> JdbcUtil.close(resultSet, query.getConfig().getJdbcLogger()));
+      close(
+          supplier,
+          () -> {
+            metrics.lap(Phase.FETCH);
+            JdbcUtil.close(resultSet, query.getConfig().getJdbcLogger());
+          });
     }
   }
 
@@ -101,6 +124,7 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
         resultSet,
         query,
         (index, next) -> {
+          metrics.setFetchedRows(index + 1);
           if (index == -1 && !next && query.isResultEnsured()) {
             Sql<?> sql = query.getSql();
             throw new NoResultException(query.getConfig().getExceptionSqlLogType(), sql);
@@ -0,0 +1,133 @@
+package org.seasar.doma.jdbc.criteria.command;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.seasar.doma.jdbc.command.Command;
+import org.seasar.doma.jdbc.command.SelectCommand;
+import org.seasar.doma.jdbc.criteria.context.SelectContext;
+import org.seasar.doma.jdbc.criteria.metamodel.EntityMetamodel;
+import org.seasar.doma.jdbc.query.Query;
+import org.seasar.doma.jdbc.query.SelectQuery;
+
+/**
+ * A command that associates the entities while the rows are fetched.
+ *
+ * <p>The consecutive rows that have the same key of the root entity make a group. When the key
+ * changes, the root entity of the group is emitted and the entities of the group are discarded. So
+ * the rows should be sorted by the identifier of the root entity.
+ *
+ * @param <ENTITY> the root entity type
+ * @param <RESULT> the result type
+ */
+public class AssociateStreamCommand<ENTITY, RESULT> implements Command<RESULT> {
+  private final SelectContext context;
+  private final SelectQuery query;
+  private final EntityMetamodel<ENTITY> entityMetamodel;
+  private final Function<Stream<ENTITY>, RESULT> streamMapper;
+
+  public AssociateStreamCommand(
+      SelectContext context,
+      SelectQuery query,
+      EntityMetamodel<ENTITY> entityMetamodel,
+      Function<Stream<ENTITY>, RESULT> streamMapper) {
+    this.context = Objects.requireNonNull(context);
+    this.query = Objects.requireNonNull(query);
+    this.entityMetamodel = Objects.requireNonNull(entityMetamodel);
+    this.streamMapper = Objects.requireNonNull(streamMapper);
+  }
+
+  @Override
+  public RESULT execute() {
+    SelectCommand<RESULT> command =
+        new SelectCommand<>(
+            query,
+            new MappedResultStreamHandler<>(
+                this::mapEntityPools,
+                q -> new EntityPoolProvider(context.getProjectionEntityMetamodels(), q)));
+    return command.execute();
+  }
+
+  private RESULT mapEntityPools(Stream<EntityPool> entityPools) {
+    Iterator<ENTITY> iterator = new GroupIterator(entityPools.iterator());
+    Spliterator<ENTITY> spliterator =
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+    return streamMapper.apply(StreamSupport.stream(spliterator, false));
+  }
+
+  @Override
+  public Query getQuery() {
+    return query;
+  }
+
+  private class GroupIterator implements Iterator<ENTITY> {
+    private final Iterator<EntityPool> entityPools;
+    private final AssociationSupport associationSupport = new AssociationSupport(context);
+    private EntityKey currentKey;
+    private ENTITY next;
+
+    private GroupIterator(Iterator<EntityPool> entityPools) {
+      this.entityPools = entityPools;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null || advance();
+    }
+
+    @Override
+    public ENTITY next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      ENTITY entity = next;
+      next = null;
+      return entity;
+    }
+
+    private boolean advance() {
+      while (entityPools.hasNext()) {
+        EntityPool entityPool = entityPools.next();
+        EntityKey key = findRootKey(entityPool);
+        boolean completed = key != null && currentKey != null && !key.equals(currentKey);
+        if (completed) {
+          completeGroup();
+        }
+        associationSupport.associate(entityPool);
+        if (key != null) {
+          currentKey = key;
+        }
+        if (completed) {
+          return true;
+        }
+      }
+      if (currentKey != null) {
+        completeGroup();
+        return true;
+      }
+      return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void completeGroup() {
+      next = (ENTITY) associationSupport.get(currentKey);
+      currentKey = null;
+      associationSupport.clear();
+    }
+
+    private EntityKey findRootKey(EntityPool entityPool) {
+      for (Map.Entry<EntityKey, EntityData> e : entityPool.entrySet()) {
+        if (e.getKey().getEntityMetamodel() == entityMetamodel) {
+          return e.getKey();
+        }
+      }
+      return null;
+    }
+  }
+}
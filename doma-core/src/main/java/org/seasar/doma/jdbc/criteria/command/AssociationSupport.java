@@ -0,0 +1,86 @@
+package org.seasar.doma.jdbc.criteria.command;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import org.seasar.doma.internal.util.Pair;
+import org.seasar.doma.jdbc.criteria.context.SelectContext;
+import org.seasar.doma.jdbc.criteria.metamodel.EntityMetamodel;
+import org.seasar.doma.jdbc.entity.EntityType;
+
+/**
+ * Creates the entities from the entity pools and associates them.
+ *
+ * <p>The created entities are cached by their keys until {@link #clear()} is invoked.
+ */
+public class AssociationSupport {
+  private final SelectContext context;
+  private final Map<EntityKey, Object> cache = new LinkedHashMap<>();
+
+  public AssociationSupport(SelectContext context) {
+    this.context = Objects.requireNonNull(context);
+  }
+
+  @SuppressWarnings("unchecked")
+  public void associate(EntityPool entityPool) {
+    Map<EntityMetamodel<?>, Pair<EntityKey, Object>> associationCandidate = new LinkedHashMap<>();
+    for (Map.Entry<EntityKey, EntityData> e : entityPool.entrySet()) {
+      EntityKey key = e.getKey();
+      EntityData data = e.getValue();
+      Object entity =
+          cache.computeIfAbsent(
+              key,
+              k -> {
+                EntityMetamodel<?> entityMetamodel = k.getEntityMetamodel();
+                EntityType<Object> entityType = (EntityType<Object>) entityMetamodel.asType();
+                Object newEntity = entityType.newEntity(data.getStates());
+                if (!entityType.isImmutable()) {
+                  entityType.saveCurrentStates(newEntity);
+                }
+                return newEntity;
+              });
+      associationCandidate.put(key.getEntityMetamodel(), new Pair<>(key, entity));
+    }
+    associate(associationCandidate);
+  }
+
+  private void associate(Map<EntityMetamodel<?>, Pair<EntityKey, Object>> associationCandidate) {
+    for (Map.Entry<Pair<EntityMetamodel<?>, EntityMetamodel<?>>, BiFunction<Object, Object, Object>>
+        e : context.associations.entrySet()) {
+      Pair<EntityMetamodel<?>, EntityMetamodel<?>> metamodelPair = e.getKey();
+      BiFunction<Object, Object, Object> associator = e.getValue();
+      Pair<EntityKey, Object> keyAndEntity1 = associationCandidate.get(metamodelPair.fst);
+      Pair<EntityKey, Object> keyAndEntity2 = associationCandidate.get(metamodelPair.snd);
+      if (keyAndEntity1 == null || keyAndEntity2 == null) {
+        continue;
+      }
+      Object newEntity = associator.apply(keyAndEntity1.snd, keyAndEntity2.snd);
+      if (newEntity != null) {
+        cache.replace(keyAndEntity1.fst, newEntity);
+        associationCandidate.replace(metamodelPair.fst, new Pair<>(keyAndEntity1.fst, newEntity));
+      }
+    }
+  }
+
+  public Object get(EntityKey key) {
+    return cache.get(key);
+  }
+
+  @SuppressWarnings("unchecked")
+  public <ENTITY> List<ENTITY> getEntities(EntityMetamodel<ENTITY> entityMetamodel) {
+    List<ENTITY> entities = new ArrayList<>();
+    for (Map.Entry<EntityKey, Object> e : cache.entrySet()) {
+      if (e.getKey().getEntityMetamodel() == entityMetamodel) {
+        entities.add((ENTITY) e.getValue());
+      }
+    }
+    return entities;
+  }
+
+  public void clear() {
+    cache.clear();
+  }
+}
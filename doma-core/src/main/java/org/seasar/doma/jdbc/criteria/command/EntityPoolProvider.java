@@ -1,31 +1,35 @@
 package org.seasar.doma.jdbc.criteria.command;
 
-import static java.util.stream.Collectors.toList;
-
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import org.seasar.doma.jdbc.ObjectProvider;
 import org.seasar.doma.jdbc.criteria.metamodel.EntityMetamodel;
 import org.seasar.doma.jdbc.criteria.metamodel.PropertyMetamodel;
 import org.seasar.doma.jdbc.entity.EntityPropertyType;
-import org.seasar.doma.jdbc.entity.EntityType;
 import org.seasar.doma.jdbc.entity.Property;
 import org.seasar.doma.jdbc.query.Query;
 
 public class EntityPoolProvider implements ObjectProvider<EntityPool> {
-  private final Map<EntityMetamodel<?>, List<PropertyMetamodel<?>>> projectionEntityMetamodels;
+  private final EntityPlan[] entityPlans;
   private final FetchSupport fetchSupport;
 
   public EntityPoolProvider(
       Map<EntityMetamodel<?>, List<PropertyMetamodel<?>>> projectionEntityMetamodels, Query query) {
-    this.projectionEntityMetamodels = Objects.requireNonNull(projectionEntityMetamodels);
+    Objects.requireNonNull(projectionEntityMetamodels);
     Objects.requireNonNull(query);
+    this.entityPlans = new EntityPlan[projectionEntityMetamodels.size()];
+    int i = 0;
+    for (Map.Entry<EntityMetamodel<?>, List<PropertyMetamodel<?>>> entry :
+        projectionEntityMetamodels.entrySet()) {
+      entityPlans[i++] = new EntityPlan(entry.getKey(), entry.getValue());
+    }
     this.fetchSupport = new FetchSupport(query);
   }
 
@@ -35,50 +39,73 @@ public class EntityPoolProvider implements ObjectProvider<EntityPool> {
     Objects.requireNonNull(resultSet);
     EntityPool entityPool = new EntityPool();
     int index = 1;
-    for (Map.Entry<EntityMetamodel<?>, List<PropertyMetamodel<?>>> entry :
-        projectionEntityMetamodels.entrySet()) {
-      EntityMetamodel<?> entityMetamodel = entry.getKey();
-      List<PropertyMetamodel<?>> projectionTargets = entry.getValue();
-      EntityType<?> entityType = entityMetamodel.asType();
-      List<? extends EntityPropertyType<?, ?>> propertyTypes =
-          projectionTargets.stream().map(PropertyMetamodel::asType).collect(toList());
-      List<Prop> props = new ArrayList<>(propertyTypes.size());
-      for (EntityPropertyType<?, ?> propertyType : propertyTypes) {
-        Property<Object, ?> property = (Property<Object, ?>) propertyType.createProperty();
-        Object rawValue = fetchSupport.fetch(resultSet, property, index++);
-        props.add(new Prop(propertyType, property, rawValue));
+    for (EntityPlan plan : entityPlans) {
+      EntityPropertyType<?, ?>[] propertyTypes = plan.propertyTypes;
+      Property<Object, ?>[] properties = newPropertyArray(propertyTypes.length);
+      boolean allNull = true;
+      for (int i = 0; i < propertyTypes.length; i++) {
+        Property<Object, ?> property = (Property<Object, ?>) propertyTypes[i].createProperty();
+        if (fetchSupport.fetch(resultSet, property, index++) != null) {
+          allNull = false;
+        }
+        properties[i] = property;
       }
-      if (props.stream().allMatch(p -> p.rawValue == null)) {
+      if (allNull) {
         continue;
       }
       EntityKey key;
-      if (entityType.getIdPropertyTypes().isEmpty()) {
-        key = new EntityKey(entityMetamodel, Collections.singletonList(new Object()));
+      if (!plan.hasId) {
+        key = new EntityKey(plan.entityMetamodel, Collections.singletonList(new Object()));
       } else {
-        List<?> items =
-            props.stream()
-                .filter(it -> it.propType.isId())
-                .map(it -> it.prop.getWrapper().get())
-                .collect(toList());
-        key = new EntityKey(entityMetamodel, items);
+        List<Object> items = new ArrayList<>(plan.idPositions.length);
+        for (int position : plan.idPositions) {
+          items.add(properties[position].getWrapper().get());
+        }
+        key = new EntityKey(plan.entityMetamodel, items);
+      }
+      Map<String, Property<Object, ?>> states = new HashMap<>(plan.stateCapacity);
+      for (int i = 0; i < propertyTypes.length; i++) {
+        states.put(plan.names[i], properties[i]);
       }
-      Map<String, Property<Object, ?>> states =
-          props.stream().collect(Collectors.toMap(p -> p.propType.getName(), p -> p.prop));
       EntityData data = new EntityData(states);
       entityPool.put(key, data);
     }
     return entityPool;
   }
 
-  private static class Prop {
-    private final EntityPropertyType<?, ?> propType;
-    private final Property<Object, ?> prop;
-    private final Object rawValue;
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static Property<Object, ?>[] newPropertyArray(int length) {
+    return new Property[length];
+  }
 
-    public Prop(EntityPropertyType<?, ?> propType, Property<Object, ?> prop, Object rawValue) {
-      this.propType = propType;
-      this.prop = prop;
-      this.rawValue = rawValue;
+  /** The precomputed metadata to fetch an entity from a row. */
+  private static class EntityPlan {
+    private final EntityMetamodel<?> entityMetamodel;
+    private final EntityPropertyType<?, ?>[] propertyTypes;
+    private final String[] names;
+    private final boolean hasId;
+    private final int[] idPositions;
+    private final int stateCapacity;
+
+    private EntityPlan(
+        EntityMetamodel<?> entityMetamodel, List<PropertyMetamodel<?>> projectionTargets) {
+      this.entityMetamodel = entityMetamodel;
+      int size = projectionTargets.size();
+      this.propertyTypes = new EntityPropertyType<?, ?>[size];
+      this.names = new String[size];
+      int[] positions = new int[size];
+      int idCount = 0;
+      for (int i = 0; i < size; i++) {
+        EntityPropertyType<?, ?> propertyType = projectionTargets.get(i).asType();
+        propertyTypes[i] = propertyType;
+        names[i] = propertyType.getName();
+        if (propertyType.isId()) {
+          positions[idCount++] = i;
+        }
+      }
+      this.hasId = !entityMetamodel.asType().getIdPropertyTypes().isEmpty();
+      this.idPositions = Arrays.copyOf(positions, idCount);
+      this.stateCapacity = Math.max((int) (size / 0.75f) + 1, 16);
     }
   }
 }
@@ -2,7 +2,6 @@ package org.seasar.doma.jdbc.criteria.command;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,19 +42,20 @@ public class MappedResultProvider<RESULT> extends AbstractObjectProvider<RESULT>
               EntityMetamodel<ENTITY> entityMetamodel,
               List<PropertyMetamodel<?>> propertyMetamodels) {
             Map<String, Property<ENTITY, ?>> states = new HashMap<>(propertyMetamodels.size());
-            List<Object> rawValues = new ArrayList<>(propertyMetamodels.size());
+            boolean allNull = true;
             for (PropertyMetamodel<?> propertyMetamodel : propertyMetamodels) {
               EntityPropertyType<?, ?> propertyType = propertyMetamodel.asType();
               Property<ENTITY, ?> property = (Property<ENTITY, ?>) propertyType.createProperty();
               try {
-                Object rawValue = fetchSupport.fetch(resultSet, property, index++);
-                rawValues.add(rawValue);
+                if (fetchSupport.fetch(resultSet, property, index++) != null) {
+                  allNull = false;
+                }
               } catch (SQLException e) {
                 throw new UncheckedSQLException(e);
               }
               states.put(propertyType.getName(), property);
             }
-            if (rawValues.stream().allMatch(Objects::isNull)) {
+            if (allNull) {
               return null;
             }
             EntityType<ENTITY> entityType = entityMetamodel.asType();
@@ -6,6 +6,7 @@ import java.sql.PreparedStatement;
 public class InsertSettings extends Settings {
   private int batchSize = 0;
   private boolean excludeNull;
+  private boolean multiRow;
 
   /**
    * Returns the batch size.
@@ -49,4 +50,26 @@ public class InsertSettings extends Settings {
   public void setExcludeNull(boolean excludeNull) {
     this.excludeNull = excludeNull;
   }
+
+  /**
+   * Returns whether to insert multiple rows with a single statement or not.
+   *
+   * @return whether to insert multiple rows with a single statement or not. The default value is
+   *     {@literal false}.
+   */
+  public boolean getMultiRow() {
+    return multiRow;
+  }
+
+  /**
+   * Sets whether to insert multiple rows with a single statement or not.
+   *
+   * <p>If the value is {@code true} and the dialect supports multi-row INSERT statements, the
+   * entities of a batch INSERT are inserted with the multi-row VALUES syntax.
+   *
+   * @param multiRow whether to insert multiple rows with a single statement or not
+   */
+  public void setMultiRow(boolean multiRow) {
+    this.multiRow = multiRow;
+  }
 }
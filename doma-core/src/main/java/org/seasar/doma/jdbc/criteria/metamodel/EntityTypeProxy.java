@@ -141,6 +141,11 @@ public class EntityTypeProxy<ENTITY> implements EntityType<ENTITY> {
     return entityType.newEntity(__args);
   }
 
+  @Override
+  public ENTITY newEntity(Property<ENTITY, ?>[] __args) {
+    return entityType.newEntity(__args);
+  }
+
   @Override
   public Class<ENTITY> getEntityClass() {
     return entityType.getEntityClass();
@@ -156,6 +161,11 @@ public class EntityTypeProxy<ENTITY> implements EntityType<ENTITY> {
     return entityType.getOriginalStates(entity);
   }
 
+  @Override
+  public Object[] getOriginalStatesSnapshot(ENTITY entity) {
+    return entityType.getOriginalStatesSnapshot(entity);
+  }
+
   @Override
   public void preInsert(ENTITY entity, PreInsertContext<ENTITY> context) {
     entityType.preInsert(entity, context);
@@ -23,6 +23,7 @@ public class CriteriaQuery implements SelectQuery, DeleteQuery, InsertQuery, Upd
   private int fetchSize;
   private int maxRows;
   private int queryTimeout;
+  private FetchType fetchType = FetchType.EAGER;
 
   public CriteriaQuery(Config config, PreparedSql sql, String className, String methodName) {
     this.config = Objects.requireNonNull(config);
@@ -100,7 +101,7 @@ public class CriteriaQuery implements SelectQuery, DeleteQuery, InsertQuery, Upd
 
   @Override
   public SelectOptions getOptions() {
-    throw new UnsupportedOperationException();
+    return null;
   }
 
   @Override
@@ -115,7 +116,11 @@ public class CriteriaQuery implements SelectQuery, DeleteQuery, InsertQuery, Upd
 
   @Override
   public FetchType getFetchType() {
-    return FetchType.EAGER;
+    return fetchType;
+  }
+
+  public void setFetchType(FetchType fetchType) {
+    this.fetchType = Objects.requireNonNull(fetchType);
   }
 
   @Override
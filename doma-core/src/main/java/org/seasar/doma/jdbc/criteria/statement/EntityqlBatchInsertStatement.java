@@ -60,6 +60,7 @@ public class EntityqlBatchInsertStatement<ENTITY>
     query.setIncludedPropertyNames();
     query.setExcludedPropertyNames();
     query.setMessage(settings.getComment());
+    query.setMultiRow(settings.getMultiRow());
     query.prepare();
     BatchInsertCommand command =
         config.getCommandImplementors().createBatchInsertCommand(EXECUTE_METHOD, query);
@@ -6,6 +6,8 @@ import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.command.Command;
 import org.seasar.doma.jdbc.criteria.declaration.JoinDeclaration;
@@ -20,7 +22,7 @@ import org.seasar.doma.jdbc.criteria.option.ForUpdateOption;
 
 public class EntityqlSelectStarting<ENTITY>
     extends AbstractStatement<EntityqlSelectStarting<ENTITY>, List<ENTITY>>
-    implements Listable<ENTITY> {
+    implements StreamMappable<ENTITY> {
 
   private final SelectFromDeclaration declaration;
   private final EntityMetamodel<ENTITY> entityMetamodel;
@@ -154,6 +156,14 @@ public class EntityqlSelectStarting<ENTITY>
     return new EntityqlSelectTerminal<>(config, declaration, entityMetamodel);
   }
 
+  @Override
+  public <RESULT> RESULT mapStream(Function<Stream<ENTITY>, RESULT> streamMapper) {
+    Objects.requireNonNull(streamMapper);
+    EntityqlSelectTerminal<ENTITY> terminal =
+        new EntityqlSelectTerminal<>(config, declaration, entityMetamodel);
+    return terminal.mapStream(streamMapper);
+  }
+
   @Override
   protected Command<List<ENTITY>> createCommand() {
     EntityqlSelectTerminal<ENTITY> terminal =
@@ -2,10 +2,14 @@ package org.seasar.doma.jdbc.criteria.statement;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.seasar.doma.FetchType;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.command.Command;
 import org.seasar.doma.jdbc.criteria.command.AssociateCommand;
+import org.seasar.doma.jdbc.criteria.command.AssociateStreamCommand;
 import org.seasar.doma.jdbc.criteria.context.SelectContext;
 import org.seasar.doma.jdbc.criteria.context.SelectSettings;
 import org.seasar.doma.jdbc.criteria.declaration.SelectFromDeclaration;
@@ -15,7 +19,7 @@ import org.seasar.doma.jdbc.criteria.query.SelectBuilder;
 
 public class EntityqlSelectTerminal<ENTITY>
     extends AbstractStatement<EntityqlSelectTerminal<ENTITY>, List<ENTITY>>
-    implements Listable<ENTITY> {
+    implements StreamMappable<ENTITY> {
 
   private final SelectFromDeclaration declaration;
   private final EntityMetamodel<ENTITY> entityMetamodel;
@@ -39,9 +43,45 @@ public class EntityqlSelectTerminal<ENTITY>
     return super.execute();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The entities are associated while the rows are fetched. The root entity is passed to the
+   * stream when the identifier of the root entity changes, so the rows must be sorted by the
+   * identifier of the root entity. Only the entities of the current root entity are kept in memory.
+   * Therefore, the same row of a non-root entity can be represented by different instances for
+   * different root entities.
+   *
+   * @throws EmptyWhereClauseException if {@link SelectSettings#getAllowEmptyWhere()} returns
+   *     {@literal false} and the WHERE clause is empty
+   * @throws org.seasar.doma.jdbc.JdbcException if a JDBC related error occurs
+   */
+  @Override
+  public <RESULT> RESULT mapStream(Function<Stream<ENTITY>, RESULT> streamMapper) {
+    Objects.requireNonNull(streamMapper);
+    SelectContext context = declaration.getContext();
+    CriteriaQuery query = createQuery(context);
+    query.setFetchType(FetchType.LAZY);
+    checkWhereClause(context, query.getSql());
+    AssociateStreamCommand<ENTITY, RESULT> command =
+        new AssociateStreamCommand<>(context, query, entityMetamodel, streamMapper);
+    return command.execute();
+  }
+
   @Override
   protected Command<List<ENTITY>> createCommand() {
     SelectContext context = declaration.getContext();
+    CriteriaQuery query = createQuery(context);
+    return new AssociateCommand<ENTITY>(context, query, entityMetamodel) {
+      @Override
+      public List<ENTITY> execute() {
+        checkWhereClause(context, query.getSql());
+        return super.execute();
+      }
+    };
+  }
+
+  private CriteriaQuery createQuery(SelectContext context) {
     SelectSettings settings = context.getSettings();
     SelectBuilder builder =
         new SelectBuilder(
@@ -51,16 +91,14 @@ public class EntityqlSelectTerminal<ENTITY>
     query.setFetchSize(settings.getFetchSize());
     query.setMaxRows(settings.getMaxRows());
     query.setQueryTimeout(settings.getQueryTimeout());
-    return new AssociateCommand<ENTITY>(context, query, entityMetamodel) {
-      @Override
-      public List<ENTITY> execute() {
-        if (!settings.getAllowEmptyWhere()) {
-          if (context.where.isEmpty()) {
-            throw new EmptyWhereClauseException(sql);
-          }
-        }
-        return super.execute();
+    return query;
+  }
+
+  private void checkWhereClause(SelectContext context, PreparedSql sql) {
+    if (!context.getSettings().getAllowEmptyWhere()) {
+      if (context.where.isEmpty()) {
+        throw new EmptyWhereClauseException(sql);
       }
-    };
+    }
   }
 }
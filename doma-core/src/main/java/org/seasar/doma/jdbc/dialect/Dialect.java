@@ -99,6 +99,19 @@ public interface Dialect {
    */
   boolean supportsBatchUpdateResults();
 
+  /**
+   * Whether {@link Statement#getGeneratedKeys()} returns the generated values of all the rows that
+   * are inserted by {@link Statement#executeBatch()}.
+   *
+   * <p>This method is meaningful, only if {@link #supportsAutoGeneratedKeys()} returns {@code
+   * true}.
+   *
+   * @return {@code true}, if this object supports it
+   */
+  default boolean supportsBatchExecutionReturningGeneratedValues() {
+    return false;
+  }
+
   /**
    * Whether this object supports pessimistic locking.
    *
@@ -136,6 +149,64 @@ public interface Dialect {
     return false;
   }
 
+  /**
+   * Whether this object supports the window function that counts all rows as follows:
+   *
+   * <pre>
+   * SELECT id, name, COUNT(*) OVER() FROM employee
+   * </pre>
+   *
+   * @return {@code true}, if this object supports it
+   */
+  default boolean supportsCountOver() {
+    return false;
+  }
+
+  /**
+   * Whether the paging SQL nodes that this object creates in {@link #transformSelectSqlNode} refer
+   * to the offset and the limit as the variables instead of containing their values.
+   *
+   * <p>The variables are {@code __doma_offset}, {@code __doma_limit} and {@code
+   * __doma_max_rownumber}, that is, the sum of the offset and the limit. The negative offset and
+   * limit are given as zero. If this method returns {@code true}, a transformed SQL node is reused
+   * for all the offsets and limits that have the same signs.
+   *
+   * @return {@code true}, if this object supports it
+   */
+  default boolean supportsPagingVariables() {
+    return false;
+  }
+
+  /**
+   * Whether this object supports an INSERT statement that inserts multiple rows with one VALUES
+   * clause as follows:
+   *
+   * <pre>
+   * INSERT INTO employee (id, name) VALUES (?, ?), (?, ?)
+   * </pre>
+   *
+   * @return {@code true}, if this object supports it
+   */
+  default boolean supportsMultiRowInsertStatement() {
+    return false;
+  }
+
+  /**
+   * Returns the maximum number of rows in a multi-row INSERT statement.
+   *
+   * <p>The limit usually comes from the maximum number of bind parameters that the database or the
+   * JDBC driver accepts in one statement.
+   *
+   * <p>This method is available, only if {@link #supportsMultiRowInsertStatement()} returns {@code
+   * true}.
+   *
+   * @param columnCount the number of columns in a row
+   * @return the maximum number of rows
+   */
+  default int getMaxMultiRowInsertRows(int columnCount) {
+    return Integer.MAX_VALUE;
+  }
+
   /**
    * Returns an SQL object to get IDENTITY values that are generated in the database.
    *
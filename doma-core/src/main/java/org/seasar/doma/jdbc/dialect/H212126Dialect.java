@@ -127,6 +127,11 @@ public class H212126Dialect extends StandardDialect {
     return transformer.transform(sqlNode);
   }
 
+  @Override
+  public boolean supportsMultiRowInsertStatement() {
+    return true;
+  }
+
   @Override
   public boolean supportsIdentity() {
     return true;
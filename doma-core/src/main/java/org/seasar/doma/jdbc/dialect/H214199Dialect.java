@@ -59,6 +59,11 @@ public class H214199Dialect extends H212126Dialect {
     return UNIQUE_CONSTRAINT_VIOLATION_ERROR_CODE == code;
   }
 
+  @Override
+  public boolean supportsCountOver() {
+    return true;
+  }
+
   @Override
   protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
     H2PagingTransformer transformer = new H2PagingTransformer(offset, limit);
@@ -30,6 +30,15 @@ public class Mssql2008Dialect extends StandardDialect {
   /** the quotation mark of the end */
   protected static final char CLOSE_QUOTE = ']';
 
+  /**
+   * the maximum number of bind parameters in a statement. The server accepts 2100 parameters
+   * including the two that the driver uses to prepare the statement.
+   */
+  protected static final int MAX_PARAMETER_COUNT = 2098;
+
+  /** the maximum number of row values in a VALUES clause */
+  protected static final int MAX_ROW_VALUE_COUNT = 1000;
+
   public Mssql2008Dialect() {
     this(
         new Mssql2008JdbcMappingVisitor(),
@@ -119,6 +128,21 @@ public class Mssql2008Dialect extends StandardDialect {
     return true;
   }
 
+  @Override
+  public boolean supportsCountOver() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsMultiRowInsertStatement() {
+    return true;
+  }
+
+  @Override
+  public int getMaxMultiRowInsertRows(int columnCount) {
+    return Math.min(MAX_ROW_VALUE_COUNT, MAX_PARAMETER_COUNT / Math.max(columnCount, 1));
+  }
+
   @Override
   public String getScriptBlockDelimiter() {
     return "GO";
@@ -31,6 +31,9 @@ public class MysqlDialect extends StandardDialect {
   /** the quotation mark of the end */
   protected static final char CLOSE_QUOTE = '`';
 
+  /** the maximum number of bind parameters in a statement */
+  protected static final int MAX_PARAMETER_COUNT = 65535;
+
   public MysqlDialect() {
     this(
         new MysqlJdbcMappingVisitor(),
@@ -81,6 +84,11 @@ public class MysqlDialect extends StandardDialect {
     return true;
   }
 
+  @Override
+  public boolean supportsBatchExecutionReturningGeneratedValues() {
+    return true;
+  }
+
   @Override
   public boolean supportsIdentity() {
     return true;
@@ -96,6 +104,16 @@ public class MysqlDialect extends StandardDialect {
     return true;
   }
 
+  @Override
+  public boolean supportsMultiRowInsertStatement() {
+    return true;
+  }
+
+  @Override
+  public int getMaxMultiRowInsertRows(int columnCount) {
+    return MAX_PARAMETER_COUNT / Math.max(columnCount, 1);
+  }
+
   @Override
   protected SqlNode toCountCalculatingSqlNode(SqlNode sqlNode) {
     MysqlCountCalculatingTransformer transformer = new MysqlCountCalculatingTransformer();
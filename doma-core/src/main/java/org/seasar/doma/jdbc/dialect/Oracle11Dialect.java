@@ -102,6 +102,11 @@ public class Oracle11Dialect extends StandardDialect {
     return "oracle";
   }
 
+  @Override
+  public boolean supportsCountOver() {
+    return true;
+  }
+
   @Override
   public boolean supportsBatchUpdateResults() {
     return false;
@@ -41,6 +41,9 @@ public class PostgresDialect extends StandardDialect {
   /** the JDBC type for {@link ResultSet} */
   protected static final JdbcType<ResultSet> RESULT_SET = new PostgresResultSetType();
 
+  /** the maximum number of bind parameters in a statement */
+  protected static final int MAX_PARAMETER_COUNT = 65535;
+
   public PostgresDialect() {
     this(
         new PostgresJdbcMappingVisitor(),
@@ -226,6 +229,21 @@ public class PostgresDialect extends StandardDialect {
     return true;
   }
 
+  @Override
+  public boolean supportsMultiRowInsertStatement() {
+    return true;
+  }
+
+  @Override
+  public int getMaxMultiRowInsertRows(int columnCount) {
+    return MAX_PARAMETER_COUNT / Math.max(columnCount, 1);
+  }
+
+  @Override
+  public boolean supportsCountOver() {
+    return true;
+  }
+
   @Override
   public boolean supportsIdentityReservation() {
     return true;
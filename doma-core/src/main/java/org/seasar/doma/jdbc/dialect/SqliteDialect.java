@@ -17,6 +17,9 @@ import org.seasar.doma.jdbc.SqlNode;
 /** A dialect for SQLite. */
 public class SqliteDialect extends StandardDialect {
 
+  /** the default maximum number of host parameters in a statement */
+  protected static final int MAX_PARAMETER_COUNT = 999;
+
   public SqliteDialect() {
     this(
         new SqliteJdbcMappingVisitor(),
@@ -94,6 +97,16 @@ public class SqliteDialect extends StandardDialect {
     return sqlNode;
   }
 
+  @Override
+  public boolean supportsMultiRowInsertStatement() {
+    return true;
+  }
+
+  @Override
+  public int getMaxMultiRowInsertRows(int columnCount) {
+    return MAX_PARAMETER_COUNT / Math.max(columnCount, 1);
+  }
+
   @Override
   public boolean supportsIdentity() {
     return true;
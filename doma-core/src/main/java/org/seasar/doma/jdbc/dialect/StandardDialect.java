@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.expr.ExpressionFunctions;
 import org.seasar.doma.internal.jdbc.dialect.StandardCountGettingTransformer;
+import org.seasar.doma.internal.jdbc.dialect.StandardCountOverTransformer;
 import org.seasar.doma.internal.jdbc.dialect.StandardForUpdateTransformer;
 import org.seasar.doma.internal.jdbc.dialect.StandardPagingTransformer;
 import org.seasar.doma.internal.jdbc.sql.PreparedSqlBuilder;
@@ -156,6 +157,18 @@ public class StandardDialect implements Dialect {
     return "standard";
   }
 
+  /**
+   * Returns {@code true} because the paging transformers bind the offset and the limit as
+   * parameters.
+   *
+   * <p>The subclasses that override {@link #toPagingSqlNode} to write the offset and the limit into
+   * the SQL node as literals must override this method to return {@code false}.
+   */
+  @Override
+  public boolean supportsPagingVariables() {
+    return true;
+  }
+
   @Override
   public SqlNode transformSelectSqlNode(SqlNode sqlNode, SelectOptions options) {
     if (sqlNode == null) {
@@ -166,7 +179,11 @@ public class StandardDialect implements Dialect {
     }
     SqlNode transformed = sqlNode;
     if (SelectOptionsAccessor.isCount(options)) {
-      transformed = toCountCalculatingSqlNode(sqlNode);
+      if (SelectOptionsAccessor.isCountOver(options) && supportsCountOver()) {
+        transformed = toCountOverSqlNode(sqlNode);
+      } else {
+        transformed = toCountCalculatingSqlNode(sqlNode);
+      }
     }
     long offset = SelectOptionsAccessor.getOffset(options);
     long limit = SelectOptionsAccessor.getLimit(options);
@@ -212,6 +229,11 @@ public class StandardDialect implements Dialect {
     return sqlNode;
   }
 
+  protected SqlNode toCountOverSqlNode(SqlNode sqlNode) {
+    StandardCountOverTransformer transformer = new StandardCountOverTransformer();
+    return transformer.transform(sqlNode);
+  }
+
   protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
     StandardPagingTransformer transformer = new StandardPagingTransformer(offset, limit);
     return transformer.transform(sqlNode);
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -46,6 +47,10 @@ public class DefaultPropertyType<ENTITY, BASIC, CONTAINER>
 
   protected final PropertyField<ENTITY> field;
 
+  protected final Function<ENTITY, Object> getter;
+
+  protected final BiConsumer<ENTITY, Object> setter;
+
   public DefaultPropertyType(
       Class<ENTITY> entityClass,
       Supplier<Scalar<BASIC, CONTAINER>> scalarSupplier,
@@ -55,6 +60,46 @@ public class DefaultPropertyType<ENTITY, BASIC, CONTAINER>
       boolean insertable,
       boolean updatable,
       boolean quoteRequired) {
+    this(
+        entityClass,
+        scalarSupplier,
+        name,
+        columnName,
+        namingType,
+        insertable,
+        updatable,
+        quoteRequired,
+        null,
+        null);
+  }
+
+  /**
+   * Creates an instance that accesses the field with the given functions.
+   *
+   * <p>If the getter or the setter is {@code null}, the field is accessed with reflection.
+   *
+   * @param entityClass the entity class
+   * @param scalarSupplier the scalar supplier
+   * @param name the property name
+   * @param columnName the column name
+   * @param namingType the naming convention
+   * @param insertable whether the property is insertable
+   * @param updatable whether the property is updatable
+   * @param quoteRequired whether the column name requires quotation
+   * @param getter the function that reads the field value from an entity
+   * @param setter the function that writes the field value to an entity
+   */
+  public DefaultPropertyType(
+      Class<ENTITY> entityClass,
+      Supplier<Scalar<BASIC, CONTAINER>> scalarSupplier,
+      String name,
+      String columnName,
+      NamingType namingType,
+      boolean insertable,
+      boolean updatable,
+      boolean quoteRequired,
+      Function<ENTITY, Object> getter,
+      BiConsumer<ENTITY, Object> setter) {
     if (entityClass == null) {
       throw new DomaNullPointerException("entityClass");
     }
@@ -78,6 +123,8 @@ public class DefaultPropertyType<ENTITY, BASIC, CONTAINER>
     this.updatable = updatable;
     this.quoteRequired = quoteRequired;
     this.field = new PropertyField<>(name, entityClass);
+    this.getter = getter != null ? getter : field::getValue;
+    this.setter = setter != null ? setter : field::setValue;
   }
 
   @Override
@@ -202,14 +249,14 @@ public class DefaultPropertyType<ENTITY, BASIC, CONTAINER>
 
     @Override
     public Property<ENTITY, BASIC> load(ENTITY entity) {
-      Object value = field.getValue(entity);
+      Object value = getter.apply(entity);
       scalar.set(scalar.cast(value));
       return this;
     }
 
     @Override
     public Property<ENTITY, BASIC> save(ENTITY entity) {
-      field.setValue(entity, scalar.get());
+      setter.accept(entity, scalar.get());
       return this;
     }
 
@@ -1,5 +1,6 @@
 package org.seasar.doma.jdbc.entity;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
@@ -156,6 +157,26 @@ public interface EntityType<ENTITY> {
    */
   ENTITY newEntity(Map<String, Property<ENTITY, ?>> __args);
 
+  /**
+   * Instantiate a new entity from the positional arguments.
+   *
+   * <p>The element at the index {@code i} corresponds to the {@code i}-th element of {@link
+   * #getEntityPropertyTypes()}. A {@code null} element means that the property has no value.
+   *
+   * @param __args the arguments
+   * @return an entity
+   */
+  default ENTITY newEntity(Property<ENTITY, ?>[] __args) {
+    List<EntityPropertyType<ENTITY, ?>> propertyTypes = getEntityPropertyTypes();
+    Map<String, Property<ENTITY, ?>> args = new HashMap<>(propertyTypes.size());
+    for (int i = 0; i < __args.length; i++) {
+      if (__args[i] != null) {
+        args.put(propertyTypes.get(i).getName(), __args[i]);
+      }
+    }
+    return newEntity(args);
+  }
+
   /**
    * Returns the entity class.
    *
@@ -178,6 +199,20 @@ public interface EntityType<ENTITY> {
    */
   ENTITY getOriginalStates(ENTITY entity);
 
+  /**
+   * Returns the snapshot of the original states.
+   *
+   * <p>The snapshot is available when the field annotated with {@link
+   * org.seasar.doma.OriginalStates} is declared as {@code Object[]}. The elements of the snapshot
+   * are the property values in the same order as {@link #getEntityPropertyTypes()}.
+   *
+   * @param entity the entity
+   * @return the snapshot or {@code null} if it does not exist
+   */
+  default Object[] getOriginalStatesSnapshot(ENTITY entity) {
+    return null;
+  }
+
   /**
    * Handles the entity before an insert.
    *
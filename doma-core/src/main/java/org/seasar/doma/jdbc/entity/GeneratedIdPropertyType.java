@@ -1,6 +1,9 @@
 package org.seasar.doma.jdbc.entity;
 
 import java.sql.Statement;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.GenerationType;
@@ -33,7 +36,39 @@ public class GeneratedIdPropertyType<ENTITY, BASIC extends Number, CONTAINER>
       NamingType namingType,
       boolean quoteRequired,
       IdGenerator idGenerator) {
-    super(entityClass, scalarSupplier, name, columnName, namingType, true, true, quoteRequired);
+    this(
+        entityClass,
+        scalarSupplier,
+        name,
+        columnName,
+        namingType,
+        quoteRequired,
+        idGenerator,
+        null,
+        null);
+  }
+
+  public GeneratedIdPropertyType(
+      Class<ENTITY> entityClass,
+      Supplier<Scalar<BASIC, CONTAINER>> scalarSupplier,
+      String name,
+      String columnName,
+      NamingType namingType,
+      boolean quoteRequired,
+      IdGenerator idGenerator,
+      Function<ENTITY, Object> getter,
+      BiConsumer<ENTITY, Object> setter) {
+    super(
+        entityClass,
+        scalarSupplier,
+        name,
+        columnName,
+        namingType,
+        true,
+        true,
+        quoteRequired,
+        getter,
+        setter);
     if (idGenerator == null) {
       throw new DomaNullPointerException("idGenerator");
     }
@@ -91,6 +126,21 @@ public class GeneratedIdPropertyType<ENTITY, BASIC extends Number, CONTAINER>
         entityType, entity, () -> idGenerator.generatePostInsert(config, statement));
   }
 
+  public void postBatchInsert(
+      EntityType<ENTITY> entityType,
+      List<ENTITY> entities,
+      IdGenerationConfig config,
+      Statement statement) {
+    List<Long> values = idGenerator.generatePostBatchInsert(config, statement, entities.size());
+    if (values.isEmpty()) {
+      return;
+    }
+    for (int i = 0; i < entities.size(); i++) {
+      Long value = values.get(i);
+      entities.set(i, setIfNecessary(entityType, entities.get(i), () -> value));
+    }
+  }
+
   protected ENTITY setIfNecessary(
       EntityType<ENTITY> entityType, ENTITY entity, Supplier<Long> supplier) {
     return modifyIfNecessary(entityType, entity, new ValueSetter(), supplier);
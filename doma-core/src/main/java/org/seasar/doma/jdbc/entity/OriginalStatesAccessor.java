@@ -1,6 +1,7 @@
 package org.seasar.doma.jdbc.entity;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.OriginalStates;
 import org.seasar.doma.internal.WrapException;
@@ -76,6 +77,49 @@ public class OriginalStatesAccessor<E> {
     }
   }
 
+  /**
+   * Retrieves the snapshot of the original states from the entity.
+   *
+   * @param entity the entity
+   * @return the snapshot
+   */
+  public Object[] getSnapshot(E entity) {
+    if (entity == null) {
+      throw new DomaNullPointerException("entity");
+    }
+    try {
+      return (Object[]) FieldUtil.get(field, entity);
+    } catch (WrapException wrapException) {
+      throw new OriginalStatesAccessException(
+          wrapException.getCause(), entityClass.getName(), name);
+    }
+  }
+
+  /**
+   * Saves the snapshot of the current property values to the entity.
+   *
+   * @param entity the entity
+   * @param propertyTypes the entity property types
+   */
+  public void saveSnapshot(E entity, List<EntityPropertyType<E, ?>> propertyTypes) {
+    if (entity == null) {
+      throw new DomaNullPointerException("entity");
+    }
+    if (propertyTypes == null) {
+      throw new DomaNullPointerException("propertyTypes");
+    }
+    Object[] snapshot = new Object[propertyTypes.size()];
+    for (int i = 0; i < snapshot.length; i++) {
+      snapshot[i] = propertyTypes.get(i).createProperty().load(entity).getWrapper().getCopy();
+    }
+    try {
+      FieldUtil.set(field, entity, snapshot);
+    } catch (WrapException wrapException) {
+      throw new OriginalStatesAccessException(
+          wrapException.getCause(), entityClass.getName(), name);
+    }
+  }
+
   /**
    * Set the original states to the entity.
    *
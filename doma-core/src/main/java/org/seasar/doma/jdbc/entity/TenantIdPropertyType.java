@@ -1,5 +1,7 @@
 package org.seasar.doma.jdbc.entity;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.seasar.doma.internal.jdbc.scalar.Scalar;
 
@@ -20,7 +22,29 @@ public class TenantIdPropertyType<ENTITY, BASIC, CONTAINER>
       String columnName,
       NamingType namingType,
       boolean quoteRequired) {
-    super(entityClass, scalarSupplier, name, columnName, namingType, true, true, quoteRequired);
+    this(entityClass, scalarSupplier, name, columnName, namingType, quoteRequired, null, null);
+  }
+
+  public TenantIdPropertyType(
+      Class<ENTITY> entityClass,
+      Supplier<Scalar<BASIC, CONTAINER>> scalarSupplier,
+      String name,
+      String columnName,
+      NamingType namingType,
+      boolean quoteRequired,
+      Function<ENTITY, Object> getter,
+      BiConsumer<ENTITY, Object> setter) {
+    super(
+        entityClass,
+        scalarSupplier,
+        name,
+        columnName,
+        namingType,
+        true,
+        true,
+        quoteRequired,
+        getter,
+        setter);
   }
 
   @Override
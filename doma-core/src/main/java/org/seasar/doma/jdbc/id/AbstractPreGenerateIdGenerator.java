@@ -3,6 +3,8 @@ package org.seasar.doma.jdbc.id;
 import java.sql.Statement;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import org.seasar.doma.jdbc.JdbcException;
 
 /** A generator that generates an identity value before an execution of insert. */
@@ -12,6 +14,8 @@ public abstract class AbstractPreGenerateIdGenerator extends AbstractIdGenerator
 
   protected long allocationSize;
 
+  protected long prefetchThreshold;
+
   // the keys are data source names and the values are identity contexts
   protected ConcurrentMap<String, IdContext> idContextMap =
       new ConcurrentHashMap<String, IdContext>();
@@ -34,6 +38,23 @@ public abstract class AbstractPreGenerateIdGenerator extends AbstractIdGenerator
     this.allocationSize = allocationSize;
   }
 
+  /**
+   * Sets the number of the remaining values in the current block at which the next block is
+   * fetched.
+   *
+   * <p>When a block is consumed down to this number, the thread that takes the value fetches the
+   * next block while the other threads keep taking the remaining values. The fetch is synchronous:
+   * it runs on that thread, in its transaction, and the thread holds the lock of the {@link
+   * IdContext} during the database access. Only the threads that exhaust the current block before
+   * the fetch completes wait for the lock. If the value is less than 1, the next block is fetched
+   * when the current block is exhausted.
+   *
+   * @param prefetchThreshold the prefetch threshold
+   */
+  public void setPrefetchThreshold(long prefetchThreshold) {
+    this.prefetchThreshold = prefetchThreshold;
+  }
+
   @Override
   public boolean supportsBatch(IdGenerationConfig config) {
     return true;
@@ -92,13 +113,18 @@ public abstract class AbstractPreGenerateIdGenerator extends AbstractIdGenerator
   /**
    * A context for identity values.
    *
-   * <p>This object increments identity value and holds it.
+   * <p>This object hands out the identity values of the current block without locking. Only the
+   * thread that fetches a new block from the database holds the lock of this object, and it holds
+   * the lock until the database access completes. The lock is a {@link ReentrantLock} so that a
+   * virtual thread waiting for the database does not pin its carrier thread.
    */
   public class IdContext {
 
-    protected long initValue = AbstractPreGenerateIdGenerator.this.initialValue;
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    protected volatile IdBlock current = new IdBlock(initialValue, 0);
 
-    protected long allocated = Long.MAX_VALUE;
+    protected IdBlock next;
 
     /**
      * Returns the next identity value.
@@ -107,13 +133,71 @@ public abstract class AbstractPreGenerateIdGenerator extends AbstractIdGenerator
      * @return the next identity value
      * @throws JdbcException if the identity generation is failed
      */
-    public synchronized long getNextValue(IdGenerationConfig config) {
-      if (allocated < allocationSize) {
-        return initValue + allocated++;
+    public long getNextValue(IdGenerationConfig config) {
+      for (; ; ) {
+        IdBlock block = current;
+        long index = block.counter.getAndIncrement();
+        if (index < block.size) {
+          if (prefetchThreshold > 0 && block.size - index == prefetchThreshold + 1) {
+            prefetch(config);
+          }
+          return block.initialValue + index;
+        }
+        replace(block, config);
+      }
+    }
+
+    protected void prefetch(IdGenerationConfig config) {
+      lock.lock();
+      try {
+        if (next != null) {
+          return;
+        }
+        try {
+          next = newBlock(config);
+        } catch (RuntimeException e) {
+          // the next block is fetched again when the current block is exhausted
+          config
+              .getJdbcLogger()
+              .logIdPrefetchFailure(
+                  AbstractPreGenerateIdGenerator.this.getClass().getName(), "prefetch", e);
+        }
+      } finally {
+        lock.unlock();
       }
-      initValue = getNewInitialValue(config);
-      allocated = 1;
-      return initValue;
+    }
+
+    protected void replace(IdBlock exhausted, IdGenerationConfig config) {
+      lock.lock();
+      try {
+        if (current != exhausted) {
+          return;
+        }
+        IdBlock block = next;
+        next = null;
+        current = block != null ? block : newBlock(config);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    protected IdBlock newBlock(IdGenerationConfig config) {
+      return new IdBlock(getNewInitialValue(config), Math.max(allocationSize, 1));
+    }
+  }
+
+  /** A block of identity values that are allocated by one database access. */
+  protected static class IdBlock {
+
+    protected final long initialValue;
+
+    protected final long size;
+
+    protected final AtomicLong counter = new AtomicLong();
+
+    protected IdBlock(long initialValue, long size) {
+      this.initialValue = initialValue;
+      this.size = size;
     }
   }
 }
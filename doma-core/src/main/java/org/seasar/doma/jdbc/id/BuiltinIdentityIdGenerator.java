@@ -3,10 +3,15 @@ package org.seasar.doma.jdbc.id;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.seasar.doma.GenerationType;
+import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.Naming;
 import org.seasar.doma.jdbc.Sql;
+import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.entity.EntityType;
 import org.seasar.doma.message.Message;
 
@@ -15,7 +20,12 @@ public class BuiltinIdentityIdGenerator extends AbstractIdGenerator implements I
 
   @Override
   public boolean supportsBatch(IdGenerationConfig config) {
-    return config.getIdProvider().isAvailable();
+    if (config.getIdProvider().isAvailable()) {
+      return true;
+    }
+    Dialect dialect = config.getDialect();
+    return dialect.supportsAutoGeneratedKeys()
+        && dialect.supportsBatchExecutionReturningGeneratedValues();
   }
 
   @Override
@@ -54,6 +64,46 @@ public class BuiltinIdentityIdGenerator extends AbstractIdGenerator implements I
     return getGeneratedValue(config);
   }
 
+  @Override
+  public List<Long> generatePostBatchInsert(
+      IdGenerationConfig config, Statement statement, int size) {
+    if (config.getIdProvider().isAvailable()) {
+      return Collections.emptyList();
+    }
+    return getGeneratedValues(config, statement, size);
+  }
+
+  /**
+   * Retrieves the generated values of the batch insert by using {@link
+   * Statement#getGeneratedKeys()}.
+   *
+   * @param config the configuration
+   * @param statement the SQL INSERT statement
+   * @param size the number of the inserted rows
+   * @return the generated values
+   * @throws JdbcException if the generation is failed
+   */
+  protected List<Long> getGeneratedValues(
+      IdGenerationConfig config, Statement statement, int size) {
+    List<Long> values = new ArrayList<>(size);
+    try {
+      ResultSet resultSet = statement.getGeneratedKeys();
+      try {
+        while (resultSet.next()) {
+          values.add(resultSet.getLong(1));
+        }
+      } finally {
+        JdbcUtil.close(resultSet, config.getJdbcLogger());
+      }
+    } catch (final SQLException e) {
+      throw new JdbcException(Message.DOMA2018, e, config.getEntityType().getName(), e);
+    }
+    if (values.size() < size) {
+      throw new JdbcException(Message.DOMA2017, config.getEntityType().getName());
+    }
+    return values;
+  }
+
   /**
    * Retrieves the generated value by using {@link Statement#getGeneratedKeys()}.
    *
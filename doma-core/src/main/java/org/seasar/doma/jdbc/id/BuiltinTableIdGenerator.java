@@ -76,7 +76,7 @@ public class BuiltinTableIdGenerator extends AbstractPreGenerateIdGenerator
         new PreparedSql(
             SqlKind.UPDATE,
             createUpdateRawSql(),
-            createUpdateFormattedSql(),
+            this::createUpdateFormattedSql,
             null,
             Arrays.asList(
                 new BasicInParameter<Long>(() -> allocationSizeWrapper),
@@ -86,7 +86,7 @@ public class BuiltinTableIdGenerator extends AbstractPreGenerateIdGenerator
         new PreparedSql(
             SqlKind.SELECT,
             createSelectRawSql(),
-            createSelectFormattedSql(),
+            this::createSelectFormattedSql,
             null,
             Arrays.asList(new BasicInParameter<String>(() -> pkColumnValueWrapper)),
             SqlLogType.FORMATTED);
@@ -1,6 +1,8 @@
 package org.seasar.doma.jdbc.id;
 
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
 import org.seasar.doma.GenerationType;
 import org.seasar.doma.jdbc.JdbcException;
 
@@ -59,6 +61,24 @@ public interface IdGenerator {
    */
   Long generatePostInsert(IdGenerationConfig config, Statement statement);
 
+  /**
+   * Generates the identity values after a batch insert.
+   *
+   * <p>This method is invoked, only if both {@link #supportsBatch(IdGenerationConfig)} and {@link
+   * #supportsAutoGeneratedKeys(IdGenerationConfig)} return {@code true}.
+   *
+   * @param config the configuration
+   * @param statement the SQL INSERT statement that is executed by {@link Statement#executeBatch()}
+   * @param size the number of the inserted rows
+   * @return the generated values in the order of the inserted rows or an empty list if not
+   *     supported
+   * @throws JdbcException if the generation is failed
+   */
+  default List<Long> generatePostBatchInsert(
+      IdGenerationConfig config, Statement statement, int size) {
+    return Collections.emptyList();
+  }
+
   /**
    * Returns the generation type.
    *
@@ -26,6 +26,16 @@ public interface SequenceIdGenerator extends IdGenerator {
    */
   void setAllocationSize(long allocationSize);
 
+  /**
+   * Sets the number of the remaining values in the current block at which the next block is
+   * fetched.
+   *
+   * <p>The generators that do not allocate the values in blocks ignore this value.
+   *
+   * @param prefetchThreshold the prefetch threshold
+   */
+  default void setPrefetchThreshold(long prefetchThreshold) {}
+
   /**
    * Initializes this generator.
    *
@@ -12,6 +12,7 @@ import org.seasar.doma.FetchType;
 import org.seasar.doma.internal.expr.ExpressionEvaluator;
 import org.seasar.doma.internal.expr.Value;
 import org.seasar.doma.internal.jdbc.command.BasicSingleResultHandler;
+import org.seasar.doma.internal.jdbc.dialect.StandardPagingTransformer;
 import org.seasar.doma.internal.jdbc.sql.node.ExpandNode;
 import org.seasar.doma.internal.jdbc.sql.node.SqlLocation;
 import org.seasar.doma.jdbc.JdbcException;
@@ -62,6 +63,9 @@ public abstract class AbstractSelectQuery extends AbstractQuery implements Selec
   }
 
   protected void prepareOptions() {
+    if (options != null && SelectOptionsAccessor.isCountOver(options)) {
+      SelectOptionsAccessor.setCountSize(options, -1);
+    }
     if (fetchSize <= 0) {
       fetchSize = config.getFetchSize();
     }
@@ -79,10 +83,31 @@ public abstract class AbstractSelectQuery extends AbstractQuery implements Selec
       BiFunction<ExpressionEvaluator, Function<ExpandNode, List<String>>, PreparedSql> sqlBuilder) {
     ExpressionEvaluator evaluator =
         new ExpressionEvaluator(
-            parameters, config.getDialect().getExpressionFunctions(), config.getClassHelper());
+            createEvaluationParameters(),
+            config.getDialect().getExpressionFunctions(),
+            config.getClassHelper());
     sql = sqlBuilder.apply(evaluator, this::expandColumns);
   }
 
+  /**
+   * Creates the parameters to evaluate the SQL node.
+   *
+   * <p>The offset and the limit are added as the variables that the paging SQL nodes refer to.
+   *
+   * @return the parameters
+   * @see Dialect#supportsPagingVariables()
+   */
+  protected Map<String, Value> createEvaluationParameters() {
+    long offset = SelectOptionsAccessor.getOffset(options);
+    long limit = SelectOptionsAccessor.getLimit(options);
+    if (offset < 0 && limit < 0) {
+      return parameters;
+    }
+    Map<String, Value> result = new HashMap<>(parameters);
+    result.putAll(StandardPagingTransformer.createVariableValues(offset, limit));
+    return result;
+  }
+
   protected List<String> expandColumns(ExpandNode node) {
     if (entityType == null) {
       SqlLocation location = node.getLocation();
@@ -96,6 +121,22 @@ public abstract class AbstractSelectQuery extends AbstractQuery implements Selec
         .collect(Collectors.toList());
   }
 
+  /**
+   * Counts all rows if the count is not retrieved with the window function.
+   *
+   * @param sqlNode the SQL node that is not transformed
+   */
+  protected void completeCount(SqlNode sqlNode) {
+    if (!SelectOptionsAccessor.isCount(options)) {
+      return;
+    }
+    if (SelectOptionsAccessor.isCountOver(options)
+        && SelectOptionsAccessor.getCountSize(options) >= 0) {
+      return;
+    }
+    executeCount(sqlNode);
+  }
+
   protected void executeCount(SqlNode sqlNode) {
     CountQuery query = new CountQuery();
     query.setCallerClassName(callerClassName);
@@ -48,13 +48,18 @@ public class AutoBatchDeleteQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
     entities.set(0, currentEntity);
     for (ListIterator<ENTITY> it = entities.listIterator(1); it.hasNext(); ) {
       currentEntity = it.next();
-      preDelete();
-      prepareSql();
+      prepareEntity();
       it.set(currentEntity);
     }
     assertEquals(size, sqls.size());
   }
 
+  @Override
+  protected void prepareEntity() {
+    preDelete();
+    prepareSql();
+  }
+
   protected void preDelete() {
     AutoBatchPreDeleteContext<ENTITY> context =
         new AutoBatchPreDeleteContext<ENTITY>(entityType, method, config);
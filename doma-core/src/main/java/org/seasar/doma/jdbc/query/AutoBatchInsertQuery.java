@@ -33,6 +33,12 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
 
   protected boolean batchSupported = true;
 
+  protected boolean multiRow;
+
+  protected boolean multiRowEnabled;
+
+  protected int rowsPerStatement = 1;
+
   public AutoBatchInsertQuery(EntityType<ENTITY> entityType) {
     super(entityType);
   }
@@ -52,20 +58,47 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
     prepareIdAndVersionPropertyTypes();
     prepareOptions();
     prepareTargetPropertyTypes();
+    prepareMultiRow();
     prepareIdValue();
     prepareVersionValue();
-    prepareSql();
+    if (!multiRowEnabled) {
+      prepareSql();
+    }
     entities.set(0, currentEntity);
     for (ListIterator<ENTITY> it = entities.listIterator(1); it.hasNext(); ) {
       currentEntity = it.next();
-      preInsert();
-      prepareIdValue();
-      prepareVersionValue();
-      prepareSql();
+      prepareEntity();
       it.set(currentEntity);
     }
     currentEntity = null;
-    assertEquals(entities.size(), sqls.size());
+    if (multiRowEnabled) {
+      prepareMultiRowSqls();
+    } else {
+      assertEquals(entities.size(), sqls.size());
+    }
+  }
+
+  @Override
+  protected void prepareChunk() {
+    if (generatedIdPropertyType != null) {
+      idGenerationConfig =
+          new IdGenerationConfig(
+              config, entityType, new ReservedIdProvider(config, entityType, entities.size()));
+    }
+    super.prepareChunk();
+    if (multiRowEnabled) {
+      prepareMultiRowSqls();
+    }
+  }
+
+  @Override
+  protected void prepareEntity() {
+    preInsert();
+    prepareIdValue();
+    prepareVersionValue();
+    if (!multiRowEnabled) {
+      prepareSql();
+    }
   }
 
   protected void preInsert() {
@@ -121,6 +154,20 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
     }
   }
 
+  protected void prepareMultiRow() {
+    Dialect dialect = config.getDialect();
+    multiRowEnabled =
+        multiRow
+            && batchSupported
+            && !autoGeneratedKeysSupported
+            && dialect.supportsMultiRowInsertStatement();
+    if (multiRowEnabled) {
+      int rows = batchSize > 0 ? batchSize : entities.size();
+      int maxRows = dialect.getMaxMultiRowInsertRows(targetPropertyTypes.size());
+      rowsPerStatement = Math.max(Math.min(rows, maxRows), 1);
+    }
+  }
+
   protected void prepareIdValue() {
     if (generatedIdPropertyType != null && idGenerationConfig != null) {
       ENTITY newEntity =
@@ -136,9 +183,32 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
   }
 
   protected void prepareSql() {
+    PreparedSqlBuilder builder = new PreparedSqlBuilder(config, SqlKind.BATCH_INSERT, sqlLogType);
+    appendInsertInto(builder);
+    appendRowValue(builder, currentEntity);
+    PreparedSql sql = builder.build(this::comment);
+    sqls.add(sql);
+  }
+
+  protected void prepareMultiRowSqls() {
+    int size = entities.size();
+    for (int from = 0; from < size; from += rowsPerStatement) {
+      int to = Math.min(from + rowsPerStatement, size);
+      PreparedSqlBuilder builder = new PreparedSqlBuilder(config, SqlKind.BATCH_INSERT, sqlLogType);
+      appendInsertInto(builder);
+      for (ENTITY entity : entities.subList(from, to)) {
+        appendRowValue(builder, entity);
+        builder.appendSql(", ");
+      }
+      builder.cutBackSql(2);
+      PreparedSql sql = builder.build(this::comment);
+      sqls.add(sql);
+    }
+  }
+
+  protected void appendInsertInto(PreparedSqlBuilder builder) {
     Naming naming = config.getNaming();
     Dialect dialect = config.getDialect();
-    PreparedSqlBuilder builder = new PreparedSqlBuilder(config, SqlKind.BATCH_INSERT, sqlLogType);
     builder.appendSql("insert into ");
     builder.appendSql(entityType.getQualifiedTableName(naming::apply, dialect::applyQuote));
     builder.appendSql(" (");
@@ -147,17 +217,19 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
       builder.appendSql(", ");
     }
     builder.cutBackSql(2);
-    builder.appendSql(") values (");
+    builder.appendSql(") values ");
+  }
+
+  protected void appendRowValue(PreparedSqlBuilder builder, ENTITY entity) {
+    builder.appendSql("(");
     for (EntityPropertyType<ENTITY, ?> propertyType : targetPropertyTypes) {
       Property<ENTITY, ?> property = propertyType.createProperty();
-      property.load(currentEntity);
+      property.load(entity);
       builder.appendParameter(property.asInParameter());
       builder.appendSql(", ");
     }
     builder.cutBackSql(2);
     builder.appendSql(")");
-    PreparedSql sql = builder.build(this::comment);
-    sqls.add(sql);
   }
 
   @Override
@@ -165,6 +237,31 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
     return batchSupported;
   }
 
+  @Override
+  public boolean isMultiRow() {
+    return multiRowEnabled;
+  }
+
+  @Override
+  public int getRowCount(PreparedSql sql) {
+    if (!multiRowEnabled) {
+      return 1;
+    }
+    return sql.getParameters().size() / Math.max(targetPropertyTypes.size(), 1);
+  }
+
+  /**
+   * Sets whether to insert multiple rows with one statement.
+   *
+   * <p>This value is ignored when the dialect does not support multi-row INSERT statements or when
+   * the identities must be retrieved row by row.
+   *
+   * @param multiRow whether to insert multiple rows with one statement
+   */
+  public void setMultiRow(boolean multiRow) {
+    this.multiRow = multiRow;
+  }
+
   @Override
   public void generateId(Statement statement, int index) {
     if (generatedIdPropertyType != null && idGenerationConfig != null) {
@@ -175,6 +272,17 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
     }
   }
 
+  @Override
+  public void generateIds(Statement statement, int index, int size) {
+    if (generatedIdPropertyType != null
+        && idGenerationConfig != null
+        && batchSupported
+        && autoGeneratedKeysSupported) {
+      generatedIdPropertyType.postBatchInsert(
+          entityType, entities.subList(index, index + size), idGenerationConfig, statement);
+    }
+  }
+
   @Override
   public void complete() {
     for (ListIterator<ENTITY> it = entities.listIterator(); it.hasNext(); ) {
@@ -4,7 +4,10 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.stream.Stream;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.SqlExecutionSkipCause;
@@ -47,6 +50,8 @@ public abstract class AutoBatchModifyQuery<ENTITY> extends AbstractQuery
 
   protected List<ENTITY> entities;
 
+  protected Iterator<ENTITY> remainingEntities;
+
   protected ENTITY currentEntity;
 
   protected int batchSize;
@@ -58,6 +63,14 @@ public abstract class AutoBatchModifyQuery<ENTITY> extends AbstractQuery
     this.entityType = entityType;
   }
 
+  @Override
+  public void prepare() {
+    super.prepare();
+    if (remainingEntities != null) {
+      fetchNextChunk();
+    }
+  }
+
   protected void prepareIdAndVersionPropertyTypes() {
     idPropertyTypes = entityType.getIdPropertyTypes();
     versionPropertyType = entityType.getVersionPropertyType();
@@ -117,10 +130,78 @@ public abstract class AutoBatchModifyQuery<ENTITY> extends AbstractQuery
     this.sqls = new ArrayList<PreparedSql>(this.entities.size());
   }
 
+  /**
+   * Sets the entities that are prepared and executed chunk by chunk.
+   *
+   * <p>Only the entities of one chunk, whose size is the batch size, are held at a time. {@link
+   * #getEntities()} returns the entities of the current chunk, so this mode cannot be used to build
+   * a {@link org.seasar.doma.jdbc.BatchResult}. The command returns the update counts of all the
+   * chunks.
+   *
+   * <p>This mode is enabled by the {@code streaming} element of {@link
+   * org.seasar.doma.BatchInsert}, {@link org.seasar.doma.BatchUpdate} and {@link
+   * org.seasar.doma.BatchDelete}.
+   *
+   * @param entities the entities
+   */
+  public void setStreamingEntities(Iterable<ENTITY> entities) {
+    assertNotNull(entities);
+    setStreamingEntities(entities.iterator());
+  }
+
+  /**
+   * Sets the entities that are prepared and executed chunk by chunk.
+   *
+   * @param entities the entities
+   * @see #setStreamingEntities(Iterable)
+   */
+  public void setStreamingEntities(Stream<ENTITY> entities) {
+    assertNotNull(entities);
+    setStreamingEntities(entities.iterator());
+  }
+
+  protected void setStreamingEntities(Iterator<ENTITY> entities) {
+    this.remainingEntities = entities;
+    this.entities = new ArrayList<ENTITY>();
+    this.sqls = new ArrayList<PreparedSql>();
+  }
+
   public List<ENTITY> getEntities() {
     return entities;
   }
 
+  protected void fetchNextChunk() {
+    entities.clear();
+    sqls.clear();
+    int chunkSize = batchSize > 0 ? batchSize : Math.max(config.getBatchSize(), 1);
+    while (entities.size() < chunkSize && remainingEntities.hasNext()) {
+      entities.add(remainingEntities.next());
+    }
+  }
+
+  @Override
+  public boolean prepareNextChunk() {
+    if (remainingEntities == null || !remainingEntities.hasNext()) {
+      return false;
+    }
+    complete();
+    fetchNextChunk();
+    prepareChunk();
+    return true;
+  }
+
+  protected void prepareChunk() {
+    for (ListIterator<ENTITY> it = entities.listIterator(); it.hasNext(); ) {
+      currentEntity = it.next();
+      prepareEntity();
+      it.set(currentEntity);
+    }
+    currentEntity = null;
+  }
+
+  /** Prepares the current entity after the property types and the options are prepared. */
+  protected abstract void prepareEntity();
+
   public void setBatchSize(int batchSize) {
     this.batchSize = batchSize;
   }
@@ -52,8 +52,7 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
     entities.set(0, currentEntity);
     for (ListIterator<ENTITY> it = entities.listIterator(1); it.hasNext(); ) {
       currentEntity = it.next();
-      preUpdate();
-      prepareSql();
+      prepareEntity();
       it.set(currentEntity);
     }
     assertEquals(entities.size(), sqls.size());
@@ -70,6 +69,12 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
             optimisticLockExceptionSuppressed);
   }
 
+  @Override
+  protected void prepareEntity() {
+    preUpdate();
+    prepareSql();
+  }
+
   protected void preUpdate() {
     AutoBatchPreUpdateContext<ENTITY> context =
         new AutoBatchPreUpdateContext<ENTITY>(entityType, method, config);
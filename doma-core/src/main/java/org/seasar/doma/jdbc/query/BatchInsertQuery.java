@@ -1,10 +1,39 @@
 package org.seasar.doma.jdbc.query;
 
 import java.sql.Statement;
+import org.seasar.doma.jdbc.PreparedSql;
 
 public interface BatchInsertQuery extends BatchModifyQuery {
 
   boolean isBatchSupported();
 
   void generateId(Statement statement, int index);
+
+  /**
+   * Generates the identities after {@link Statement#executeBatch()}.
+   *
+   * @param statement the statement
+   * @param index the index of the first SQL in the executed batch
+   * @param size the number of the SQLs in the executed batch
+   */
+  default void generateIds(Statement statement, int index, int size) {}
+
+  /**
+   * Whether each SQL inserts multiple rows with a multi-row VALUES clause.
+   *
+   * @return {@code true} if each SQL inserts multiple rows
+   */
+  default boolean isMultiRow() {
+    return false;
+  }
+
+  /**
+   * Returns the number of rows that the SQL inserts.
+   *
+   * @param sql the SQL that is returned by {@link #getSqls()}
+   * @return the number of rows
+   */
+  default int getRowCount(PreparedSql sql) {
+    return 1;
+  }
 }
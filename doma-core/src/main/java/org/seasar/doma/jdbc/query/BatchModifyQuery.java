@@ -23,4 +23,16 @@ public interface BatchModifyQuery extends Query {
   int getBatchSize();
 
   SqlLogType getSqlLogType();
+
+  /**
+   * Prepares the next chunk of the batch when the query prepares the batch chunk by chunk.
+   *
+   * <p>The query completes the current chunk and replaces the SQLs returned by {@link #getSqls()}
+   * with the SQLs of the next chunk.
+   *
+   * @return {@code true} if the next chunk is prepared
+   */
+  default boolean prepareNextChunk() {
+    return false;
+  }
 }
@@ -2,11 +2,14 @@ package org.seasar.doma.jdbc.query;
 
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
+import java.util.Arrays;
 import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.jdbc.SelectOptions;
 import org.seasar.doma.jdbc.SelectOptionsAccessor;
 import org.seasar.doma.jdbc.SqlFile;
 import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.jdbc.dialect.Dialect;
 
 public class SqlFileSelectQuery extends AbstractSelectQuery {
 
@@ -23,7 +26,9 @@ public class SqlFileSelectQuery extends AbstractSelectQuery {
   protected void prepareSql() {
     sqlFile = config.getSqlFileRepository().getSqlFile(method, sqlFilePath, config.getDialect());
     SqlNode transformedSqlNode =
-        config.getDialect().transformSelectSqlNode(sqlFile.getSqlNode(), options);
+        sqlFile.getTransformedSqlNode(
+            createTransformationKey(options),
+            sqlNode -> config.getDialect().transformSelectSqlNode(sqlNode, options));
     buildSql(
         (evaluator, expander) -> {
           NodePreparedSqlBuilder sqlBuilder =
@@ -33,11 +38,39 @@ public class SqlFileSelectQuery extends AbstractSelectQuery {
         });
   }
 
+  /**
+   * Creates the key of the transformed SQL node.
+   *
+   * <p>If the dialect supports the paging variables, only the signs of the offset and the limit are
+   * included because the transformed SQL node binds their values as parameters. Otherwise, the
+   * offset and the limit themselves are included. The number of the keys per SQL file is bounded by
+   * {@link org.seasar.doma.jdbc.SqlFile#getTransformedSqlNode}.
+   *
+   * @param options the options
+   * @return the key
+   */
+  protected Object createTransformationKey(SelectOptions options) {
+    Dialect dialect = config.getDialect();
+    long offset = SelectOptionsAccessor.getOffset(options);
+    long limit = SelectOptionsAccessor.getLimit(options);
+    if (dialect.supportsPagingVariables()) {
+      offset = Long.signum(offset);
+      limit = Long.signum(limit);
+    }
+    return Arrays.asList(
+        dialect,
+        SelectOptionsAccessor.isCount(options),
+        SelectOptionsAccessor.isCountOver(options),
+        offset,
+        limit,
+        SelectOptionsAccessor.getForUpdateType(options),
+        SelectOptionsAccessor.getWaitSeconds(options),
+        Arrays.asList(SelectOptionsAccessor.getAliases(options)));
+  }
+
   @Override
   public void complete() {
-    if (SelectOptionsAccessor.isCount(options)) {
-      executeCount(sqlFile.getSqlNode());
-    }
+    completeCount(sqlFile.getSqlNode());
   }
 
   public void setSqlFilePath(String sqlFilePath) {
@@ -50,10 +50,13 @@ public class UpdateQueryHelper<E> {
   }
 
   public List<EntityPropertyType<E, ?>> getTargetPropertyTypes(E entity) {
-    int capacity = entityType.getEntityPropertyTypes().size();
-    List<EntityPropertyType<E, ?>> results = new ArrayList<>(capacity);
+    List<EntityPropertyType<E, ?>> propertyTypes = entityType.getEntityPropertyTypes();
+    List<EntityPropertyType<E, ?>> results = new ArrayList<>(propertyTypes.size());
     E originalStates = entityType.getOriginalStates(entity);
-    for (EntityPropertyType<E, ?> propertyType : entityType.getEntityPropertyTypes()) {
+    Object[] snapshot =
+        originalStates == null ? entityType.getOriginalStatesSnapshot(entity) : null;
+    for (int i = 0; i < propertyTypes.size(); i++) {
+      EntityPropertyType<E, ?> propertyType = propertyTypes.get(i);
       if (!propertyType.isUpdatable()) {
         continue;
       }
@@ -73,9 +76,17 @@ public class UpdateQueryHelper<E> {
           continue;
         }
       }
-      if (unchangedPropertyIncluded
-          || originalStates == null
-          || isChanged(entity, originalStates, propertyType)) {
+      boolean changed;
+      if (unchangedPropertyIncluded) {
+        changed = true;
+      } else if (originalStates != null) {
+        changed = isChanged(entity, originalStates, propertyType);
+      } else if (snapshot != null) {
+        changed = isChanged(entity, snapshot, i, propertyType);
+      } else {
+        changed = true;
+      }
+      if (changed) {
         String name = propertyType.getName();
         if (!isTargetPropertyName(name)) {
           continue;
@@ -117,6 +128,12 @@ public class UpdateQueryHelper<E> {
     return !wrapper.hasEqualValue(originalWrapper.get());
   }
 
+  protected boolean isChanged(
+      E entity, Object[] snapshot, int index, EntityPropertyType<E, ?> propertyType) {
+    Wrapper<?> wrapper = propertyType.createProperty().load(entity).getWrapper();
+    return !wrapper.hasEqualValue(snapshot[index]);
+  }
+
   public void populateValues(
       E entity,
       List<EntityPropertyType<E, ?>> targetPropertyTypes,
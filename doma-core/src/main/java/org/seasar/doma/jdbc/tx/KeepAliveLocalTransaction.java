@@ -73,6 +73,53 @@ public class KeepAliveLocalTransaction extends LocalTransaction {
     super(dataSource, localTxContextHolder, jdbcLogger, defaultTransactionIsolationLevel);
   }
 
+  /**
+   * Creates an instance with the specified transaction isolation level and the prepared statement
+   * cache size.
+   *
+   * @param dataSource the data source
+   * @param localTxContextHolder the holder of the transaction context
+   * @param jdbcLogger the logger
+   * @param defaultTransactionIsolationLevel the default transaction isolation level
+   * @param statementCacheSize the maximum number of the cached prepared statements
+   */
+  protected KeepAliveLocalTransaction(
+      DataSource dataSource,
+      ThreadLocal<LocalTransactionContext> localTxContextHolder,
+      JdbcLogger jdbcLogger,
+      TransactionIsolationLevel defaultTransactionIsolationLevel,
+      int statementCacheSize) {
+    super(
+        dataSource,
+        localTxContextHolder,
+        jdbcLogger,
+        defaultTransactionIsolationLevel,
+        statementCacheSize);
+  }
+
+  /**
+   * Creates an instance with the specified holder of the transaction context.
+   *
+   * @param dataSource the data source
+   * @param localTxContextHolder the holder of the transaction context
+   * @param jdbcLogger the logger
+   * @param defaultTransactionIsolationLevel the default transaction isolation level
+   * @param statementCacheSize the maximum number of the cached prepared statements
+   */
+  protected KeepAliveLocalTransaction(
+      DataSource dataSource,
+      LocalTransactionContextHolder localTxContextHolder,
+      JdbcLogger jdbcLogger,
+      TransactionIsolationLevel defaultTransactionIsolationLevel,
+      int statementCacheSize) {
+    super(
+        dataSource,
+        localTxContextHolder,
+        jdbcLogger,
+        defaultTransactionIsolationLevel,
+        statementCacheSize);
+  }
+
   /**
    * Initializes a transaction context.
    *
@@ -89,7 +136,7 @@ public class KeepAliveLocalTransaction extends LocalTransaction {
 
   @Override
   protected LocalTransactionContext getLocalTransactionContext() {
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (context != null) {
       return context;
     }
@@ -104,7 +151,7 @@ public class KeepAliveLocalTransaction extends LocalTransaction {
    * <p>This method does not throw any exceptions.
    */
   public void destroy() {
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (context == null) {
       return;
     }
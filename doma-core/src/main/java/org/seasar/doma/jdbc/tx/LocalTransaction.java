@@ -64,7 +64,16 @@ public class LocalTransaction {
 
   protected final DataSource dataSource;
 
-  protected final ThreadLocal<LocalTransactionContext> localTxContextHolder;
+  /**
+   * The thread local variable that holds the context, or {@code null} if the context is not held by
+   * {@link ThreadLocalTransactionContextHolder}.
+   *
+   * @deprecated Use {@link #txContextHolder}
+   */
+  @Deprecated protected final ThreadLocal<LocalTransactionContext> localTxContextHolder;
+
+  /** the holder of the transaction context */
+  protected final LocalTransactionContextHolder txContextHolder;
 
   protected final JdbcLogger jdbcLogger;
 
@@ -72,6 +81,8 @@ public class LocalTransaction {
 
   protected final String className;
 
+  protected final int statementCacheSize;
+
   protected LocalTransaction(
       DataSource dataSource,
       ThreadLocal<LocalTransactionContext> localTxContextHolder,
@@ -84,11 +95,39 @@ public class LocalTransaction {
       ThreadLocal<LocalTransactionContext> localTxContextHolder,
       JdbcLogger jdbcLogger,
       TransactionIsolationLevel defaultTransactionIsolationLevel) {
+    this(dataSource, localTxContextHolder, jdbcLogger, defaultTransactionIsolationLevel, 0);
+  }
+
+  protected LocalTransaction(
+      DataSource dataSource,
+      ThreadLocal<LocalTransactionContext> localTxContextHolder,
+      JdbcLogger jdbcLogger,
+      TransactionIsolationLevel defaultTransactionIsolationLevel,
+      int statementCacheSize) {
+    this(
+        dataSource,
+        new ThreadLocalTransactionContextHolder(localTxContextHolder),
+        jdbcLogger,
+        defaultTransactionIsolationLevel,
+        statementCacheSize);
+  }
+
+  protected LocalTransaction(
+      DataSource dataSource,
+      LocalTransactionContextHolder localTxContextHolder,
+      JdbcLogger jdbcLogger,
+      TransactionIsolationLevel defaultTransactionIsolationLevel,
+      int statementCacheSize) {
     assertNotNull(dataSource, localTxContextHolder, jdbcLogger);
     this.dataSource = dataSource;
-    this.localTxContextHolder = localTxContextHolder;
+    this.txContextHolder = localTxContextHolder;
+    this.localTxContextHolder =
+        localTxContextHolder instanceof ThreadLocalTransactionContextHolder
+            ? ((ThreadLocalTransactionContextHolder) localTxContextHolder).threadLocal
+            : null;
     this.jdbcLogger = jdbcLogger;
     this.defaultTransactionIsolationLevel = defaultTransactionIsolationLevel;
+    this.statementCacheSize = statementCacheSize;
     this.className = getClass().getName();
   }
 
@@ -120,7 +159,7 @@ public class LocalTransaction {
   protected void beginInternal(
       TransactionIsolationLevel transactionIsolationLevel, String callerMethodName) {
     assertNotNull(callerMethodName);
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (isActiveInternal(context)) {
       String id = context.getId();
       rollbackInternal(callerMethodName);
@@ -165,14 +204,15 @@ public class LocalTransaction {
             }
           }
 
-          return new LocalTransactionConnection(connection, transactionIsolation, isAutoCommit);
+          return new LocalTransactionConnection(
+              connection, transactionIsolation, isAutoCommit, statementCacheSize);
         });
     jdbcLogger.logTransactionBegun(className, callerMethodName, context.getId());
   }
 
   protected LocalTransactionContext getLocalTransactionContext() {
     LocalTransactionContext context = new LocalTransactionContext();
-    localTxContextHolder.set(context);
+    txContextHolder.set(context);
     return context;
   }
 
@@ -183,7 +223,7 @@ public class LocalTransaction {
    * @throws JdbcException if a JDBC related error occurs
    */
   public void commit() {
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (!isActiveInternal(context)) {
       throw new TransactionNotYetBegunException(Message.DOMA2046);
     }
@@ -210,11 +250,11 @@ public class LocalTransaction {
    * @throws TransactionNotYetBegunException if this transaction is not yet begun
    */
   public LocalTransactionContext suspend() {
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (!isActiveInternal(context)) {
       throw new TransactionNotYetBegunException(Message.DOMA2046);
     }
-    localTxContextHolder.set(null);
+    txContextHolder.remove();
     return context;
   }
 
@@ -226,11 +266,11 @@ public class LocalTransaction {
    * @param context the transaction context that is returned from {@link #suspend()}
    */
   public void resume(LocalTransactionContext context) {
-    LocalTransactionContext currentContext = localTxContextHolder.get();
+    LocalTransactionContext currentContext = txContextHolder.get();
     if (isActiveInternal(currentContext)) {
       rollbackInternal("resume");
     }
-    localTxContextHolder.set(context);
+    txContextHolder.set(context);
   }
 
   /**
@@ -246,7 +286,7 @@ public class LocalTransaction {
 
   protected void rollbackInternal(String callerMethodName) {
     assertNotNull(callerMethodName);
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (!isActiveInternal(context)) {
       return;
     }
@@ -280,7 +320,7 @@ public class LocalTransaction {
       rollbackInternal("setSavepoint");
       throw new DomaNullPointerException("savepointName");
     }
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (!isActiveInternal(context)) {
       throw new TransactionNotYetBegunException(Message.DOMA2053, savepointName);
     }
@@ -314,7 +354,7 @@ public class LocalTransaction {
       rollbackInternal("hasSavepoint");
       throw new DomaNullPointerException("savepointName");
     }
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (!isActiveInternal(context)) {
       throw new TransactionNotYetBegunException(Message.DOMA2057, savepointName);
     }
@@ -334,7 +374,7 @@ public class LocalTransaction {
       rollbackInternal("releaseSavepoint");
       throw new DomaNullPointerException("savepointName");
     }
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (!isActiveInternal(context)) {
       throw new TransactionNotYetBegunException(Message.DOMA2061, savepointName);
     }
@@ -368,7 +408,7 @@ public class LocalTransaction {
       rollbackInternal("rollback");
       throw new DomaNullPointerException("savepointName");
     }
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (!isActiveInternal(context)) {
       throw new TransactionNotYetBegunException(Message.DOMA2062, savepointName);
     }
@@ -390,10 +430,11 @@ public class LocalTransaction {
 
   protected void end(String callerMethodName) {
     assertNotNull(callerMethodName);
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (!isActiveInternal(context)) {
       return;
     }
+    closeCachedStatements(context);
     endInternal(context, callerMethodName);
     context.end();
   }
@@ -416,11 +457,12 @@ public class LocalTransaction {
     if (context == null) {
       return;
     }
-    localTxContextHolder.set(null);
+    txContextHolder.remove();
     if (!context.hasConnection()) {
       return;
     }
     LocalTransactionConnection localTransactionConnection = context.getConnection();
+    localTransactionConnection.closeCachedStatements();
     Connection connection = localTransactionConnection.getWrappedConnection();
 
     int isolationLevel = localTransactionConnection.getPreservedTransactionIsolation();
@@ -445,6 +487,12 @@ public class LocalTransaction {
     closeConnection(connection);
   }
 
+  protected void closeCachedStatements(LocalTransactionContext context) {
+    if (context.hasConnection()) {
+      context.getConnection().closeCachedStatements();
+    }
+  }
+
   protected void closeConnection(Connection connection) {
     JdbcUtil.close(connection, jdbcLogger);
   }
@@ -452,7 +500,7 @@ public class LocalTransaction {
   /** Returns an unique string to identify this transaction. */
   @Override
   public String toString() {
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     String transactionId = context != null ? context.getId() : "null";
     return "{LocalTransaction transactionId=" + transactionId + "}";
   }
@@ -463,7 +511,7 @@ public class LocalTransaction {
    * @return {@code true} if this transaction is active
    */
   public boolean isActive() {
-    return isActiveInternal(localTxContextHolder.get());
+    return isActiveInternal(txContextHolder.get());
   }
 
   protected boolean isActiveInternal(LocalTransactionContext context) {
@@ -472,7 +520,7 @@ public class LocalTransaction {
 
   /** Marks this transaction to undo in the end of the transaction. */
   public void setRollbackOnly() {
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (isActiveInternal(context)) {
       context.setRollbackOnly();
     }
@@ -484,7 +532,7 @@ public class LocalTransaction {
    * @return {@code true} if the current transaction is marked.
    */
   public boolean isRollbackOnly() {
-    LocalTransactionContext context = localTxContextHolder.get();
+    LocalTransactionContext context = txContextHolder.get();
     if (isActiveInternal(context)) {
       return context.isRollbackOnly();
     }
@@ -23,6 +23,8 @@ class LocalTransactionConnection implements Connection {
 
   private final boolean preservedAutoCommitState;
 
+  private final PreparedStatementCache statementCache;
+
   /**
    * Creates an instance.
    *
@@ -32,11 +34,30 @@ class LocalTransactionConnection implements Connection {
    */
   public LocalTransactionConnection(
       Connection connection, int preservedTransactionIsolation, boolean preservedAutoCommitState) {
+    this(connection, preservedTransactionIsolation, preservedAutoCommitState, 0);
+  }
+
+  /**
+   * Creates an instance with the prepared statement cache.
+   *
+   * @param connection the internal connection
+   * @param preservedTransactionIsolation the transaction isolation to be preserved
+   * @param preservedAutoCommitState the auto commit state to be preserved
+   * @param statementCacheSize the maximum number of the cached prepared statements. If the value is
+   *     less than 1, the prepared statements are not cached.
+   */
+  public LocalTransactionConnection(
+      Connection connection,
+      int preservedTransactionIsolation,
+      boolean preservedAutoCommitState,
+      int statementCacheSize) {
     assertNotNull(connection);
     assertTrue(!(connection instanceof LocalTransactionConnection));
     this.connection = connection;
     this.preservedTransactionIsolation = preservedTransactionIsolation;
     this.preservedAutoCommitState = preservedAutoCommitState;
+    this.statementCache =
+        statementCacheSize > 0 ? new PreparedStatementCache(statementCacheSize) : null;
   }
 
   protected int getPreservedTransactionIsolation() {
@@ -56,6 +77,17 @@ class LocalTransactionConnection implements Connection {
     return connection;
   }
 
+  /**
+   * Closes the cached prepared statements.
+   *
+   * <p>The statements that are in use are closed when their {@code close()} methods are invoked.
+   */
+  protected void closeCachedStatements() {
+    if (statementCache != null) {
+      statementCache.close();
+    }
+  }
+
   @Override
   public void clearWarnings() throws SQLException {
     connection.clearWarnings();
@@ -216,6 +248,17 @@ class LocalTransactionConnection implements Connection {
   public PreparedStatement prepareStatement(
       String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability)
       throws SQLException {
+    if (statementCache != null) {
+      return statementCache.prepareStatement(
+          this,
+          sql,
+          resultSetType,
+          resultSetConcurrency,
+          resultSetHoldability,
+          () ->
+              connection.prepareStatement(
+                  sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+    }
     return connection.prepareStatement(
         sql, resultSetType, resultSetConcurrency, resultSetHoldability);
   }
@@ -223,26 +266,49 @@ class LocalTransactionConnection implements Connection {
   @Override
   public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
       throws SQLException {
+    if (statementCache != null) {
+      return statementCache.prepareStatement(
+          this,
+          sql,
+          resultSetType,
+          resultSetConcurrency,
+          () -> connection.prepareStatement(sql, resultSetType, resultSetConcurrency));
+    }
     return connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
   }
 
   @Override
   public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+    if (statementCache != null) {
+      return statementCache.prepareStatement(
+          this, sql, autoGeneratedKeys, () -> connection.prepareStatement(sql, autoGeneratedKeys));
+    }
     return connection.prepareStatement(sql, autoGeneratedKeys);
   }
 
   @Override
   public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+    if (statementCache != null) {
+      return statementCache.prepareStatement(
+          this, sql, columnIndexes, () -> connection.prepareStatement(sql, columnIndexes));
+    }
     return connection.prepareStatement(sql, columnIndexes);
   }
 
   @Override
   public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+    if (statementCache != null) {
+      return statementCache.prepareStatement(
+          this, sql, columnNames, () -> connection.prepareStatement(sql, columnNames));
+    }
     return connection.prepareStatement(sql, columnNames);
   }
 
   @Override
   public PreparedStatement prepareStatement(String sql) throws SQLException {
+    if (statementCache != null) {
+      return statementCache.prepareStatement(this, sql, () -> connection.prepareStatement(sql));
+    }
     return connection.prepareStatement(sql);
   }
 
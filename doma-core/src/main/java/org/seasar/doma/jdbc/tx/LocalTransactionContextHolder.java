@@ -0,0 +1,32 @@
+package org.seasar.doma.jdbc.tx;
+
+/**
+ * A holder of the {@link LocalTransactionContext} objects.
+ *
+ * <p>The holder decides the unit to which a local transaction is bound. {@link
+ * ThreadLocalTransactionContextHolder} binds a transaction to a thread, and {@link
+ * ScopedLocalTransactionContextHolder} binds a transaction to a scope such as a request.
+ *
+ * <p>The implementation must be thread safe.
+ *
+ * @see LocalTransactionDataSource
+ */
+public interface LocalTransactionContextHolder {
+
+  /**
+   * Returns the context bound to the current unit.
+   *
+   * @return the context, or {@code null} if no context is bound
+   */
+  LocalTransactionContext get();
+
+  /**
+   * Binds the context to the current unit.
+   *
+   * @param context the context
+   */
+  void set(LocalTransactionContext context);
+
+  /** Unbinds the context from the current unit. */
+  void remove();
+}
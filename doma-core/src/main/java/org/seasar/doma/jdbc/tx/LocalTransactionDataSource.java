@@ -14,17 +14,21 @@ import org.seasar.doma.message.Message;
 /**
  * A data source for local transactions.
  *
+ * <p>By default, a local transaction is bound to the current thread. To bind it to another unit
+ * such as a request, create this instance with a {@link LocalTransactionContextHolder}.
+ *
  * <p>This instance is thread safe.
  *
  * @see LocalTransaction
  */
 public final class LocalTransactionDataSource implements DataSource {
 
-  private final ThreadLocal<LocalTransactionContext> localTxContextHolder =
-      new ThreadLocal<LocalTransactionContext>();
+  private final LocalTransactionContextHolder localTxContextHolder;
 
   private final DataSource dataSource;
 
+  private final int statementCacheSize;
+
   /**
    * Creates an instance.
    *
@@ -32,10 +36,64 @@ public final class LocalTransactionDataSource implements DataSource {
    * @throws DomaNullPointerException if the {@code dataSource} is {@code null}
    */
   public LocalTransactionDataSource(DataSource dataSource) {
+    this(dataSource, 0);
+  }
+
+  /**
+   * Creates an instance with the prepared statement cache.
+   *
+   * <p>The prepared statements are cached per transaction by the SQL and the other arguments of
+   * {@code prepareStatement}, and they are reused while the transaction is active. The fetch size,
+   * the max rows and the query timeout of a reused statement are the values it had when it was
+   * prepared. When the number of the statements exceeds {@code statementCacheSize}, the least
+   * recently used statement is closed. All the cached statements are closed when the transaction
+   * ends.
+   *
+   * @param dataSource the internal data source
+   * @param statementCacheSize the maximum number of the cached prepared statements per transaction.
+   *     If the value is less than 1, the prepared statements are not cached.
+   * @throws DomaNullPointerException if the {@code dataSource} is {@code null}
+   */
+  public LocalTransactionDataSource(DataSource dataSource, int statementCacheSize) {
+    this(dataSource, statementCacheSize, new ThreadLocalTransactionContextHolder());
+  }
+
+  /**
+   * Creates an instance with the holder of the transaction context.
+   *
+   * @param dataSource the internal data source
+   * @param localTxContextHolder the holder of the transaction context
+   * @throws DomaNullPointerException if any arguments are {@code null}
+   */
+  public LocalTransactionDataSource(
+      DataSource dataSource, LocalTransactionContextHolder localTxContextHolder) {
+    this(dataSource, 0, localTxContextHolder);
+  }
+
+  /**
+   * Creates an instance with the prepared statement cache and the holder of the transaction
+   * context.
+   *
+   * @param dataSource the internal data source
+   * @param statementCacheSize the maximum number of the cached prepared statements per transaction.
+   *     If the value is less than 1, the prepared statements are not cached.
+   * @param localTxContextHolder the holder of the transaction context
+   * @throws DomaNullPointerException if any arguments are {@code null}
+   * @see #LocalTransactionDataSource(DataSource, int)
+   */
+  public LocalTransactionDataSource(
+      DataSource dataSource,
+      int statementCacheSize,
+      LocalTransactionContextHolder localTxContextHolder) {
     if (dataSource == null) {
       throw new DomaNullPointerException("dataSource");
     }
+    if (localTxContextHolder == null) {
+      throw new DomaNullPointerException("localTxContextHolder");
+    }
     this.dataSource = dataSource;
+    this.statementCacheSize = statementCacheSize;
+    this.localTxContextHolder = localTxContextHolder;
   }
 
   /**
@@ -59,6 +117,8 @@ public final class LocalTransactionDataSource implements DataSource {
       simpleDataSource.setPassword(password);
     }
     this.dataSource = simpleDataSource;
+    this.statementCacheSize = 0;
+    this.localTxContextHolder = new ThreadLocalTransactionContextHolder();
   }
 
   /**
@@ -138,6 +198,15 @@ public final class LocalTransactionDataSource implements DataSource {
     return dataSource.unwrap(iface);
   }
 
+  /**
+   * Whether a local transaction is active in the current thread or scope.
+   *
+   * @return {@code true} if a local transaction is active
+   */
+  public boolean isTransactionActive() {
+    return localTxContextHolder.get() != null;
+  }
+
   /**
    * Returns a local transaction.
    *
@@ -149,7 +218,8 @@ public final class LocalTransactionDataSource implements DataSource {
     if (jdbcLogger == null) {
       throw new DomaNullPointerException("jdbcLogger");
     }
-    return new LocalTransaction(dataSource, localTxContextHolder, jdbcLogger);
+    return new LocalTransaction(
+        dataSource, localTxContextHolder, jdbcLogger, null, statementCacheSize);
   }
 
   /**
@@ -169,7 +239,11 @@ public final class LocalTransactionDataSource implements DataSource {
       throw new DomaNullPointerException("transactionIsolationLevel");
     }
     return new LocalTransaction(
-        dataSource, localTxContextHolder, jdbcLogger, transactionIsolationLevel);
+        dataSource,
+        localTxContextHolder,
+        jdbcLogger,
+        transactionIsolationLevel,
+        statementCacheSize);
   }
 
   /**
@@ -183,7 +257,8 @@ public final class LocalTransactionDataSource implements DataSource {
     if (jdbcLogger == null) {
       throw new DomaNullPointerException("jdbcLogger");
     }
-    return new KeepAliveLocalTransaction(dataSource, localTxContextHolder, jdbcLogger);
+    return new KeepAliveLocalTransaction(
+        dataSource, localTxContextHolder, jdbcLogger, null, statementCacheSize);
   }
 
   /**
@@ -203,7 +278,11 @@ public final class LocalTransactionDataSource implements DataSource {
       throw new DomaNullPointerException("transactionIsolationLevel");
     }
     return new KeepAliveLocalTransaction(
-        dataSource, localTxContextHolder, jdbcLogger, transactionIsolationLevel);
+        dataSource,
+        localTxContextHolder,
+        jdbcLogger,
+        transactionIsolationLevel,
+        statementCacheSize);
   }
 
   @Override
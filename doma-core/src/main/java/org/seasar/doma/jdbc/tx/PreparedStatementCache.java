@@ -0,0 +1,326 @@
+package org.seasar.doma.jdbc.tx;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A cache of the prepared statements for a local transaction connection.
+ *
+ * <p>The statements are evicted in LRU order. A statement is removed from the cache while it is in
+ * use, and it is returned to the cache when its {@code close()} method is invoked. Before a
+ * statement is returned to the cache, its parameters, batch and warnings are cleared, and the fetch
+ * size, the max rows and the query timeout that are changed during the use are restored to the
+ * values the statement had when it was prepared.
+ *
+ * <p>The statements are cached for all the {@code prepareStatement} overloads of {@link
+ * Connection}. The arguments other than the SQL string are a part of the cache key.
+ *
+ * <p>This instance is not thread safe.
+ */
+class PreparedStatementCache {
+
+  private static final int UNSPECIFIED = -1;
+
+  private final Map<Key, CachedStatement> statementMap;
+
+  PreparedStatementCache(int capacity) {
+    assertTrue(capacity > 0);
+    this.statementMap =
+        new LinkedHashMap<Key, CachedStatement>(16, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, CachedStatement> eldest) {
+            if (size() > capacity) {
+              closeQuietly(eldest.getValue().statement);
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  PreparedStatement prepareStatement(Connection owner, String sql, StatementFactory factory)
+      throws SQLException {
+    return prepareStatement(owner, new Key(sql), factory);
+  }
+
+  PreparedStatement prepareStatement(
+      Connection owner, String sql, int autoGeneratedKeys, StatementFactory factory)
+      throws SQLException {
+    Key key = new Key(sql);
+    key.autoGeneratedKeys = autoGeneratedKeys;
+    return prepareStatement(owner, key, factory);
+  }
+
+  PreparedStatement prepareStatement(
+      Connection owner, String sql, int[] columnIndexes, StatementFactory factory)
+      throws SQLException {
+    Key key = new Key(sql);
+    key.columnIndexes = columnIndexes == null ? null : columnIndexes.clone();
+    return prepareStatement(owner, key, factory);
+  }
+
+  PreparedStatement prepareStatement(
+      Connection owner, String sql, String[] columnNames, StatementFactory factory)
+      throws SQLException {
+    Key key = new Key(sql);
+    key.columnNames = columnNames == null ? null : columnNames.clone();
+    return prepareStatement(owner, key, factory);
+  }
+
+  PreparedStatement prepareStatement(
+      Connection owner,
+      String sql,
+      int resultSetType,
+      int resultSetConcurrency,
+      StatementFactory factory)
+      throws SQLException {
+    return prepareStatement(owner, sql, resultSetType, resultSetConcurrency, UNSPECIFIED, factory);
+  }
+
+  PreparedStatement prepareStatement(
+      Connection owner,
+      String sql,
+      int resultSetType,
+      int resultSetConcurrency,
+      int resultSetHoldability,
+      StatementFactory factory)
+      throws SQLException {
+    Key key = new Key(sql);
+    key.resultSetType = resultSetType;
+    key.resultSetConcurrency = resultSetConcurrency;
+    key.resultSetHoldability = resultSetHoldability;
+    return prepareStatement(owner, key, factory);
+  }
+
+  private PreparedStatement prepareStatement(Connection owner, Key key, StatementFactory factory)
+      throws SQLException {
+    assertNotNull(owner, key, factory);
+    CachedStatement cached = statementMap.remove(key);
+    if (cached == null) {
+      cached = new CachedStatement(factory.create());
+    }
+    return (PreparedStatement)
+        Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            new StatementHandler(owner, key, cached));
+  }
+
+  private void release(Key key, CachedStatement cached, StatementHandler handler) {
+    PreparedStatement statement = cached.statement;
+    try {
+      if (statement.isClosed() || statementMap.containsKey(key)) {
+        closeQuietly(statement);
+        return;
+      }
+      statement.clearParameters();
+      statement.clearWarnings();
+      if (handler.batchAdded) {
+        statement.clearBatch();
+      }
+      if (handler.fetchSizeChanged) {
+        statement.setFetchSize(cached.fetchSize);
+      }
+      if (handler.maxRowsChanged) {
+        statement.setMaxRows(cached.maxRows);
+      }
+      if (handler.queryTimeoutChanged) {
+        statement.setQueryTimeout(cached.queryTimeout);
+      }
+    } catch (SQLException ignored) {
+      closeQuietly(statement);
+      return;
+    }
+    statementMap.put(key, cached);
+  }
+
+  /** Closes all the cached statements. */
+  void close() {
+    List<CachedStatement> statements = new ArrayList<>(statementMap.values());
+    statementMap.clear();
+    for (CachedStatement cached : statements) {
+      closeQuietly(cached.statement);
+    }
+  }
+
+  int size() {
+    return statementMap.size();
+  }
+
+  private static void closeQuietly(PreparedStatement statement) {
+    try {
+      statement.close();
+    } catch (SQLException ignored) {
+    }
+  }
+
+  @FunctionalInterface
+  interface StatementFactory {
+    PreparedStatement create() throws SQLException;
+  }
+
+  /**
+   * A cached statement with the original values of the options that are restored on release. The
+   * original values are read when the options are changed for the first time.
+   */
+  private static class CachedStatement {
+
+    private final PreparedStatement statement;
+
+    private int fetchSize = UNSPECIFIED;
+
+    private int maxRows = UNSPECIFIED;
+
+    private int queryTimeout = UNSPECIFIED;
+
+    private CachedStatement(PreparedStatement statement) {
+      this.statement = statement;
+    }
+  }
+
+  private static class Key {
+
+    private final String sql;
+
+    private int autoGeneratedKeys = UNSPECIFIED;
+
+    private int[] columnIndexes;
+
+    private String[] columnNames;
+
+    private int resultSetType = UNSPECIFIED;
+
+    private int resultSetConcurrency = UNSPECIFIED;
+
+    private int resultSetHoldability = UNSPECIFIED;
+
+    private Key(String sql) {
+      this.sql = sql;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key key = (Key) o;
+      return autoGeneratedKeys == key.autoGeneratedKeys
+          && resultSetType == key.resultSetType
+          && resultSetConcurrency == key.resultSetConcurrency
+          && resultSetHoldability == key.resultSetHoldability
+          && Objects.equals(sql, key.sql)
+          && Arrays.equals(columnIndexes, key.columnIndexes)
+          && Arrays.equals(columnNames, key.columnNames);
+    }
+
+    @Override
+    public int hashCode() {
+      int result =
+          Objects.hash(
+              sql, autoGeneratedKeys, resultSetType, resultSetConcurrency, resultSetHoldability);
+      result = 31 * result + Arrays.hashCode(columnIndexes);
+      return 31 * result + Arrays.hashCode(columnNames);
+    }
+  }
+
+  private class StatementHandler implements InvocationHandler {
+
+    private final Connection owner;
+
+    private final Key key;
+
+    private final CachedStatement cached;
+
+    private final PreparedStatement statement;
+
+    private boolean closed;
+
+    private boolean batchAdded;
+
+    private boolean fetchSizeChanged;
+
+    private boolean maxRowsChanged;
+
+    private boolean queryTimeoutChanged;
+
+    private StatementHandler(Connection owner, Key key, CachedStatement cached) {
+      this.owner = owner;
+      this.key = key;
+      this.cached = cached;
+      this.statement = cached.statement;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "close":
+          if (!closed) {
+            closed = true;
+            release(key, cached, this);
+          }
+          return null;
+        case "isClosed":
+          return closed || statement.isClosed();
+        case "getConnection":
+          return owner;
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return statement.toString();
+        case "addBatch":
+          batchAdded = true;
+          break;
+        default:
+          break;
+      }
+      if (closed) {
+        throw new SQLException("The statement is already closed.");
+      }
+      switch (method.getName()) {
+        case "setFetchSize":
+          if (cached.fetchSize == UNSPECIFIED) {
+            cached.fetchSize = statement.getFetchSize();
+          }
+          fetchSizeChanged = true;
+          break;
+        case "setMaxRows":
+        case "setLargeMaxRows":
+          if (cached.maxRows == UNSPECIFIED) {
+            cached.maxRows = statement.getMaxRows();
+          }
+          maxRowsChanged = true;
+          break;
+        case "setQueryTimeout":
+          if (cached.queryTimeout == UNSPECIFIED) {
+            cached.queryTimeout = statement.getQueryTimeout();
+          }
+          queryTimeoutChanged = true;
+          break;
+        default:
+          break;
+      }
+      try {
+        return method.invoke(statement, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package org.seasar.doma.jdbc.tx;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.message.Message;
+
+/**
+ * A holder that binds a local transaction to an explicit scope.
+ *
+ * <p>The context is stored in a slot that the application creates for each scope, such as a
+ * request. This holder looks up the slot of the current scope through the supplier. On Java 21 or
+ * later, the slot can be bound with {@code ScopedValue}, so that no thread local variable is
+ * allocated for each virtual thread:
+ *
+ * <pre>
+ * static final ScopedValue&lt;AtomicReference&lt;LocalTransactionContext&gt;&gt; SLOT =
+ *     ScopedValue.newInstance();
+ *
+ * LocalTransactionDataSource dataSource =
+ *     new LocalTransactionDataSource(
+ *         original, new ScopedLocalTransactionContextHolder(() -&gt; SLOT.orElse(null)));
+ *
+ * ScopedValue.where(SLOT, new AtomicReference&lt;&gt;()).run(() -&gt; handleRequest());
+ * </pre>
+ *
+ * <p>A slot must not be shared between the threads that use the transaction concurrently.
+ */
+public class ScopedLocalTransactionContextHolder implements LocalTransactionContextHolder {
+
+  protected final Supplier<AtomicReference<LocalTransactionContext>> slotSupplier;
+
+  /**
+   * Creates an instance.
+   *
+   * @param slotSupplier the supplier that returns the slot of the current scope, or {@code null} if
+   *     no slot is bound
+   * @throws DomaNullPointerException if the {@code slotSupplier} is {@code null}
+   */
+  public ScopedLocalTransactionContextHolder(
+      Supplier<AtomicReference<LocalTransactionContext>> slotSupplier) {
+    if (slotSupplier == null) {
+      throw new DomaNullPointerException("slotSupplier");
+    }
+    this.slotSupplier = slotSupplier;
+  }
+
+  @Override
+  public LocalTransactionContext get() {
+    AtomicReference<LocalTransactionContext> slot = slotSupplier.get();
+    return slot != null ? slot.get() : null;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws JdbcException if no slot is bound to the current scope
+   */
+  @Override
+  public void set(LocalTransactionContext context) {
+    AtomicReference<LocalTransactionContext> slot = slotSupplier.get();
+    if (slot == null) {
+      throw new JdbcException(Message.DOMA2236);
+    }
+    slot.set(context);
+  }
+
+  @Override
+  public void remove() {
+    AtomicReference<LocalTransactionContext> slot = slotSupplier.get();
+    if (slot != null) {
+      slot.set(null);
+    }
+  }
+}
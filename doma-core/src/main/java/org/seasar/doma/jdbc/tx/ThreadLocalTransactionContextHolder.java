@@ -0,0 +1,45 @@
+package org.seasar.doma.jdbc.tx;
+
+import org.seasar.doma.DomaNullPointerException;
+
+/**
+ * A holder that binds a local transaction to the current thread.
+ *
+ * <p>This is the default holder of {@link LocalTransactionDataSource}.
+ */
+public class ThreadLocalTransactionContextHolder implements LocalTransactionContextHolder {
+
+  protected final ThreadLocal<LocalTransactionContext> threadLocal;
+
+  public ThreadLocalTransactionContextHolder() {
+    this(new ThreadLocal<>());
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param threadLocal the thread local variable that holds the context
+   * @throws DomaNullPointerException if the {@code threadLocal} is {@code null}
+   */
+  public ThreadLocalTransactionContextHolder(ThreadLocal<LocalTransactionContext> threadLocal) {
+    if (threadLocal == null) {
+      throw new DomaNullPointerException("threadLocal");
+    }
+    this.threadLocal = threadLocal;
+  }
+
+  @Override
+  public LocalTransactionContext get() {
+    return threadLocal.get();
+  }
+
+  @Override
+  public void set(LocalTransactionContext context) {
+    threadLocal.set(context);
+  }
+
+  @Override
+  public void remove() {
+    threadLocal.remove();
+  }
+}
@@ -256,6 +256,20 @@ public enum Message implements MessageResource {
   DOMA2232("The parameter is empty."),
   DOMA2233("The key \"{0}\" is not found in the map that is an element of Iterable."),
   DOMA2234("The savepoint \"{1}\" of the local transaction \"{0}\" is released."),
+  DOMA2235(
+      "The asynchronous Dao method \"{1}\" of the class \"{0}\" cannot be invoked "
+          + "while the local transaction is active in the current thread. "
+          + "The local transaction is bound to the thread and is not propagated to the executor."),
+  DOMA2236(
+      "Cannot bind the local transaction context. "
+          + "The slot of the context is not bound to the current scope."),
+  DOMA2237(
+      "Failed to prefetch the next block of the identity values. "
+          + "The block is fetched again when the current block is exhausted."),
+  DOMA2238(
+      "The asynchronous Dao method \"{1}\" of the class \"{0}\" cannot be invoked "
+          + "when the Dao instance is bound to a java.sql.Connection. "
+          + "The connection is not safe to be used by the thread of the executor."),
 
   // expression
   DOMA3001(
@@ -515,7 +529,7 @@ public enum Message implements MessageResource {
   DOMA4132(
       "If the factoryMethod element of @Domain is specified with \"new\", the class must not be abstract."),
   DOMA4135(
-      "The type of the field that is annotated with @OriginalStates must be same with the type of the entity class."),
+      "The type of the field that is annotated with @OriginalStates must be same with the type of the entity class or Object[]."),
   DOMA4138("The class \"{2}\" in the expression \"{0}\" at column {1} is not found."),
   DOMA4139(
       "The operator \"{2}\" cannot be applied to the null literal in the expression \"{0}\" at column {1}."),
@@ -917,6 +931,18 @@ public enum Message implements MessageResource {
   DOMA4453("The public constructor whose parameter size is one is not found."),
   DOMA4454("The parameter type \"{0}\" is not supported as a persistent type."),
   DOMA4455("The combination of the prefix=\"{0}\" and the suffix=\"\" is not allowed."),
+  DOMA4456("The type argument of CompletableFuture must be specified."),
+  DOMA4457("The wildcard type \"{0}\" is not supported as the type argument of CompletableFuture."),
+  DOMA4458(
+      "The type \"{0}\" is not supported as the type argument of CompletableFuture. "
+          + "Use the List type or the SelectType.STREAM strategy instead of Stream."),
+  DOMA4459(
+      "The streaming element cannot be \"true\" when the entity class \"{0}\" is immutable. "
+          + "The BatchResult object requires all the entities, "
+          + "but the streaming mode holds only the entities of one chunk at a time."),
+  DOMA4460(
+      "The \"{0}\" element is available only when the sqlFile element is \"false\" "
+          + "and the method is not annotated with @Sql."),
 
   // other
   DOMA5001(
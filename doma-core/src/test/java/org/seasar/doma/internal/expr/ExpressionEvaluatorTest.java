@@ -1,11 +1,17 @@
 package org.seasar.doma.internal.expr;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -16,6 +22,7 @@ import java.util.OptionalInt;
 import java.util.OptionalLong;
 import org.junit.jupiter.api.Test;
 import org.seasar.doma.internal.expr.node.ExpressionLocation;
+import org.seasar.doma.message.Message;
 
 public class ExpressionEvaluatorTest {
 
@@ -196,6 +203,121 @@ public class ExpressionEvaluatorTest {
     assertNull(method);
   }
 
+  @Test
+  public void testResolveMethod() throws Exception {
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    ExpressionEvaluator.MethodInvoker invoker =
+        evaluator.resolveMethod(
+            "add", new ArrayList<Object>(), ArrayList.class, new Class[] {Object.class});
+    assertNotNull(invoker);
+    assertEquals(Collection.class, invoker.getMethod().getDeclaringClass());
+    assertSame(
+        invoker,
+        new ExpressionEvaluator()
+            .resolveMethod(
+                "add", new ArrayList<Object>(), ArrayList.class, new Class[] {Object.class}));
+  }
+
+  @Test
+  public void testResolveMethod_argumentTypeFromChildClassLoader() throws Exception {
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    ExpressionEvaluator.MethodInvoker invoker =
+        evaluator.resolveMethod(
+            "add", new ArrayList<Object>(), ArrayList.class, new Class[] {Person.class});
+    assertNotNull(invoker);
+    assertNotSame(
+        invoker,
+        evaluator.resolveMethod(
+            "add", new ArrayList<Object>(), ArrayList.class, new Class[] {Person.class}));
+  }
+
+  @Test
+  public void testMemberKey_isVisibleFrom() throws Exception {
+    ExpressionEvaluator.MemberKey key =
+        new ExpressionEvaluator.MemberKey("add", new Class[] {Person.class, String.class});
+    assertTrue(key.isVisibleFrom(Person.class.getClassLoader()));
+    assertFalse(key.isVisibleFrom(null));
+    assertTrue(
+        new ExpressionEvaluator.MemberKey("add", new Class[] {String.class}).isVisibleFrom(null));
+  }
+
+  @Test
+  public void testResolveMethod_notFound() throws Exception {
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    assertNull(
+        evaluator.resolveMethod(
+            "inexistentMethod", "aaa", String.class, new Class[] {String.class}));
+    assertNull(
+        evaluator.resolveMethod(
+            "inexistentMethod", "aaa", String.class, new Class[] {String.class}));
+  }
+
+  @Test
+  public void testInvokeMethod_resolved() throws Exception {
+    Class<?>[] paramTypes = new Class[] {int.class, int.class};
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    ExpressionEvaluator.MethodInvoker invoker =
+        evaluator.resolveMethod("substring", "abcde", String.class, paramTypes);
+    EvaluationResult result =
+        evaluator.invokeMethod(
+            location, invoker, "abcde", String.class, paramTypes, new Object[] {2, 4});
+    assertEquals("cd", result.getValue());
+    assertEquals(String.class, result.getValueClass());
+  }
+
+  @Test
+  public void testInvokeMethod_resolved_static() throws Exception {
+    Class<?>[] paramTypes = new Class[] {int.class};
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    ExpressionEvaluator.MethodInvoker invoker =
+        evaluator.resolveMethod("valueOf", null, String.class, paramTypes);
+    EvaluationResult result =
+        evaluator.invokeMethod(location, invoker, null, String.class, paramTypes, new Object[] {1});
+    assertEquals("1", result.getValue());
+    assertEquals(String.class, result.getValueClass());
+  }
+
+  @Test
+  public void testInvokeMethod_resolved_failed() throws Exception {
+    Class<?>[] paramTypes = new Class[] {int.class};
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    ExpressionEvaluator.MethodInvoker invoker =
+        evaluator.resolveMethod("charAt", "abc", String.class, paramTypes);
+    try {
+      evaluator.invokeMethod(location, invoker, "abc", String.class, paramTypes, new Object[] {5});
+      fail();
+    } catch (ExpressionException e) {
+      System.out.println(e.getMessage());
+      assertEquals(Message.DOMA3001, e.getMessageResource());
+      assertTrue(e.getCause() instanceof InvocationTargetException);
+    }
+  }
+
+  @Test
+  public void testResolveField() throws Exception {
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    ExpressionEvaluator.FieldGetter getter = evaluator.resolveField("name", Person.class);
+    assertNotNull(getter);
+    assertSame(getter, new ExpressionEvaluator().resolveField("name", Person.class));
+    assertNull(evaluator.resolveField("inexistentField", Person.class));
+    Person person = new Person();
+    person.name = "aaa";
+    EvaluationResult result = evaluator.getFieldValue(location, getter, person);
+    assertEquals("aaa", result.getValue());
+    assertEquals(String.class, result.getValueClass());
+  }
+
+  @Test
+  public void testResolveStaticField() throws Exception {
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    assertNull(evaluator.resolveStaticField("name", Person.class));
+    ExpressionEvaluator.FieldGetter getter =
+        evaluator.resolveStaticField("staticName", Person.class);
+    EvaluationResult result = evaluator.getFieldValue(location, getter, null);
+    assertEquals("hoge", result.getValue());
+    assertEquals(String.class, result.getValueClass());
+  }
+
   @Test
   public void testForClassName() throws Exception {
     ExpressionEvaluator evaluator = new ExpressionEvaluator();
@@ -15,6 +15,7 @@ import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
 import org.seasar.doma.internal.jdbc.mock.RowData;
 import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
 import org.seasar.doma.jdbc.NonSingleColumnException;
+import org.seasar.doma.jdbc.SelectOptions;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.query.SqlFileSelectQuery;
 
@@ -54,6 +55,36 @@ public class BasicResultListHandlerTest {
     assertEquals("bbb", results.get(1));
   }
 
+  @Test
+  public void testHandle_countOver() throws Exception {
+    MockResultSetMetaData metaData = new MockResultSetMetaData();
+    metaData.columns.add(new ColumnMetaData("x"));
+    metaData.columns.add(new ColumnMetaData("doma_count_over_"));
+    MockResultSet resultSet = new MockResultSet(metaData);
+    resultSet.rows.add(new RowData("aaa", 10L));
+    resultSet.rows.add(new RowData("bbb", 10L));
+
+    SelectOptions options = SelectOptions.get().offset(0).limit(2).countOver();
+    SqlFileSelectQuery query = new SqlFileSelectQuery();
+    query.setConfig(runtimeConfig);
+    query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(), method.getName()));
+    query.setOptions(options);
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setMethod(method);
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+
+    BasicResultListHandler<String> handler =
+        new BasicResultListHandler<String>(() -> new org.seasar.doma.wrapper.StringWrapper());
+    List<String> results = handler.handle(resultSet, query, (i, next) -> {}).get();
+    query.complete();
+    assertEquals(2, results.size());
+    assertEquals("aaa", results.get(0));
+    assertEquals("bbb", results.get(1));
+    assertEquals(10L, options.getCount());
+  }
+
   @Test
   public void testHandle_NonSingleColumnException() throws Exception {
     MockResultSetMetaData metaData = new MockResultSetMetaData();
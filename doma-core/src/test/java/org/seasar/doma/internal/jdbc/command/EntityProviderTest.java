@@ -1,5 +1,7 @@
 package org.seasar.doma.internal.jdbc.command;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.seasar.doma.internal.util.AssertionUtil.assertEquals;
 
@@ -8,6 +10,8 @@ import example.entity._Emp;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.seasar.doma.FetchType;
 import org.seasar.doma.internal.jdbc.mock.ColumnMetaData;
@@ -15,7 +19,9 @@ import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.internal.jdbc.mock.MockResultSet;
 import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
 import org.seasar.doma.internal.jdbc.mock.RowData;
+import org.seasar.doma.jdbc.BoundedMappingPlanCache;
 import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.MappingPlanCache;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.SelectOptions;
 import org.seasar.doma.jdbc.SqlKind;
@@ -96,6 +102,46 @@ public class EntityProviderTest {
     assertEquals(new Integer(100), emp.getVersion());
   }
 
+  @Test
+  public void testGetEntity_mappingPlanCache() throws Exception {
+    MappingPlanCacheConfig config = new MappingPlanCacheConfig();
+    _Emp entityType = _Emp.getSingletonInternal();
+
+    MockResultSetMetaData metaData = new MockResultSetMetaData();
+    metaData.columns.add(new ColumnMetaData("id"));
+    metaData.columns.add(new ColumnMetaData("name"));
+    MockResultSet resultSet = new MockResultSet(metaData);
+    resultSet.rows.add(new RowData(1, "aaa"));
+    resultSet.next();
+    new EntityProvider<>(entityType, new MySelectQuery(config), false).get(resultSet);
+    assertEquals(1, config.cache.plans().size());
+    Object plan = config.cache.plans().values().iterator().next();
+
+    MockResultSetMetaData metaData2 = new MockResultSetMetaData();
+    metaData2.columns.add(new ColumnMetaData("id"));
+    metaData2.columns.add(new ColumnMetaData("name"));
+    MockResultSet resultSet2 = new MockResultSet(metaData2);
+    resultSet2.rows.add(new RowData(2, "bbb"));
+    resultSet2.next();
+    Emp emp2 = new EntityProvider<>(entityType, new MySelectQuery(config), false).get(resultSet2);
+    assertEquals(new Integer(2), emp2.getId());
+    assertEquals("bbb", emp2.getName());
+    assertSame(plan, config.cache.plans().values().iterator().next());
+
+    MockResultSetMetaData metaData3 = new MockResultSetMetaData();
+    metaData3.columns.add(new ColumnMetaData("name"));
+    metaData3.columns.add(new ColumnMetaData("id"));
+    metaData3.columns.add(new ColumnMetaData("salary"));
+    MockResultSet resultSet3 = new MockResultSet(metaData3);
+    resultSet3.rows.add(new RowData("ccc", 3, new BigDecimal(30)));
+    resultSet3.next();
+    Emp emp3 = new EntityProvider<>(entityType, new MySelectQuery(config), false).get(resultSet3);
+    assertEquals(new Integer(3), emp3.getId());
+    assertEquals("ccc", emp3.getName());
+    assertEquals(new BigDecimal(30), emp3.getSalary());
+    assertNotSame(plan, config.cache.plans().values().iterator().next());
+  }
+
   protected class MySelectQuery implements SelectQuery {
 
     private final Config config;
@@ -198,4 +244,29 @@ public class EntityProviderTest {
       return new EmptyUnknownColumnHandler();
     }
   }
+
+  protected static class MappingPlanCacheConfig extends MockConfig {
+
+    protected final MyMappingPlanCache cache = new MyMappingPlanCache();
+
+    @Override
+    public MappingPlanCache getMappingPlanCache() {
+      return cache;
+    }
+  }
+
+  protected static class MyMappingPlanCache extends BoundedMappingPlanCache {
+
+    protected final Map<Object, Object> plans = new HashMap<>();
+
+    @Override
+    public void put(Object key, Object plan) {
+      super.put(key, plan);
+      plans.put(key, plan);
+    }
+
+    Map<Object, Object> plans() {
+      return plans;
+    }
+  }
 }
@@ -0,0 +1,117 @@
+package org.seasar.doma.internal.jdbc.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class FlatRowMapTest {
+
+  private final FlatRowMap.Layout layout =
+      new FlatRowMap.Layout(new String[] {"id", "name", "age"});
+
+  @Test
+  public void testGet() {
+    FlatRowMap map = new FlatRowMap(layout, new Object[] {1, "aaa", null});
+    assertEquals(3, map.size());
+    assertEquals(1, map.get("id"));
+    assertEquals("aaa", map.get("name"));
+    assertNull(map.get("age"));
+    assertTrue(map.containsKey("age"));
+    assertFalse(map.containsKey("unknown"));
+    assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("id", "name", "age"));
+  }
+
+  @Test
+  public void testEquals() {
+    FlatRowMap map = new FlatRowMap(layout, new Object[] {1, "aaa", null});
+    Map<String, Object> expected = new LinkedHashMap<>();
+    expected.put("id", 1);
+    expected.put("name", "aaa");
+    expected.put("age", null);
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(expected.toString(), map.toString());
+  }
+
+  @Test
+  public void testPut() {
+    FlatRowMap map = new FlatRowMap(layout, new Object[] {1, "aaa", null});
+    assertEquals("aaa", map.put("name", "bbb"));
+    assertEquals("bbb", map.get("name"));
+    assertNull(map.put("email", "a@example.com"));
+    assertEquals(4, map.size());
+    assertEquals("a@example.com", map.get("email"));
+    assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("id", "name", "age", "email"));
+  }
+
+  @Test
+  public void testRemove() {
+    FlatRowMap map = new FlatRowMap(layout, new Object[] {1, "aaa", null});
+    assertEquals("aaa", map.remove("name"));
+    assertNull(map.remove("name"));
+    assertEquals(2, map.size());
+    assertFalse(map.containsKey("name"));
+    assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("id", "age"));
+    map.put("name", "bbb");
+    assertEquals(3, map.size());
+    assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("id", "age", "name"));
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    FlatRowMap map = new FlatRowMap(layout, new Object[] {1, "aaa", null});
+    Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+    it.next();
+    it.remove();
+    Map.Entry<String, Object> entry = it.next();
+    entry.setValue("bbb");
+    assertEquals(2, map.size());
+    assertEquals("bbb", map.get("name"));
+    map.clear();
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testEntrySetValue_removed() {
+    FlatRowMap map = new FlatRowMap(layout, new Object[] {1, "aaa", null});
+    Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+    it.next();
+    Map.Entry<String, Object> entry = it.next();
+    map.remove("name");
+    assertThrows(IllegalStateException.class, () -> entry.setValue("bbb"));
+    assertEquals(2, map.size());
+    assertFalse(map.containsKey("name"));
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    FlatRowMap map = new FlatRowMap(layout, new Object[] {1, "aaa", null});
+    map.remove("age");
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(map);
+    }
+    Object result;
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      result = in.readObject();
+    }
+    assertEquals(LinkedHashMap.class, result.getClass());
+    assertEquals(map, result);
+    assertEquals(Arrays.asList("id", "name"), new ArrayList<>(((Map<?, ?>) result).keySet()));
+  }
+}
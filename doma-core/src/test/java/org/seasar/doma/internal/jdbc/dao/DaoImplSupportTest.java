@@ -1,16 +1,33 @@
 package org.seasar.doma.internal.jdbc.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
 import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockDataSource;
+import org.seasar.doma.jdbc.AsyncInvocationInTransactionException;
+import org.seasar.doma.jdbc.AsyncInvocationOnConnectionException;
 import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.tx.LocalTransaction;
+import org.seasar.doma.jdbc.tx.LocalTransactionDataSource;
+import org.seasar.doma.jdbc.tx.LocalTransactionManager;
+import org.seasar.doma.jdbc.tx.TransactionManager;
 
 /** @author backpaper0 */
 public class DaoImplSupportTest {
@@ -74,6 +91,94 @@ public class DaoImplSupportTest {
     }
   }
 
+  @Test
+  public void testSupplyAsync() throws Exception {
+    StringBuilder log = new StringBuilder();
+    Config config =
+        new MockConfig() {
+          @Override
+          public Executor getAsyncExecutor() {
+            return command -> {
+              log.append("execute");
+              command.run();
+            };
+          }
+        };
+    DaoImplSupport support = new DaoImplSupport(config) {};
+    CompletableFuture<String> future = support.supplyAsync("aaa", "bbb", () -> "ccc");
+    assertEquals("ccc", future.get());
+    assertEquals("execute", log.toString());
+  }
+
+  @Test
+  public void testSupplyAsync_inLocalTransaction() throws Exception {
+    MockConfig config = new MockConfig();
+    LocalTransactionDataSource dataSource = new LocalTransactionDataSource(new MockDataSource());
+    DaoImplSupport support = new DaoImplSupport(config, dataSource) {};
+    LocalTransaction transaction = dataSource.getLocalTransaction(config.getJdbcLogger());
+    transaction.begin();
+    try {
+      support.supplyAsync("aaa", "bbb", () -> "ccc");
+      fail();
+    } catch (AsyncInvocationInTransactionException expected) {
+      System.out.println(expected.getMessage());
+      assertEquals("aaa", expected.getClassName());
+      assertEquals("bbb", expected.getMethodName());
+    } finally {
+      transaction.rollback();
+    }
+  }
+
+  @Test
+  public void testSupplyAsync_outsideLocalTransaction() throws Exception {
+    LocalTransactionDataSource txDataSource = new LocalTransactionDataSource(new MockDataSource());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    MockConfig config =
+        new MockConfig() {
+          @Override
+          public TransactionManager getTransactionManager() {
+            return new LocalTransactionManager(txDataSource.getLocalTransaction(getJdbcLogger()));
+          }
+
+          @Override
+          public Executor getAsyncExecutor() {
+            return executor;
+          }
+        };
+    DaoImplSupport support = new DaoImplSupport(config, txDataSource) {};
+    try {
+      CompletableFuture<Boolean> future =
+          support.supplyAsync(
+              "aaa",
+              "bbb",
+              () -> {
+                try (Connection connection = txDataSource.getConnection()) {
+                  return txDataSource.isTransactionActive() && connection != null;
+                } catch (SQLException e) {
+                  throw new RuntimeException(e);
+                }
+              });
+      assertTrue(future.get(10, TimeUnit.SECONDS));
+      assertFalse(executor.submit(txDataSource::isTransactionActive).get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testSupplyAsync_onConnection() throws Exception {
+    MockConfig config = new MockConfig();
+    DaoImplSupport support = new DaoImplSupport(config, new MockConnection()) {};
+    try {
+      support.supplyAsync("aaa", "bbb", () -> "ccc");
+      fail();
+    } catch (AsyncInvocationOnConnectionException expected) {
+      System.out.println(expected.getMessage());
+      assertEquals("aaa", expected.getClassName());
+      assertEquals("bbb", expected.getMethodName());
+    }
+  }
+
   private <T> T mock(Class<T> aClass) {
     ClassLoader loader = Thread.currentThread().getContextClassLoader();
     Class<?>[] interfaces = {aClass};
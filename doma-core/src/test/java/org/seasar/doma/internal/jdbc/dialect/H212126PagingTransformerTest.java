@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
 import org.seasar.doma.internal.jdbc.sql.SqlParser;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.SqlNode;
 
 public class H212126PagingTransformerTest {
@@ -19,10 +21,9 @@ public class H212126PagingTransformerTest {
     H212126PagingTransformer transformer = new H212126PagingTransformer(5, 10);
     SqlParser parser = new SqlParser("select * from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -31,10 +32,9 @@ public class H212126PagingTransformerTest {
     H212126PagingTransformer transformer = new H212126PagingTransformer(5, 10);
     SqlParser parser = new SqlParser("select * from emp order by emp.id for update");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -43,10 +43,9 @@ public class H212126PagingTransformerTest {
     H212126PagingTransformer transformer = new H212126PagingTransformer(5, -1);
     SqlParser parser = new SqlParser("select * from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, -1);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -55,9 +54,19 @@ public class H212126PagingTransformerTest {
     H212126PagingTransformer transformer = new H212126PagingTransformer(-1, 10);
     SqlParser parser = new SqlParser("select * from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(-1, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
+  }
+
+  private NodePreparedSqlBuilder createSqlBuilder(long offset, long limit) {
+    MockConfig config = new MockConfig();
+    ExpressionEvaluator evaluator =
+        new ExpressionEvaluator(
+            StandardPagingTransformer.createVariableValues(offset, limit),
+            config.getDialect().getExpressionFunctions(),
+            config.getClassHelper());
+    return new NodePreparedSqlBuilder(
+        config, SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED);
   }
 }
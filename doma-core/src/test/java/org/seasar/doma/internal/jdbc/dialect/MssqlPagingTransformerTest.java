@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
 import org.seasar.doma.internal.jdbc.sql.SqlParser;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.SqlNode;
 
 /** @author shinsuke-oda */
@@ -21,10 +23,9 @@ public class MssqlPagingTransformerTest {
     MssqlPagingTransformer transformer = new MssqlPagingTransformer(5, 10, false);
     SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -34,10 +35,9 @@ public class MssqlPagingTransformerTest {
     MssqlPagingTransformer transformer = new MssqlPagingTransformer(5, 10, true);
     SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -48,10 +48,9 @@ public class MssqlPagingTransformerTest {
     SqlParser parser =
         new SqlParser("select emp.id from emp order by emp.id option (maxrecursion 0)");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -60,10 +59,9 @@ public class MssqlPagingTransformerTest {
     MssqlPagingTransformer transformer = new MssqlPagingTransformer(5, -1, false);
     SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, -1);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -72,10 +70,9 @@ public class MssqlPagingTransformerTest {
     MssqlPagingTransformer transformer = new MssqlPagingTransformer(5, -1, true);
     SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, -1);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -86,10 +83,9 @@ public class MssqlPagingTransformerTest {
     SqlParser parser =
         new SqlParser("select emp.id from emp order by emp.id option (maxrecursion 0)");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, -1);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -98,10 +94,9 @@ public class MssqlPagingTransformerTest {
     MssqlPagingTransformer transformer = new MssqlPagingTransformer(-1, 10, false);
     SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(-1, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -111,10 +106,9 @@ public class MssqlPagingTransformerTest {
     MssqlPagingTransformer transformer = new MssqlPagingTransformer(-1, 10, true);
     SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(-1, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -124,10 +118,9 @@ public class MssqlPagingTransformerTest {
     SqlParser parser =
         new SqlParser("select emp.id from emp order by emp.id option (maxrecursion 0)");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(-1, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -138,9 +131,19 @@ public class MssqlPagingTransformerTest {
     SqlParser parser =
         new SqlParser("select emp.id from emp order by emp.id option (maxrecursion 0)");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(-1, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
+  }
+
+  private NodePreparedSqlBuilder createSqlBuilder(long offset, long limit) {
+    MockConfig config = new MockConfig();
+    ExpressionEvaluator evaluator =
+        new ExpressionEvaluator(
+            StandardPagingTransformer.createVariableValues(offset, limit),
+            config.getDialect().getExpressionFunctions(),
+            config.getClassHelper());
+    return new NodePreparedSqlBuilder(
+        config, SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED);
   }
 }
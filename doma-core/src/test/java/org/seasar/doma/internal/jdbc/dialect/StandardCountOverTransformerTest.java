@@ -0,0 +1,28 @@
+package org.seasar.doma.internal.jdbc.dialect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.PreparedSql;
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlNode;
+
+public class StandardCountOverTransformerTest {
+
+  @Test
+  public void test() throws Exception {
+    String expected =
+        "select e.id, e.name , count(*) over() as doma_count_over_ from emp e where e.id > 1 order by e.id";
+    StandardCountOverTransformer transformer = new StandardCountOverTransformer();
+    SqlParser parser = new SqlParser("select e.id, e.name from emp e where e.id > 1 order by e.id");
+    SqlNode sqlNode = transformer.transform(parser.parse());
+    NodePreparedSqlBuilder sqlBuilder =
+        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+    assertEquals(expected, sql.getRawSql());
+  }
+}
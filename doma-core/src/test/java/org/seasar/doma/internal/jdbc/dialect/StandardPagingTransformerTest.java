@@ -24,10 +24,9 @@ public class StandardPagingTransformerTest {
     StandardPagingTransformer transformer = new StandardPagingTransformer(5, 10);
     SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -38,10 +37,9 @@ public class StandardPagingTransformerTest {
     SqlParser parser =
         new SqlParser("select emp.id from emp order by /*%if true*/emp.name desc,/*%end*/ emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -55,11 +53,32 @@ public class StandardPagingTransformerTest {
     SqlNode sqlNode = transformer.transform(parser.parse());
     ExpressionEvaluator evaluator = new ExpressionEvaluator();
     evaluator.add("values", new Value(List.class, Arrays.asList(1, 2)));
+    StandardPagingTransformer.createVariableValues(5, 10).forEach(evaluator::add);
     NodePreparedSqlBuilder sqlBuilder =
         new NodePreparedSqlBuilder(
             new MockConfig(), SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+    assertEquals(expected, sql.getFormattedSql());
+  }
+
+  @Test
+  public void testOffsetLimit_bindParameters() throws Exception {
+    String expected =
+        "select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > ? and doma_rownumber_ <= ?";
+    StandardPagingTransformer transformer = new StandardPagingTransformer(5, 10);
+    SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
+    SqlNode sqlNode = transformer.transform(parser.parse());
+
+    PreparedSql sql = createSqlBuilder(5, 10).build(sqlNode, Function.identity());
     assertEquals(expected, sql.getRawSql());
+    assertEquals(2, sql.getParameters().size());
+    assertEquals(5L, sql.getParameters().get(0).getWrapper().get());
+    assertEquals(15L, sql.getParameters().get(1).getWrapper().get());
+
+    PreparedSql sql2 = createSqlBuilder(20, 10).build(sqlNode, Function.identity());
+    assertEquals(expected, sql2.getRawSql());
+    assertEquals(20L, sql2.getParameters().get(0).getWrapper().get());
+    assertEquals(30L, sql2.getParameters().get(1).getWrapper().get());
   }
 
   @Test
@@ -69,10 +88,9 @@ public class StandardPagingTransformerTest {
     StandardPagingTransformer transformer = new StandardPagingTransformer(5, -1);
     SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(5, -1);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -82,10 +100,9 @@ public class StandardPagingTransformerTest {
     StandardPagingTransformer transformer = new StandardPagingTransformer(-1, 10);
     SqlParser parser = new SqlParser("select emp.id from emp order by emp.id");
     SqlNode sqlNode = transformer.transform(parser.parse());
-    NodePreparedSqlBuilder sqlBuilder =
-        new NodePreparedSqlBuilder(new MockConfig(), SqlKind.SELECT, "dummyPath");
+    NodePreparedSqlBuilder sqlBuilder = createSqlBuilder(-1, 10);
     PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
-    assertEquals(expected, sql.getRawSql());
+    assertEquals(expected, sql.getFormattedSql());
   }
 
   @Test
@@ -100,4 +117,15 @@ public class StandardPagingTransformerTest {
       assertEquals(Message.DOMA2201, expected.getMessageResource());
     }
   }
+
+  private NodePreparedSqlBuilder createSqlBuilder(long offset, long limit) {
+    MockConfig config = new MockConfig();
+    ExpressionEvaluator evaluator =
+        new ExpressionEvaluator(
+            StandardPagingTransformer.createVariableValues(offset, limit),
+            config.getDialect().getExpressionFunctions(),
+            config.getClassHelper());
+    return new NodePreparedSqlBuilder(
+        config, SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED);
+  }
 }
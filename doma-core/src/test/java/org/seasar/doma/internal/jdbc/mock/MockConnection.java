@@ -238,8 +238,7 @@ public class MockConnection extends MockWrapper implements Connection {
 
   @Override
   public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
-    AssertionUtil.notYetImplemented();
-    return null;
+    return prepareStatement(sql);
   }
 
   @Override
@@ -258,6 +257,7 @@ public class MockConnection extends MockWrapper implements Connection {
   public PreparedStatement prepareStatement(String sql) throws SQLException {
     assertTrue(!closed);
     preparedStatement.sql = sql;
+    preparedStatement.connection = this;
     return preparedStatement;
   }
 
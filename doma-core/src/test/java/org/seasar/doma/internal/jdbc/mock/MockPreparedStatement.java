@@ -49,7 +49,7 @@ public class MockPreparedStatement extends MockStatement implements PreparedStat
 
   @Override
   public void clearParameters() throws SQLException {
-    AssertionUtil.notYetImplemented();
+    bindValues.clear();
   }
 
   @Override
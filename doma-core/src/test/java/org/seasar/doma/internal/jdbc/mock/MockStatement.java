@@ -6,6 +6,7 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.Arrays;
+import java.util.LinkedList;
 import org.seasar.doma.internal.util.AssertionUtil;
 
 public class MockStatement extends MockWrapper implements Statement {
@@ -16,6 +17,12 @@ public class MockStatement extends MockWrapper implements Statement {
 
   public int updatedRows = 1;
 
+  public LinkedList<int[]> batchResults = new LinkedList<>();
+
+  public Connection connection;
+
+  public MockResultSet generatedKeys;
+
   @Override
   public void addBatch(String sql) throws SQLException {
     AssertionUtil.notYetImplemented();
@@ -66,6 +73,10 @@ public class MockStatement extends MockWrapper implements Statement {
 
   @Override
   public int[] executeBatch() throws SQLException {
+    if (!batchResults.isEmpty()) {
+      addBatchCount = 0;
+      return batchResults.removeFirst();
+    }
     int[] results = new int[addBatchCount];
     Arrays.fill(results, updatedRows);
     addBatchCount = 0;
@@ -104,8 +115,10 @@ public class MockStatement extends MockWrapper implements Statement {
 
   @Override
   public Connection getConnection() throws SQLException {
-    AssertionUtil.notYetImplemented();
-    return null;
+    if (connection == null) {
+      AssertionUtil.notYetImplemented();
+    }
+    return connection;
   }
 
   @Override
@@ -122,8 +135,10 @@ public class MockStatement extends MockWrapper implements Statement {
 
   @Override
   public ResultSet getGeneratedKeys() throws SQLException {
-    AssertionUtil.notYetImplemented();
-    return null;
+    if (generatedKeys == null) {
+      AssertionUtil.notYetImplemented();
+    }
+    return generatedKeys;
   }
 
   @Override
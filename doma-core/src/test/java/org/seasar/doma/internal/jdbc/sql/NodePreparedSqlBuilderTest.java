@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.seasar.doma.internal.expr.ExpressionEvaluator;
@@ -457,4 +459,26 @@ public class NodePreparedSqlBuilderTest {
       assertEquals(Message.DOMA2224, expected.getMessageResource());
     }
   }
+
+  @Test
+  public void testFormattedSql() throws Exception {
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    evaluator.add("name", new Value(String.class, "hoge"));
+    evaluator.add("ids", new Value(List.class, Arrays.asList(1, 2)));
+    String testSql =
+        "select * from aaa where '?' = '?' and (ename = /*name*/'a' or id in /*ids*/(0)) "
+            + "/*%if false*/and x = /*name*/'a'/*%end*/ and sal = /*^name*/'b'";
+    SqlParser parser = new SqlParser(testSql);
+    SqlNode sqlNode = parser.parse();
+    PreparedSql sql =
+        new NodePreparedSqlBuilder(
+                config, SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED)
+            .build(sqlNode, Function.identity());
+    assertEquals(
+        "select * from aaa where '?' = '?' and (ename = ? or id in (?, ?))  and sal = 'hoge'",
+        sql.getRawSql());
+    assertEquals(
+        "select * from aaa where '?' = '?' and (ename = 'hoge' or id in (1, 2))  and sal = 'hoge'",
+        sql.getFormattedSql());
+  }
 }
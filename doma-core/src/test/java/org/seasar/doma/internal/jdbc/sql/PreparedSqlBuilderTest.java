@@ -59,4 +59,23 @@ public class PreparedSqlBuilderTest {
     PreparedSql sql = builder.build(Function.identity());
     assertEquals("select * from aaa", sql.toString());
   }
+
+  @Test
+  public void testFormattedSql() {
+    PreparedSqlBuilder builder =
+        new PreparedSqlBuilder(config, SqlKind.SELECT, SqlLogType.FORMATTED);
+    builder.appendSql("select * from aaa where name in (");
+    Wrapper<String> hoge = new StringWrapper("hoge");
+    builder.appendParameter(new BasicInParameter<String>(() -> hoge));
+    builder.appendSql(", ");
+    Wrapper<String> foo = new StringWrapper("fo?o");
+    builder.appendParameter(new BasicInParameter<String>(() -> foo));
+    builder.appendSql(", ");
+    builder.cutBackSql(2);
+    builder.appendSql(")");
+    PreparedSql sql = builder.build(s -> "/* comment */" + s);
+    assertEquals("/* comment */select * from aaa where name in (?, ?)", sql.getRawSql());
+    assertEquals(
+        "/* comment */select * from aaa where name in ('hoge', 'fo?o')", sql.getFormattedSql());
+  }
 }
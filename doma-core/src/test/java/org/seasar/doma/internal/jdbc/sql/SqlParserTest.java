@@ -15,6 +15,11 @@ import org.junit.jupiter.api.Test;
 import org.seasar.doma.internal.expr.ExpressionEvaluator;
 import org.seasar.doma.internal.expr.Value;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.sql.node.EmbeddedVariableNode;
+import org.seasar.doma.internal.jdbc.sql.node.ExpandNode;
+import org.seasar.doma.internal.jdbc.sql.node.ForNode;
+import org.seasar.doma.internal.jdbc.sql.node.IfNode;
+import org.seasar.doma.internal.jdbc.sql.node.ValueNode;
 import org.seasar.doma.internal.util.ResourceUtil;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.PreparedSql;
@@ -942,6 +947,85 @@ public class SqlParserTest {
     assertNotNull(sqlNode);
   }
 
+  @Test
+  public void testExpressionNode() throws Exception {
+    String testSql =
+        "select /*%expand*/* from aaa where /*%if name != null*/ename = /*name*/'a'/*%end*/"
+            + " /*%for s : salaries*/ or sal = /*s*/0 /*%end*/ order by /*#orderBy*/";
+    SqlParser parser = new SqlParser(testSql);
+    SqlNode sqlNode = parser.parse();
+    List<SqlNode> nodes = new ArrayList<>();
+    collect(sqlNode, nodes);
+    int count = 0;
+    for (SqlNode node : nodes) {
+      if (node instanceof ValueNode) {
+        assertNotNull(((ValueNode) node).getExpressionNode());
+        count++;
+      } else if (node instanceof EmbeddedVariableNode) {
+        assertNotNull(((EmbeddedVariableNode) node).getExpressionNode());
+        count++;
+      } else if (node instanceof IfNode) {
+        assertNotNull(((IfNode) node).getExpressionNode());
+        count++;
+      } else if (node instanceof ForNode) {
+        assertNotNull(((ForNode) node).getExpressionNode());
+        count++;
+      } else if (node instanceof ExpandNode) {
+        assertNotNull(((ExpandNode) node).getExpressionNode());
+        count++;
+      }
+    }
+    assertEquals(6, count);
+  }
+
+  @Test
+  public void testExpressionNode_reused() throws Exception {
+    String testSql = "select * from aaa where /*%if name != null*/ename = /*name*/'a'/*%end*/";
+    SqlParser parser = new SqlParser(testSql);
+    SqlNode sqlNode = parser.parse();
+
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    evaluator.add("name", new Value(String.class, "hoge"));
+    PreparedSql sql =
+        new NodePreparedSqlBuilder(
+                config, SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED)
+            .build(sqlNode, Function.identity());
+    assertEquals("select * from aaa where ename = 'hoge'", sql.getFormattedSql());
+
+    evaluator = new ExpressionEvaluator();
+    evaluator.add("name", new Value(String.class, null));
+    sql =
+        new NodePreparedSqlBuilder(
+                config, SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED)
+            .build(sqlNode, Function.identity());
+    assertEquals("select * from aaa", sql.getFormattedSql());
+  }
+
+  @Test
+  public void testExpressionNode_illegalExpression() throws Exception {
+    String testSql = "select * from aaa where /*%if name.*/ename = 'a'/*%end*/";
+    SqlParser parser = new SqlParser(testSql);
+    SqlNode sqlNode = parser.parse();
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    evaluator.add("name", new Value(String.class, "hoge"));
+    try {
+      new NodePreparedSqlBuilder(
+              config, SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED)
+          .build(sqlNode, Function.identity());
+      fail();
+    } catch (JdbcException expected) {
+      System.out.println(expected.getMessage());
+      assertEquals(Message.DOMA2111, expected.getMessageResource());
+    }
+  }
+
+  private void collect(SqlNode node, List<SqlNode> nodes) {
+    nodes.add(node);
+    for (SqlNode child : node.getChildren()) {
+      collect(child, nodes);
+    }
+  }
+
   public enum MyEnum {
     AAA,
     BBB,
@@ -0,0 +1,88 @@
+package org.seasar.doma.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ClockCacheTest {
+
+  @Test
+  public void testPut() throws Exception {
+    ClockCache<String, String> cache = new ClockCache<>(2);
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.put("a", "AA");
+    assertEquals(2, cache.size());
+    assertEquals(2, cache.getWeight());
+    assertEquals("AA", cache.get("a"));
+    assertEquals(0, cache.getEvictionCount());
+  }
+
+  @Test
+  public void testPut_evict() throws Exception {
+    ClockCache<String, String> cache = new ClockCache<>(2);
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.get("a");
+    cache.put("c", "C");
+    assertTrue(cache.map.containsKey("a"));
+    assertFalse(cache.map.containsKey("b"));
+    assertTrue(cache.map.containsKey("c"));
+    assertEquals(1, cache.getEvictionCount());
+    cache.get("a");
+    cache.put("d", "D");
+    assertEquals("A", cache.get("a"));
+    assertNull(cache.get("c"));
+    assertEquals("D", cache.get("d"));
+    assertEquals(2, cache.getEvictionCount());
+  }
+
+  @Test
+  public void testPut_weight() throws Exception {
+    ClockCache<String, String> cache = new ClockCache<>(5, String::length);
+    cache.put("a", "AAA");
+    cache.put("b", "BB");
+    assertEquals(5, cache.getWeight());
+    cache.put("c", "C");
+    assertNull(cache.get("a"));
+    assertEquals(3, cache.getWeight());
+    cache.put("d", "DDDDDD");
+    assertNull(cache.get("d"));
+    assertEquals(3, cache.getWeight());
+  }
+
+  @Test
+  public void testPut_replace() throws Exception {
+    ClockCache<String, String> cache = new ClockCache<>(10);
+    for (int i = 0; i < 100; i++) {
+      cache.put("a", "A" + i);
+    }
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.getWeight());
+    assertEquals("A99", cache.get("a"));
+    assertTrue(cache.queue.size() <= 18);
+  }
+
+  @Test
+  public void testPutIfAbsent() throws Exception {
+    ClockCache<String, String> cache = new ClockCache<>(2);
+    assertNull(cache.putIfAbsent("a", "A"));
+    assertEquals("A", cache.putIfAbsent("a", "B"));
+    assertEquals("A", cache.get("a"));
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.getWeight());
+  }
+
+  @Test
+  public void testClear() throws Exception {
+    ClockCache<String, String> cache = new ClockCache<>(2);
+    cache.put("a", "A");
+    cache.clear();
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getWeight());
+  }
+}
@@ -0,0 +1,156 @@
+package org.seasar.doma.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSql;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSqlRegistry;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.dialect.PostgresDialect;
+import org.seasar.doma.jdbc.dialect.StandardDialect;
+
+public class BoundedCacheSqlFileRepositoryTest {
+
+  private final StandardDialect dialect = new StandardDialect();
+
+  private Method method;
+
+  private String prefix;
+
+  @BeforeEach
+  protected void setUp(TestInfo testInfo) throws Exception {
+    method = testInfo.getTestMethod().get();
+    prefix = "META-INF/" + getClass().getName().replace(".", "/") + "/" + method.getName();
+  }
+
+  private String register(String name, String sql) {
+    String path = prefix + "/" + name + ".sql";
+    EmbeddedSqlRegistry.register(getClass(), path, new EmbeddedSql(path, sql));
+    return path;
+  }
+
+  private long weigh(String sql) {
+    SqlFile file = new SqlFile("a.sql", sql, new SqlParser(sql).parse());
+    return new BoundedCacheSqlFileRepository().weigh(file);
+  }
+
+  @Test
+  public void testGetSqlFile() throws Exception {
+    String path = "META-INF/" + getClass().getName().replace(".", "/") + ".sql";
+    BoundedCacheSqlFileRepository repository = new BoundedCacheSqlFileRepository();
+    SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+    SqlFile sqlFile2 = repository.getSqlFile(method, path, dialect);
+    assertSame(sqlFile, sqlFile2);
+    assertEquals(path, sqlFile.getPath());
+    assertEquals(1, repository.getHitCount());
+    assertEquals(1, repository.getMissCount());
+    assertEquals(repository.weigh(sqlFile), repository.getWeight());
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    String a = register("a", "select 1");
+    String b = register("b", "select 2");
+    String c = register("c", "select 3");
+    long weight = weigh("select 1");
+    BoundedCacheSqlFileRepository repository = new BoundedCacheSqlFileRepository(weight * 2);
+    SqlFile fileA = repository.getSqlFile(method, a, dialect);
+    repository.getSqlFile(method, b, dialect);
+    assertSame(fileA, repository.getSqlFile(method, a, dialect));
+    repository.getSqlFile(method, c, dialect);
+    assertEquals(1, repository.getEvictionCount());
+    assertEquals(weight * 2, repository.getWeight());
+    assertSame(fileA, repository.getSqlFile(method, a, dialect));
+    repository.getSqlFile(method, b, dialect);
+    assertEquals(4, repository.getMissCount());
+    assertEquals(2, repository.getHitCount());
+  }
+
+  @Test
+  public void testEviction_concurrent() throws Exception {
+    List<String> paths = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      paths.add(register("p" + i, "select " + i));
+    }
+    long weight = weigh("select 1");
+    BoundedCacheSqlFileRepository repository = new BoundedCacheSqlFileRepository(weight * 5);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 1000; j++) {
+                    String path = paths.get(j % paths.size());
+                    assertEquals(path, repository.getSqlFile(method, path, dialect).getPath());
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(4000, repository.getHitCount() + repository.getMissCount());
+    assertEquals(weight * 5, repository.getWeight());
+    assertEquals(repository.getWeight(), repository.sqlFileCache.size() * weight);
+  }
+
+  @Test
+  public void testWeigh() throws Exception {
+    String sql = "select * from emp where id = /*id*/1";
+    SqlFile sqlFile = new SqlFile("a.sql", sql, new SqlParser(sql).parse());
+    long nodeCount = BoundedCacheSqlFileRepository.countNodes(sqlFile.getSqlNode());
+    assertTrue(nodeCount > 1);
+    assertEquals(
+        sql.length() + nodeCount * BoundedCacheSqlFileRepository.NODE_WEIGHT,
+        new BoundedCacheSqlFileRepository().weigh(sqlFile));
+  }
+
+  @Test
+  public void testGetSqlFile_dialect() throws Exception {
+    String a = register("a", "select 1");
+    BoundedCacheSqlFileRepository repository = new BoundedCacheSqlFileRepository();
+    SqlFile sqlFile = repository.getSqlFile(method, a, dialect);
+    SqlFile sqlFile2 = repository.getSqlFile(method, a, new PostgresDialect());
+    assertNotSame(sqlFile, sqlFile2);
+    assertSame(sqlFile2, repository.getSqlFile(method, a, new PostgresDialect()));
+    assertEquals(2, repository.getMissCount());
+    assertEquals(1, repository.getHitCount());
+  }
+
+  @Test
+  public void testTooHeavy() throws Exception {
+    String a = register("a", "select 1");
+    BoundedCacheSqlFileRepository repository =
+        new BoundedCacheSqlFileRepository(weigh("select 1") - 1);
+    SqlFile sqlFile = repository.getSqlFile(method, a, dialect);
+    assertNotSame(sqlFile, repository.getSqlFile(method, a, dialect));
+    assertEquals(0, repository.getWeight());
+    assertEquals(2, repository.getMissCount());
+  }
+
+  @Test
+  public void testClearCache() throws Exception {
+    String a = register("a", "select 1");
+    BoundedCacheSqlFileRepository repository = new BoundedCacheSqlFileRepository();
+    SqlFile sqlFile = repository.getSqlFile(method, a, dialect);
+    repository.clearCache();
+    assertEquals(0, repository.getWeight());
+    assertNotSame(sqlFile, repository.getSqlFile(method, a, dialect));
+  }
+}
@@ -0,0 +1,49 @@
+package org.seasar.doma.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class BoundedMappingPlanCacheTest {
+
+  @Test
+  public void testPut() throws Exception {
+    BoundedMappingPlanCache cache = new BoundedMappingPlanCache(2);
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.put("a", "AA");
+    assertEquals(2, cache.planCache.size());
+    assertEquals("AA", cache.get("a"));
+    cache.put("c", "C");
+    assertEquals(2, cache.planCache.size());
+    assertEquals("C", cache.get("c"));
+  }
+
+  @Test
+  public void testPut_leastRecentlyUsed() throws Exception {
+    BoundedMappingPlanCache cache = new BoundedMappingPlanCache(2);
+    cache.put("a", "A");
+    cache.put("b", "B");
+    assertEquals("A", cache.get("a"));
+    cache.put("c", "C");
+    assertEquals("A", cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals("C", cache.get("c"));
+  }
+
+  @Test
+  public void testPut_zeroCapacity() throws Exception {
+    BoundedMappingPlanCache cache = new BoundedMappingPlanCache(0);
+    cache.put("a", "A");
+    assertNull(cache.get("a"));
+  }
+
+  @Test
+  public void testClearCache() throws Exception {
+    BoundedMappingPlanCache cache = new BoundedMappingPlanCache();
+    cache.put("a", "A");
+    cache.clearCache();
+    assertNull(cache.get("a"));
+  }
+}
@@ -1,6 +1,9 @@
 package org.seasar.doma.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,15 @@ public class ConfigTest {
     }
   }
 
+  @Test
+  public void testGetMappingPlanCache() throws Exception {
+    Config config = new MockConfig();
+    Config config2 = new MockConfig();
+    assertTrue(config.getMappingPlanCache() instanceof BoundedMappingPlanCache);
+    assertSame(config.getMappingPlanCache(), config.getMappingPlanCache());
+    assertNotSame(config.getMappingPlanCache(), config2.getMappingPlanCache());
+  }
+
   protected static class Provider implements ConfigProvider {
 
     @Override
@@ -1,6 +1,7 @@
 package org.seasar.doma.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -9,6 +10,9 @@ import java.lang.reflect.Method;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSql;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSqlRegistry;
+import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
 import org.seasar.doma.jdbc.dialect.OracleDialect;
 import org.seasar.doma.jdbc.dialect.PostgresDialect;
 import org.seasar.doma.jdbc.dialect.StandardDialect;
@@ -53,6 +57,71 @@ public class GreedyCacheSqlFileRepositoryTest {
     assertEquals(path, sqlFile.getPath());
   }
 
+  @Test
+  public void testGetSqlFile_embedded() throws Exception {
+    StandardDialect dialect = new StandardDialect();
+    String path = "META-INF/" + getClass().getName().replace(".", "/") + "/embedded.sql";
+    EmbeddedSqlRegistry.register(getClass(), path, new EmbeddedSql(path, "select * from embedded"));
+    GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+    SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+    assertEquals(path, sqlFile.getPath());
+    assertEquals("select * from embedded", sqlFile.getSql());
+  }
+
+  @Test
+  public void testGetSqlFile_embedded_noDialectVariant() throws Exception {
+    OracleDialect dialect = new OracleDialect();
+    String path = "META-INF/" + getClass().getName().replace(".", "/") + "/embedded.sql";
+    EmbeddedSqlRegistry.register(getClass(), path, new EmbeddedSql(path, "select * from embedded"));
+    GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+    SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+    assertEquals(path, sqlFile.getPath());
+    assertEquals("select * from embedded", sqlFile.getSql());
+  }
+
+  @Test
+  public void testGetSqlFile_embedded_dialectVariant() throws Exception {
+    OracleDialect dialect = new OracleDialect();
+    String dir = "META-INF/" + getClass().getName().replace(".", "/");
+    String path = dir + "/embeddedVariant.sql";
+    String oraclePath = dir + "/embeddedVariant-oracle.sql";
+    EmbeddedSqlRegistry.register(
+        getClass(),
+        path,
+        new EmbeddedSql(path, "select * from embedded"),
+        new EmbeddedSql(oraclePath, "select * from embedded_oracle"));
+    GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+    SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+    assertEquals(oraclePath, sqlFile.getPath());
+    assertEquals("select * from embedded_oracle", sqlFile.getSql());
+  }
+
+  @Test
+  public void testGetSqlFile_embedded_sqlNodeFactory() throws Exception {
+    StandardDialect dialect = new StandardDialect();
+    String path = "META-INF/" + getClass().getName().replace(".", "/") + "/embeddedNode.sql";
+    SqlNode sqlNode = new AnonymousNode();
+    EmbeddedSqlRegistry.register(
+        getClass(), path, new EmbeddedSql(path, "select * from embedded", sql -> sqlNode));
+    GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+    SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+    assertEquals(path, sqlFile.getPath());
+    assertEquals("select * from embedded", sqlFile.getSql());
+    assertSame(sqlNode, sqlFile.getSqlNode());
+  }
+
+  @Test
+  public void testGetSqlFile_embedded_otherDao() throws Exception {
+    StandardDialect dialect = new StandardDialect();
+    String path = "META-INF/" + getClass().getName().replace(".", "/") + ".sql";
+    EmbeddedSqlRegistry.register(
+        String.class, path, new EmbeddedSql(path, "select * from embedded"));
+    GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+    SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+    assertEquals(path, sqlFile.getPath());
+    assertNotEquals("select * from embedded", sqlFile.getSql());
+  }
+
   @Test
   public void testClearCache() throws Exception {
     StandardDialect dialect = new StandardDialect();
@@ -0,0 +1,67 @@
+package org.seasar.doma.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+
+public class SqlFileTest {
+
+  @Test
+  public void testGetTransformedSqlNode() throws Exception {
+    String sql = "select * from emp";
+    SqlFile sqlFile = new SqlFile("aaa.sql", sql, new SqlParser(sql).parse());
+    AtomicInteger count = new AtomicInteger();
+    SqlNode node1 =
+        sqlFile.getTransformedSqlNode(
+            "key1",
+            n -> {
+              count.incrementAndGet();
+              return new SqlParser(n + " offset 10").parse();
+            });
+    SqlNode node2 =
+        sqlFile.getTransformedSqlNode(
+            "key1",
+            n -> {
+              count.incrementAndGet();
+              return n;
+            });
+    SqlNode node3 =
+        sqlFile.getTransformedSqlNode(
+            "key2",
+            n -> {
+              count.incrementAndGet();
+              return n;
+            });
+    assertSame(node1, node2);
+    assertNotSame(node1, node3);
+    assertSame(sqlFile.getSqlNode(), node3);
+    assertEquals(2, count.get());
+  }
+
+  @Test
+  public void testGetTransformedSqlNode_evictLeastRecentlyUsed() throws Exception {
+    String sql = "select * from emp";
+    SqlFile sqlFile = new SqlFile("aaa.sql", sql, new SqlParser(sql).parse());
+    AtomicInteger count = new AtomicInteger();
+    Function<SqlNode, SqlNode> transformer =
+        n -> {
+          count.incrementAndGet();
+          return new SqlParser(n.toString()).parse();
+        };
+    for (int i = 0; i < SqlFile.MAX_TRANSFORMED_SQL_NODES; i++) {
+      sqlFile.getTransformedSqlNode(i, transformer);
+    }
+    sqlFile.getTransformedSqlNode(0, transformer);
+    sqlFile.getTransformedSqlNode(SqlFile.MAX_TRANSFORMED_SQL_NODES, transformer);
+    assertEquals(SqlFile.MAX_TRANSFORMED_SQL_NODES + 1, count.get());
+    sqlFile.getTransformedSqlNode(0, transformer);
+    assertEquals(SqlFile.MAX_TRANSFORMED_SQL_NODES + 1, count.get());
+    sqlFile.getTransformedSqlNode(1, transformer);
+    assertEquals(SqlFile.MAX_TRANSFORMED_SQL_NODES + 2, count.get());
+  }
+}
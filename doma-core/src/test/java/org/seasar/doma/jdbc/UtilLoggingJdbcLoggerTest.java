@@ -1,6 +1,11 @@
 package org.seasar.doma.jdbc;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.util.Collections;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import org.junit.jupiter.api.Test;
 
 public class UtilLoggingJdbcLoggerTest {
@@ -36,4 +41,31 @@ public class UtilLoggingJdbcLoggerTest {
     UtilLoggingJdbcLogger logger = new UtilLoggingJdbcLogger();
     logger.logTransactionRolledback("ddd", "eee", "fff");
   }
+
+  @Test
+  public void testIsEnabled() throws Exception {
+    Logger utilLogger = Logger.getLogger(UtilLoggingJdbcLoggerTest.class.getName());
+    UtilLoggingJdbcLogger logger = new UtilLoggingJdbcLogger(Level.FINE, utilLogger);
+    utilLogger.setLevel(Level.FINE);
+    assertTrue(logger.isDaoMethodLoggingEnabled());
+    assertTrue(logger.isSqlLoggingEnabled());
+    utilLogger.setLevel(Level.INFO);
+    assertFalse(logger.isDaoMethodLoggingEnabled());
+    assertFalse(logger.isSqlLoggingEnabled());
+  }
+
+  @Test
+  public void testIsEnabled_eventLevel() throws Exception {
+    Logger utilLogger = Logger.getLogger(UtilLoggingJdbcLoggerTest.class.getName() + ".event");
+    UtilLoggingJdbcLogger logger =
+        new UtilLoggingJdbcLogger(Level.FINE, utilLogger) {
+          @Override
+          protected Level getSqlLoggingLevel() {
+            return Level.INFO;
+          }
+        };
+    utilLogger.setLevel(Level.INFO);
+    assertFalse(logger.isDaoMethodLoggingEnabled());
+    assertTrue(logger.isSqlLoggingEnabled());
+  }
 }
@@ -0,0 +1,76 @@
+package org.seasar.doma.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import example.dao.EmpDao;
+import example.entity.Emp;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
+import org.seasar.doma.jdbc.dialect.Dialect;
+
+public class WarmerTest {
+
+  private final Set<String> paths = ConcurrentHashMap.newKeySet();
+
+  private final MockConfig config =
+      new MockConfig() {
+        @Override
+        public SqlFileRepository getSqlFileRepository() {
+          return new SqlFileRepository() {
+            @Override
+            public SqlFile getSqlFile(Method method, String path, Dialect dialect) {
+              paths.add(path);
+              return new SqlFile(path, "", new AnonymousNode());
+            }
+          };
+        }
+      };
+
+  @Test
+  public void testWarmUp() throws Exception {
+    Warmer warmer = new Warmer(config);
+    warmer.warmUp(EmpDao.class);
+    assertEquals(expectedPaths(), paths);
+    assertTrue(warmer.resolvedClasses.contains(Emp.class));
+  }
+
+  @Test
+  public void testWarmUp_executor() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Warmer warmer = new Warmer(config);
+      warmer.warmUp(executor, EmpDao.class).get();
+      assertEquals(expectedPaths(), paths);
+      assertTrue(warmer.resolvedClasses.contains(Emp.class));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testWarmUp_notDao() throws Exception {
+    Warmer warmer = new Warmer(config);
+    assertThrows(DomaIllegalArgumentException.class, () -> warmer.warmUp(Emp.class));
+  }
+
+  private Set<String> expectedPaths() {
+    String prefix = "META-INF/example/dao/EmpDao/";
+    return new HashSet<>(
+        Arrays.asList(
+            prefix + "selectById.sql",
+            prefix + "selectByNameAndSalary.sql",
+            prefix + "selectByExample.sql",
+            prefix + "stream.sql"));
+  }
+}
@@ -1,14 +1,26 @@
 package org.seasar.doma.jdbc.command;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import example.entity.Emp;
+import example.entity.IdGeneratedEmp;
 import example.entity._Emp;
+import example.entity._IdGeneratedEmp;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
+import org.seasar.doma.internal.jdbc.mock.MockResultSet;
+import org.seasar.doma.internal.jdbc.mock.RowData;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.dialect.MysqlDialect;
+import org.seasar.doma.jdbc.dialect.PostgresDialect;
 import org.seasar.doma.jdbc.query.AutoBatchInsertQuery;
 
 public class BatchInsertCommandTest {
@@ -42,4 +54,168 @@ public class BatchInsertCommandTest {
     String sql = runtimeConfig.dataSource.connection.preparedStatement.sql;
     assertEquals("insert into EMP (ID, NAME, SALARY, VERSION) values (?, ?, ?, ?)", sql);
   }
+
+  @Test
+  public void testExecuteInternal_withoutExecute(TestInfo testInfo) throws Exception {
+    Emp emp1 = new Emp();
+    emp1.setId(1);
+    emp1.setName("hoge");
+
+    Emp emp2 = new Emp();
+    emp2.setId(2);
+    emp2.setName("foo");
+
+    AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(_Emp.getSingletonInternal());
+    query.setMethod(testInfo.getTestMethod().get());
+    query.setConfig(runtimeConfig);
+    query.setEntities(Arrays.asList(emp1, emp2));
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+    BatchInsertCommand command = new BatchInsertCommand(query);
+    int[] rows = command.executeInternal(new MockPreparedStatement(), query.getSqls());
+
+    assertEquals(2, rows.length);
+  }
+
+  @Test
+  public void testExecute_streaming(TestInfo testInfo) throws Exception {
+    List<Emp> emps = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Emp emp = new Emp();
+      emp.setId(i);
+      emp.setName("name" + i);
+      emps.add(emp);
+    }
+
+    AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(_Emp.getSingletonInternal());
+    query.setMethod(testInfo.getTestMethod().get());
+    query.setConfig(runtimeConfig);
+    query.setStreamingEntities(emps.stream());
+    query.setBatchSize(2);
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+    assertEquals(2, query.getSqls().size());
+    int[] rows = new BatchInsertCommand(query).execute();
+    query.complete();
+
+    assertArrayEquals(new int[] {1, 1, 1, 1, 1}, rows);
+    assertEquals(1, query.getSqls().size());
+    assertEquals(1, query.getEntities().size());
+    for (Emp emp : emps) {
+      assertEquals(Integer.valueOf(1), emp.getVersion());
+    }
+    MockPreparedStatement preparedStatement = runtimeConfig.dataSource.connection.preparedStatement;
+    assertEquals(20, preparedStatement.bindValues.size());
+  }
+
+  @Test
+  public void testExecute_multiRow(TestInfo testInfo) throws Exception {
+    runtimeConfig.dialect = new PostgresDialect();
+    List<Emp> emps = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Emp emp = new Emp();
+      emp.setId(i);
+      emp.setName("name" + i);
+      emps.add(emp);
+    }
+
+    AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(_Emp.getSingletonInternal());
+    query.setMethod(testInfo.getTestMethod().get());
+    query.setConfig(runtimeConfig);
+    query.setEntities(emps);
+    query.setBatchSize(2);
+    query.setMultiRow(true);
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+    MockPreparedStatement preparedStatement = runtimeConfig.dataSource.connection.preparedStatement;
+    preparedStatement.batchResults.add(new int[] {2});
+    preparedStatement.batchResults.add(new int[] {2});
+    preparedStatement.batchResults.add(new int[] {1});
+    int[] rows = new BatchInsertCommand(query).execute();
+    query.complete();
+
+    assertArrayEquals(new int[] {1, 1, 1, 1, 1}, rows);
+    assertTrue(preparedStatement.batchResults.isEmpty());
+    assertEquals(
+        "insert into EMP (ID, NAME, SALARY, VERSION) values (?, ?, ?, ?)", preparedStatement.sql);
+    assertEquals(20, preparedStatement.bindValues.size());
+  }
+
+  @Test
+  public void testExecute_multiRow_aggregateCount(TestInfo testInfo) throws Exception {
+    runtimeConfig.dialect = new PostgresDialect();
+    List<Emp> emps = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Emp emp = new Emp();
+      emp.setId(i);
+      emp.setName("name" + i);
+      emps.add(emp);
+    }
+
+    AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(_Emp.getSingletonInternal());
+    query.setMethod(testInfo.getTestMethod().get());
+    query.setConfig(runtimeConfig);
+    query.setEntities(emps);
+    query.setBatchSize(2);
+    query.setMultiRow(true);
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+    MockPreparedStatement preparedStatement = runtimeConfig.dataSource.connection.preparedStatement;
+    preparedStatement.batchResults.add(new int[] {Statement.SUCCESS_NO_INFO});
+    preparedStatement.batchResults.add(new int[] {1});
+    preparedStatement.batchResults.add(new int[] {1});
+    int[] rows = new BatchInsertCommand(query).execute();
+    query.complete();
+
+    assertArrayEquals(
+        new int[] {
+          Statement.SUCCESS_NO_INFO,
+          Statement.SUCCESS_NO_INFO,
+          Statement.SUCCESS_NO_INFO,
+          Statement.SUCCESS_NO_INFO,
+          1
+        },
+        rows);
+    assertTrue(preparedStatement.batchResults.isEmpty());
+  }
+
+  @Test
+  public void testExecute_identityGeneratedKeys(TestInfo testInfo) throws Exception {
+    runtimeConfig.dialect = new MysqlDialect();
+    MockResultSet generatedKeys = new MockResultSet();
+    generatedKeys.rows.add(new RowData(11L));
+    generatedKeys.rows.add(new RowData(12L));
+    runtimeConfig.dataSource.connection.preparedStatement.generatedKeys = generatedKeys;
+
+    IdGeneratedEmp emp1 = new IdGeneratedEmp();
+    emp1.setName("hoge");
+    IdGeneratedEmp emp2 = new IdGeneratedEmp();
+    emp2.setName("foo");
+
+    AutoBatchInsertQuery<IdGeneratedEmp> query =
+        new AutoBatchInsertQuery<>(_IdGeneratedEmp.getSingletonInternal());
+    query.setMethod(testInfo.getTestMethod().get());
+    query.setConfig(runtimeConfig);
+    query.setEntities(Arrays.asList(emp1, emp2));
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+    assertTrue(query.isBatchSupported());
+    int[] rows = new BatchInsertCommand(query).execute();
+    query.complete();
+
+    assertArrayEquals(new int[] {1, 1}, rows);
+    assertEquals(Integer.valueOf(11), emp1.getId());
+    assertEquals(Integer.valueOf(12), emp2.getId());
+    assertTrue(generatedKeys.closed);
+  }
 }
@@ -1,17 +1,24 @@
 package org.seasar.doma.jdbc.command;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import example.entity.Emp;
 import example.entity._Emp;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.jdbc.CommandMetrics;
+import org.seasar.doma.jdbc.CommandObserver;
 import org.seasar.doma.jdbc.OptimisticLockException;
+import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.query.AutoBatchUpdateQuery;
 
@@ -57,6 +64,65 @@ public class BatchUpdateCommandTest {
     assertEquals(new Integer(21), emp2.getVersion());
   }
 
+  @Test
+  public void testExecute_commandObserver() throws Exception {
+    Emp emp1 = new Emp();
+    emp1.setId(1);
+    emp1.setName("hoge");
+    emp1.setVersion(10);
+
+    Emp emp2 = new Emp();
+    emp2.setId(2);
+    emp2.setName("foo");
+    emp2.setVersion(20);
+
+    Emp emp3 = new Emp();
+    emp3.setId(3);
+    emp3.setName("bar");
+    emp3.setVersion(30);
+
+    List<CommandMetrics> metricsList = new ArrayList<>();
+    MockConfig config =
+        new MockConfig() {
+          @Override
+          public CommandObserver getCommandObserver() {
+            return new CommandObserver() {
+              @Override
+              public boolean isEnabled() {
+                return true;
+              }
+
+              @Override
+              public void observe(CommandMetrics metrics) {
+                metricsList.add(metrics);
+              }
+            };
+          }
+        };
+
+    AutoBatchUpdateQuery<Emp> query = new AutoBatchUpdateQuery<Emp>(_Emp.getSingletonInternal());
+    query.setMethod(method);
+    query.setConfig(config);
+    query.setEntities(Arrays.asList(emp1, emp2, emp3));
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.setBatchSize(2);
+    query.prepare();
+    int[] rows = new BatchUpdateCommand(query).execute();
+    query.complete();
+
+    assertEquals(3, rows.length);
+    assertEquals(1, metricsList.size());
+    CommandMetrics metrics = metricsList.get(0);
+    assertEquals("aaa", metrics.getClassName());
+    assertEquals("bbb", metrics.getMethodName());
+    assertEquals(SqlKind.BATCH_UPDATE, metrics.getKind());
+    assertNull(metrics.getSqlFilePath());
+    assertEquals(3, metrics.getUpdatedRows());
+    assertArrayEquals(new int[] {2, 1}, metrics.getBatchSizes());
+  }
+
   @Test
   public void testExecute_throwsOptimisticLockException() throws Exception {
     Emp emp = new Emp();
@@ -103,4 +169,33 @@ public class BatchUpdateCommandTest {
     new BatchUpdateCommand(query).execute();
     query.complete();
   }
+
+  @Test
+  public void testExecute_streaming() throws Exception {
+    List<Emp> emps = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Emp emp = new Emp();
+      emp.setId(i);
+      emp.setName("name" + i);
+      emp.setVersion(10 * i);
+      emps.add(emp);
+    }
+
+    AutoBatchUpdateQuery<Emp> query = new AutoBatchUpdateQuery<Emp>(_Emp.getSingletonInternal());
+    query.setMethod(method);
+    query.setConfig(runtimeConfig);
+    query.setStreamingEntities(emps);
+    query.setBatchSize(2);
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+    int[] rows = new BatchUpdateCommand(query).execute();
+    query.complete();
+
+    assertEquals(3, rows.length);
+    assertEquals(new Integer(1), emps.get(0).getVersion());
+    assertEquals(new Integer(11), emps.get(1).getVersion());
+    assertEquals(new Integer(21), emps.get(2).getVersion());
+  }
 }
@@ -10,6 +10,7 @@ import example.entity.Emp;
 import example.entity._Emp;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -30,6 +31,9 @@ import org.seasar.doma.internal.jdbc.mock.MockResultSet;
 import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
 import org.seasar.doma.internal.jdbc.mock.RowData;
 import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
+import org.seasar.doma.jdbc.CommandMetrics;
+import org.seasar.doma.jdbc.CommandObserver;
+import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.query.SqlFileSelectQuery;
 
@@ -87,6 +91,66 @@ public class SelectCommandTest {
     assertEquals(2, bindValue.getIndex());
   }
 
+  @Test
+  public void testExecute_commandObserver() throws Exception {
+    MockResultSetMetaData metaData = new MockResultSetMetaData();
+    metaData.columns.add(new ColumnMetaData("id"));
+    metaData.columns.add(new ColumnMetaData("name"));
+    metaData.columns.add(new ColumnMetaData("salary"));
+    metaData.columns.add(new ColumnMetaData("version"));
+    MockResultSet resultSet = new MockResultSet(metaData);
+    resultSet.rows.add(new RowData(1, "hoge", new BigDecimal(10000), 100));
+    resultSet.rows.add(new RowData(2, "foo", new BigDecimal(20000), 200));
+    List<CommandMetrics> metricsList = new ArrayList<>();
+    MockConfig config =
+        new MockConfig() {
+          @Override
+          public CommandObserver getCommandObserver() {
+            return new CommandObserver() {
+              @Override
+              public boolean isEnabled() {
+                return true;
+              }
+
+              @Override
+              public void observe(CommandMetrics metrics) {
+                metricsList.add(metrics);
+              }
+            };
+          }
+        };
+    config.dataSource.connection = new MockConnection(new MockPreparedStatement(resultSet));
+
+    SqlFileSelectQuery query = new SqlFileSelectQuery();
+    query.setConfig(config);
+    query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(), method.getName()));
+    query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setMethod(getClass().getMethod(method.getName()));
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+
+    SelectCommand<List<Emp>> command =
+        new SelectCommand<List<Emp>>(
+            query, new EntityResultListHandler<Emp>(_Emp.getSingletonInternal()));
+    List<Emp> entities = command.execute();
+    query.complete();
+
+    assertEquals(2, entities.size());
+    assertEquals(1, metricsList.size());
+    CommandMetrics metrics = metricsList.get(0);
+    assertEquals("aaa", metrics.getClassName());
+    assertEquals("bbb", metrics.getMethodName());
+    assertEquals(SqlKind.SELECT, metrics.getKind());
+    assertEquals(query.getSql().getSqlFilePath(), metrics.getSqlFilePath());
+    assertNotNull(metrics.getSqlFilePath());
+    assertEquals(2, metrics.getFetchedRows());
+    assertEquals(0, metrics.getUpdatedRows());
+    assertEquals(0, metrics.getBatchSizes().length);
+    assertTrue(metrics.getTotalTime() >= metrics.getTime(CommandMetrics.Phase.EXECUTE));
+  }
+
   @Test
   public void testExecute_resultList() throws Exception {
     MockResultSetMetaData metaData = new MockResultSetMetaData();
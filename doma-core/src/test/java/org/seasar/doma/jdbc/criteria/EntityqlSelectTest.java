@@ -1,13 +1,26 @@
 package org.seasar.doma.jdbc.criteria;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.seasar.doma.DomaException;
+import org.seasar.doma.internal.jdbc.mock.ColumnMetaData;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
+import org.seasar.doma.internal.jdbc.mock.MockResultSet;
+import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
+import org.seasar.doma.internal.jdbc.mock.RowData;
 import org.seasar.doma.jdbc.Sql;
 import org.seasar.doma.jdbc.criteria.entity.Dept;
 import org.seasar.doma.jdbc.criteria.entity.Dept_;
@@ -298,4 +311,63 @@ class EntityqlSelectTest {
     assertEquals(Message.DOMA6008, ex.getMessageResource());
     System.out.println(ex.getMessage());
   }
+
+  @Test
+  void fetch() {
+    MockResultSetMetaData metaData = new MockResultSetMetaData();
+    metaData.columns.add(new ColumnMetaData("ID"));
+    metaData.columns.add(new ColumnMetaData("NAME"));
+    metaData.columns.add(new ColumnMetaData("SALARY"));
+    metaData.columns.add(new ColumnMetaData("VERSION"));
+    MockResultSet resultSet = new MockResultSet(metaData);
+    resultSet.rows.add(new RowData(1, "aaa", new BigDecimal(100), 1));
+    resultSet.rows.add(new RowData(2, "bbb", new BigDecimal(200), 1));
+    MockConfig config = new MockConfig();
+    config.dataSource.connection = new MockConnection(new MockPreparedStatement(resultSet));
+
+    Emp_ e = new Emp_();
+    List<Emp> list = new Entityql(config).from(e).fetch();
+
+    assertEquals(2, list.size());
+    assertEquals(1, list.get(0).getId());
+    assertEquals("bbb", list.get(1).getName());
+  }
+
+  @Test
+  void mapStream_associate() {
+    MockResultSetMetaData metaData = new MockResultSetMetaData();
+    metaData.columns.add(new ColumnMetaData("ID"));
+    metaData.columns.add(new ColumnMetaData("NAME"));
+    metaData.columns.add(new ColumnMetaData("ID"));
+    metaData.columns.add(new ColumnMetaData("NAME"));
+    metaData.columns.add(new ColumnMetaData("SALARY"));
+    metaData.columns.add(new ColumnMetaData("VERSION"));
+    MockResultSet resultSet = new MockResultSet(metaData);
+    resultSet.rows.add(new RowData(1, "x", 1, "aaa", new BigDecimal(100), 1));
+    resultSet.rows.add(new RowData(1, "x", 2, "bbb", new BigDecimal(200), 1));
+    resultSet.rows.add(new RowData(2, "y", 3, "ccc", new BigDecimal(300), 1));
+    resultSet.rows.add(new RowData(3, "z", null, null, null, null));
+    MockConfig config = new MockConfig();
+    config.dataSource.connection = new MockConnection(new MockPreparedStatement(resultSet));
+
+    Dept_ d = new Dept_();
+    Emp_ e = new Emp_();
+    Map<Integer, List<String>> names = new HashMap<>();
+    List<String> result =
+        new Entityql(config)
+            .from(d)
+            .leftJoin(e, on -> on.eq(d.id, e.id))
+            .associate(
+                d,
+                e,
+                (dept, emp) ->
+                    names.computeIfAbsent(dept.getId(), k -> new ArrayList<>()).add(emp.getName()),
+                AssociationOption.optional())
+            .orderBy(c -> c.asc(d.id))
+            .mapStream(
+                s -> s.map(dept -> dept.getName() + names.get(dept.getId())).collect(toList()));
+
+    assertEquals(Arrays.asList("x[aaa, bbb]", "y[ccc]", "znull"), result);
+    assertTrue(resultSet.closed);
+  }
 }
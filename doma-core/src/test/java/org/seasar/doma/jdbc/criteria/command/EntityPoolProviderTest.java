@@ -0,0 +1,102 @@
+package org.seasar.doma.jdbc.criteria.command;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.seasar.doma.internal.jdbc.mock.ColumnMetaData;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockResultSet;
+import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
+import org.seasar.doma.internal.jdbc.mock.RowData;
+import org.seasar.doma.jdbc.criteria.entity.Dept_;
+import org.seasar.doma.jdbc.criteria.entity.NoIdEmp_;
+import org.seasar.doma.jdbc.criteria.metamodel.EntityMetamodel;
+import org.seasar.doma.jdbc.criteria.metamodel.PropertyMetamodel;
+import org.seasar.doma.jdbc.query.SqlSelectQuery;
+
+class EntityPoolProviderTest {
+
+  private final Dept_ d = new Dept_();
+
+  private final NoIdEmp_ e = new NoIdEmp_();
+
+  @Test
+  void testGet() throws Exception {
+    MockResultSetMetaData metaData = new MockResultSetMetaData();
+    metaData.columns.add(new ColumnMetaData("id"));
+    metaData.columns.add(new ColumnMetaData("name"));
+    metaData.columns.add(new ColumnMetaData("id"));
+    metaData.columns.add(new ColumnMetaData("name"));
+    metaData.columns.add(new ColumnMetaData("salary"));
+    metaData.columns.add(new ColumnMetaData("version"));
+    MockResultSet resultSet = new MockResultSet(metaData);
+    resultSet.rows.add(new RowData(1, "aaa", 10, "bbb", new BigDecimal(100), 1));
+    resultSet.rows.add(new RowData(1, "aaa", null, null, null, null));
+    resultSet.rows.add(new RowData(1, "aaa", 10, "bbb", new BigDecimal(100), 1));
+
+    EntityPoolProvider provider = createProvider(d.allPropertyMetamodels());
+
+    resultSet.next();
+    List<Map.Entry<EntityKey, EntityData>> entries = entries(provider.get(resultSet));
+    assertEquals(2, entries.size());
+    assertEquals(d, entries.get(0).getKey().getEntityMetamodel());
+    assertEquals(1, entries.get(0).getValue().getStates().get("id").get());
+    assertEquals("aaa", entries.get(0).getValue().getStates().get("name").get());
+    assertEquals(e, entries.get(1).getKey().getEntityMetamodel());
+    assertEquals(4, entries.get(1).getValue().getStates().size());
+    assertEquals("bbb", entries.get(1).getValue().getStates().get("name").get());
+    EntityKey deptKey = entries.get(0).getKey();
+    EntityKey empKey = entries.get(1).getKey();
+
+    resultSet.next();
+    entries = entries(provider.get(resultSet));
+    assertEquals(1, entries.size());
+    assertEquals(deptKey, entries.get(0).getKey());
+
+    resultSet.next();
+    entries = entries(provider.get(resultSet));
+    assertEquals(2, entries.size());
+    assertEquals(deptKey, entries.get(0).getKey());
+    assertNotEquals(empKey, entries.get(1).getKey());
+  }
+
+  @Test
+  void testGet_idNotProjected() throws Exception {
+    MockResultSetMetaData metaData = new MockResultSetMetaData();
+    metaData.columns.add(new ColumnMetaData("name"));
+    metaData.columns.add(new ColumnMetaData("id"));
+    metaData.columns.add(new ColumnMetaData("name"));
+    metaData.columns.add(new ColumnMetaData("salary"));
+    metaData.columns.add(new ColumnMetaData("version"));
+    MockResultSet resultSet = new MockResultSet(metaData);
+    resultSet.rows.add(new RowData("aaa", 10, "bbb", new BigDecimal(100), 1));
+    resultSet.rows.add(new RowData("ccc", 10, "bbb", new BigDecimal(100), 1));
+
+    EntityPoolProvider provider = createProvider(Arrays.asList(d.name));
+
+    resultSet.next();
+    EntityKey key1 = entries(provider.get(resultSet)).get(0).getKey();
+    resultSet.next();
+    EntityKey key2 = entries(provider.get(resultSet)).get(0).getKey();
+    assertEquals(key1, key2);
+  }
+
+  private EntityPoolProvider createProvider(List<PropertyMetamodel<?>> deptProperties) {
+    Map<EntityMetamodel<?>, List<PropertyMetamodel<?>>> projection = new LinkedHashMap<>();
+    projection.put(d, deptProperties);
+    projection.put(e, e.allPropertyMetamodels());
+    SqlSelectQuery query = new SqlSelectQuery();
+    query.setConfig(new MockConfig());
+    return new EntityPoolProvider(projection, query);
+  }
+
+  private List<Map.Entry<EntityKey, EntityData>> entries(EntityPool pool) {
+    return new ArrayList<>(pool.entrySet());
+  }
+}
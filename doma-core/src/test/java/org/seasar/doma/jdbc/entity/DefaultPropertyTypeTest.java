@@ -11,7 +11,6 @@ import org.seasar.doma.wrapper.StringWrapper;
 
 public class DefaultPropertyTypeTest {
 
-  @SuppressWarnings("unused")
   private String hoge;
 
   @SuppressWarnings("unused")
@@ -230,6 +229,30 @@ public class DefaultPropertyTypeTest {
     assertNull(property.get());
   }
 
+  @Test
+  public void testLoadAndSave_accessors() throws Exception {
+    DefaultPropertyType<DefaultPropertyTypeTest, String, String> propertyType =
+        new DefaultPropertyType<>(
+            DefaultPropertyTypeTest.class,
+            () -> new BasicScalar<>(StringWrapper::new),
+            "hoge",
+            "",
+            NamingType.NONE,
+            true,
+            true,
+            false,
+            e -> e.hoge,
+            (e, v) -> e.hoge = (String) v);
+    DefaultPropertyTypeTest src = new DefaultPropertyTypeTest();
+    src.hoge = "aaa";
+    DefaultPropertyTypeTest dest = new DefaultPropertyTypeTest();
+    Property<DefaultPropertyTypeTest, String> property = propertyType.createProperty();
+    property.load(src);
+    assertEquals("aaa", property.get());
+    property.save(dest);
+    assertEquals("aaa", dest.hoge);
+  }
+
   public static class Foo {
     String hoge;
   }
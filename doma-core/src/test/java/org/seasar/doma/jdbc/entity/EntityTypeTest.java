@@ -11,6 +11,7 @@ import example.entity._Emp;
 import example.entity._ImmutableEmp;
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +47,33 @@ public class EntityTypeTest {
     assertNull(newEmp.getVersion());
   }
 
+  @Test
+  public void testImmutable_newEntity_positional() throws Exception {
+    ImmutableEmp emp = new ImmutableEmp(99, "hoge", BigDecimal.ONE, 1);
+    EntityType<ImmutableEmp> entityType = _ImmutableEmp.getSingletonInternal();
+    List<EntityPropertyType<ImmutableEmp, ?>> propertyTypes = entityType.getEntityPropertyTypes();
+    @SuppressWarnings("unchecked")
+    Property<ImmutableEmp, ?>[] args =
+        (Property<ImmutableEmp, ?>[]) new Property<?, ?>[propertyTypes.size()];
+
+    EntityPropertyType<ImmutableEmp, ?> idType = entityType.getEntityPropertyType("id");
+    Property<ImmutableEmp, ?> id = idType.createProperty();
+    id.load(emp);
+    args[propertyTypes.indexOf(idType)] = id;
+
+    EntityPropertyType<ImmutableEmp, ?> salaryType = entityType.getEntityPropertyType("salary");
+    Property<ImmutableEmp, ?> salary = salaryType.createProperty();
+    salary.load(emp);
+    args[propertyTypes.indexOf(salaryType)] = salary;
+
+    ImmutableEmp newEmp = entityType.newEntity(args);
+
+    assertEquals(Integer.valueOf(99), newEmp.getId());
+    assertNull(newEmp.getName());
+    assertEquals(BigDecimal.ONE, newEmp.getSalary());
+    assertNull(newEmp.getVersion());
+  }
+
   @SuppressWarnings("deprecation")
   @Test
   public void testGetTableName() throws Exception {
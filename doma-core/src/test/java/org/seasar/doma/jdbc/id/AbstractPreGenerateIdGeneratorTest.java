@@ -0,0 +1,141 @@
+package org.seasar.doma.jdbc.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import example.entity._IdGeneratedEmp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.seasar.doma.GenerationType;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.jdbc.JdbcLogger;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
+
+public class AbstractPreGenerateIdGeneratorTest {
+
+  private final IdGenerationConfig idGenerationConfig =
+      new IdGenerationConfig(new MockConfig(), _IdGeneratedEmp.getSingletonInternal());
+
+  @Test
+  public void testGeneratePreInsert() throws Exception {
+    MyIdGenerator idGenerator = new MyIdGenerator();
+    idGenerator.setAllocationSize(3);
+    for (long i = 1; i <= 7; i++) {
+      assertEquals(Long.valueOf(i), idGenerator.generatePreInsert(idGenerationConfig));
+    }
+    assertEquals(3, idGenerator.fetchCount.get());
+  }
+
+  @Test
+  public void testGeneratePreInsert_prefetch() throws Exception {
+    MyIdGenerator idGenerator = new MyIdGenerator();
+    idGenerator.setAllocationSize(5);
+    idGenerator.setPrefetchThreshold(2);
+    for (long i = 1; i <= 3; i++) {
+      assertEquals(Long.valueOf(i), idGenerator.generatePreInsert(idGenerationConfig));
+    }
+    assertEquals(2, idGenerator.fetchCount.get());
+    for (long i = 4; i <= 6; i++) {
+      assertEquals(Long.valueOf(i), idGenerator.generatePreInsert(idGenerationConfig));
+    }
+    assertEquals(2, idGenerator.fetchCount.get());
+  }
+
+  @Test
+  public void testGeneratePreInsert_prefetchFailure() throws Exception {
+    List<RuntimeException> failures = new ArrayList<>();
+    JdbcLogger logger =
+        new UtilLoggingJdbcLogger() {
+          @Override
+          public void logIdPrefetchFailure(
+              String callerClassName, String callerMethodName, RuntimeException e) {
+            failures.add(e);
+          }
+        };
+    MockConfig config =
+        new MockConfig() {
+          @Override
+          public JdbcLogger getJdbcLogger() {
+            return logger;
+          }
+        };
+    IdGenerationConfig idGenerationConfig =
+        new IdGenerationConfig(config, _IdGeneratedEmp.getSingletonInternal());
+    RuntimeException exception = new RuntimeException();
+    MyIdGenerator idGenerator = new MyIdGenerator();
+    idGenerator.setAllocationSize(5);
+    idGenerator.setPrefetchThreshold(2);
+    for (long i = 1; i <= 2; i++) {
+      assertEquals(Long.valueOf(i), idGenerator.generatePreInsert(idGenerationConfig));
+    }
+    idGenerator.failure = exception;
+    assertEquals(Long.valueOf(3), idGenerator.generatePreInsert(idGenerationConfig));
+    assertEquals(1, failures.size());
+    assertSame(exception, failures.get(0));
+    idGenerator.failure = null;
+    for (long i = 4; i <= 6; i++) {
+      assertEquals(Long.valueOf(i), idGenerator.generatePreInsert(idGenerationConfig));
+    }
+    assertEquals(2, idGenerator.fetchCount.get());
+  }
+
+  @Test
+  public void testGeneratePreInsert_concurrent() throws Exception {
+    MyIdGenerator idGenerator = new MyIdGenerator();
+    idGenerator.setAllocationSize(10);
+    idGenerator.setPrefetchThreshold(3);
+    Set<Long> values = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 1000; j++) {
+                    values.add(idGenerator.generatePreInsert(idGenerationConfig));
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(8000, values.size());
+  }
+
+  private static class MyIdGenerator extends AbstractPreGenerateIdGenerator {
+
+    private final AtomicInteger fetchCount = new AtomicInteger();
+
+    private long nextInitialValue = 1;
+
+    private volatile RuntimeException failure;
+
+    @Override
+    protected synchronized long getNewInitialValue(IdGenerationConfig config) {
+      if (failure != null) {
+        throw failure;
+      }
+      fetchCount.incrementAndGet();
+      long value = nextInitialValue;
+      nextInitialValue += allocationSize;
+      return value;
+    }
+
+    @Override
+    public GenerationType getGenerationType() {
+      return GenerationType.SEQUENCE;
+    }
+  }
+}
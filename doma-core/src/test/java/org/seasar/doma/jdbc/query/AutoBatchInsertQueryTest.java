@@ -1,6 +1,7 @@
 package org.seasar.doma.jdbc.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -8,6 +9,7 @@ import example.entity.Emp;
 import example.entity._Emp;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,7 @@ import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.jdbc.InParameter;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.dialect.PostgresDialect;
 
 public class AutoBatchInsertQueryTest {
 
@@ -93,4 +96,63 @@ public class AutoBatchInsertQueryTest {
     assertEquals(new BigDecimal(2000), parameters.get(2).getWrapper().get());
     assertEquals(new Integer(10), parameters.get(3).getWrapper().get());
   }
+
+  @Test
+  public void testMultiRow() throws Exception {
+    runtimeConfig.dialect = new PostgresDialect();
+    List<Emp> emps = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Emp emp = new Emp();
+      emp.setId(i);
+      emp.setName("name" + i);
+      emps.add(emp);
+    }
+
+    AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(_Emp.getSingletonInternal());
+    query.setMethod(method);
+    query.setConfig(runtimeConfig);
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setEntities(emps);
+    query.setBatchSize(2);
+    query.setMultiRow(true);
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+
+    assertTrue(query.isMultiRow());
+    List<PreparedSql> sqls = query.getSqls();
+    assertEquals(3, sqls.size());
+    assertEquals(
+        "insert into EMP (ID, NAME, SALARY, VERSION) values (?, ?, ?, ?), (?, ?, ?, ?)",
+        sqls.get(0).getRawSql());
+    assertEquals(8, sqls.get(0).getParameters().size());
+    assertEquals(2, query.getRowCount(sqls.get(0)));
+    assertEquals(
+        "insert into EMP (ID, NAME, SALARY, VERSION) values (?, ?, ?, ?)", sqls.get(2).getRawSql());
+    assertEquals(1, query.getRowCount(sqls.get(2)));
+  }
+
+  @Test
+  public void testMultiRow_unsupportedDialect() throws Exception {
+    Emp emp1 = new Emp();
+    emp1.setId(10);
+    emp1.setName("aaa");
+
+    Emp emp2 = new Emp();
+    emp2.setId(20);
+    emp2.setName("bbb");
+
+    AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(_Emp.getSingletonInternal());
+    query.setMethod(method);
+    query.setConfig(runtimeConfig);
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setEntities(Arrays.asList(emp1, emp2));
+    query.setMultiRow(true);
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+
+    assertFalse(query.isMultiRow());
+    assertEquals(2, query.getSqls().size());
+  }
 }
@@ -19,6 +19,9 @@ import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.jdbc.InParameter;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.criteria.metamodel.EntityTypeProxy;
+import org.seasar.doma.jdbc.entity.EntityPropertyType;
+import org.seasar.doma.jdbc.entity.EntityType;
 
 public class AutoUpdateQueryTest {
 
@@ -51,6 +54,50 @@ public class AutoUpdateQueryTest {
     assertNotNull(updateQuery.getSql());
   }
 
+  @Test
+  public void testOriginalStatesSnapshot() throws Exception {
+    Emp emp = new Emp();
+    emp.setId(10);
+    emp.setName("aaa");
+    emp.setVersion(100);
+
+    List<EntityPropertyType<Emp, ?>> propertyTypes =
+        _Emp.getSingletonInternal().getEntityPropertyTypes();
+    Object[] snapshot = new Object[propertyTypes.size()];
+    for (int i = 0; i < snapshot.length; i++) {
+      EntityPropertyType<Emp, ?> propertyType = propertyTypes.get(i);
+      snapshot[i] =
+          "name".equals(propertyType.getName())
+              ? "bbb"
+              : propertyType.createProperty().load(emp).getWrapper().get();
+    }
+    EntityType<Emp> entityType =
+        new EntityTypeProxy<Emp>(_Emp.getSingletonInternal(), "EMP") {
+          @Override
+          public Emp getOriginalStates(Emp entity) {
+            return null;
+          }
+
+          @Override
+          public Object[] getOriginalStatesSnapshot(Emp entity) {
+            return snapshot;
+          }
+        };
+
+    AutoUpdateQuery<Emp> query = new AutoUpdateQuery<Emp>(entityType);
+    query.setMethod(method);
+    query.setConfig(runtimeConfig);
+    query.setEntity(emp);
+    query.setCallerClassName("aaa");
+    query.setCallerMethodName("bbb");
+    query.setSqlLogType(SqlLogType.FORMATTED);
+    query.prepare();
+
+    PreparedSql sql = query.getSql();
+    assertEquals(
+        "update EMP set NAME = ?, VERSION = ? + 1 where ID = ? and VERSION = ?", sql.getRawSql());
+  }
+
   @Test
   public void testOption_default() throws Exception {
     Emp emp = new Emp();
@@ -0,0 +1,45 @@
+package org.seasar.doma.jdbc.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.jdbc.SelectOptions;
+import org.seasar.doma.jdbc.dialect.StandardDialect;
+
+public class SqlFileSelectQueryTest {
+
+  private final MockConfig runtimeConfig = new MockConfig();
+
+  @Test
+  public void testCreateTransformationKey() throws Exception {
+    SqlFileSelectQuery query = new SqlFileSelectQuery();
+    query.setConfig(runtimeConfig);
+    Object key1 = query.createTransformationKey(SelectOptions.get().offset(5).limit(10));
+    Object key2 = query.createTransformationKey(SelectOptions.get().offset(20).limit(30));
+    Object key3 = query.createTransformationKey(SelectOptions.get().offset(0).limit(10));
+    Object key4 = query.createTransformationKey(SelectOptions.get().limit(10));
+    assertEquals(key1, key2);
+    assertNotEquals(key1, key3);
+    assertNotEquals(key3, key4);
+  }
+
+  @Test
+  public void testCreateTransformationKey_pagingVariablesUnsupported() throws Exception {
+    runtimeConfig.dialect =
+        new StandardDialect() {
+          @Override
+          public boolean supportsPagingVariables() {
+            return false;
+          }
+        };
+    SqlFileSelectQuery query = new SqlFileSelectQuery();
+    query.setConfig(runtimeConfig);
+    Object key1 = query.createTransformationKey(SelectOptions.get().offset(5).limit(10));
+    Object key2 = query.createTransformationKey(SelectOptions.get().offset(20).limit(30));
+    Object key3 = query.createTransformationKey(SelectOptions.get().offset(5).limit(10));
+    assertNotEquals(key1, key2);
+    assertEquals(key1, key3);
+  }
+}
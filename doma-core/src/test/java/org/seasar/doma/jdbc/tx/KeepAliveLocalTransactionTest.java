@@ -321,10 +321,10 @@ public class KeepAliveLocalTransactionTest {
 
   @Test
   public void testInitAndDestory() throws Exception {
-    assertNull(transaction.localTxContextHolder.get());
+    assertNull(transaction.txContextHolder.get());
     transaction.init();
-    assertNotNull(transaction.localTxContextHolder.get());
+    assertNotNull(transaction.txContextHolder.get());
     transaction.destroy();
-    assertNull(transaction.localTxContextHolder.get());
+    assertNull(transaction.txContextHolder.get());
   }
 }
@@ -1,14 +1,22 @@
 package org.seasar.doma.jdbc.tx;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
 
 public class LocalTransactionConnectionTest {
 
@@ -37,4 +45,185 @@ public class LocalTransactionConnectionTest {
       }
     }
   }
+
+  @Test
+  public void testPrepareStatement_cached() throws Exception {
+    MyConnection myConnection = new MyConnection();
+    LocalTransactionConnection connection =
+        new LocalTransactionConnection(
+            myConnection, Connection.TRANSACTION_READ_COMMITTED, true, 2);
+
+    PreparedStatement statement = connection.prepareStatement("select 1");
+    assertSame(connection, statement.getConnection());
+    statement.setFetchSize(100);
+    statement.setMaxRows(10);
+    statement.setQueryTimeout(30);
+    statement.close();
+    assertTrue(statement.isClosed());
+    MyPreparedStatement physical = myConnection.statements.get(0);
+    assertFalse(physical.isClosed());
+    assertEquals(5, physical.fetchSize);
+    assertEquals(3, physical.maxRows);
+    assertEquals(1, physical.queryTimeout);
+    assertEquals(1, physical.clearWarningsCount);
+
+    PreparedStatement statement2 = connection.prepareStatement("select 1");
+    assertNotSame(statement, statement2);
+    assertEquals(1, myConnection.statements.size());
+    statement2.close();
+
+    connection.prepareStatement("select 2").close();
+    connection.prepareStatement("select 3").close();
+    assertEquals(3, myConnection.statements.size());
+    assertTrue(physical.isClosed());
+
+    connection.closeCachedStatements();
+    assertTrue(myConnection.statements.get(1).isClosed());
+    assertTrue(myConnection.statements.get(2).isClosed());
+  }
+
+  @Test
+  public void testPrepareStatement_inUse() throws Exception {
+    MyConnection myConnection = new MyConnection();
+    LocalTransactionConnection connection =
+        new LocalTransactionConnection(
+            myConnection, Connection.TRANSACTION_READ_COMMITTED, true, 2);
+
+    PreparedStatement statement = connection.prepareStatement("select 1");
+    PreparedStatement statement2 = connection.prepareStatement("select 1");
+    assertEquals(2, myConnection.statements.size());
+    statement.close();
+    statement2.close();
+    assertFalse(myConnection.statements.get(0).isClosed());
+    assertTrue(myConnection.statements.get(1).isClosed());
+  }
+
+  @Test
+  public void testPrepareStatement_notCached() throws Exception {
+    MyConnection myConnection = new MyConnection();
+    LocalTransactionConnection connection =
+        new LocalTransactionConnection(myConnection, Connection.TRANSACTION_READ_COMMITTED, true);
+
+    PreparedStatement statement = connection.prepareStatement("select 1");
+    statement.close();
+    assertSame(myConnection.statements.get(0), statement);
+    assertTrue(statement.isClosed());
+  }
+
+  @Test
+  public void testPrepareStatement_cached_overloads() throws Exception {
+    MyConnection myConnection = new MyConnection();
+    LocalTransactionConnection connection =
+        new LocalTransactionConnection(
+            myConnection, Connection.TRANSACTION_READ_COMMITTED, true, 10);
+
+    connection.prepareStatement("select 1", new String[] {"ID"}).close();
+    connection.prepareStatement("select 1", new String[] {"ID"}).close();
+    assertEquals(1, myConnection.statements.size());
+
+    connection
+        .prepareStatement("select 1", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+        .close();
+    connection
+        .prepareStatement("select 1", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+        .close();
+    assertEquals(2, myConnection.statements.size());
+
+    connection
+        .prepareStatement(
+            "select 1",
+            ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY,
+            ResultSet.HOLD_CURSORS_OVER_COMMIT)
+        .close();
+    connection
+        .prepareStatement(
+            "select 1",
+            ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY,
+            ResultSet.HOLD_CURSORS_OVER_COMMIT)
+        .close();
+    assertEquals(3, myConnection.statements.size());
+
+    connection.prepareStatement("select 1").close();
+    assertEquals(4, myConnection.statements.size());
+  }
+
+  private static class MyConnection extends MockConnection {
+
+    private final List<MyPreparedStatement> statements = new ArrayList<>();
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+      MyPreparedStatement statement = new MyPreparedStatement();
+      statement.sql = sql;
+      statements.add(statement);
+      return statement;
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames)
+        throws SQLException {
+      return prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+      return prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+        throws SQLException {
+      return prepareStatement(sql);
+    }
+  }
+
+  private static class MyPreparedStatement extends MockPreparedStatement {
+
+    private int fetchSize = 5;
+
+    private int maxRows = 3;
+
+    private int queryTimeout = 1;
+
+    private int clearWarningsCount;
+
+    @Override
+    public int getFetchSize() throws SQLException {
+      return fetchSize;
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+      fetchSize = rows;
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+      return maxRows;
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+      maxRows = max;
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+      return queryTimeout;
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+      queryTimeout = seconds;
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+      clearWarningsCount++;
+    }
+  }
 }
@@ -2,10 +2,14 @@ package org.seasar.doma.jdbc.tx;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.internal.jdbc.mock.MockConnection;
@@ -33,6 +37,30 @@ public class LocalTransactionTest {
     assertEquals(TransactionIsolationLevel.READ_COMMITTED.getLevel(), connection.isolationLevel);
   }
 
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testLocalTxContextHolder() throws Exception {
+    transaction.begin();
+    assertNotNull(transaction.localTxContextHolder.get());
+    assertSame(transaction.txContextHolder.get(), transaction.localTxContextHolder.get());
+    transaction.rollback();
+    assertNull(transaction.localTxContextHolder.get());
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testLocalTxContextHolder_scoped() throws Exception {
+    AtomicReference<LocalTransactionContext> slot = new AtomicReference<>();
+    LocalTransactionDataSource dataSource =
+        new LocalTransactionDataSource(
+            new MockDataSource(), new ScopedLocalTransactionContextHolder(() -> slot));
+    LocalTransaction transaction = dataSource.getLocalTransaction(jdbcLogger);
+    assertNull(transaction.localTxContextHolder);
+    transaction.begin();
+    assertNotNull(transaction.txContextHolder.get());
+    transaction.rollback();
+  }
+
   @Test
   public void testBeginImlicitDefaultTransactionIsolationLevel() throws Exception {
     LocalTransaction transaction =
@@ -0,0 +1,63 @@
+package org.seasar.doma.jdbc.tx;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.seasar.doma.internal.jdbc.mock.MockDataSource;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
+import org.seasar.doma.message.Message;
+
+public class ScopedLocalTransactionContextHolderTest {
+
+  private final AtomicReference<AtomicReference<LocalTransactionContext>> scope =
+      new AtomicReference<>();
+
+  private final LocalTransactionDataSource dataSource =
+      new LocalTransactionDataSource(
+          new MockDataSource(), new ScopedLocalTransactionContextHolder(scope::get));
+
+  private final LocalTransaction transaction =
+      dataSource.getLocalTransaction(new UtilLoggingJdbcLogger());
+
+  @Test
+  public void testBeginAndCommit() throws Exception {
+    AtomicReference<LocalTransactionContext> slot = new AtomicReference<>();
+    scope.set(slot);
+    transaction.begin();
+    assertTrue(transaction.isActive());
+    dataSource.getConnection();
+    scope.set(new AtomicReference<>());
+    assertFalse(transaction.isActive());
+    scope.set(slot);
+    transaction.commit();
+    assertFalse(transaction.isActive());
+    assertNull(slot.get());
+  }
+
+  @Test
+  public void testBegin_slotNotBound() throws Exception {
+    try {
+      transaction.begin();
+      fail();
+    } catch (JdbcException expected) {
+      System.out.println(expected.getMessage());
+      assertTrue(expected.getMessage().startsWith("[" + Message.DOMA2236.getCode() + "]"));
+    }
+    assertFalse(transaction.isActive());
+  }
+
+  @Test
+  public void testGetConnection_slotNotBound() throws Exception {
+    try {
+      dataSource.getConnection();
+      fail();
+    } catch (TransactionNotYetBegunException expected) {
+      System.out.println(expected.getMessage());
+    }
+  }
+}
@@ -0,0 +1 @@
+select x from dual order by x
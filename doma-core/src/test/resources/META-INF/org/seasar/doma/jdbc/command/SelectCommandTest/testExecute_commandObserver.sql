@@ -0,0 +1 @@
+select * from aaa where sarary >= /*salary*/100
\ No newline at end of file
@@ -42,6 +42,8 @@ public final class Options {
 
   public static final String SQL_VALIDATION = "doma.sql.validation";
 
+  public static final String SQL_EMBEDDING = "doma.sql.embedding";
+
   public static final String VERSION_VALIDATION = "doma.version.validation";
 
   public static final String CONFIG_PATH = "doma.config.path";
@@ -139,6 +141,11 @@ public final class Options {
     return v != null ? Boolean.valueOf(v) : true;
   }
 
+  public boolean getSqlEmbedding() {
+    String v = getOption(SQL_EMBEDDING);
+    return v != null ? Boolean.valueOf(v) : false;
+  }
+
   public boolean getVersionValidation() {
     String v = getOption(VERSION_VALIDATION);
     return v != null ? Boolean.valueOf(v) : true;
@@ -21,6 +21,8 @@ public abstract class BatchModifyAnnot extends AbstractAnnot {
   public static final String SQL_LOG = "sqlLog";
   public static final String INCLUDE = "include";
   public static final String EXCLUDE = "exclude";
+  public static final String MULTI_ROW = "multiRow";
+  public static final String STREAMING = "streaming";
 
   private final AnnotationValue sqlFile;
 
@@ -36,6 +38,10 @@ public abstract class BatchModifyAnnot extends AbstractAnnot {
 
   private final AnnotationValue exclude;
 
+  private final AnnotationValue multiRow;
+
+  private final AnnotationValue streaming;
+
   private final AnnotationValue sqlLog;
 
   BatchModifyAnnot(AnnotationMirror annotationMirror, Map<String, AnnotationValue> values) {
@@ -52,6 +58,8 @@ public abstract class BatchModifyAnnot extends AbstractAnnot {
     this.suppressOptimisticLockException = values.get(SUPPRESS_OPTIMISTIC_LOCK_EXCEPTION);
     this.include = values.get(INCLUDE);
     this.exclude = values.get(EXCLUDE);
+    this.multiRow = values.get(MULTI_ROW);
+    this.streaming = values.get(STREAMING);
   }
 
   public AnnotationValue getSqlFile() {
@@ -82,6 +90,14 @@ public abstract class BatchModifyAnnot extends AbstractAnnot {
     return exclude;
   }
 
+  public AnnotationValue getMultiRow() {
+    return multiRow;
+  }
+
+  public AnnotationValue getStreaming() {
+    return streaming;
+  }
+
   public AnnotationValue getSqlLog() {
     return sqlLog;
   }
@@ -118,6 +134,15 @@ public abstract class BatchModifyAnnot extends AbstractAnnot {
     return AnnotationValueUtil.toStringList(exclude);
   }
 
+  public Boolean getMultiRowValue() {
+    return AnnotationValueUtil.toBoolean(multiRow);
+  }
+
+  public boolean getStreamingValue() {
+    Boolean value = AnnotationValueUtil.toBoolean(streaming);
+    return value != null && value;
+  }
+
   public SqlLogType getSqlLogValue() {
     VariableElement enumConstant = AnnotationValueUtil.toEnumConstant(sqlLog);
     if (enumConstant == null) {
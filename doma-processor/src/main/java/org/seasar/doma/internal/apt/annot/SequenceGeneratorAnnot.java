@@ -21,6 +21,8 @@ public class SequenceGeneratorAnnot extends AbstractAnnot {
 
   private static final String ALLOCATION_SIZE = "allocationSize";
 
+  private static final String PREFETCH_THRESHOLD = "prefetchThreshold";
+
   private static final String IMPLEMENTER = "implementer";
 
   private final AnnotationValue catalog;
@@ -33,6 +35,8 @@ public class SequenceGeneratorAnnot extends AbstractAnnot {
 
   private final AnnotationValue allocationSize;
 
+  private final AnnotationValue prefetchThreshold;
+
   private final AnnotationValue implementer;
 
   SequenceGeneratorAnnot(AnnotationMirror annotationMirror, Map<String, AnnotationValue> values) {
@@ -42,6 +46,7 @@ public class SequenceGeneratorAnnot extends AbstractAnnot {
     this.sequence = assertNonNullValue(values, SEQUENCE);
     this.initialValue = assertNonNullValue(values, INITIAL_VALUE);
     this.allocationSize = assertNonNullValue(values, ALLOCATION_SIZE);
+    this.prefetchThreshold = assertNonNullValue(values, PREFETCH_THRESHOLD);
     this.implementer = assertNonNullValue(values, IMPLEMENTER);
   }
 
@@ -65,6 +70,10 @@ public class SequenceGeneratorAnnot extends AbstractAnnot {
     return allocationSize;
   }
 
+  public AnnotationValue getPrefetchThreshold() {
+    return prefetchThreshold;
+  }
+
   public AnnotationValue getImplementer() {
     return implementer;
   }
@@ -109,6 +118,14 @@ public class SequenceGeneratorAnnot extends AbstractAnnot {
     return value;
   }
 
+  public Long getPrefetchThresholdValue() {
+    Long value = AnnotationValueUtil.toLong(prefetchThreshold);
+    if (value == null) {
+      throw new AptIllegalStateException(PREFETCH_THRESHOLD);
+    }
+    return value;
+  }
+
   public TypeMirror getImplementerValue() {
     TypeMirror value = AnnotationValueUtil.toType(implementer);
     if (value == null) {
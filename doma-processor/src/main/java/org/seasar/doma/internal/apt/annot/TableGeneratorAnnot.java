@@ -27,6 +27,8 @@ public class TableGeneratorAnnot extends AbstractAnnot {
 
   private static final String ALLOCATION_SIZE = "allocationSize";
 
+  private static final String PREFETCH_THRESHOLD = "prefetchThreshold";
+
   private static final String IMPLEMENTER = "implementer";
 
   private final AnnotationValue catalog;
@@ -45,6 +47,8 @@ public class TableGeneratorAnnot extends AbstractAnnot {
 
   private final AnnotationValue allocationSize;
 
+  private final AnnotationValue prefetchThreshold;
+
   private final AnnotationValue implementer;
 
   TableGeneratorAnnot(AnnotationMirror annotationMirror, Map<String, AnnotationValue> values) {
@@ -57,6 +61,7 @@ public class TableGeneratorAnnot extends AbstractAnnot {
     this.pkColumnValue = assertNonNullValue(values, PK_COLUMN_VALUE);
     this.initialValue = assertNonNullValue(values, INITIAL_VALUE);
     this.allocationSize = assertNonNullValue(values, ALLOCATION_SIZE);
+    this.prefetchThreshold = assertNonNullValue(values, PREFETCH_THRESHOLD);
     this.implementer = assertNonNullValue(values, IMPLEMENTER);
   }
 
@@ -92,6 +97,10 @@ public class TableGeneratorAnnot extends AbstractAnnot {
     return allocationSize;
   }
 
+  public AnnotationValue getPrefetchThreshold() {
+    return prefetchThreshold;
+  }
+
   public AnnotationValue getImplementer() {
     return implementer;
   }
@@ -160,6 +169,14 @@ public class TableGeneratorAnnot extends AbstractAnnot {
     return value;
   }
 
+  public Long getPrefetchThresholdValue() {
+    Long value = AnnotationValueUtil.toLong(prefetchThreshold);
+    if (value == null) {
+      throw new AptIllegalStateException(PREFETCH_THRESHOLD);
+    }
+    return value;
+  }
+
   public TypeMirror getImplementerValue() {
     TypeMirror value = AnnotationValueUtil.toType(implementer);
     if (value == null) {
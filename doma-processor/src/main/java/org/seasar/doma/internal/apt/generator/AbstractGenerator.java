@@ -51,6 +51,39 @@ public abstract class AbstractGenerator implements Generator {
     }
   }
 
+  protected String toStringLiteral(String value) {
+    StringBuilder buf = new StringBuilder(value.length() + 2);
+    buf.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          buf.append("\\\"");
+          break;
+        case '\\':
+          buf.append("\\\\");
+          break;
+        case '\n':
+          buf.append("\\n");
+          break;
+        case '\r':
+          buf.append("\\r");
+          break;
+        case '\t':
+          buf.append("\\t");
+          break;
+        default:
+          if (c < 0x20 || c > 0x7E) {
+            buf.append(String.format("\\u%04x", (int) c));
+          } else {
+            buf.append(c);
+          }
+      }
+    }
+    buf.append('"');
+    return buf.toString();
+  }
+
   protected void iprint(String format, Object... args) {
     printer.iprint(format, args);
   }
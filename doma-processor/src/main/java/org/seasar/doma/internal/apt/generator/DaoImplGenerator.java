@@ -5,6 +5,9 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
@@ -19,21 +22,29 @@ import org.seasar.doma.internal.apt.Context;
 import org.seasar.doma.internal.apt.annot.AnnotationAnnot;
 import org.seasar.doma.internal.apt.meta.dao.DaoMeta;
 import org.seasar.doma.internal.apt.meta.dao.ParentDaoMeta;
+import org.seasar.doma.internal.apt.meta.query.EmbeddedSqlMeta;
 import org.seasar.doma.internal.apt.meta.query.QueryKind;
 import org.seasar.doma.internal.apt.meta.query.QueryMeta;
 import org.seasar.doma.internal.apt.meta.query.QueryParameterMeta;
 import org.seasar.doma.internal.jdbc.dao.DaoImplSupport;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSql;
+import org.seasar.doma.internal.jdbc.sql.EmbeddedSqlRegistry;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.ConfigProvider;
 
 public class DaoImplGenerator extends AbstractGenerator {
 
+  /** the maximum number of the SQL nodes that the generated methods of a class build */
+  private static final int MAX_SQL_NODES_PER_CLASS = 20000;
+
   private final DaoMeta daoMeta;
 
   private final ParentDaoMeta parentDaoMeta;
 
   private final CharSequence parentDaoClassName;
 
+  private final Map<EmbeddedSqlMeta, String> sqlNodeFactoryMethodNames;
+
   public DaoImplGenerator(
       Context ctx,
       ClassName className,
@@ -49,6 +60,7 @@ public class DaoImplGenerator extends AbstractGenerator {
     } else {
       parentDaoClassName = classNameProvider.apply(parentDaoMeta.getTypeElement());
     }
+    sqlNodeFactoryMethodNames = createSqlNodeFactoryMethodNames();
   }
 
   @Override
@@ -80,6 +92,7 @@ public class DaoImplGenerator extends AbstractGenerator {
     print("%n");
     indent();
     printValidateVersionStaticInitializer();
+    printEmbeddedSqlStaticInitializer();
     printStaticFields();
     printFields();
     printConstructors();
@@ -92,6 +105,58 @@ public class DaoImplGenerator extends AbstractGenerator {
     iprint("@%1$s%n", DaoImplementation.class);
   }
 
+  private Map<EmbeddedSqlMeta, String> createSqlNodeFactoryMethodNames() {
+    Map<EmbeddedSqlMeta, String> methodNames = new IdentityHashMap<>();
+    int nodeCount = 0;
+    for (QueryMeta queryMeta : daoMeta.getQueryMetas()) {
+      for (EmbeddedSqlMeta embeddedSqlMeta : queryMeta.getEmbeddedSqlMetas()) {
+        int count = SqlNodeFactoryMethodGenerator.countNodes(embeddedSqlMeta.getSqlNode());
+        // the SQL nodes are parsed at runtime if the method or the class would be too large
+        if (count > SqlNodeFactoryMethodGenerator.MAX_NODES_PER_METHOD
+            || nodeCount + count > MAX_SQL_NODES_PER_CLASS) {
+          continue;
+        }
+        nodeCount += count;
+        methodNames.put(embeddedSqlMeta, "__sqlNode" + methodNames.size());
+      }
+    }
+    return methodNames;
+  }
+
+  private void printEmbeddedSqlStaticInitializer() {
+    if (daoMeta.getQueryMetas().stream().allMatch(m -> m.getEmbeddedSqlMetas().isEmpty())) {
+      return;
+    }
+    iprint("static {%n");
+    for (QueryMeta queryMeta : daoMeta.getQueryMetas()) {
+      List<EmbeddedSqlMeta> embeddedSqlMetas = queryMeta.getEmbeddedSqlMetas();
+      if (embeddedSqlMetas.isEmpty()) {
+        continue;
+      }
+      // all the variants are registered so that the absent dialect-specific path is not probed
+      iprint(
+          "    %1$s.register(%2$s.class, %3$s",
+          /* 1 */ EmbeddedSqlRegistry.class,
+          /* 2 */ daoMeta.getTypeElement(),
+          /* 3 */ toStringLiteral(queryMeta.getEmbeddedSqlBasePath()));
+      for (EmbeddedSqlMeta embeddedSqlMeta : embeddedSqlMetas) {
+        print(
+            ", new %1$s(%2$s, %3$s",
+            /* 1 */ EmbeddedSql.class,
+            /* 2 */ toStringLiteral(embeddedSqlMeta.getPath()),
+            /* 3 */ toStringLiteral(embeddedSqlMeta.getSql()));
+        String methodName = sqlNodeFactoryMethodNames.get(embeddedSqlMeta);
+        if (methodName != null) {
+          print(", %1$s::%2$s", simpleName, methodName);
+        }
+        print(")");
+      }
+      print(");%n");
+    }
+    iprint("}%n");
+    print("%n");
+  }
+
   private void printStaticFields() {
     int index = 0;
     for (QueryMeta queryMeta : daoMeta.getQueryMetas()) {
@@ -288,6 +353,7 @@ public class DaoImplGenerator extends AbstractGenerator {
     printGetConfigMethod();
     printDelegateMethods();
     printQueryMethods();
+    printSqlNodeFactoryMethods();
   }
 
   private void printGetConfigMethod() {
@@ -351,6 +417,21 @@ public class DaoImplGenerator extends AbstractGenerator {
     }
   }
 
+  private void printSqlNodeFactoryMethods() {
+    for (QueryMeta queryMeta : daoMeta.getQueryMetas()) {
+      for (EmbeddedSqlMeta embeddedSqlMeta : queryMeta.getEmbeddedSqlMetas()) {
+        String methodName = sqlNodeFactoryMethodNames.get(embeddedSqlMeta);
+        if (methodName == null) {
+          continue;
+        }
+        SqlNodeFactoryMethodGenerator generator =
+            new SqlNodeFactoryMethodGenerator(
+                ctx, className, printer, methodName, embeddedSqlMeta.getSqlNode());
+        generator.generate();
+      }
+    }
+  }
+
   private boolean hasParentDao() {
     return parentDaoMeta != null;
   }
@@ -55,7 +55,8 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
     if (!queryMeta.getTypeParameterNames().isEmpty()) {
       print("<%1$s> ", queryMeta.getTypeParameterNames());
     }
-    print("%1$s %2$s(", queryMeta.getReturnMeta().getType(), queryMeta.getName());
+    QueryReturnMeta returnMeta = queryMeta.getReturnMeta();
+    print("%1$s %2$s(", returnMeta.getMethodReturnType(), queryMeta.getName());
     for (Iterator<QueryParameterMeta> it = queryMeta.getParameterMetas().iterator();
         it.hasNext(); ) {
       QueryParameterMeta parameterMeta = it.next();
@@ -74,7 +75,17 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
     }
     print("{%n");
     indent();
-    queryMeta.accept(this);
+    if (returnMeta.isAsync()) {
+      iprint(
+          "return __support.supplyAsync(\"%1$s\", \"%2$s\", () -> {%n",
+          className, queryMeta.getName());
+      indent();
+      queryMeta.accept(this);
+      unindent();
+      iprint("});%n");
+    } else {
+      queryMeta.accept(this);
+    }
     unindent();
     iprint("}%n");
     print("%n");
@@ -125,7 +136,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
       returnCtType.accept(new SqlFileSelectQueryReturnCtTypeVisitor(m), false);
       iprint("%1$s __result = __command.execute();%n", returnMeta.getType());
       iprint("__query.complete();%n");
-      iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+      printExitingStatements(m, "__result");
       iprint("return __result;%n");
     } else {
       if (m.getSelectStrategyType() == SelectType.STREAM) {
@@ -142,11 +153,11 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
       if (returnMeta.getType().getKind() == TypeKind.VOID) {
         iprint("__command.execute();%n");
         iprint("__query.complete();%n");
-        iprint("__support.exiting(\"%1$s\", \"%2$s\", null);%n", className, m.getName());
+        printExitingStatements(m, "null");
       } else {
         iprint("%1$s __result = __command.execute();%n", returnMeta.getType());
         iprint("__query.complete();%n");
-        iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+        printExitingStatements(m, "__result");
         iprint("return __result;%n");
       }
     }
@@ -179,7 +190,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
         /* 3 */ methodName);
     iprint("__command.execute();%n");
     iprint("__query.complete();%n");
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", null);%n", className, m.getName());
+    printExitingStatements(m, "null");
 
     printThrowingStatements(m);
     return null;
@@ -252,7 +263,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
       iprint("__query.complete();%n");
     }
 
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+    printExitingStatements(m, "__result");
     iprint("return __result;%n");
 
     printThrowingStatements(m);
@@ -338,7 +349,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
       iprint("__query.complete();%n");
     }
 
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+    printExitingStatements(m, "__result");
     iprint("return __result;%n");
 
     printThrowingStatements(m);
@@ -359,7 +370,11 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
         /* 5 */ methodName);
     iprint("__query.setMethod(%1$s);%n", methodName);
     iprint("__query.setConfig(__support.getConfig());%n");
-    iprint("__query.setEntities(%1$s);%n", m.getEntitiesParameterName());
+    if (m.isStreaming()) {
+      iprint("__query.setStreamingEntities(%1$s);%n", m.getEntitiesParameterName());
+    } else {
+      iprint("__query.setEntities(%1$s);%n", m.getEntitiesParameterName());
+    }
     iprint("__query.setCallerClassName(\"%1$s\");%n", className);
     iprint("__query.setCallerMethodName(\"%1$s\");%n", m.getName());
     iprint("__query.setQueryTimeout(%1$s);%n", m.getQueryTimeout());
@@ -387,6 +402,11 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
           "__query.setOptimisticLockExceptionSuppressed(%1$s);%n", suppressOptimisticLockException);
     }
 
+    Boolean multiRow = m.getMultiRow();
+    if (multiRow != null) {
+      iprint("__query.setMultiRow(%1$s);%n", multiRow);
+    }
+
     iprint("__query.prepare();%n");
     iprint(
         "%1$s __command = __support.getCommandImplementors().create%2$s(%3$s, __query);%n",
@@ -406,7 +426,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
       iprint("__query.complete();%n");
     }
 
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+    printExitingStatements(m, "__result");
     iprint("return __result;%n");
 
     printThrowingStatements(m);
@@ -480,7 +500,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
       iprint("__query.complete();%n");
     }
 
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+    printExitingStatements(m, "__result");
     iprint("return __result;%n");
 
     printThrowingStatements(m);
@@ -524,7 +544,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
         /* 4 */ methodName);
     iprint("%1$s __result = __command.execute();%n", returnMeta.getType());
     iprint("__query.complete();%n");
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+    printExitingStatements(m, "__result");
     iprint("return __result;%n");
 
     printThrowingStatements(m);
@@ -562,7 +582,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
         /* 3 */ methodName);
     iprint("__command.execute();%n");
     iprint("__query.complete();%n");
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", null);%n", className, m.getName());
+    printExitingStatements(m, "null");
 
     printThrowingStatements(m);
     return null;
@@ -594,7 +614,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
         /* 4 */ methodName);
     iprint("%1$s __result = __command.execute();%n", resultMeta.getType());
     iprint("__query.complete();%n");
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+    printExitingStatements(m, "__result");
     iprint("return __result;%n");
 
     printThrowingStatements(m);
@@ -644,7 +664,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
         /* 4 */ methodName);
     iprint("%1$s __result = __command.execute();%n", resultMeta.getType());
     iprint("__query.complete();%n");
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+    printExitingStatements(m, "__result");
     iprint("return __result;%n");
 
     printThrowingStatements(m);
@@ -678,7 +698,7 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
       }
     }
     print(");%n");
-    iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+    printExitingStatements(m, "__result");
     if (resultMeta.getType().getKind() != TypeKind.VOID) {
       iprint("return __result;%n");
     }
@@ -717,11 +737,11 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
     if (returnMeta.getType().getKind() == TypeKind.VOID) {
       iprint("__command.execute();%n");
       iprint("__query.complete();%n");
-      iprint("__support.exiting(\"%1$s\", \"%2$s\", null);%n", className, m.getName());
+      printExitingStatements(m, "null");
     } else {
       iprint("%1$s __result = __command.execute();%n", returnMeta.getType());
       iprint("__query.complete();%n");
-      iprint("__support.exiting(\"%1$s\", \"%2$s\", __result);%n", className, m.getName());
+      printExitingStatements(m, "__result");
       iprint("return __result;%n");
     }
 
@@ -730,6 +750,8 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
   }
 
   private void printEnteringStatements(QueryMeta m) {
+    iprint("if (__support.isDaoMethodLoggingEnabled()) {%n");
+    indent();
     iprint("__support.entering(\"%1$s\", \"%2$s\"", className, m.getName());
     for (QueryParameterMeta parameterMeta : m.getParameterMetas()) {
       if (parameterMeta.getType().getKind() != TypeKind.ARRAY) {
@@ -739,18 +761,32 @@ public class DaoImplQueryMethodGenerator extends AbstractGenerator
       }
     }
     print(");%n");
+    unindent();
+    iprint("}%n");
     iprint("try {%n");
     indent();
   }
 
   private void printArrayCreateEnteringStatements(ArrayCreateQueryMeta m) {
+    iprint("if (__support.isDaoMethodLoggingEnabled()) {%n");
+    indent();
     iprint(
         "__support.entering(\"%1$s\", \"%2$s\", (Object)%3$s);%n",
         className, m.getName(), m.getParameterName());
+    unindent();
+    iprint("}%n");
     iprint("try {%n");
     indent();
   }
 
+  private void printExitingStatements(QueryMeta m, String result) {
+    iprint("if (__support.isDaoMethodLoggingEnabled()) {%n");
+    indent();
+    iprint("__support.exiting(\"%1$s\", \"%2$s\", %3$s);%n", className, m.getName(), result);
+    unindent();
+    iprint("}%n");
+  }
+
   private void printThrowingStatements(QueryMeta m) {
     unindent();
     iprint("} catch (%1$s __e) {%n", RuntimeException.class);
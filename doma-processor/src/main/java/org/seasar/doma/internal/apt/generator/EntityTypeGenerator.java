@@ -3,6 +3,7 @@ package org.seasar.doma.internal.apt.generator;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import javax.lang.model.element.TypeElement;
@@ -290,14 +291,19 @@ public class EntityTypeGenerator extends AbstractGenerator {
     printGetVersionPropertyTypeMethod();
     printGetTenantIdPropertyTypeMethod();
     printNewEntityMethod();
+    printNewEntityWithPositionalArgsMethod();
     printGetEntityClassMethod();
     printGetOriginalStatesMethod();
+    printGetOriginalStatesSnapshotMethod();
     printSaveCurrentStatesMethod();
     printGetSingletonInternalMethod();
     printNewInstanceMethod();
   }
 
   private void printInitializeMapsMethod() {
+    if (hasAssignableGenericTypeProperty()) {
+      iprint("@SuppressWarnings(\"unchecked\")%n");
+    }
     iprint(
         "private void initializeMaps(java.util.Map<String, %1$s<%2$s, ?>> __map, java.util.Map<String, %3$s<%2$s, ?>> __embeddedMap) {%n",
         /* 1 */ EntityPropertyType.class,
@@ -656,6 +662,42 @@ public class EntityTypeGenerator extends AbstractGenerator {
     print("%n");
   }
 
+  private void printNewEntityWithPositionalArgsMethod() {
+    if (entityMeta.hasEmbeddedProperties()) {
+      return;
+    }
+    if (hasGenericTypeProperty()) {
+      iprint("@SuppressWarnings(\"unchecked\")%n");
+    }
+    iprint("@Override%n");
+    iprint(
+        "public %1$s newEntity(%2$s<%1$s, ?>[] __args) {%n", entityMeta.getType(), Property.class);
+    List<EntityPropertyMeta> propertyMetas = entityMeta.getAllPropertyMetas();
+    if (entityMeta.isAbstract()) {
+      iprint("    return null;%n");
+    } else if (entityMeta.isImmutable()) {
+      iprint("    return new %1$s(%n", entityMeta.getType());
+      for (int i = 0; i < propertyMetas.size(); i++) {
+        EntityPropertyMeta propertyMeta = propertyMetas.get(i);
+        iprint(
+            "        (%1$s)(__args[%2$s] != null ? __args[%2$s].get() : null)",
+            propertyMeta.getBoxedType(), i);
+        if (i < propertyMetas.size() - 1) {
+          print(",%n");
+        }
+      }
+      print(");%n");
+    } else {
+      iprint("    %1$s entity = new %1$s();%n", entityMeta.getType());
+      for (int i = 0; i < propertyMetas.size(); i++) {
+        iprint("    if (__args[%1$s] != null) __args[%1$s].save(entity);%n", i);
+      }
+      iprint("    return entity;%n");
+    }
+    iprint("}%n");
+    print("%n");
+  }
+
   private boolean hasGenericTypeProperty() {
     if (entityMeta.isImmutable()) {
       for (EntityPropertyMeta propertyMeta : entityMeta.getAllPropertyMetas()) {
@@ -670,6 +712,20 @@ public class EntityTypeGenerator extends AbstractGenerator {
     return false;
   }
 
+  private boolean hasAssignableGenericTypeProperty() {
+    for (EntityPropertyMeta propertyMeta : entityMeta.getAllPropertyMetas()) {
+      if (!propertyMeta.isEmbedded()
+          && propertyMeta.isFieldAccessible()
+          && !propertyMeta.isFieldFinal()) {
+        TypeElement element = ctx.getMoreTypes().toTypeElement(propertyMeta.getType());
+        if (element != null && !element.getTypeParameters().isEmpty()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   private void printGetEntityClassMethod() {
     iprint("@Override%n");
     iprint("public Class<%1$s> getEntityClass() {%n", entityMeta.getType());
@@ -681,7 +737,9 @@ public class EntityTypeGenerator extends AbstractGenerator {
   private void printGetOriginalStatesMethod() {
     iprint("@Override%n");
     iprint("public %1$s getOriginalStates(%1$s __entity) {%n", entityMeta.getType());
-    if (!entityMeta.isAbstract() && entityMeta.hasOriginalStatesMeta()) {
+    if (!entityMeta.isAbstract()
+        && entityMeta.hasOriginalStatesMeta()
+        && !entityMeta.getOriginalStatesMeta().isSnapshot()) {
       iprint("    return __originalStatesAccessor.get(__entity);%n");
     } else {
       iprint("    return null;%n");
@@ -690,10 +748,27 @@ public class EntityTypeGenerator extends AbstractGenerator {
     print("%n");
   }
 
+  private void printGetOriginalStatesSnapshotMethod() {
+    if (entityMeta.isAbstract()
+        || !entityMeta.hasOriginalStatesMeta()
+        || !entityMeta.getOriginalStatesMeta().isSnapshot()) {
+      return;
+    }
+    iprint("@Override%n");
+    iprint("public Object[] getOriginalStatesSnapshot(%1$s __entity) {%n", entityMeta.getType());
+    iprint("    return __originalStatesAccessor.getSnapshot(__entity);%n");
+    iprint("}%n");
+    print("%n");
+  }
+
   private void printSaveCurrentStatesMethod() {
     iprint("@Override%n");
     iprint("public void saveCurrentStates(%1$s __entity) {%n", entityMeta.getType());
-    if (!entityMeta.isAbstract() && entityMeta.hasOriginalStatesMeta()) {
+    if (!entityMeta.isAbstract()
+        && entityMeta.hasOriginalStatesMeta()
+        && entityMeta.getOriginalStatesMeta().isSnapshot()) {
+      iprint("    __originalStatesAccessor.saveSnapshot(__entity, __entityPropertyTypes);%n");
+    } else if (!entityMeta.isAbstract() && entityMeta.hasOriginalStatesMeta()) {
       iprint("    %1$s __currentStates = new %1$s();%n", entityMeta.getType());
       for (EntityPropertyMeta pm : entityMeta.getAllPropertyMetas()) {
         iprint(
@@ -767,6 +842,7 @@ public class EntityTypeGenerator extends AbstractGenerator {
           "    __idGenerator.setQualifiedSequenceName(\"%1$s\");%n", m.getQualifiedSequenceName());
       iprint("    __idGenerator.setInitialValue(%1$s);%n", m.getInitialValue());
       iprint("    __idGenerator.setAllocationSize(%1$s);%n", m.getAllocationSize());
+      iprint("    __idGenerator.setPrefetchThreshold(%1$s);%n", m.getPrefetchThreshold());
       iprint("    __idGenerator.initialize();%n");
       iprint("}%n");
       return null;
@@ -779,6 +855,7 @@ public class EntityTypeGenerator extends AbstractGenerator {
       iprint("    __idGenerator.setQualifiedTableName(\"%1$s\");%n", m.getQualifiedTableName());
       iprint("    __idGenerator.setInitialValue(%1$s);%n", m.getInitialValue());
       iprint("    __idGenerator.setAllocationSize(%1$s);%n", m.getAllocationSize());
+      iprint("    __idGenerator.setPrefetchThreshold(%1$s);%n", m.getPrefetchThreshold());
       iprint("    __idGenerator.setPkColumnName(\"%1$s\");%n", m.getPkColumnName());
       iprint("    __idGenerator.setPkColumnValue(\"%1$s\");%n", m.getPkColumnValue());
       iprint("    __idGenerator.setValueColumnName(\"%1$s\");%n", m.getValueColumnName());
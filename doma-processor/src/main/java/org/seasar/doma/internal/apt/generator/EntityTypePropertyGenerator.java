@@ -75,7 +75,7 @@ public class EntityTypePropertyGenerator extends AbstractGenerator {
 
   private void printGeneratedIdPropertyTypeField(ScalarMeta scalarMeta) {
     print(
-        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s, __idGenerator)",
+        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s, __idGenerator%11$s)",
         /* 1 */ GeneratedIdPropertyType.class,
         /* 2 */ entityMeta.getType(),
         /* 3 */ scalarMeta.getBasicType(),
@@ -85,12 +85,13 @@ public class EntityTypePropertyGenerator extends AbstractGenerator {
         /* 7 */ scalarMeta.getSupplier(),
         /* 8 */ propertyMeta.getName(),
         /* 9 */ propertyMeta.getColumnName(),
-        /* 10 */ propertyMeta.isColumnQuoteRequired());
+        /* 10 */ propertyMeta.isColumnQuoteRequired(),
+        /* 11 */ accessors());
   }
 
   private void printAssignedIdPropertyTypeField(ScalarMeta scalarMeta) {
     print(
-        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s)",
+        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s%11$s)",
         /* 1 */ AssignedIdPropertyType.class,
         /* 2 */ entityMeta.getType(),
         /* 3 */ scalarMeta.getBasicType(),
@@ -100,12 +101,13 @@ public class EntityTypePropertyGenerator extends AbstractGenerator {
         /* 7 */ scalarMeta.getSupplier(),
         /* 8 */ propertyMeta.getName(),
         /* 9 */ propertyMeta.getColumnName(),
-        /* 10 */ propertyMeta.isColumnQuoteRequired());
+        /* 10 */ propertyMeta.isColumnQuoteRequired(),
+        /* 11 */ accessors());
   }
 
   private void printVersionPropertyTypeField(ScalarMeta scalarMeta) {
     print(
-        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s)",
+        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s%11$s)",
         /* 1 */ VersionPropertyType.class,
         /* 2 */ entityMeta.getType(),
         /* 3 */ scalarMeta.getBasicType(),
@@ -115,12 +117,13 @@ public class EntityTypePropertyGenerator extends AbstractGenerator {
         /* 7 */ scalarMeta.getSupplier(),
         /* 8 */ propertyMeta.getName(),
         /* 9 */ propertyMeta.getColumnName(),
-        /* 10 */ propertyMeta.isColumnQuoteRequired());
+        /* 10 */ propertyMeta.isColumnQuoteRequired(),
+        /* 11 */ accessors());
   }
 
   private void printTenantIdPropertyTypeField(ScalarMeta scalarMeta) {
     print(
-        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s)",
+        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s%11$s)",
         /* 1 */ TenantIdPropertyType.class,
         /* 2 */ entityMeta.getType(),
         /* 3 */ scalarMeta.getBasicType(),
@@ -130,12 +133,13 @@ public class EntityTypePropertyGenerator extends AbstractGenerator {
         /* 7 */ scalarMeta.getSupplier(),
         /* 8 */ propertyMeta.getName(),
         /* 9 */ propertyMeta.getColumnName(),
-        /* 10 */ propertyMeta.isColumnQuoteRequired());
+        /* 10 */ propertyMeta.isColumnQuoteRequired(),
+        /* 11 */ accessors());
   }
 
   private void printDefaultPropertyTypeField(ScalarMeta scalarMeta) {
     print(
-        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s, %11$s, %12$s)",
+        "new %1$s<%2$s, %3$s, %4$s>(%6$s.class, %7$s, \"%8$s\", \"%9$s\", __namingType, %10$s, %11$s, %12$s%13$s)",
         /* 1 */ DefaultPropertyType.class,
         /* 2 */ entityMeta.getType(),
         /* 3 */ scalarMeta.getBasicType(),
@@ -147,7 +151,22 @@ public class EntityTypePropertyGenerator extends AbstractGenerator {
         /* 9 */ propertyMeta.getColumnName(),
         /* 10 */ propertyMeta.isColumnInsertable(),
         /* 11 */ propertyMeta.isColumnUpdatable(),
-        /* 12 */ propertyMeta.isColumnQuoteRequired());
+        /* 12 */ propertyMeta.isColumnQuoteRequired(),
+        /* 13 */ accessors());
+  }
+
+  private String accessors() {
+    if (!propertyMeta.isFieldAccessible()) {
+      return "";
+    }
+    String getter = String.format("__e -> __e.%1$s", propertyMeta.getName());
+    String setter =
+        propertyMeta.isFieldFinal()
+            ? "null"
+            : String.format(
+                "(__e, __v) -> __e.%1$s = (%2$s) __v",
+                propertyMeta.getName(), propertyMeta.getBoxedType());
+    return ", " + getter + ", " + setter;
   }
 
   private class EmbeddableCtTypeVisitor
@@ -0,0 +1,476 @@
+package org.seasar.doma.internal.apt.generator;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import org.seasar.doma.internal.ClassName;
+import org.seasar.doma.internal.apt.Context;
+import org.seasar.doma.internal.expr.ExpressionParser;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
+import org.seasar.doma.internal.jdbc.sql.node.AbstractClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
+import org.seasar.doma.internal.jdbc.sql.node.BindVariableNode;
+import org.seasar.doma.internal.jdbc.sql.node.CommentNode;
+import org.seasar.doma.internal.jdbc.sql.node.ElseNode;
+import org.seasar.doma.internal.jdbc.sql.node.ElseifNode;
+import org.seasar.doma.internal.jdbc.sql.node.EmbeddedVariableNode;
+import org.seasar.doma.internal.jdbc.sql.node.EndNode;
+import org.seasar.doma.internal.jdbc.sql.node.EolNode;
+import org.seasar.doma.internal.jdbc.sql.node.ExpandNode;
+import org.seasar.doma.internal.jdbc.sql.node.ForBlockNode;
+import org.seasar.doma.internal.jdbc.sql.node.ForNode;
+import org.seasar.doma.internal.jdbc.sql.node.ForUpdateClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
+import org.seasar.doma.internal.jdbc.sql.node.FromClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.GroupByClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.HavingClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.IfBlockNode;
+import org.seasar.doma.internal.jdbc.sql.node.IfNode;
+import org.seasar.doma.internal.jdbc.sql.node.LiteralVariableNode;
+import org.seasar.doma.internal.jdbc.sql.node.LogicalOperatorNode;
+import org.seasar.doma.internal.jdbc.sql.node.OptionClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.OtherNode;
+import org.seasar.doma.internal.jdbc.sql.node.ParensNode;
+import org.seasar.doma.internal.jdbc.sql.node.PopulateNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
+import org.seasar.doma.internal.jdbc.sql.node.SetClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.SqlLocation;
+import org.seasar.doma.internal.jdbc.sql.node.UpdateClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.UpdateStatementNode;
+import org.seasar.doma.internal.jdbc.sql.node.ValueNode;
+import org.seasar.doma.internal.jdbc.sql.node.WhereClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.WhitespaceNode;
+import org.seasar.doma.internal.jdbc.sql.node.WordNode;
+import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.jdbc.SqlNodeVisitor;
+
+/**
+ * Generates the static method that creates the SQL node of an SQL file.
+ *
+ * <p>The generated method builds the same tree as {@link
+ * org.seasar.doma.internal.jdbc.sql.SqlParser} does, so the SQL string is not parsed at runtime.
+ * The expressions of the directives are still parsed when the tree is built. Each visit method
+ * returns a Java expression that evaluates to the node.
+ */
+public class SqlNodeFactoryMethodGenerator extends AbstractGenerator
+    implements SqlNodeVisitor<String, Void> {
+
+  /** the maximum number of the nodes that one generated method builds */
+  public static final int MAX_NODES_PER_METHOD = 2000;
+
+  private static final String SQL_PARAMETER_NAME = "__sql";
+
+  private final String methodName;
+
+  private final SqlNode sqlNode;
+
+  private int variableIndex;
+
+  SqlNodeFactoryMethodGenerator(
+      Context ctx, ClassName className, Printer printer, String methodName, SqlNode sqlNode) {
+    super(ctx, className, printer);
+    assertNotNull(methodName, sqlNode);
+    this.methodName = methodName;
+    this.sqlNode = sqlNode;
+  }
+
+  /**
+   * Counts the nodes of the tree to estimate the size of the generated method.
+   *
+   * @param node the root node
+   * @return the number of the nodes
+   */
+  public static int countNodes(SqlNode node) {
+    int count = 1;
+    if (node instanceof ValueNode) {
+      ValueNode valueNode = (ValueNode) node;
+      if (valueNode.getWordNode() != null) {
+        count++;
+      }
+      if (valueNode.getParensNode() != null) {
+        count += countNodes(valueNode.getParensNode());
+      }
+    }
+    for (SqlNode child : node.getChildren()) {
+      count += countNodes(child);
+    }
+    return count;
+  }
+
+  @Override
+  public void generate() {
+    iprint(
+        "private static %1$s %2$s(%3$s %4$s) {%n",
+        /* 1 */ SqlNode.class,
+        /* 2 */ methodName,
+        /* 3 */ String.class,
+        /* 4 */ SQL_PARAMETER_NAME);
+    indent();
+    String root = sqlNode.accept(this, null);
+    iprint("return %1$s;%n", root);
+    unindent();
+    iprint("}%n");
+    print("%n");
+  }
+
+  private String declare(Class<?> nodeClass, String initializer) {
+    String variable = "__n" + variableIndex++;
+    iprint("%1$s %2$s = %3$s;%n", nodeClass, variable, initializer);
+    return variable;
+  }
+
+  private String location(SqlLocation location) {
+    return String.format(
+        "new %1$s(%2$s, %3$s, %4$s)",
+        SqlLocation.class.getName(),
+        SQL_PARAMETER_NAME,
+        location.getLineNumber(),
+        location.getPosition());
+  }
+
+  private void printChildren(String variable, SqlNode node) {
+    for (SqlNode child : node.getChildren()) {
+      String expression = child.accept(this, null);
+      iprint("%1$s.appendNode(%2$s);%n", variable, expression);
+    }
+  }
+
+  private void printExpressionNode(
+      String variable, ExpressionNode expressionNode, String expression) {
+    if (expressionNode != null) {
+      iprint(
+          "%1$s.setExpressionNode(new %2$s(%3$s).parse());%n",
+          variable, ExpressionParser.class, toStringLiteral(expression));
+    }
+  }
+
+  private String visitClauseNode(AbstractClauseNode node) {
+    WordNode wordNode = node.getWordNode();
+    String argument =
+        wordNode.isReserved() ? toStringLiteral(wordNode.getWord()) : wordNode.accept(this, null);
+    String variable =
+        declare(
+            node.getClass(), String.format("new %1$s(%2$s)", node.getClass().getName(), argument));
+    printChildren(variable, node);
+    return variable;
+  }
+
+  private String visitValueNode(ValueNode node) {
+    String variable =
+        declare(
+            node.getClass(),
+            String.format(
+                "new %1$s(%2$s, %3$s, %4$s)",
+                node.getClass().getName(),
+                location(node.getLocation()),
+                toStringLiteral(node.getVariableName()),
+                toStringLiteral(node.getText())));
+    printExpressionNode(variable, node.getExpressionNode(), node.getVariableName());
+    if (node.getWordNode() != null) {
+      iprint("%1$s.setWordNode(%2$s);%n", variable, node.getWordNode().accept(this, null));
+    }
+    if (node.getParensNode() != null) {
+      iprint("%1$s.setParensNode(%2$s);%n", variable, node.getParensNode().accept(this, null));
+    }
+    return variable;
+  }
+
+  private String visitTextNode(SqlNode node, String text) {
+    String initializer =
+        String.format("new %1$s(%2$s)", node.getClass().getName(), toStringLiteral(text));
+    if (node.getChildren().isEmpty()) {
+      return initializer;
+    }
+    String variable = declare(node.getClass(), initializer);
+    printChildren(variable, node);
+    return variable;
+  }
+
+  @Override
+  public String visitAnonymousNode(AnonymousNode node, Void p) {
+    String variable =
+        declare(AnonymousNode.class, String.format("new %1$s()", AnonymousNode.class.getName()));
+    printChildren(variable, node);
+    return variable;
+  }
+
+  @Override
+  public String visitBindVariableNode(BindVariableNode node, Void p) {
+    return visitValueNode(node);
+  }
+
+  @Override
+  public String visitCommentNode(CommentNode node, Void p) {
+    return visitTextNode(node, node.getComment());
+  }
+
+  @Override
+  public String visitElseifNode(ElseifNode node, Void p) {
+    String variable =
+        declare(
+            ElseifNode.class,
+            String.format(
+                "new %1$s(%2$s, %3$s, %4$s)",
+                ElseifNode.class.getName(),
+                location(node.getLocation()),
+                toStringLiteral(node.getExpression()),
+                toStringLiteral(node.getText())));
+    printExpressionNode(variable, node.getExpressionNode(), node.getExpression());
+    printChildren(variable, node);
+    return variable;
+  }
+
+  @Override
+  public String visitElseNode(ElseNode node, Void p) {
+    return visitTextNode(node, node.getText());
+  }
+
+  @Override
+  public String visitEmbeddedVariableNode(EmbeddedVariableNode node, Void p) {
+    String variable =
+        declare(
+            EmbeddedVariableNode.class,
+            String.format(
+                "new %1$s(%2$s, %3$s, %4$s)",
+                EmbeddedVariableNode.class.getName(),
+                location(node.getLocation()),
+                toStringLiteral(node.getVariableName()),
+                toStringLiteral(node.getText())));
+    printExpressionNode(variable, node.getExpressionNode(), node.getVariableName());
+    printChildren(variable, node);
+    return variable;
+  }
+
+  @Override
+  public String visitEndNode(EndNode node, Void p) {
+    return visitTextNode(node, node.getText());
+  }
+
+  @Override
+  public String visitEolNode(EolNode node, Void p) {
+    return visitTextNode(node, node.getEol());
+  }
+
+  @Override
+  public String visitExpandNode(ExpandNode node, Void p) {
+    String variable =
+        declare(
+            ExpandNode.class,
+            String.format(
+                "new %1$s(%2$s, %3$s, %4$s)",
+                ExpandNode.class.getName(),
+                location(node.getLocation()),
+                toStringLiteral(node.getAlias()),
+                toStringLiteral(node.getText())));
+    printExpressionNode(variable, node.getExpressionNode(), node.getAlias());
+    return variable;
+  }
+
+  @Override
+  public String visitForBlockNode(ForBlockNode node, Void p) {
+    String variable =
+        declare(ForBlockNode.class, String.format("new %1$s()", ForBlockNode.class.getName()));
+    if (node.getForNode() != null) {
+      iprint("%1$s.setForNode(%2$s);%n", variable, node.getForNode().accept(this, null));
+    }
+    if (node.getEndNode() != null) {
+      iprint("%1$s.setEndNode(%2$s);%n", variable, node.getEndNode().accept(this, null));
+    }
+    return variable;
+  }
+
+  @Override
+  public String visitForNode(ForNode node, Void p) {
+    String variable =
+        declare(
+            ForNode.class,
+            String.format(
+                "new %1$s(%2$s, %3$s, %4$s, %5$s)",
+                ForNode.class.getName(),
+                location(node.getLocation()),
+                toStringLiteral(node.getIdentifier()),
+                toStringLiteral(node.getExpression()),
+                toStringLiteral(node.getText())));
+    printExpressionNode(variable, node.getExpressionNode(), node.getExpression());
+    printChildren(variable, node);
+    return variable;
+  }
+
+  @Override
+  public String visitForUpdateClauseNode(ForUpdateClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitFragmentNode(FragmentNode node, Void p) {
+    return visitTextNode(node, node.getFragment());
+  }
+
+  @Override
+  public String visitFromClauseNode(FromClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitGroupByClauseNode(GroupByClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitHavingClauseNode(HavingClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitIfBlockNode(IfBlockNode node, Void p) {
+    String variable =
+        declare(IfBlockNode.class, String.format("new %1$s()", IfBlockNode.class.getName()));
+    if (node.getIfNode() != null) {
+      iprint("%1$s.setIfNode(%2$s);%n", variable, node.getIfNode().accept(this, null));
+    }
+    for (ElseifNode elseifNode : node.getElseifNodes()) {
+      iprint("%1$s.addElseifNode(%2$s);%n", variable, elseifNode.accept(this, null));
+    }
+    if (node.getElseNode() != null) {
+      iprint("%1$s.setElseNode(%2$s);%n", variable, node.getElseNode().accept(this, null));
+    }
+    if (node.getEndNode() != null) {
+      iprint("%1$s.setEndNode(%2$s);%n", variable, node.getEndNode().accept(this, null));
+    }
+    return variable;
+  }
+
+  @Override
+  public String visitIfNode(IfNode node, Void p) {
+    String variable =
+        declare(
+            IfNode.class,
+            String.format(
+                "new %1$s(%2$s, %3$s, %4$s)",
+                IfNode.class.getName(),
+                location(node.getLocation()),
+                toStringLiteral(node.getExpression()),
+                toStringLiteral(node.getText())));
+    printExpressionNode(variable, node.getExpressionNode(), node.getExpression());
+    printChildren(variable, node);
+    return variable;
+  }
+
+  @Override
+  public String visitLiteralVariableNode(LiteralVariableNode node, Void p) {
+    return visitValueNode(node);
+  }
+
+  @Override
+  public String visitLogicalOperatorNode(LogicalOperatorNode node, Void p) {
+    return visitTextNode(node, node.getWordNode().getWord());
+  }
+
+  @Override
+  public String visitOptionClauseNode(OptionClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitOrderByClauseNode(OrderByClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitOtherNode(OtherNode node, Void p) {
+    return String.format(
+        "%1$s.of(%2$s)", OtherNode.class.getName(), toStringLiteral(node.getOther()));
+  }
+
+  @Override
+  public String visitParensNode(ParensNode node, Void p) {
+    String variable =
+        declare(
+            ParensNode.class,
+            String.format(
+                "new %1$s(%2$s)", ParensNode.class.getName(), location(node.getLocation())));
+    if (node.isAttachedWithValue()) {
+      iprint("%1$s.setAttachedWithValue(true);%n", variable);
+    }
+    if (!node.isEmpty()) {
+      iprint("%1$s.setEmpty(false);%n", variable);
+    }
+    printChildren(variable, node);
+    if (node.getClosedFragmentNode() != null) {
+      iprint("%1$s.close();%n", variable);
+    }
+    return variable;
+  }
+
+  @Override
+  public String visitPopulateNode(PopulateNode node, Void p) {
+    return String.format(
+        "new %1$s(%2$s, %3$s)",
+        PopulateNode.class.getName(),
+        location(node.getLocation()),
+        toStringLiteral(node.getText()));
+  }
+
+  @Override
+  public String visitSelectClauseNode(SelectClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitSelectStatementNode(SelectStatementNode node, Void p) {
+    String variable =
+        declare(
+            SelectStatementNode.class,
+            String.format("new %1$s()", SelectStatementNode.class.getName()));
+    for (SqlNode child : node.getChildren()) {
+      String expression = child.accept(this, null);
+      iprint("%1$s.set%2$s(%3$s);%n", variable, child.getClass().getSimpleName(), expression);
+    }
+    return variable;
+  }
+
+  @Override
+  public String visitSetClauseNode(SetClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitUpdateClauseNode(UpdateClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitUpdateStatementNode(UpdateStatementNode node, Void p) {
+    String variable =
+        declare(
+            UpdateStatementNode.class,
+            String.format("new %1$s()", UpdateStatementNode.class.getName()));
+    for (SqlNode child : node.getChildren()) {
+      String expression = child.accept(this, null);
+      iprint("%1$s.set%2$s(%3$s);%n", variable, child.getClass().getSimpleName(), expression);
+    }
+    return variable;
+  }
+
+  @Override
+  public String visitWhereClauseNode(WhereClauseNode node, Void p) {
+    return visitClauseNode(node);
+  }
+
+  @Override
+  public String visitWhitespaceNode(WhitespaceNode node, Void p) {
+    return String.format(
+        "%1$s.of(%2$s)", WhitespaceNode.class.getName(), toStringLiteral(node.getWhitespace()));
+  }
+
+  @Override
+  public String visitWordNode(WordNode node, Void p) {
+    if (node.isReserved()) {
+      return String.format(
+          "new %1$s(%2$s, true)", WordNode.class.getName(), toStringLiteral(node.getWord()));
+    }
+    return String.format(
+        "new %1$s(%2$s)", WordNode.class.getName(), toStringLiteral(node.getWord()));
+  }
+}
@@ -21,6 +21,7 @@ import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.TypeParameterElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
@@ -35,6 +36,7 @@ import org.seasar.doma.internal.Constants;
 import org.seasar.doma.internal.apt.AptException;
 import org.seasar.doma.internal.apt.AptIllegalStateException;
 import org.seasar.doma.internal.apt.Context;
+import org.seasar.doma.internal.apt.MoreElements;
 import org.seasar.doma.internal.apt.annot.AllArgsConstructorAnnot;
 import org.seasar.doma.internal.apt.annot.EntityAnnot;
 import org.seasar.doma.internal.apt.annot.MetamodelAnnot;
@@ -538,9 +540,11 @@ public class EntityMetaFactory implements TypeElementMetaFactory<EntityMeta> {
       if (entityMeta.hasOriginalStatesMeta()) {
         throw new AptException(Message.DOMA4125, fieldElement, new Object[] {});
       }
+      boolean snapshot = isObjectArray(fieldElement.asType());
       if (classElement.equals(fieldElement.getEnclosingElement())) {
-        if (!ctx.getMoreTypes()
-            .isSameTypeWithErasure(fieldElement.asType(), classElement.asType())) {
+        if (!snapshot
+            && !ctx.getMoreTypes()
+                .isSameTypeWithErasure(fieldElement.asType(), classElement.asType())) {
           throw new AptException(Message.DOMA4135, fieldElement, new Object[] {});
         }
       }
@@ -553,20 +557,43 @@ public class EntityMetaFactory implements TypeElementMetaFactory<EntityMeta> {
         throw new AptException(Message.DOMA4224, fieldElement, new Object[] {});
       }
       OriginalStatesMeta originalStatesMeta =
-          new OriginalStatesMeta(classElement, fieldElement, enclosingElement);
+          new OriginalStatesMeta(classElement, fieldElement, enclosingElement, snapshot);
       entityMeta.setOriginalStatesMeta(originalStatesMeta);
     }
 
+    private boolean isObjectArray(TypeMirror typeMirror) {
+      ArrayType arrayType = ctx.getMoreTypes().toArrayType(typeMirror);
+      return arrayType != null
+          && ctx.getMoreTypes().isSameTypeWithErasure(arrayType.getComponentType(), Object.class);
+    }
+
     void doEntityPropertyMeta(
         TypeElement classElement, VariableElement fieldElement, EntityMeta entityMeta) {
       validateFieldAnnotation(fieldElement, entityMeta);
       EntityPropertyMetaFactory propertyMetaFactory =
           new EntityPropertyMetaFactory(ctx, entityMeta, fieldElement);
       EntityPropertyMeta propertyMeta = propertyMetaFactory.createEntityPropertyMeta();
+      propertyMeta.setFieldAccessible(isFieldAccessible(classElement, fieldElement));
+      propertyMeta.setFieldFinal(fieldElement.getModifiers().contains(Modifier.FINAL));
       entityMeta.addPropertyMeta(propertyMeta);
       validateField(classElement, fieldElement, entityMeta);
     }
 
+    boolean isFieldAccessible(TypeElement classElement, VariableElement fieldElement) {
+      Set<Modifier> modifiers = fieldElement.getModifiers();
+      if (modifiers.contains(Modifier.PUBLIC)) {
+        return true;
+      }
+      if (modifiers.contains(Modifier.PRIVATE)) {
+        return false;
+      }
+      MoreElements elements = ctx.getMoreElements();
+      return elements
+          .getPackageOf(fieldElement)
+          .getQualifiedName()
+          .contentEquals(elements.getPackageOf(classElement).getQualifiedName());
+    }
+
     void validateFieldAnnotation(VariableElement fieldElement, EntityMeta entityMeta) {
       TypeElement foundAnnotationTypeElement = null;
       for (AnnotationMirror annotation : fieldElement.getAnnotationMirrors()) {
@@ -753,6 +780,12 @@ public class EntityMetaFactory implements TypeElementMetaFactory<EntityMeta> {
       }
     }
 
+    @Override
+    boolean isFieldAccessible(TypeElement classElement, VariableElement fieldElement) {
+      // Lombok makes the fields private
+      return false;
+    }
+
     @Override
     protected void validateField(
         TypeElement classElement, VariableElement fieldElement, EntityMeta entityMeta) {
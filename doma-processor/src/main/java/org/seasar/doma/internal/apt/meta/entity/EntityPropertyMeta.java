@@ -28,6 +28,10 @@ public class EntityPropertyMeta {
 
   private IdGeneratorMeta idGeneratorMeta;
 
+  private boolean fieldAccessible;
+
+  private boolean fieldFinal;
+
   public EntityPropertyMeta(CtType ctType, String fieldPrefix) {
     assertNotNull(ctType, fieldPrefix);
     this.ctType = ctType;
@@ -78,6 +82,22 @@ public class EntityPropertyMeta {
     this.idGeneratorMeta = idGeneratorMeta;
   }
 
+  public boolean isFieldAccessible() {
+    return fieldAccessible;
+  }
+
+  public void setFieldAccessible(boolean fieldAccessible) {
+    this.fieldAccessible = fieldAccessible;
+  }
+
+  public boolean isFieldFinal() {
+    return fieldFinal;
+  }
+
+  public void setFieldFinal(boolean fieldFinal) {
+    this.fieldFinal = fieldFinal;
+  }
+
   public TypeMirror getType() {
     return ctType.getType();
   }
@@ -13,12 +13,18 @@ public class OriginalStatesMeta {
 
   private final TypeElement fieldEnclosingElement;
 
+  private final boolean snapshot;
+
   public OriginalStatesMeta(
-      TypeElement typeElement, VariableElement fieldElement, TypeElement fieldEnclosingElement) {
+      TypeElement typeElement,
+      VariableElement fieldElement,
+      TypeElement fieldEnclosingElement,
+      boolean snapshot) {
     assertNotNull(typeElement, fieldElement, fieldEnclosingElement);
     this.typeElement = typeElement;
     this.fieldElement = fieldElement;
     this.fieldEnclosingElement = fieldEnclosingElement;
+    this.snapshot = snapshot;
   }
 
   public TypeElement getTypeElement() {
@@ -32,4 +38,8 @@ public class OriginalStatesMeta {
   public TypeElement getFieldEnclosingElement() {
     return fieldEnclosingElement;
   }
+
+  public boolean isSnapshot() {
+    return snapshot;
+  }
 }
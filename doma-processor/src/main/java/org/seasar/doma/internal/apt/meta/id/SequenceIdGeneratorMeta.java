@@ -37,6 +37,10 @@ public class SequenceIdGeneratorMeta implements IdGeneratorMeta {
     return sequenceGeneratorAnnot.getAllocationSizeValue();
   }
 
+  public long getPrefetchThreshold() {
+    return sequenceGeneratorAnnot.getPrefetchThresholdValue();
+  }
+
   @Override
   public String getIdGeneratorClassName() {
     return sequenceGeneratorAnnot.getImplementerValue().toString();
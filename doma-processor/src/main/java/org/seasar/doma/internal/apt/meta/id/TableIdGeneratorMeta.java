@@ -49,6 +49,10 @@ public class TableIdGeneratorMeta implements IdGeneratorMeta {
     return tableGeneratorAnnot.getAllocationSizeValue();
   }
 
+  public long getPrefetchThreshold() {
+    return tableGeneratorAnnot.getPrefetchThresholdValue();
+  }
+
   @Override
   public String getIdGeneratorClassName() {
     return tableGeneratorAnnot.getImplementerValue().toString();
@@ -37,6 +37,10 @@ public abstract class AbstractQueryMeta implements QueryMeta {
 
   private final List<String> fileNames = new ArrayList<>();
 
+  private String embeddedSqlBasePath;
+
+  private final List<EmbeddedSqlMeta> embeddedSqlMetas = new ArrayList<>();
+
   private TypeParametersDef typeParametersDef;
 
   AbstractQueryMeta(TypeElement daoElement, ExecutableElement methodElement) {
@@ -139,6 +143,22 @@ public abstract class AbstractQueryMeta implements QueryMeta {
     this.fileNames.add(fileName);
   }
 
+  @Override
+  public List<EmbeddedSqlMeta> getEmbeddedSqlMetas() {
+    return embeddedSqlMetas;
+  }
+
+  @Override
+  public String getEmbeddedSqlBasePath() {
+    return embeddedSqlBasePath;
+  }
+
+  public void setEmbeddedSqlMetas(String basePath, List<EmbeddedSqlMeta> embeddedSqlMetas) {
+    this.embeddedSqlBasePath = basePath;
+    this.embeddedSqlMetas.clear();
+    this.embeddedSqlMetas.addAll(embeddedSqlMetas);
+  }
+
   @Override
   public boolean isVarArgs() {
     return this.methodElement.isVarArgs();
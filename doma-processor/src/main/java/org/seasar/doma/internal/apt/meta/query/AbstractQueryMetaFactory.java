@@ -86,8 +86,12 @@ abstract class AbstractQueryMetaFactory<M extends AbstractQueryMeta> implements
   }
 
   QueryReturnMeta createReturnMeta(QueryMeta queryMeta) {
+    return createReturnMeta(queryMeta, false);
+  }
+
+  QueryReturnMeta createReturnMeta(QueryMeta queryMeta, boolean asyncSupported) {
     QueryReturnMetaFactory factory = new QueryReturnMetaFactory(ctx, queryMeta);
-    return factory.createQueryReturnMeta();
+    return factory.createQueryReturnMeta(asyncSupported);
   }
 
   QueryParameterMeta createParameterMeta(VariableElement parameter) {
@@ -6,7 +6,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
@@ -60,6 +63,8 @@ abstract class AbstractSqlFileQueryMetaFactory<M extends AbstractSqlFileQueryMet
     File[] siblingfiles = getSiblingFiles(file);
     String dirPath = SqlFileUtil.buildPath(daoElement.getQualifiedName().toString());
     String methodName = queryMeta.getName();
+    List<EmbeddedSqlMeta> embeddedSqlMetas = new ArrayList<>();
+    boolean embeddable = ctx.getOptions().getSqlEmbedding();
     for (File siblingfile : siblingfiles) {
       if (SqlFileUtil.isSqlFile(siblingfile, methodName)) {
         String fileName = siblingfile.getName();
@@ -74,8 +79,33 @@ abstract class AbstractSqlFileQueryMetaFactory<M extends AbstractSqlFileQueryMet
                 queryMeta.getBindableParameterTypeMap(), sqlFilePath, expandable, populatable);
         validator.validate(sqlNode);
         queryMeta.addFileName(fileName);
+        if (embeddable) {
+          // the SQL files are embedded only if all the variants of the path can be embedded
+          embeddable = isEmbeddable(sql);
+          embeddedSqlMetas.add(new EmbeddedSqlMeta(sqlFilePath, sql, sqlNode));
+        }
+      }
+    }
+    if (embeddable) {
+      embeddedSqlMetas.sort(Comparator.comparing(EmbeddedSqlMeta::getPath));
+      queryMeta.setEmbeddedSqlMetas(filePath, embeddedSqlMetas);
+    }
+  }
+
+  private boolean isEmbeddable(String sql) {
+    // the constant pool of a class file cannot hold a string longer than 65535 bytes
+    int length = 0;
+    for (int i = 0; i < sql.length(); i++) {
+      char c = sql.charAt(i);
+      if (c >= 0x0001 && c <= 0x007F) {
+        length += 1;
+      } else if (c <= 0x07FF) {
+        length += 2;
+      } else {
+        length += 3;
       }
     }
+    return length <= 65535;
   }
 
   File getFile(String filePath) {
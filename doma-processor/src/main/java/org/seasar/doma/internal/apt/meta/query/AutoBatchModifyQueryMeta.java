@@ -67,6 +67,14 @@ public class AutoBatchModifyQueryMeta extends AbstractQueryMeta {
     return batchModifyAnnot.getExcludeValue();
   }
 
+  public Boolean getMultiRow() {
+    return batchModifyAnnot.getMultiRowValue();
+  }
+
+  public boolean isStreaming() {
+    return batchModifyAnnot.getStreamingValue();
+  }
+
   public SqlLogType getSqlLogType() {
     return batchModifyAnnot.getSqlLogValue();
   }
@@ -64,9 +64,18 @@ public class AutoBatchModifyQueryMetaFactory
 
   @Override
   protected void doReturnType(AutoBatchModifyQueryMeta queryMeta) {
-    QueryReturnMeta returnMeta = createReturnMeta(queryMeta);
+    QueryReturnMeta returnMeta = createReturnMeta(queryMeta, true);
     EntityCtType entityCtType = queryMeta.getEntityCtType();
     if (entityCtType != null && entityCtType.isImmutable()) {
+      if (queryMeta.isStreaming()) {
+        BatchModifyAnnot batchModifyAnnot = queryMeta.getBatchModifyAnnot();
+        throw new AptException(
+            Message.DOMA4459,
+            methodElement,
+            batchModifyAnnot.getAnnotationMirror(),
+            batchModifyAnnot.getStreaming(),
+            new Object[] {entityCtType.getQualifiedName()});
+      }
       if (!returnMeta.isBatchResult(entityCtType)) {
         throw new AptException(Message.DOMA4223, methodElement, new Object[] {});
       }
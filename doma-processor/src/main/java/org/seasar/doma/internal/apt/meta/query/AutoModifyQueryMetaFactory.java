@@ -62,7 +62,7 @@ public class AutoModifyQueryMetaFactory extends AbstractQueryMetaFactory<AutoMod
 
   @Override
   protected void doReturnType(AutoModifyQueryMeta queryMeta) {
-    QueryReturnMeta returnMeta = createReturnMeta(queryMeta);
+    QueryReturnMeta returnMeta = createReturnMeta(queryMeta, true);
     EntityCtType entityCtType = queryMeta.getEntityCtType();
     if (entityCtType != null && entityCtType.isImmutable()) {
       if (!returnMeta.isResult(entityCtType)) {
@@ -0,0 +1,33 @@
+package org.seasar.doma.internal.apt.meta.query;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import org.seasar.doma.jdbc.SqlNode;
+
+public class EmbeddedSqlMeta {
+
+  private final String path;
+
+  private final String sql;
+
+  private final SqlNode sqlNode;
+
+  public EmbeddedSqlMeta(String path, String sql, SqlNode sqlNode) {
+    assertNotNull(path, sql, sqlNode);
+    this.path = path;
+    this.sql = sql;
+    this.sqlNode = sqlNode;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public String getSql() {
+    return sql;
+  }
+
+  public SqlNode getSqlNode() {
+    return sqlNode;
+  }
+}
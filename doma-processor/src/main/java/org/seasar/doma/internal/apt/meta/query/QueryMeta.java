@@ -30,5 +30,9 @@ public interface QueryMeta {
 
   List<String> getFileNames();
 
+  String getEmbeddedSqlBasePath();
+
+  List<EmbeddedSqlMeta> getEmbeddedSqlMetas();
+
   <R> R accept(QueryMetaVisitor<R> visitor);
 }
@@ -12,9 +12,19 @@ public class QueryReturnMeta {
 
   private final CtType ctType;
 
+  private final TypeMirror methodReturnType;
+
+  private final boolean async;
+
   public QueryReturnMeta(CtType ctType) {
-    assertNotNull(ctType);
+    this(ctType, ctType.getType(), false);
+  }
+
+  public QueryReturnMeta(CtType ctType, TypeMirror methodReturnType, boolean async) {
+    assertNotNull(ctType, methodReturnType);
     this.ctType = ctType;
+    this.methodReturnType = methodReturnType;
+    this.async = async;
   }
 
   public TypeMirror getBoxedType() {
@@ -34,6 +44,17 @@ public class QueryReturnMeta {
   }
 
   public boolean isPrimitiveInt() {
+    // an asynchronous method returns CompletableFuture<Integer> instead of int
+    if (async) {
+      return ctType.accept(
+          new SimpleCtTypeVisitor<Boolean, Void, RuntimeException>(false) {
+            @Override
+            public Boolean visitBasicCtType(BasicCtType ctType, Void aVoid) {
+              return ctType.getBoxedType().toString().equals(Integer.class.getName());
+            }
+          },
+          null);
+    }
     return ctType.getType().getKind() == TypeKind.INT;
   }
 
@@ -85,6 +106,20 @@ public class QueryReturnMeta {
     return ctType.getType();
   }
 
+  /**
+   * Returns the declared return type of the method. If the method is asynchronous, the type is
+   * {@code CompletableFuture<T>} and {@link #getType()} returns {@code T}.
+   *
+   * @return the declared return type
+   */
+  public TypeMirror getMethodReturnType() {
+    return methodReturnType;
+  }
+
+  public boolean isAsync() {
+    return async;
+  }
+
   public CtType getCtType() {
     return ctType;
   }
@@ -2,7 +2,10 @@ package org.seasar.doma.internal.apt.meta.query;
 
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
+import java.util.concurrent.CompletableFuture;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import org.seasar.doma.internal.apt.AptException;
 import org.seasar.doma.internal.apt.Context;
@@ -21,12 +24,38 @@ class QueryReturnMetaFactory {
     methodElement = queryMeta.getMethodElement();
   }
 
-  public QueryReturnMeta createQueryReturnMeta() {
+  public QueryReturnMeta createQueryReturnMeta(boolean asyncSupported) {
     TypeMirror type = methodElement.getReturnType();
+    if (asyncSupported && ctx.getMoreTypes().isSameTypeWithErasure(type, CompletableFuture.class)) {
+      TypeMirror resultType = getCompletableFutureTypeArgument(type);
+      CtType ctType = ctx.getCtTypes().newCtType(resultType, new CtTypeValidator());
+      ctType.accept(new AsyncResultCtTypeValidator(), null);
+      return new QueryReturnMeta(ctType, type, true);
+    }
     CtType ctType = ctx.getCtTypes().newCtType(type, new CtTypeValidator());
     return new QueryReturnMeta(ctType);
   }
 
+  private TypeMirror getCompletableFutureTypeArgument(TypeMirror type) {
+    DeclaredType declaredType = ctx.getMoreTypes().toDeclaredType(type);
+    if (declaredType == null || declaredType.getTypeArguments().isEmpty()) {
+      throw new AptException(Message.DOMA4456, methodElement, new Object[] {});
+    }
+    TypeMirror typeArg = declaredType.getTypeArguments().get(0);
+    if (typeArg.getKind() == TypeKind.WILDCARD) {
+      throw new AptException(Message.DOMA4457, methodElement, new Object[] {typeArg});
+    }
+    return typeArg;
+  }
+
+  private class AsyncResultCtTypeValidator extends SimpleCtTypeVisitor<Void, Void, AptException> {
+
+    @Override
+    public Void visitStreamCtType(StreamCtType ctType, Void aVoid) throws AptException {
+      throw new AptException(Message.DOMA4458, methodElement, new Object[] {ctType.getType()});
+    }
+  }
+
   private class CtTypeValidator extends SimpleCtTypeVisitor<Void, Void, AptException> {
     @Override
     protected Void defaultAction(CtType ctType, Void aVoid) throws AptException {
@@ -32,6 +32,7 @@ public class SqlFileBatchModifyQueryMetaFactory
     if (queryMeta == null) {
       return null;
     }
+    doAnnotationElements(queryMeta);
     doTypeParameters(queryMeta);
     doParameters(queryMeta);
     doReturnType(queryMeta);
@@ -40,6 +41,26 @@ public class SqlFileBatchModifyQueryMetaFactory
     return queryMeta;
   }
 
+  private void doAnnotationElements(SqlFileBatchModifyQueryMeta queryMeta) {
+    BatchModifyAnnot batchModifyAnnot = queryMeta.getBatchModifyAnnot();
+    if (batchModifyAnnot.getStreamingValue()) {
+      throw new AptException(
+          Message.DOMA4460,
+          methodElement,
+          batchModifyAnnot.getAnnotationMirror(),
+          batchModifyAnnot.getStreaming(),
+          new Object[] {BatchModifyAnnot.STREAMING});
+    }
+    if (Boolean.TRUE.equals(batchModifyAnnot.getMultiRowValue())) {
+      throw new AptException(
+          Message.DOMA4460,
+          methodElement,
+          batchModifyAnnot.getAnnotationMirror(),
+          batchModifyAnnot.getMultiRow(),
+          new Object[] {BatchModifyAnnot.MULTI_ROW});
+    }
+  }
+
   private SqlFileBatchModifyQueryMeta createSqlFileBatchModifyQueryMeta() {
     SqlFileBatchModifyQueryMeta queryMeta =
         new SqlFileBatchModifyQueryMeta(daoElement, methodElement);
@@ -72,7 +93,7 @@ public class SqlFileBatchModifyQueryMetaFactory
 
   @Override
   protected void doReturnType(SqlFileBatchModifyQueryMeta queryMeta) {
-    QueryReturnMeta returnMeta = createReturnMeta(queryMeta);
+    QueryReturnMeta returnMeta = createReturnMeta(queryMeta, true);
     EntityCtType entityCtType = queryMeta.getEntityType();
     if (entityCtType != null && entityCtType.isImmutable()) {
       if (!returnMeta.isBatchResult(entityCtType)) {
@@ -64,7 +64,7 @@ public class SqlFileModifyQueryMetaFactory
 
   @Override
   protected void doReturnType(SqlFileModifyQueryMeta queryMeta) {
-    QueryReturnMeta returnMeta = createReturnMeta(queryMeta);
+    QueryReturnMeta returnMeta = createReturnMeta(queryMeta, true);
     EntityCtType entityCtType = queryMeta.getEntityCtType();
     if (entityCtType != null && entityCtType.isImmutable()) {
       if (!returnMeta.isResult(entityCtType)) {
@@ -96,7 +96,7 @@ public class SqlFileSelectQueryMetaFactory
 
   @Override
   protected void doReturnType(final SqlFileSelectQueryMeta queryMeta) {
-    final QueryReturnMeta returnMeta = createReturnMeta(queryMeta);
+    final QueryReturnMeta returnMeta = createReturnMeta(queryMeta, true);
     queryMeta.setReturnMeta(returnMeta);
 
     if (queryMeta.getSelectStrategyType() == SelectType.STREAM) {
@@ -30,6 +30,7 @@ import org.seasar.doma.internal.util.ClassUtil;
   Options.DAO_SUFFIX,
   Options.EXPR_FUNCTIONS,
   Options.SQL_VALIDATION,
+  Options.SQL_EMBEDDING,
   Options.VERSION_VALIDATION,
   Options.RESOURCES_DIR,
   Options.CONFIG_PATH,
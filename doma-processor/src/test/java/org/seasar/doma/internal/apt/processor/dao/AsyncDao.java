@@ -0,0 +1,45 @@
+package org.seasar.doma.internal.apt.processor.dao;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Delete;
+import org.seasar.doma.Insert;
+import org.seasar.doma.Select;
+import org.seasar.doma.SelectType;
+import org.seasar.doma.Update;
+import org.seasar.doma.internal.apt.processor.entity.Emp;
+import org.seasar.doma.internal.apt.processor.entity.ImmutableEmp;
+import org.seasar.doma.jdbc.Result;
+
+@Dao(config = MyConfig.class)
+public interface AsyncDao {
+
+  @Select
+  CompletableFuture<List<Emp>> selectByName(String name);
+
+  @Select
+  CompletableFuture<Optional<Emp>> selectById(Integer id);
+
+  @Select
+  CompletableFuture<Integer> selectCount();
+
+  @Select(strategy = SelectType.STREAM)
+  CompletableFuture<Integer> selectByNameStream(String name, Function<Stream<Emp>, Integer> mapper);
+
+  @Insert
+  CompletableFuture<Integer> insert(Emp emp);
+
+  @Update(sqlFile = true)
+  CompletableFuture<Integer> update(Emp emp);
+
+  @Delete
+  CompletableFuture<Result<ImmutableEmp>> delete(ImmutableEmp emp);
+
+  @BatchInsert
+  CompletableFuture<int[]> batchInsert(List<Emp> emps);
+}
@@ -0,0 +1,14 @@
+package org.seasar.doma.internal.apt.processor.dao;
+
+import java.util.concurrent.CompletableFuture;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Insert;
+import org.seasar.doma.internal.apt.processor.entity.Emp;
+
+@Dao(config = MyConfig.class)
+public interface AsyncRawTypeReturnDao {
+
+  @SuppressWarnings("rawtypes")
+  @Insert
+  CompletableFuture insert(Emp emp);
+}
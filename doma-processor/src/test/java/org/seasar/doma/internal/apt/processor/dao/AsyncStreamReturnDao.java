@@ -0,0 +1,14 @@
+package org.seasar.doma.internal.apt.processor.dao;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Select;
+import org.seasar.doma.internal.apt.processor.entity.Emp;
+
+@Dao(config = MyConfig.class)
+public interface AsyncStreamReturnDao {
+
+  @Select
+  CompletableFuture<Stream<Emp>> selectAll();
+}
@@ -0,0 +1,13 @@
+package org.seasar.doma.internal.apt.processor.dao;
+
+import java.util.concurrent.CompletableFuture;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Insert;
+import org.seasar.doma.internal.apt.processor.entity.Emp;
+
+@Dao(config = MyConfig.class)
+public interface AsyncWildcardTypeReturnDao {
+
+  @Insert
+  CompletableFuture<?> insert(Emp emp);
+}
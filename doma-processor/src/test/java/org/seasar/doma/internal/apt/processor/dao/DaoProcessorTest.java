@@ -62,6 +62,7 @@ class DaoProcessorTest extends CompilerSupport {
               "-Adoma.config.path=sql.validation.skip.config"),
           invocationContext(SqlFileSelectEntityDao.class),
           invocationContext(SqlFileSelectMapDao.class),
+          invocationContext(SqlEmbeddingDao.class, "-Adoma.sql.embedding=true"),
           invocationContext(SqlFileSelectDomainDao.class),
           invocationContext(SqlFileSelectBasicDao.class),
           invocationContext(AutoInsertDao.class),
@@ -70,6 +71,7 @@ class DaoProcessorTest extends CompilerSupport {
           invocationContext(AutoUpdateDao.class),
           invocationContext(AutoDeleteDao.class),
           invocationContext(AutoBatchUpdateDao.class),
+          invocationContext(StreamingBatchDao.class),
           invocationContext(SqlFileBatchUpdateDao.class),
           invocationContext(SqlFileBatchUpdateEntityDao.class),
           invocationContext(AutoFunctionDao.class),
@@ -127,6 +129,7 @@ class DaoProcessorTest extends CompilerSupport {
           invocationContext(PlainSingletonConfigDao.class),
           invocationContext(SqlProcessorDao.class),
           invocationContext(OnlyDefaultMethodsExtendsDao.class),
+          invocationContext(AsyncDao.class),
           invocationContext(
               ApplicationScopedDao.class,
               "-Adoma.cdi.ApplicationScoped=" + ApplicationScoped.class.getCanonicalName()));
@@ -189,6 +192,9 @@ class DaoProcessorTest extends CompilerSupport {
           invocationContext(ProcedureAbstractEntityListDao.class, Message.DOMA4157),
           invocationContext(RawTypeReturnDao.class, Message.DOMA4206),
           invocationContext(WildcardTypeReturnDao.class, Message.DOMA4207),
+          invocationContext(AsyncRawTypeReturnDao.class, Message.DOMA4456),
+          invocationContext(AsyncWildcardTypeReturnDao.class, Message.DOMA4457),
+          invocationContext(AsyncStreamReturnDao.class, Message.DOMA4458),
           invocationContext(RawTypeParamDao.class, Message.DOMA4208),
           invocationContext(WildcardTypeParamDao.class, Message.DOMA4209),
           invocationContext(IterableRawTypeReturnDao.class, Message.DOMA4210),
@@ -199,6 +205,9 @@ class DaoProcessorTest extends CompilerSupport {
           invocationContext(ReferenceWildcardTypeParamDao.class, Message.DOMA4219),
           invocationContext(IllegalModifyImmutableEmpDao.class, Message.DOMA4222),
           invocationContext(IllegalBatchModifyImmutableEmpDao.class, Message.DOMA4223),
+          invocationContext(StreamingImmutableBatchDao.class, Message.DOMA4459),
+          invocationContext(StreamingSqlFileBatchDao.class, Message.DOMA4460),
+          invocationContext(MultiRowSqlFileBatchInsertDao.class, Message.DOMA4460),
           invocationContext(OptionalEntityListDao.class, Message.DOMA4267),
           invocationContext(OptionalMapListDao.class, Message.DOMA4267),
           invocationContext(SqlProcessorBiFunction1stArgCheckDao.class, Message.DOMA4437),
@@ -0,0 +1,13 @@
+package org.seasar.doma.internal.apt.processor.dao;
+
+import java.util.List;
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.Dao;
+import org.seasar.doma.internal.apt.processor.entity.Emp;
+
+@Dao(config = MyConfig.class)
+public interface MultiRowSqlFileBatchInsertDao {
+
+  @BatchInsert(sqlFile = true, multiRow = true)
+  int[] insert(List<Emp> entities);
+}
@@ -0,0 +1,17 @@
+package org.seasar.doma.internal.apt.processor.dao;
+
+import java.util.List;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Select;
+import org.seasar.doma.Update;
+import org.seasar.doma.internal.apt.processor.entity.Emp;
+
+@Dao(config = MyConfig.class)
+public interface SqlEmbeddingDao {
+
+  @Select
+  List<Emp> selectByName(String name);
+
+  @Update(sqlFile = true)
+  int update(Emp emp);
+}
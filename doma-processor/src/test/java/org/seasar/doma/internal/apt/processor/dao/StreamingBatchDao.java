@@ -0,0 +1,21 @@
+package org.seasar.doma.internal.apt.processor.dao;
+
+import java.util.List;
+import org.seasar.doma.BatchDelete;
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.BatchUpdate;
+import org.seasar.doma.Dao;
+import org.seasar.doma.internal.apt.processor.entity.Emp;
+
+@Dao(config = MyConfig.class)
+public interface StreamingBatchDao {
+
+  @BatchInsert(streaming = true, batchSize = 100)
+  int[] insert(Iterable<Emp> entities);
+
+  @BatchUpdate(streaming = true)
+  int[] update(List<Emp> entities);
+
+  @BatchDelete(streaming = true)
+  int[] delete(List<Emp> entities);
+}
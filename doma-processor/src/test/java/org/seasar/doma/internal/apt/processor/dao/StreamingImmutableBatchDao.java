@@ -0,0 +1,14 @@
+package org.seasar.doma.internal.apt.processor.dao;
+
+import java.util.List;
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.Dao;
+import org.seasar.doma.internal.apt.processor.entity.ImmutableEmp;
+import org.seasar.doma.jdbc.BatchResult;
+
+@Dao(config = MyConfig.class)
+public interface StreamingImmutableBatchDao {
+
+  @BatchInsert(streaming = true)
+  BatchResult<ImmutableEmp> insert(List<ImmutableEmp> entities);
+}
@@ -90,6 +90,7 @@ class EntityProcessorTest extends CompilerSupport {
           invocationContext(
               NotTopLevelImmutableEntity.class, NotTopLevelImmutableEntity.Hoge.class),
           invocationContext(PrivateOriginalStatesEntity.class),
+          invocationContext(SnapshotOriginalStatesEntity.class),
           invocationContext(PrivatePropertyEntity.class),
           invocationContext(LombokValue.class, "-Adoma.lombok.Value=" + Value.class.getName()),
           invocationContext(
@@ -0,0 +1,15 @@
+package org.seasar.doma.internal.apt.processor.entity;
+
+import org.seasar.doma.Entity;
+import org.seasar.doma.Id;
+import org.seasar.doma.OriginalStates;
+
+@Entity
+public class SnapshotOriginalStatesEntity {
+
+  @Id Integer id;
+
+  String name;
+
+  @OriginalStates Object[] originalStates;
+}
@@ -0,0 +1 @@
+select * from emp where id = /*id*/1
\ No newline at end of file
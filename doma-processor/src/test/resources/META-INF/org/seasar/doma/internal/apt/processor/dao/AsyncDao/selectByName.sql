@@ -0,0 +1 @@
+select * from emp where name = /*name*/'a'
\ No newline at end of file
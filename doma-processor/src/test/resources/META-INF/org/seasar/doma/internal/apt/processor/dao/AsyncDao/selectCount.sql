@@ -0,0 +1 @@
+select count(*) from emp
\ No newline at end of file
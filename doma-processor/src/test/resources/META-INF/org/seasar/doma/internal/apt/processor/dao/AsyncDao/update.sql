@@ -0,0 +1 @@
+update emp set name = /*emp.name*/'a' where id = /*emp.id*/1
\ No newline at end of file
@@ -0,0 +1 @@
+insert into hoge (id) values (/*entities.id*/1)
@@ -0,0 +1,3 @@
+select * from emp
+where
+  name ilike /*name*/'a%'
@@ -0,0 +1,4 @@
+select * from emp
+where
+  -- "name" is escaped
+  name like /*name*/'a%' escape '\'
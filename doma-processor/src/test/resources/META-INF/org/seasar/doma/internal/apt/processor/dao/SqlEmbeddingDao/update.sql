@@ -0,0 +1 @@
+update emp set name = /*emp.name*/'a' where id = /*emp.id*/1
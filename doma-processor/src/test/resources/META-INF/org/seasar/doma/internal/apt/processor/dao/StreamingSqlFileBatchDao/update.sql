@@ -0,0 +1 @@
+update hoge set id = /*entities.id*/1
\ No newline at end of file
@@ -1,3 +1,4 @@
 rootProject.name = "doma"
 include("doma-core")
 include("doma-processor")
+include("doma-benchmark")